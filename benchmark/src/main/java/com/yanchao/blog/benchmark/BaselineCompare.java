@@ -0,0 +1,110 @@
+package com.yanchao.blog.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JMH结果(-rf json)与基线对比: 吞吐量下降或每次调用分配字节数(gc.alloc.rate.norm)增加超过阈值时返回1
+ * <p>
+ * java -cp target/benchmarks.jar com.yanchao.blog.benchmark.BaselineCompare baseline/UtilBenchmark.json target/jmh-result.json 10
+ */
+public final class BaselineCompare {
+
+    private static final String ALLOC_NORM = "gc.alloc.rate.norm";
+
+    private BaselineCompare() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: BaselineCompare <baseline.json> <result.json> [threshold%]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10;
+        Map<String, JsonNode> baseline = read(new File(args[0]));
+        Map<String, JsonNode> current = read(new File(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-60s %14s %14s %8s %12s %12s %8s%n", "Benchmark", "baseline", "current", "score%",
+                "B/op(base)", "B/op", "alloc%");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            JsonNode after = entry.getValue();
+            if (before == null) {
+                System.out.printf("%-60s %14s %14.3f%n", entry.getKey(), "-", score(after));
+                continue;
+            }
+
+            // 吞吐量越大越好, 其他模式(耗时)越小越好
+            boolean higherIsBetter = "thrpt".equals(after.path("mode").asText());
+            double scoreChange = (score(after) - score(before)) * 100 / score(before);
+            double allocChange = allocChange(alloc(before), alloc(after));
+            boolean regression = (higherIsBetter ? -scoreChange : scoreChange) > threshold || allocChange > threshold;
+            if (regression)
+                regressions++;
+            System.out.printf("%-60s %14.3f %14.3f %+7.1f%% %12.1f %12.1f %+7.1f%%%s%n", entry.getKey(), score(before),
+                    score(after), scoreChange, alloc(before), alloc(after), allocChange, regression ? "  <<<" : "");
+        }
+
+        System.out.printf("%n%d regression(s) over %.1f%%%n", regressions, threshold);
+        if (regressions > 0)
+            System.exit(1);
+    }
+
+    /**
+     * @return 方法名(含参数)-结果
+     */
+    private static Map<String, JsonNode> read(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            String benchmark = result.path("benchmark").asText();
+            // 类名.方法名
+            StringBuilder key = new StringBuilder(benchmark.substring(benchmark.lastIndexOf('.',
+                    benchmark.lastIndexOf('.') - 1) + 1));
+            Iterator<Map.Entry<String, JsonNode>> params = result.path("params").fields();
+            while (params.hasNext()) {
+                Map.Entry<String, JsonNode> param = params.next();
+                key.append(':').append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            results.put(key.toString(), result);
+        }
+        return results;
+    }
+
+    private static double score(JsonNode result) {
+        return result.path("primaryMetric").path("score").asDouble();
+    }
+
+    /**
+     * @return 未使用-prof gc时为NaN
+     */
+    private static double alloc(JsonNode result) {
+        Iterator<Map.Entry<String, JsonNode>> metrics = result.path("secondaryMetrics").fields();
+        while (metrics.hasNext()) {
+            Map.Entry<String, JsonNode> metric = metrics.next();
+            // JMH的指标名以"·"开头
+            if (metric.getKey().endsWith(ALLOC_NORM))
+                return metric.getValue().path("score").asDouble();
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * @return 变化百分比, 任一为NaN时为0
+     */
+    private static double allocChange(double before, double after) {
+        if (Double.isNaN(before) || Double.isNaN(after))
+            return 0;
+        // 分配量小于1字节视为无分配
+        if (before < 1)
+            return after < 1 ? 0 : 100;
+        return (after - before) * 100 / before;
+    }
+}
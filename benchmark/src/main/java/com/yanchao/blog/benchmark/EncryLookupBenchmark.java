@@ -0,0 +1,159 @@
+package com.yanchao.blog.benchmark;
+
+import com.yanchao.blog.config.EncryProperties;
+import com.yanchao.blog.constant.EncryTypeEnum;
+import com.yanchao.blog.dao.bas.EncryDAO;
+import com.yanchao.blog.dao.bas.EncryJdbcDAO;
+import com.yanchao.blog.dao.bas.EncryMapping;
+import com.yanchao.blog.po.bas.EncryPO;
+import com.yanchao.blog.store.JdbcTokenStore;
+import com.yanchao.blog.store.TokenStore;
+import com.yanchao.blog.util.EncryUtils;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.yanchao.blog.constant.EncryTypeEnum.TEL_NO;
+
+/**
+ * 按密文查询明文: 实体派生查询(findByEncryAndType/findByTypeAndEncryIn)、按列投影的只读查询与JDBC存储对比
+ * <p>
+ * 启动只包含JPA的Spring上下文, 默认使用H2(MODE=MySQL)内存库; 对MySQL测试时指定连接(会删除并重建bas_encry):
+ * java -jar target/benchmarks.jar EncryLookupBenchmark -prof gc -p url='jdbc:mysql://127.0.0.1:3306/bench?cachePrepStmts=true' -p user=root -p password=...
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EncryLookupBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int QUERY_SIZE = 100;
+
+    /** 预先写入的条数 */
+    @Param({ "200000" })
+    private int rows;
+
+    @Param({ "jdbc:h2:mem:encry-lookup;MODE=MySQL;DB_CLOSE_DELAY=-1" })
+    private String url;
+
+    @Param({ "sa" })
+    private String user;
+
+    @Param({ "" })
+    private String password;
+
+    private ConfigurableApplicationContext context;
+    private EncryDAO encryDAO;
+    private TokenStore jdbcTokenStore;
+    private String[] encrys;
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration(exclude = { RedisAutoConfiguration.class, RedisRepositoriesAutoConfiguration.class })
+    @EntityScan(basePackageClasses = EncryPO.class)
+    @EnableJpaRepositories(basePackageClasses = EncryDAO.class)
+    static class JpaContext {
+    }
+
+    @Setup
+    public void setup() {
+        // 命令行参数优先于blog中的application.yml
+        context = new SpringApplicationBuilder(JpaContext.class).web(WebApplicationType.NONE).run(
+                "--spring.datasource.url=" + url, "--spring.datasource.username=" + user,
+                "--spring.datasource.password=" + password, "--spring.datasource.driver-class-name=",
+                "--spring.jpa.database=" + (url.startsWith("jdbc:h2:") ? "H2" : "MYSQL"),
+                "--spring.jpa.hibernate.ddl-auto=none", "--spring.jpa.show-sql=false");
+        encryDAO = context.getBean(EncryDAO.class);
+
+        DataSource dataSource = context.getBean(DataSource.class);
+        new ResourceDatabasePopulator(new ClassPathResource("db/bas_encry.sql")).execute(dataSource);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTokenStore = new JdbcTokenStore(new EncryJdbcDAO(jdbcTemplate,
+                new NamedParameterJdbcTemplate(jdbcTemplate)), new EncryProperties());
+
+        encrys = new String[rows];
+        for (int i = 0; i < rows; i += BATCH_SIZE) {
+            Map<String, String> batch = new LinkedHashMap<>(BATCH_SIZE * 2);
+            for (int j = i; j < Math.min(rows, i + BATCH_SIZE); j++) {
+                String decry = String.valueOf(13000000000L + j);
+                encrys[j] = EncryUtils.getMD5(decry);
+                batch.put(decry, encrys[j]);
+            }
+            jdbcTokenStore.putIfAbsent(TEL_NO, batch);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String derivedGetDecry() {
+        List<EncryPO> encryPOs = encryDAO.findByEncryAndType(random(), TEL_NO);
+        return encryPOs.isEmpty() ? null : encryPOs.get(0).getDecry();
+    }
+
+    @Benchmark
+    public String projectionGetDecry() {
+        List<String> decrys = encryDAO.findDecryByEncryAndType(random(), TEL_NO);
+        return decrys.isEmpty() ? null : decrys.get(0);
+    }
+
+    @Benchmark
+    public String jdbcGetDecry() {
+        return jdbcTokenStore.getDecry(TEL_NO, random());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERY_SIZE)
+    public Map<String, String> derivedGetDecrys() {
+        Map<String, String> decrys = new HashMap<>(QUERY_SIZE * 2);
+        encryDAO.findByTypeAndEncryIn(TEL_NO, sample()).forEach(o -> decrys.put(o.getEncry(), o.getDecry()));
+        return decrys;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERY_SIZE)
+    public Map<String, String> projectionGetDecrys() {
+        Map<String, String> decrys = new HashMap<>(QUERY_SIZE * 2);
+        for (EncryMapping mapping : encryDAO.findMappingsByTypeAndEncryIn(TEL_NO, sample()))
+            decrys.put(mapping.getEncry(), mapping.getDecry());
+        return decrys;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERY_SIZE)
+    public Map<String, String> jdbcGetDecrys() {
+        return jdbcTokenStore.getDecrys(EncryTypeEnum.TEL_NO, sample());
+    }
+
+    private String random() {
+        return encrys[ThreadLocalRandom.current().nextInt(rows)];
+    }
+
+    private List<String> sample() {
+        List<String> sample = new ArrayList<>(QUERY_SIZE);
+        for (int i = 0; i < QUERY_SIZE; i++)
+            sample.add(random());
+        return sample;
+    }
+}
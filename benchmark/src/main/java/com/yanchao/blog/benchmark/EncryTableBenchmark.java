@@ -0,0 +1,134 @@
+package com.yanchao.blog.benchmark;
+
+import com.yanchao.blog.config.EncryProperties;
+import com.yanchao.blog.constant.EncryTypeEnum;
+import com.yanchao.blog.constant.TokenFormatEnum;
+import com.yanchao.blog.constant.TokenStoreTypeEnum;
+import com.yanchao.blog.dao.bas.EncryJdbcDAO;
+import com.yanchao.blog.dao.bas.EncryV2JdbcDAO;
+import com.yanchao.blog.store.JdbcTokenStore;
+import com.yanchao.blog.store.JdbcV2TokenStore;
+import com.yanchao.blog.store.TokenStore;
+import com.yanchao.blog.util.EncryUtils;
+import com.yanchao.blog.util.TokenUtils;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * bas_encry(JDBC)与bas_encry_v2(JDBC_V2)对比: 批量写入、批量及单条查询的吞吐量
+ * <p>
+ * 默认使用H2(MODE=MySQL)内存库, 只能比较相对差异; 对MySQL测试时指定连接(会删除并重建两张表):
+ * java -jar target/benchmarks.jar EncryTableBenchmark -p url='jdbc:mysql://127.0.0.1:3306/bench?rewriteBatchedStatements=true' -p user=root -p password=...
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EncryTableBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int QUERY_SIZE = 100;
+
+    @Param({ "JDBC", "JDBC_V2" })
+    private TokenStoreTypeEnum store;
+
+    @Param({ "DECIMAL", "HEX" })
+    private TokenFormatEnum format;
+
+    /** 预先写入的条数 */
+    @Param({ "200000" })
+    private int rows;
+
+    @Param({ "jdbc:h2:mem:encry-table;MODE=MySQL;DB_CLOSE_DELAY=-1" })
+    private String url;
+
+    @Param({ "sa" })
+    private String user;
+
+    @Param({ "" })
+    private String password;
+
+    private final AtomicLong seq = new AtomicLong(13000000000L);
+    private TokenStore tokenStore;
+    private String[] decrys;
+    private String[] encrys;
+
+    @Setup
+    public void setup() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url, user, password);
+        new ResourceDatabasePopulator(new ClassPathResource("db/bas_encry.sql"),
+                new ClassPathResource("db/bas_encry_v2.sql")).execute(dataSource);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        NamedParameterJdbcTemplate namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        EncryProperties encryProperties = new EncryProperties();
+        encryProperties.getToken().setFormat(format);
+        encryProperties.getStore().getV2().setDualWrite(false);
+        EncryJdbcDAO encryJdbcDAO = new EncryJdbcDAO(jdbcTemplate, namedParameterJdbcTemplate);
+        tokenStore = store == TokenStoreTypeEnum.JDBC ? new JdbcTokenStore(encryJdbcDAO, encryProperties)
+                : new JdbcV2TokenStore(new EncryV2JdbcDAO(jdbcTemplate, namedParameterJdbcTemplate), encryJdbcDAO,
+                        encryProperties);
+
+        decrys = new String[rows];
+        encrys = new String[rows];
+        for (int i = 0; i < rows; i += BATCH_SIZE) {
+            Map<String, String> batch = nextBatch(Math.min(BATCH_SIZE, rows - i));
+            tokenStore.putIfAbsent(EncryTypeEnum.TEL_NO, batch);
+            int j = i;
+            for (Map.Entry<String, String> entry : batch.entrySet()) {
+                decrys[j] = entry.getKey();
+                encrys[j++] = entry.getValue();
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public Map<String, String> putIfAbsent() {
+        return tokenStore.putIfAbsent(EncryTypeEnum.TEL_NO, nextBatch(BATCH_SIZE));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERY_SIZE)
+    public Map<String, String> getEncrys() {
+        return tokenStore.getEncrys(EncryTypeEnum.TEL_NO, sample(decrys));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERY_SIZE)
+    public Map<String, String> getDecrys() {
+        return tokenStore.getDecrys(EncryTypeEnum.TEL_NO, sample(encrys));
+    }
+
+    @Benchmark
+    public String getDecry() {
+        return tokenStore.getDecry(EncryTypeEnum.TEL_NO, encrys[ThreadLocalRandom.current().nextInt(rows)]);
+    }
+
+    private Map<String, String> nextBatch(int size) {
+        Map<String, String> batch = new LinkedHashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            String decry = String.valueOf(seq.incrementAndGet());
+            batch.put(decry, format == TokenFormatEnum.DECIMAL ? EncryUtils.getMD5(decry)
+                    : TokenUtils.format(EncryUtils.getMD5Bytes(decry), format));
+        }
+        return batch;
+    }
+
+    private List<String> sample(String[] values) {
+        List<String> sample = new ArrayList<>(QUERY_SIZE);
+        for (int i = 0; i < QUERY_SIZE; i++)
+            sample.add(values[ThreadLocalRandom.current().nextInt(rows)]);
+        return sample;
+    }
+}
@@ -0,0 +1,98 @@
+package com.yanchao.blog.benchmark;
+
+import com.yanchao.blog.cache.PrimitiveTokenIndex;
+import com.yanchao.blog.constant.EncryTypeEnum;
+import com.yanchao.blog.util.EncryUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 堆外定长索引与String为key的HashMap对比: 查询耗时, 及填充后的堆内/堆外内存
+ * <p>
+ * java -jar target/benchmarks.jar PrimitiveTokenIndexBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xmx4g", "-XX:MaxDirectMemorySize=2g" })
+public class PrimitiveTokenIndexBenchmark {
+
+    @Param({ "1000000" })
+    private int size;
+
+    private String[] decrys;
+    private String[] encrys;
+    private PrimitiveTokenIndex index;
+    private Map<String, String> encryMap;
+    private Map<String, String> decryMap;
+
+    @Setup
+    public void setup() {
+        decrys = new String[size];
+        encrys = new String[size];
+        Random random = new Random(42);
+        for (int i = 0; i < size; i++) {
+            decrys[i] = String.valueOf(13000000000L + random.nextInt(900000000));
+            encrys[i] = EncryUtils.getMD5(decrys[i]);
+        }
+
+        long before = usedHeap();
+        encryMap = new HashMap<>(size * 2);
+        decryMap = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            // 复制字符串, 模拟缓存中的对象与请求参数不是同一实例
+            encryMap.put(new String(decrys[i]), new String(encrys[i]));
+            decryMap.put(new String(encrys[i]), new String(decrys[i]));
+        }
+        long mapBytes = usedHeap() - before;
+
+        index = new PrimitiveTokenIndex(EncryTypeEnum.TEL_NO, size);
+        for (int i = 0; i < size; i++)
+            index.put(decrys[i], encrys[i]);
+
+        System.out.printf("%nHashMap: %d MB heap, PrimitiveTokenIndex: %d MB off-heap, %d entries%n", mapBytes >> 20,
+                index.offHeapBytes() >> 20, index.size());
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private final Random random = new Random();
+
+        int next(int size) {
+            return random.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    public String indexGetEncry(Cursor cursor) {
+        return index.getEncry(decrys[cursor.next(size)]);
+    }
+
+    @Benchmark
+    public String mapGetEncry(Cursor cursor) {
+        return encryMap.get(decrys[cursor.next(size)]);
+    }
+
+    @Benchmark
+    public String indexGetDecry(Cursor cursor) {
+        return index.getDecry(encrys[cursor.next(size)]);
+    }
+
+    @Benchmark
+    public String mapGetDecry(Cursor cursor) {
+        return decryMap.get(encrys[cursor.next(size)]);
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++)
+            System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
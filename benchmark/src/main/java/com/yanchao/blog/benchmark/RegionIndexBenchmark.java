@@ -0,0 +1,160 @@
+package com.yanchao.blog.benchmark;
+
+import com.yanchao.blog.region.RegionIndex;
+import com.yanchao.blog.vo.dic.DicVO;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 地区码索引与原IdentityUtils中三级HashMap<String, DicVO>对比: 构建耗时、占用堆内存、查询
+ * <p>
+ * 三级HashMap按原结构由同一份地区码构建(省-地市-区县各一个DicVO, 各级按2位代码为key), 不包括原实现超大静态方法的解释执行开销;
+ * 构建耗时为新JVM中的第一次(SingleShotTime), 接近启动时的情况:
+ * java -jar target/benchmarks.jar RegionIndexBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class RegionIndexBenchmark {
+
+    private static final int SIZE = 4096;
+
+    private RegionIndex index;
+    private Map<String, DicVO> maps;
+    private String[] idNos;
+
+    @Setup
+    public void setup() throws IOException {
+        long before = usedHeap();
+        maps = buildMaps();
+        long mapBytes = usedHeap() - before;
+        before = usedHeap();
+        index = RegionIndex.classpath();
+        long indexBytes = usedHeap() - before;
+        System.out.printf("%nHashMap<String, DicVO>: %d KB, RegionIndex: %d KB, %d codes, %d names%n",
+                mapBytes >> 10, indexBytes >> 10, index.size(), index.nameCount());
+
+        // 按已有地区码生成, 约10%不存在
+        int[] codes = codes();
+        Random random = new Random(42);
+        idNos = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            int code = random.nextInt(10) == 0 ? 100000 + random.nextInt(900000) : codes[random.nextInt(
+                    codes.length)];
+            idNos[i] = code + "19800101001" + i % 10;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int i;
+
+        int next() {
+            return i++ & SIZE - 1;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(value = 10, jvmArgsAppend = "-Xmx1g")
+    public RegionIndex loadIndex() {
+        return RegionIndex.classpath();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(value = 10, jvmArgsAppend = "-Xmx1g")
+    public Map<String, DicVO> loadMaps() throws IOException {
+        return buildMaps();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public String indexArea(Cursor cursor) {
+        return index.area(idNos[cursor.next()]);
+    }
+
+    /**
+     * 原实现的查询方式(修正区县代码的位置)
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public String mapsArea(Cursor cursor) {
+        String idNo = idNos[cursor.next()];
+        DicVO prov = maps.get(idNo.substring(0, 2));
+        DicVO city = prov == null || prov.getChild() == null ? null : prov.getChild().get(idNo.substring(2, 4));
+        DicVO area = city == null || city.getChild() == null ? null : city.getChild().get(idNo.substring(4, 6));
+        return area == null ? null : area.getName();
+    }
+
+    private static Map<String, DicVO> buildMaps() throws IOException {
+        Map<String, DicVO> provs = new HashMap<>();
+        try (BufferedReader reader = reader()) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.charAt(0) == '#')
+                    continue;
+                // 有效期不属于原结构
+                String[] columns = line.split("\t");
+                String code = columns[0];
+                String name = columns[1];
+                String prov = code.substring(0, 2);
+                String city = code.substring(2, 4);
+                String area = code.substring(4, 6);
+                if ("0000".equals(code.substring(2))) {
+                    DicVO dic = provs.computeIfAbsent(prov, k -> DicVO.builder().code(k).child(new HashMap<>())
+                            .build());
+                    dic.setName(name);
+                    continue;
+                }
+                DicVO provDic = provs.computeIfAbsent(prov, k -> DicVO.builder().code(k).child(new HashMap<>())
+                        .build());
+                DicVO cityDic = provDic.getChild().computeIfAbsent(city, k -> DicVO.builder().code(k).child(
+                        new HashMap<>()).build());
+                if ("00".equals(area))
+                    cityDic.setName(name);
+                else
+                    cityDic.getChild().put(area, DicVO.builder().code(area).name(name).build());
+            }
+        }
+        return provs;
+    }
+
+    private static int[] codes() throws IOException {
+        try (BufferedReader reader = reader()) {
+            return reader.lines().filter(o -> !o.isEmpty() && o.charAt(0) != '#').mapToInt(o -> Integer.parseInt(
+                    o.substring(0, 6))).toArray();
+        }
+    }
+
+    private static BufferedReader reader() {
+        return new BufferedReader(new InputStreamReader(RegionIndex.class.getClassLoader().getResourceAsStream(
+                RegionIndex.RESOURCE), StandardCharsets.UTF_8));
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++)
+            System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,233 @@
+package com.yanchao.blog.benchmark;
+
+import com.yanchao.blog.constant.EncryTypeEnum;
+import com.yanchao.blog.constant.ErrorEnum;
+import com.yanchao.blog.constant.DateFormatConstant;
+import com.yanchao.blog.constant.IdNoCheckEnum;
+import com.yanchao.blog.constant.SexEnum;
+import com.yanchao.blog.service.EncryService;
+import com.yanchao.blog.util.DecryUtils;
+import com.yanchao.blog.util.EncryUtils;
+import com.yanchao.blog.util.IdentityDecoder;
+import com.yanchao.blog.util.IdentityUtils;
+import com.yanchao.blog.util.IdentityValidator;
+import com.yanchao.blog.util.MosaicUtils;
+import com.yanchao.blog.vo.user.IdentityInfoVO;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.time.DateUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * util包中请求处理会调用的方法: 摘要、Base64、身份证校验及解析、脱敏、手机号校验
+ * <p>
+ * 输入按真实分布生成(号段、地区码、出生日期、校验位, 约5%无效), 每个线程依次取用, 避免常量折叠及分支预测固定;
+ * 吞吐量及每次调用分配的字节数(gc.alloc.rate.norm):
+ * java -jar target/benchmarks.jar UtilBenchmark -prof gc
+ * 与保存的基线对比见benchmark/pom.xml中的baseline、compare两个profile
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = "-Xmx1g")
+public class UtilBenchmark {
+
+    /** 输入个数, 2的幂 */
+    private static final int SIZE = 4096;
+    private static final int INVALID_PERCENT = 5;
+
+    private static final String[] TEL_NO_PREFIXES = { "130", "131", "132", "133", "135", "136", "137", "138", "139",
+            "150", "151", "152", "155", "156", "157", "158", "159", "166", "176", "177", "180", "181", "185", "186",
+            "187", "188", "189", "199" };
+    /** 常见地区码, 包括IdentityUtils中没有对应地址的 */
+    private static final String[] REGIONS = { "110101", "110105", "110108", "120101", "130102", "210102", "310104",
+            "310115", "320102", "330106", "340102", "350203", "370102", "410105", "420106", "430104", "440106",
+            "440305", "500103", "510107", "610113", "650102", "710000", "810000" };
+    private static final int[] COEFFICIENTS = { 7, 9, 10, 5, 8, 4, 2, 1, 6, 3, 7, 9, 10, 5, 8, 4, 2 };
+    private static final char[] MANTISSAS = { '1', '0', 'X', '9', '8', '7', '6', '5', '4', '3', '2' };
+    private static final String[] REGEX_MANTISSAS = { "1", "0", "X", "9", "8", "7", "6", "5", "4", "3", "2" };
+    private static final String[] SURNAMES = { "王", "李", "张", "刘", "陈", "杨", "黄", "赵", "吴", "周", "欧阳", "司马",
+            "诸葛", "上官" };
+    private static final String GIVEN_NAMES = "伟芳娜敏静丽强磊军洋勇艳杰娟涛明超秀霞平刚桂英";
+    private static final DateTimeFormatter BIRTH = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private String[] telNos;
+    private String[] idNos;
+    private byte[][] idNoBytes;
+    /** 有效身份证号, analysis对无效号码抛异常 */
+    private String[] validIdNos;
+    private String[] userNames;
+    private String[] base64s;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        telNos = new String[SIZE];
+        idNos = new String[SIZE];
+        idNoBytes = new byte[SIZE][];
+        validIdNos = new String[SIZE];
+        userNames = new String[SIZE];
+        base64s = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            telNos[i] = telNo(random);
+            validIdNos[i] = idNo(random);
+            idNos[i] = invalid(random) ? corrupt(validIdNos[i]) : validIdNos[i];
+            idNoBytes[i] = idNos[i].getBytes(StandardCharsets.US_ASCII);
+            userNames[i] = userName(random);
+            base64s[i] = EncryUtils.getBase64(telNos[i]);
+        }
+    }
+
+    /**
+     * 每个线程独立的读取位置
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int i;
+
+        int next() {
+            return i++ & SIZE - 1;
+        }
+    }
+
+    @Benchmark
+    public String getMD5(Cursor cursor) {
+        return EncryUtils.getMD5(telNos[cursor.next()]);
+    }
+
+    @Benchmark
+    public String encryBase64(Cursor cursor) {
+        return EncryUtils.getBase64(telNos[cursor.next()]);
+    }
+
+    @Benchmark
+    public String decryBase64(Cursor cursor) {
+        return DecryUtils.getBase64(base64s[cursor.next()]);
+    }
+
+    @Benchmark
+    public boolean checkIdNo(Cursor cursor) {
+        return IdentityUtils.check(idNos[cursor.next()]);
+    }
+
+    /**
+     * 应为0 B/op(gc.alloc.rate.norm)
+     */
+    @Benchmark
+    public IdNoCheckEnum validateIdNo(Cursor cursor) {
+        return IdentityValidator.check(idNos[cursor.next()]);
+    }
+
+    /**
+     * 应为0 B/op(gc.alloc.rate.norm)
+     */
+    @Benchmark
+    public IdNoCheckEnum validateIdNoBytes(Cursor cursor) {
+        byte[] bytes = idNoBytes[cursor.next()];
+        return IdentityValidator.check(bytes, 0, bytes.length);
+    }
+
+    /**
+     * 原IdentityUtils.check的实现, 作为对比
+     */
+    @Benchmark
+    public boolean regexCheckIdNo(Cursor cursor) {
+        String idNo = idNos[cursor.next()];
+        if (StringUtils.isBlank(idNo) || idNo.length() != 18 || !idNo.matches("^[0-9]{17}[0-9Xx]$"))
+            return false;
+        return idNo.substring(17).equalsIgnoreCase(REGEX_MANTISSAS[(int) (IntStream.range(0, 17).map(
+                o -> Character.digit(idNo.toCharArray()[o], 10) * COEFFICIENTS[o]).summaryStatistics().getSum()
+                % 11)]);
+    }
+
+    @Benchmark
+    public IdentityInfoVO analysisIdNo(Cursor cursor) {
+        return IdentityUtils.analysis(validIdNos[cursor.next()]);
+    }
+
+    /**
+     * 出生日期、年龄、性别, 应为0 B/op(gc.alloc.rate.norm)
+     */
+    @Benchmark
+    public int decodeIdNo(Cursor cursor) {
+        String idNo = validIdNos[cursor.next()];
+        int birthDate = IdentityDecoder.birthDate(idNo);
+        return IdentityDecoder.age(birthDate) + IdentityDecoder.sex(idNo).ordinal();
+    }
+
+    /**
+     * 原IdentityUtils.analysis中出生日期、性别的解析方式, 作为对比
+     */
+    @Benchmark
+    public SexEnum parseIdNo(Cursor cursor, Blackhole blackhole) throws ParseException {
+        String idNo = validIdNos[cursor.next()];
+        blackhole.consume(DateUtils.parseDate(idNo.substring(6, 14), DateFormatConstant.NOTHING_BY_DATE));
+        return Integer.parseInt(idNo.substring(16, 17)) % 2 != 0 ? SexEnum.MALE : SexEnum.FEMALE;
+    }
+
+    @Benchmark
+    public ErrorEnum checkTelNo(Cursor cursor) {
+        return EncryService.check(telNos[cursor.next()], EncryTypeEnum.TEL_NO);
+    }
+
+    @Benchmark
+    public String mosaicTelNo(Cursor cursor) {
+        return MosaicUtils.mosaicTelNo(telNos[cursor.next()]);
+    }
+
+    @Benchmark
+    public String mosaicIdNo(Cursor cursor) {
+        return MosaicUtils.mosaicIdNo(validIdNos[cursor.next()]);
+    }
+
+    @Benchmark
+    public String mosaicUserName(Cursor cursor) {
+        return MosaicUtils.mosaicUserName(userNames[cursor.next()]);
+    }
+
+    private static boolean invalid(Random random) {
+        return random.nextInt(100) < INVALID_PERCENT;
+    }
+
+    private static String telNo(Random random) {
+        String telNo = TEL_NO_PREFIXES[random.nextInt(TEL_NO_PREFIXES.length)] + String.format("%08d",
+                random.nextInt(100000000));
+        // 号段错误或位数错误
+        return invalid(random) ? (random.nextBoolean() ? "12" + telNo.substring(2) : telNo.substring(1)) : telNo;
+    }
+
+    private static String idNo(Random random) {
+        LocalDate birth = LocalDate.of(1950, 1, 1).plusDays(random.nextInt(365 * 55));
+        String idNo = REGIONS[random.nextInt(REGIONS.length)] + BIRTH.format(birth) + String.format("%03d",
+                random.nextInt(1000));
+        int sum = 0;
+        for (int i = 0; i < 17; i++)
+            sum += (idNo.charAt(i) - '0') * COEFFICIENTS[i];
+        return idNo + MANTISSAS[sum % 11];
+    }
+
+    /**
+     * 校验位错误
+     */
+    private static String corrupt(String idNo) {
+        char mantissa = idNo.charAt(17);
+        return idNo.substring(0, 17) + (mantissa == '1' ? '2' : '1');
+    }
+
+    private static String userName(Random random) {
+        StringBuilder userName = new StringBuilder(SURNAMES[random.nextInt(SURNAMES.length)]);
+        for (int i = random.nextInt(2); i >= 0; i--)
+            userName.append(GIVEN_NAMES.charAt(random.nextInt(GIVEN_NAMES.length())));
+        return userName.toString();
+    }
+}
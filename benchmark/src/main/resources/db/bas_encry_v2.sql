@@ -0,0 +1,13 @@
+-- 加解密表v2, 与db/migration/bas_encry_v2.sql一致, H2(MODE=MySQL)与MySQL通用
+drop table if exists bas_encry_v2;
+create table bas_encry_v2 (
+  id bigint auto_increment primary key,
+  type tinyint not null,
+  decry_num bigint not null default 0,
+  decry varchar(255) not null default '',
+  encry varbinary(64) not null,
+  encry_format tinyint not null,
+  create_time timestamp not null,
+  constraint uk_bas_encry_v2_decry unique (type, decry_num, decry),
+  constraint uk_bas_encry_v2_encry unique (type, encry)
+);
@@ -0,0 +1,12 @@
+package com.yanchao.blog.loadtest;
+
+/**
+ * 压测请求的key分布
+ */
+public enum KeyDistributionEnum {
+
+    /** 所有key等概率 */
+    UNIFORM,
+    /** 少量热点key占大部分请求, 见{@link ZipfianGenerator} */
+    ZIPFIAN
+}
@@ -0,0 +1,297 @@
+package com.yanchao.blog.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yanchao.blog.BlogApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.*;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 加解密接口压测: 以perf profile(H2内存库, 不使用Redis)在本进程启动BlogApplication, 多线程按均匀或Zipfian分布请求/encry、/decry
+ * <p>
+ * 压测前通过/encry/batch写入全部手机号; 预热结束后开始统计, 每秒输出一次吞吐量及p99, 结束时输出各分位数.
+ * 指定rate时按固定速率发送, 耗时从计划发送时间算起(包括排队), 避免服务变慢时请求变少导致分位数偏低.
+ * 输出目录中: encry.hlog/decry.hlog为每秒的HdrHistogram日志(可用HistogramLogAnalyzer等查看),
+ * encry.hgrm/decry.hgrm为整个统计期的分位数分布(毫秒)
+ * <p>
+ * java -jar loadtest/target/loadtest.jar --threads=64 --duration=60 --distribution=zipfian
+ */
+@Slf4j
+public class LoadTest {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    private final LoadTestOptions options;
+    private final Operation encry = new Operation("encry");
+    private final Operation decry = new Operation("decry");
+    private URL[] encryUrls;
+    private URL[] decryUrls;
+    private ZipfianGenerator zipfian;
+    private volatile boolean running = true;
+
+    public LoadTest(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        // 每个压测线程保持一个长连接
+        System.setProperty("http.maxConnections", String.valueOf(options.getThreads()));
+
+        ConfigurableApplicationContext context = null;
+        String target = options.getTarget();
+        if (target == null) {
+            List<String> appArgs = new ArrayList<>(options.getAppArgs());
+            appArgs.add(0, "--server.port=0");
+            context = new SpringApplicationBuilder(BlogApplication.class).profiles("perf").run(
+                    appArgs.toArray(new String[0]));
+            target = "http://127.0.0.1:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        }
+        try {
+            new LoadTest(options).run(target);
+        } finally {
+            if (context != null)
+                context.close();
+        }
+    }
+
+    public void run(String target) throws Exception {
+        log.info("压测参数: {}, 目标: {}", options, target);
+        prepare(target);
+        File output = new File(options.getOutput());
+        if (!output.isDirectory() && !output.mkdirs())
+            throw new IOException("无法创建目录: " + output);
+        encry.open(output);
+        decry.open(output);
+
+        long start = System.nanoTime();
+        long measureAt = start + options.getWarmup().toNanos();
+        long endAt = measureAt + options.getDuration().toNanos();
+        CountDownLatch done = new CountDownLatch(options.getThreads());
+        for (int i = 0; i < options.getThreads(); i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    drive(start);
+                } finally {
+                    done.countDown();
+                }
+            }, "loadtest-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        boolean measuring = options.getWarmup().isZero();
+        long next = start;
+        while (System.nanoTime() < endAt) {
+            next += TimeUnit.SECONDS.toNanos(1);
+            LockSupport.parkNanos(next - System.nanoTime());
+            if (!measuring && next >= measureAt) {
+                // 丢弃预热期的数据
+                measuring = true;
+                encry.reset();
+                decry.reset();
+                log.info("预热结束, 开始统计");
+                continue;
+            }
+            encry.interval(measuring);
+            decry.interval(measuring);
+            log.info("{}: {}", measuring ? "统计" : "预热", encry.progress() + ", " + decry.progress());
+        }
+        running = false;
+        done.await();
+
+        double seconds = options.getDuration().getSeconds();
+        encry.interval(true);
+        decry.interval(true);
+        encry.close(output, seconds);
+        decry.close(output, seconds);
+    }
+
+    /**
+     * 生成手机号, 写入映射并得到密文, 预先拼好请求地址
+     */
+    private void prepare(String target) throws IOException {
+        int keys = options.getKeys();
+        String[] decrys = new String[keys];
+        for (int i = 0; i < keys; i++)
+            // 7919与10^8互质, 号码不重复且不连续
+            decrys[i] = "138" + String.format("%08d", i * 7919L % 100000000);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        encryUrls = new URL[keys];
+        decryUrls = new URL[keys];
+        for (int i = 0; i < keys; i += BATCH_SIZE) {
+            List<Map<String, String>> items = new ArrayList<>(BATCH_SIZE);
+            for (int j = i; j < Math.min(keys, i + BATCH_SIZE); j++) {
+                Map<String, String> item = new HashMap<>();
+                item.put("value", decrys[j]);
+                item.put("encryType", "TEL_NO");
+                items.add(item);
+            }
+            JsonNode results = objectMapper.readTree(post(new URL(target + "/encry/batch"),
+                    objectMapper.writeValueAsBytes(items))).path("data").path("results");
+            for (int j = 0; j < items.size(); j++) {
+                String encryValue = results.path(j).path("value").asText(null);
+                if (encryValue == null)
+                    throw new IllegalStateException("写入映射失败: " + decrys[i + j] + ", " + results.path(j));
+                encryUrls[i + j] = new URL(target + "/encry?encryType=TEL_NO&decry=" + decrys[i + j]);
+                decryUrls[i + j] = new URL(target + "/decry?encryType=TEL_NO&encry=" + URLEncoder.encode(encryValue,
+                        StandardCharsets.UTF_8.name()));
+            }
+        }
+        if (options.getDistribution() == KeyDistributionEnum.ZIPFIAN)
+            zipfian = new ZipfianGenerator(keys, options.getZipfTheta());
+        log.info("已写入{}个手机号", keys);
+    }
+
+    /**
+     * 压测线程: 不限速率时收到响应后立即发下一个; 否则按计划时间发送, 落后时不等待
+     */
+    private void drive(long start) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long interval = options.getRate() > 0 ? TimeUnit.SECONDS.toNanos(options.getThreads()) / options.getRate()
+                : 0;
+        // 各线程错开发送
+        long intended = start + (interval == 0 ? 0 : random.nextLong(interval));
+        byte[] buffer = new byte[8192];
+        while (running) {
+            long sendAt;
+            if (interval > 0) {
+                LockSupport.parkNanos(intended - System.nanoTime());
+                sendAt = intended;
+                intended += interval;
+            } else {
+                sendAt = System.nanoTime();
+            }
+            int key = zipfian == null ? random.nextInt(options.getKeys()) : zipfian.next(random);
+            Operation operation = random.nextInt(100) < options.getDecryPercent() ? decry : encry;
+            boolean success = get(operation == decry ? decryUrls[key] : encryUrls[key], buffer);
+            operation.record(System.nanoTime() - sendAt, success);
+        }
+    }
+
+    /**
+     * @return 是否HTTP 200; 其他状态(202为业务错误)及异常均计为错误
+     */
+    private static boolean get(URL url, byte[] buffer) {
+        try {
+            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            int status = connection.getResponseCode();
+            // 读完响应才能复用连接
+            try (InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+                if (in != null)
+                    while (in.read(buffer) >= 0) {
+                        // 丢弃
+                    }
+            }
+            return status == HttpURLConnection.HTTP_OK;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static byte[] post(URL url, byte[] body) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        connection.setRequestProperty("Content-Type", "application/json");
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(body);
+        }
+        if (connection.getResponseCode() != HttpURLConnection.HTTP_OK)
+            throw new IOException(url + "返回" + connection.getResponseCode());
+        try (InputStream in = connection.getInputStream()) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            for (int n; (n = in.read(buffer)) >= 0; )
+                bytes.write(buffer, 0, n);
+            return bytes.toByteArray();
+        }
+    }
+
+    /**
+     * 一种请求的统计: 压测线程写Recorder, 统计线程每秒取出间隔直方图写日志并累计
+     */
+    private static class Operation {
+        private final String name;
+        private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+        private final Histogram total = new Histogram(SIGNIFICANT_DIGITS);
+        private final LongAdder errors = new LongAdder();
+        private Histogram interval;
+        private HistogramLogWriter logWriter;
+
+        Operation(String name) {
+            this.name = name;
+        }
+
+        void open(File output) throws FileNotFoundException {
+            logWriter = new HistogramLogWriter(new File(output, name + ".hlog"));
+            long now = System.currentTimeMillis();
+            logWriter.outputLogFormatVersion();
+            logWriter.outputStartTime(now);
+            logWriter.setBaseTime(now);
+            logWriter.outputLegend();
+        }
+
+        void record(long nanos, boolean success) {
+            recorder.recordValue(nanos);
+            if (!success)
+                errors.increment();
+        }
+
+        void reset() {
+            interval = recorder.getIntervalHistogram(interval);
+            errors.reset();
+        }
+
+        void interval(boolean measuring) {
+            interval = recorder.getIntervalHistogram(interval);
+            logWriter.outputIntervalHistogram(interval);
+            if (measuring)
+                total.add(interval);
+        }
+
+        String progress() {
+            return String.format("%s %d/s p99 %.2fms", name, interval.getTotalCount(),
+                    interval.getValueAtPercentile(99) / NANOS_PER_MILLI);
+        }
+
+        void close(File output, double seconds) throws IOException {
+            logWriter.close();
+            try (PrintStream out = new PrintStream(new FileOutputStream(new File(output, name + ".hgrm")), false,
+                    StandardCharsets.UTF_8.name())) {
+                total.outputPercentileDistribution(out, NANOS_PER_MILLI);
+            }
+            log.info("{}: {}次, {}/s, 错误{}次, p50 {}ms, p90 {}ms, p99 {}ms, p99.9 {}ms, max {}ms", name,
+                    total.getTotalCount(), String.format("%.1f", total.getTotalCount() / seconds), errors.sum(),
+                    millis(total, 50), millis(total, 90), millis(total, 99), millis(total, 99.9),
+                    String.format("%.3f", total.getMaxValue() / NANOS_PER_MILLI));
+        }
+
+        private static String millis(Histogram histogram, double percentile) {
+            return String.format("%.3f", histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI);
+        }
+    }
+}
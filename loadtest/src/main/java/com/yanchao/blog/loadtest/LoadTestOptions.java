@@ -0,0 +1,86 @@
+package com.yanchao.blog.loadtest;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 压测参数, 格式同Spring Boot命令行参数(--name=value); 不认识的参数(如--spring.datasource.url=...)传给被测应用
+ */
+@Getter
+@ToString
+public class LoadTestOptions {
+
+    /** 已启动的服务地址(如http://127.0.0.1:8080), 为空时以perf profile启动BlogApplication */
+    private String target;
+    private int threads = 32;
+    private Duration warmup = Duration.ofSeconds(10);
+    private Duration duration = Duration.ofSeconds(60);
+    /** 每秒总请求数, 0为不限(每个线程收到响应后立即发下一个) */
+    private int rate;
+    /** 手机号个数, 压测前通过/encry/batch写入 */
+    private int keys = 100000;
+    private KeyDistributionEnum distribution = KeyDistributionEnum.UNIFORM;
+    /** Zipfian分布的参数, 越大越集中, 需小于1 */
+    private double zipfTheta = 0.99;
+    /** 解密请求的比例(%), 其余为加密 */
+    private int decryPercent = 80;
+    /** 直方图及日志的输出目录 */
+    private String output = "target/loadtest";
+    /** 传给BlogApplication的参数 */
+    private final List<String> appArgs = new ArrayList<>();
+
+    public static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                options.appArgs.add(arg);
+                continue;
+            }
+            String value = arg.substring(eq + 1);
+            switch (arg.substring(2, eq)) {
+                case "target":
+                    options.target = value;
+                    break;
+                case "threads":
+                    options.threads = Integer.parseInt(value);
+                    break;
+                case "warmup":
+                    options.warmup = Duration.ofSeconds(Long.parseLong(value));
+                    break;
+                case "duration":
+                    options.duration = Duration.ofSeconds(Long.parseLong(value));
+                    break;
+                case "rate":
+                    options.rate = Integer.parseInt(value);
+                    break;
+                case "keys":
+                    options.keys = Integer.parseInt(value);
+                    break;
+                case "distribution":
+                    options.distribution = KeyDistributionEnum.valueOf(value.toUpperCase());
+                    break;
+                case "zipf-theta":
+                    options.zipfTheta = Double.parseDouble(value);
+                    break;
+                case "decry-percent":
+                    options.decryPercent = Integer.parseInt(value);
+                    break;
+                case "output":
+                    options.output = value;
+                    break;
+                default:
+                    options.appArgs.add(arg);
+            }
+        }
+        if (options.threads <= 0 || options.keys <= 0 || options.decryPercent < 0 || options.decryPercent > 100)
+            throw new IllegalArgumentException("参数有误: " + options);
+        if (options.zipfTheta <= 0 || options.zipfTheta >= 1)
+            throw new IllegalArgumentException("zipf-theta应在(0, 1)之间: " + options.zipfTheta);
+        return options;
+    }
+}
@@ -0,0 +1,47 @@
+package com.yanchao.blog.loadtest;
+
+import java.util.Random;
+
+/**
+ * Zipfian分布的序号生成, 序号越小越热: 第i个key的概率与1/(i+1)^theta成正比
+ * <p>
+ * 按Gray等"Quickly Generating Billion-Record Synthetic Databases"中的方法(YCSB同), 启动时计算一次zeta(n), 之后每次O(1)
+ */
+public class ZipfianGenerator {
+
+    private final int items;
+    private final double theta;
+    private final double zetan;
+    private final double alpha;
+    private final double eta;
+
+    /**
+     * @param items 序号范围[0, items)
+     * @param theta (0, 1)
+     */
+    public ZipfianGenerator(int items, double theta) {
+        this.items = items;
+        this.theta = theta;
+        double zeta2 = zeta(2, theta);
+        zetan = zeta(items, theta);
+        alpha = 1 / (1 - theta);
+        eta = (1 - Math.pow(2.0 / items, 1 - theta)) / (1 - zeta2 / zetan);
+    }
+
+    public int next(Random random) {
+        double u = random.nextDouble();
+        double uz = u * zetan;
+        if (uz < 1)
+            return 0;
+        if (uz < 1 + Math.pow(0.5, theta))
+            return 1;
+        return Math.min(items - 1, (int) (items * Math.pow(eta * u - eta + 1, alpha)));
+    }
+
+    private static double zeta(int n, double theta) {
+        double sum = 0;
+        for (int i = 1; i <= n; i++)
+            sum += 1 / Math.pow(i, theta);
+        return sum;
+    }
+}
@@ -0,0 +1,124 @@
+package com.yanchao.blog.cache;
+
+import com.yanchao.blog.constant.EncryTypeEnum;
+import com.yanchao.blog.util.PartitionUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 加解密-两级缓存: 进程内(手机号、身份证号为堆外索引, 其他类型为进程内缓存) -> Redis, Redis命中的数据回填进程内
+ */
+@Component
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class EncryCache {
+
+    private final EncryPrimitiveCache encryPrimitiveCache;
+    private final EncryNearCache encryNearCache;
+    private final EncryRedisCache encryRedisCache;
+
+    public String getEncry(EncryTypeEnum encryType, String decry) {
+        String encry = getLocalEncry(encryType, decry);
+        if (encry == null) {
+            encry = encryRedisCache.getEncry(encryType, decry);
+            if (encry != null)
+                putLocal(encryType, decry, encry);
+        }
+        return encry;
+    }
+
+    public String getDecry(EncryTypeEnum encryType, String encry) {
+        String decry = getLocalDecry(encryType, encry);
+        if (decry == null) {
+            decry = encryRedisCache.getDecry(encryType, encry);
+            if (decry != null)
+                putLocal(encryType, decry, encry);
+        }
+        return decry;
+    }
+
+    /**
+     * @return 明文-密文, 只包含命中的数据
+     */
+    public Map<String, String> getEncrys(EncryTypeEnum encryType, Collection<String> decrys) {
+        Map<String, String> encrys = new HashMap<>(encryPrimitiveCache.getEncrys(encryType, decrys));
+        if (encrys.size() < decrys.size())
+            encrys.putAll(encryNearCache.getEncrys(encryType, PartitionUtils.misses(decrys, encrys)));
+        if (encrys.size() < decrys.size()) {
+            Map<String, String> remote = encryRedisCache.getEncrys(encryType, PartitionUtils.misses(decrys, encrys));
+            remote.forEach((decry, encry) -> putLocal(encryType, decry, encry));
+            encrys.putAll(remote);
+        }
+        return encrys;
+    }
+
+    /**
+     * @return 密文-明文, 只包含命中的数据
+     */
+    public Map<String, String> getDecrys(EncryTypeEnum encryType, Collection<String> encrys) {
+        Map<String, String> decrys = new HashMap<>(encryPrimitiveCache.getDecrys(encryType, encrys));
+        if (decrys.size() < encrys.size())
+            decrys.putAll(encryNearCache.getDecrys(encryType, PartitionUtils.misses(encrys, decrys)));
+        if (decrys.size() < encrys.size()) {
+            Map<String, String> remote = encryRedisCache.getDecrys(encryType, PartitionUtils.misses(encrys, decrys));
+            remote.forEach((encry, decry) -> putLocal(encryType, decry, encry));
+            decrys.putAll(remote);
+        }
+        return decrys;
+    }
+
+    public void put(EncryTypeEnum encryType, String decry, String encry) {
+        putLocal(encryType, decry, encry);
+        encryRedisCache.put(encryType, decry, encry);
+    }
+
+    /**
+     * @param encrys 明文-密文
+     */
+    public void putAll(EncryTypeEnum encryType, Map<String, String> encrys) {
+        encrys.forEach((decry, encry) -> putLocal(encryType, decry, encry));
+        encryRedisCache.putAll(encryType, encrys);
+    }
+
+    /**
+     * 从各级缓存删除一个类型的全部映射, 其他节点的进程内缓存及堆外索引需分别清除
+     *
+     * @return Redis中删除的key数
+     */
+    public long evict(EncryTypeEnum encryType) {
+        encryPrimitiveCache.evict(encryType, null);
+        encryNearCache.evict(encryType, null);
+        return encryRedisCache.evict(encryType);
+    }
+
+    /**
+     * 从各级缓存删除一条映射, 两个方向都删除
+     */
+    public void evict(EncryTypeEnum encryType, String decry, String encry) {
+        encryPrimitiveCache.evict(encryType, decry);
+        encryPrimitiveCache.evict(encryType, encry);
+        encryNearCache.evict(encryType, decry);
+        encryNearCache.evict(encryType, encry);
+        encryRedisCache.evict(encryType, decry, encry);
+    }
+
+    private String getLocalEncry(EncryTypeEnum encryType, String decry) {
+        String encry = encryPrimitiveCache.getEncry(encryType, decry);
+        return encry != null ? encry : encryNearCache.getEncry(encryType, decry);
+    }
+
+    private String getLocalDecry(EncryTypeEnum encryType, String encry) {
+        String decry = encryPrimitiveCache.getDecry(encryType, encry);
+        return decry != null ? decry : encryNearCache.getDecry(encryType, encry);
+    }
+
+    /**
+     * 堆外索引能保存的不再写入进程内缓存
+     */
+    private void putLocal(EncryTypeEnum encryType, String decry, String encry) {
+        if (!encryPrimitiveCache.put(encryType, decry, encry))
+            encryNearCache.put(encryType, decry, encry);
+    }
+}
@@ -0,0 +1,19 @@
+package com.yanchao.blog.cache;
+
+import com.yanchao.blog.constant.EncryTypeEnum;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 映射key: 加解密类型+明文或密文
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public final class EncryKey {
+    private final EncryTypeEnum encryType;
+    private final String value;
+}
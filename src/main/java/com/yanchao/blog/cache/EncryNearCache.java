@@ -0,0 +1,147 @@
+package com.yanchao.blog.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.yanchao.blog.config.EncryProperties;
+import com.yanchao.blog.constant.EncryTypeEnum;
+import com.yanchao.blog.vo.cache.CacheStatsVO;
+import com.yanchao.blog.vo.cache.NearCacheVO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.*;
+
+/**
+ * 加解密-进程内缓存
+ * <p>
+ * 基于Caffeine(W-TinyLFU): 新数据需要比被淘汰的数据访问频率更高才会被保留, 一次性的批量扫描不会冲掉热点数据. 按估算字节数限制容量,
+ * 默认取最大堆内存的{@link EncryProperties.Near#getHeapPercent()}, 两个方向各占一半
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class EncryNearCache {
+
+    /**
+     * 单条缓存的固定开销估算: 缓存节点、key对象及两个String对象头
+     */
+    private static final int ENTRY_OVERHEAD = 168;
+
+    private final EncryProperties encryProperties;
+
+    private long maxWeight;
+    /** 明文->密文 */
+    private Cache<EncryKey, String> encryCache;
+    /** 密文->明文 */
+    private Cache<EncryKey, String> decryCache;
+
+    @PostConstruct
+    public void init() {
+        EncryProperties.Near near = encryProperties.getNear();
+        long maxBytes = near.getMaxBytes() > 0 ? near.getMaxBytes()
+                : Runtime.getRuntime().maxMemory() / 100 * near.getHeapPercent();
+        maxWeight = maxBytes / 2;
+        encryCache = newCache();
+        decryCache = newCache();
+        log.info("进程内缓存: enabled={}, maxBytes={}", near.isEnabled(), maxBytes);
+    }
+
+    public String getEncry(EncryTypeEnum encryType, String decry) {
+        return enabled() ? encryCache.getIfPresent(new EncryKey(encryType, decry)) : null;
+    }
+
+    public String getDecry(EncryTypeEnum encryType, String encry) {
+        return enabled() ? decryCache.getIfPresent(new EncryKey(encryType, encry)) : null;
+    }
+
+    /**
+     * @return 明文-密文, 只包含命中的数据
+     */
+    public Map<String, String> getEncrys(EncryTypeEnum encryType, Collection<String> decrys) {
+        return getAll(encryCache, encryType, decrys);
+    }
+
+    /**
+     * @return 密文-明文, 只包含命中的数据
+     */
+    public Map<String, String> getDecrys(EncryTypeEnum encryType, Collection<String> encrys) {
+        return getAll(decryCache, encryType, encrys);
+    }
+
+    public void put(EncryTypeEnum encryType, String decry, String encry) {
+        if (!enabled())
+            return;
+        encryCache.put(new EncryKey(encryType, decry), encry);
+        decryCache.put(new EncryKey(encryType, encry), decry);
+    }
+
+    /**
+     * @param encrys 明文-密文
+     */
+    public void putAll(EncryTypeEnum encryType, Map<String, String> encrys) {
+        encrys.forEach((decry, encry) -> put(encryType, decry, encry));
+    }
+
+    /**
+     * 清除缓存
+     *
+     * @param encryType 加解密类型, 为空时清除全部
+     * @param value     明文或密文, 为空时清除该类型全部
+     */
+    public void evict(EncryTypeEnum encryType, String value) {
+        if (encryType == null) {
+            encryCache.invalidateAll();
+            decryCache.invalidateAll();
+        } else if (value == null) {
+            encryCache.asMap().keySet().removeIf(o -> o.getEncryType() == encryType);
+            decryCache.asMap().keySet().removeIf(o -> o.getEncryType() == encryType);
+        } else {
+            EncryKey key = new EncryKey(encryType, value);
+            String encry = encryCache.asMap().remove(key);
+            if (encry != null)
+                decryCache.invalidate(new EncryKey(encryType, encry));
+            String decry = decryCache.asMap().remove(key);
+            if (decry != null)
+                encryCache.invalidate(new EncryKey(encryType, decry));
+        }
+    }
+
+    public NearCacheVO stats() {
+        return NearCacheVO.builder().encry(stats(encryCache)).decry(stats(decryCache)).build();
+    }
+
+    private boolean enabled() {
+        return encryProperties.getNear().isEnabled();
+    }
+
+    private Cache<EncryKey, String> newCache() {
+        return Caffeine.newBuilder().maximumWeight(maxWeight)
+                .weigher((EncryKey key, String value) -> ENTRY_OVERHEAD
+                        + 2 * (key.getValue().length() + value.length()))
+                .recordStats().build();
+    }
+
+    private Map<String, String> getAll(Cache<EncryKey, String> cache, EncryTypeEnum encryType, Collection<String> values) {
+        if (!enabled() || values.isEmpty())
+            return Collections.emptyMap();
+        Map<String, String> hits = new HashMap<>(values.size() * 2);
+        values.forEach(o -> {
+            String value = cache.getIfPresent(new EncryKey(encryType, o));
+            if (value != null)
+                hits.put(o, value);
+        });
+        return hits;
+    }
+
+    private CacheStatsVO stats(Cache<EncryKey, String> cache) {
+        CacheStats stats = cache.stats();
+        return CacheStatsVO.builder().hitCount(stats.hitCount()).missCount(stats.missCount()).hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount()).size(cache.estimatedSize())
+                .weight(cache.policy().eviction().map(o -> o.weightedSize().orElse(0L)).orElse(0L))
+                .maxWeight(maxWeight).build();
+    }
+}
@@ -0,0 +1,142 @@
+package com.yanchao.blog.cache;
+
+import com.yanchao.blog.config.EncryProperties;
+import com.yanchao.blog.constant.EncryTypeEnum;
+import com.yanchao.blog.vo.cache.PrimitiveCacheVO;
+import com.yanchao.blog.vo.cache.PrimitiveIndexVO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 加解密-堆外索引缓存
+ * <p>
+ * 手机号、身份证号使用{@link PrimitiveTokenIndex}, 同样的条数占用内存约为进程内缓存的十分之一, 且不受GC影响. 不支持的类型及无法写入的数据由调用方继续使用进程内缓存
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class EncryPrimitiveCache {
+
+    private final EncryProperties encryProperties;
+
+    private final Map<EncryTypeEnum, PrimitiveTokenIndex> indexes = new EnumMap<>(EncryTypeEnum.class);
+    private final Map<EncryTypeEnum, LongAdder> hits = new EnumMap<>(EncryTypeEnum.class);
+    private final Map<EncryTypeEnum, LongAdder> misses = new EnumMap<>(EncryTypeEnum.class);
+
+    @PostConstruct
+    public void init() {
+        EncryProperties.Primitive primitive = encryProperties.getPrimitive();
+        if (!primitive.isEnabled())
+            return;
+        for (EncryTypeEnum encryType : EncryTypeEnum.values())
+            if (PrimitiveTokenIndex.supports(encryType)) {
+                PrimitiveTokenIndex index = new PrimitiveTokenIndex(encryType, primitive.getMaxEntries());
+                indexes.put(encryType, index);
+                hits.put(encryType, new LongAdder());
+                misses.put(encryType, new LongAdder());
+                log.info("堆外索引: {}, maxEntries={}, offHeapBytes={}", encryType, primitive.getMaxEntries(),
+                        index.offHeapBytes());
+            }
+    }
+
+    /**
+     * @return 是否由堆外索引缓存该类型
+     */
+    public boolean supports(EncryTypeEnum encryType) {
+        return indexes.containsKey(encryType);
+    }
+
+    public String getEncry(EncryTypeEnum encryType, String decry) {
+        PrimitiveTokenIndex index = indexes.get(encryType);
+        return index == null ? null : count(encryType, index.getEncry(decry));
+    }
+
+    public String getDecry(EncryTypeEnum encryType, String encry) {
+        PrimitiveTokenIndex index = indexes.get(encryType);
+        return index == null ? null : count(encryType, index.getDecry(encry));
+    }
+
+    /**
+     * @return 明文-密文, 只包含命中的数据
+     */
+    public Map<String, String> getEncrys(EncryTypeEnum encryType, Collection<String> decrys) {
+        PrimitiveTokenIndex index = indexes.get(encryType);
+        if (index == null)
+            return Collections.emptyMap();
+        Map<String, String> encrys = new HashMap<>(decrys.size() * 2);
+        decrys.forEach(o -> {
+            String encry = count(encryType, index.getEncry(o));
+            if (encry != null)
+                encrys.put(o, encry);
+        });
+        return encrys;
+    }
+
+    /**
+     * @return 密文-明文, 只包含命中的数据
+     */
+    public Map<String, String> getDecrys(EncryTypeEnum encryType, Collection<String> encrys) {
+        PrimitiveTokenIndex index = indexes.get(encryType);
+        if (index == null)
+            return Collections.emptyMap();
+        Map<String, String> decrys = new HashMap<>(encrys.size() * 2);
+        encrys.forEach(o -> {
+            String decry = count(encryType, index.getDecry(o));
+            if (decry != null)
+                decrys.put(o, decry);
+        });
+        return decrys;
+    }
+
+    /**
+     * @return 是否已写入, 为false时由调用方写入进程内缓存
+     */
+    public boolean put(EncryTypeEnum encryType, String decry, String encry) {
+        PrimitiveTokenIndex index = indexes.get(encryType);
+        return index != null && index.put(decry, encry);
+    }
+
+    /**
+     * 清除堆外索引
+     *
+     * @param encryType 加解密类型, 为空时清除全部
+     * @param value     明文或密文, 为空时清除该类型全部
+     */
+    public void evict(EncryTypeEnum encryType, String value) {
+        indexes.forEach((type, index) -> {
+            if (encryType == null || (type == encryType && value == null))
+                index.clear();
+            else if (type == encryType)
+                index.remove(value);
+        });
+    }
+
+    public long hitCount(EncryTypeEnum encryType) {
+        LongAdder counter = hits.get(encryType);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    public long missCount(EncryTypeEnum encryType) {
+        LongAdder counter = misses.get(encryType);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    public PrimitiveCacheVO stats() {
+        List<PrimitiveIndexVO> stats = new ArrayList<>();
+        indexes.forEach((encryType, index) -> stats.add(PrimitiveIndexVO.builder().encryType(encryType)
+                .hitCount(hits.get(encryType).sum()).missCount(misses.get(encryType).sum()).size(index.size())
+                .maxEntries(index.getMaxEntries()).offHeapBytes(index.offHeapBytes()).build()));
+        return PrimitiveCacheVO.builder().enabled(!indexes.isEmpty()).indexes(stats).build();
+    }
+
+    private String count(EncryTypeEnum encryType, String value) {
+        (value == null ? misses : hits).get(encryType).increment();
+        return value;
+    }
+}
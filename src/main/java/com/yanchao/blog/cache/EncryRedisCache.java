@@ -0,0 +1,194 @@
+package com.yanchao.blog.cache;
+
+import com.yanchao.blog.config.EncryProperties;
+import com.yanchao.blog.constant.EncryTypeEnum;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 加解密-Redis缓存
+ * <p>
+ * 映射关系写入后不会修改, 按明文->密文、密文->明文两个方向缓存. Redis访问异常({@link DataAccessException})时返回未命中, 并在backoff时间内不再访问Redis,
+ * 由调用方回源数据库; 其他异常(如参数有误)直接抛出, 不影响其他请求使用Redis
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class EncryRedisCache {
+
+    private static final String DECRY_KEY = ":d:";
+    private static final String ENCRY_KEY = ":e:";
+    /** 按类型删除时每批SCAN、DEL的key数 */
+    private static final int EVICT_BATCH = 1000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final EncryProperties encryProperties;
+
+    /**
+     * Redis恢复可用的时间点
+     */
+    private volatile long availableAt;
+
+    /** 实际访问Redis的命中、未命中条数, 跳过Redis时不计 */
+    private final LongAdder hitCounter = new LongAdder();
+    private final LongAdder missCounter = new LongAdder();
+
+    public String getEncry(EncryTypeEnum encryType, String decry) {
+        String key = key(encryType, DECRY_KEY, decry);
+        return execute(() -> count(stringRedisTemplate.opsForValue().get(key)), null);
+    }
+
+    public String getDecry(EncryTypeEnum encryType, String encry) {
+        String key = key(encryType, ENCRY_KEY, encry);
+        return execute(() -> count(stringRedisTemplate.opsForValue().get(key)), null);
+    }
+
+    /**
+     * @return 明文-密文, 只包含命中的数据
+     */
+    public Map<String, String> getEncrys(EncryTypeEnum encryType, Collection<String> decrys) {
+        return multiGet(encryType, DECRY_KEY, decrys);
+    }
+
+    /**
+     * @return 密文-明文, 只包含命中的数据
+     */
+    public Map<String, String> getDecrys(EncryTypeEnum encryType, Collection<String> encrys) {
+        return multiGet(encryType, ENCRY_KEY, encrys);
+    }
+
+    public void put(EncryTypeEnum encryType, String decry, String encry) {
+        putAll(encryType, Collections.singletonMap(decry, encry));
+    }
+
+    /**
+     * @param encrys 明文-密文
+     */
+    public void putAll(EncryTypeEnum encryType, Map<String, String> encrys) {
+        if (encrys.isEmpty())
+            return;
+        long ttl = encryProperties.getRedis().getTtl().getSeconds();
+        Map<String, String> entries = new LinkedHashMap<>(encrys.size() * 4);
+        encrys.forEach((decry, encry) -> {
+            entries.put(key(encryType, DECRY_KEY, decry), encry);
+            entries.put(key(encryType, ENCRY_KEY, encry), decry);
+        });
+        execute(() -> stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            entries.forEach((key, value) -> stringConnection.setEx(key, ttl, value));
+            return null;
+        }), null);
+    }
+
+    /**
+     * 删除一条映射的两个方向
+     */
+    public void evict(EncryTypeEnum encryType, String decry, String encry) {
+        List<String> keys = Arrays.asList(key(encryType, DECRY_KEY, decry), key(encryType, ENCRY_KEY, encry));
+        execute(() -> stringRedisTemplate.delete(keys), null);
+    }
+
+    /**
+     * 删除一个类型的全部映射, 按SCAN分批删除, 不阻塞Redis
+     *
+     * @return 删除的key数, Redis不可用时为0
+     */
+    public long evict(EncryTypeEnum encryType) {
+        ScanOptions options = ScanOptions.scanOptions().match(encryProperties.getRedis().getKeyPrefix()
+                + encryType.name() + ":*").count(EVICT_BATCH).build();
+        Long deleted = execute(() -> stringRedisTemplate.execute((RedisCallback<Long>) connection -> {
+            long count = 0;
+            List<byte[]> keys = new ArrayList<>(EVICT_BATCH);
+            Cursor<byte[]> cursor = connection.scan(options);
+            try {
+                while (cursor.hasNext()) {
+                    keys.add(cursor.next());
+                    if (keys.size() == EVICT_BATCH)
+                        count += delete(connection, keys);
+                }
+                count += delete(connection, keys);
+            } finally {
+                try {
+                    cursor.close();
+                } catch (IOException e) {
+                    throw new RedisSystemException("关闭SCAN游标异常", e);
+                }
+            }
+            return count;
+        }), 0L);
+        return deleted == null ? 0 : deleted;
+    }
+
+    private static long delete(RedisConnection connection, List<byte[]> keys) {
+        if (keys.isEmpty())
+            return 0;
+        Long removed = connection.del(keys.toArray(new byte[0][]));
+        keys.clear();
+        return removed == null ? 0 : removed;
+    }
+
+    private Map<String, String> multiGet(EncryTypeEnum encryType, String direction, Collection<String> values) {
+        if (values.isEmpty())
+            return Collections.emptyMap();
+        List<String> keys = new ArrayList<>(values.size());
+        values.forEach(o -> keys.add(key(encryType, direction, o)));
+        List<String> cached = execute(() -> stringRedisTemplate.opsForValue().multiGet(keys), null);
+        if (cached == null)
+            return Collections.emptyMap();
+
+        Map<String, String> hits = new HashMap<>(values.size() * 2);
+        Iterator<String> iterator = values.iterator();
+        for (String value : cached) {
+            String source = iterator.next();
+            if (value != null)
+                hits.put(source, value);
+        }
+        hitCounter.add(hits.size());
+        missCounter.add(values.size() - hits.size());
+        return hits;
+    }
+
+    public long hitCount() {
+        return hitCounter.sum();
+    }
+
+    public long missCount() {
+        return missCounter.sum();
+    }
+
+    private String count(String value) {
+        (value == null ? missCounter : hitCounter).increment();
+        return value;
+    }
+
+    private <T> T execute(Supplier<T> action, T fallback) {
+        if (!encryProperties.getRedis().isEnabled() || System.currentTimeMillis() < availableAt)
+            return fallback;
+        try {
+            return action.get();
+        } catch (DataAccessException e) {
+            availableAt = System.currentTimeMillis() + encryProperties.getRedis().getBackoff().toMillis();
+            log.warn("Redis不可用, 回源数据库: {}", e.getMessage());
+            return fallback;
+        }
+    }
+
+    private String key(EncryTypeEnum encryType, String direction, String value) {
+        return encryProperties.getRedis().getKeyPrefix() + encryType.name() + direction + value;
+    }
+}
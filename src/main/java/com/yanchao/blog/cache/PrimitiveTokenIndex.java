@@ -0,0 +1,475 @@
+package com.yanchao.blog.cache;
+
+import com.yanchao.blog.constant.EncryTypeEnum;
+import com.yanchao.blog.util.DecryPackUtils;
+import com.yanchao.blog.util.TokenUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 加解密-堆外定长索引
+ * <p>
+ * 手机号、身份证号可以由{@link DecryPackUtils}压缩为一个long, 16字节的密文压缩为两个long, 分别存放在堆外的两张开放寻址表中, 不产生Java对象,
+ * 不受GC影响:
+ * <ul>
+ * <li>明文表, 每个槽位24字节: 明文(高2位为密文格式) + 密文高8字节 + 密文低8字节</li>
+ * <li>密文表, 每个槽位16字节: 密文字符的64位哈希 + 明文, 命中后回查明文表逐字符比较密文, 哈希冲突不会返回错误数据</li>
+ * </ul>
+ * 支持三种密文格式: 32位十六进制, {@link com.yanchao.blog.util.EncryUtils#getMD5(String)}的有符号十进制拼接(由明文重新计算摘要校验后保存摘要),
+ * 及22位base62.
+ * 其他格式的密文、无法压缩的明文不进入索引. 容量在创建时固定, 写满后不再写入, 不淘汰, 只能按值或整体清除.
+ * <p>
+ * 查询不加锁(StampedLock乐观读), 写入串行
+ */
+public final class PrimitiveTokenIndex {
+
+    /** 装载因子 */
+    private static final double LOAD_FACTOR = 0.8;
+    /** 最大条数, 槽位数须小于2^31, 保证{@link #index(long)}中哈希高32位与槽位数的乘积不溢出 */
+    public static final long MAX_ENTRIES = 1L << 30;
+    /** 每个堆外块的槽位数 */
+    private static final int CHUNK_SHIFT = 24;
+    private static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+    private static final int ENCRY_SLOT = 24;
+    private static final int DECRY_SLOT = 16;
+
+    /** 明文占低62位, 高2位为密文格式 */
+    private static final long KEY_MASK = (1L << 62) - 1;
+    private static final int FORMAT_SHIFT = 62;
+    private static final int FORMAT_HEX = 1;
+    private static final int FORMAT_MD5 = 2;
+    private static final int FORMAT_BASE62 = 3;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final EncryTypeEnum encryType;
+    private final long maxEntries;
+    private final long slots;
+    private final ByteBuffer[] encryTable;
+    private final ByteBuffer[] decryTable;
+    private final StampedLock lock = new StampedLock();
+    private volatile long size;
+
+    /**
+     * @param encryType  加解密类型, 只支持手机号、身份证号
+     * @param maxEntries 最大条数, 不超过{@link #MAX_ENTRIES}, 堆外内存约为 40 / 0.8 * maxEntries 字节
+     */
+    public PrimitiveTokenIndex(EncryTypeEnum encryType, long maxEntries) {
+        if (!supports(encryType))
+            throw new IllegalArgumentException("不支持的加解密类型: " + encryType);
+        if (maxEntries <= 0 || maxEntries > MAX_ENTRIES)
+            throw new IllegalArgumentException("maxEntries: " + maxEntries);
+        this.encryType = encryType;
+        this.maxEntries = maxEntries;
+        this.slots = (long) Math.ceil(maxEntries / LOAD_FACTOR) + 1;
+        this.encryTable = allocate(slots, ENCRY_SLOT);
+        this.decryTable = allocate(slots, DECRY_SLOT);
+    }
+
+    public static boolean supports(EncryTypeEnum encryType) {
+        return DecryPackUtils.supports(encryType);
+    }
+
+    /**
+     * @return 密文, 不存在或明文无法压缩时为null
+     */
+    public String getEncry(String decry) {
+        long key = DecryPackUtils.pack(encryType, decry);
+        if (key == 0)
+            return null;
+        long stamp = lock.tryOptimisticRead();
+        String encry = findEncry(key);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                encry = findEncry(key);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return encry;
+    }
+
+    /**
+     * @return 明文, 不存在时为null
+     */
+    public String getDecry(String encry) {
+        if (encry == null || encry.isEmpty())
+            return null;
+        long stamp = lock.tryOptimisticRead();
+        long key = findDecry(encry);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                key = findDecry(encry);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return key == 0 ? null : DecryPackUtils.unpack(encryType, key);
+    }
+
+    /**
+     * 写入, 已存在的不覆盖
+     *
+     * @return 是否已在索引中; 明文无法压缩、密文格式不支持或索引已满时为false
+     */
+    public boolean put(String decry, String encry) {
+        long key = DecryPackUtils.pack(encryType, decry);
+        if (key == 0 || encry == null)
+            return false;
+
+        long hi;
+        long lo;
+        int format;
+        if (isHex(encry)) {
+            format = FORMAT_HEX;
+            hi = parseHex(encry, 0);
+            lo = parseHex(encry, 16);
+        } else {
+            byte[] digest = md5(decry);
+            if (matchesMd5(encry, digest)) {
+                format = FORMAT_MD5;
+            } else {
+                digest = TokenUtils.fromBase62(encry);
+                if (digest == null)
+                    return false;
+                format = FORMAT_BASE62;
+            }
+            hi = ByteBuffer.wrap(digest).getLong(0);
+            lo = ByteBuffer.wrap(digest).getLong(8);
+        }
+
+        long stamp = lock.writeLock();
+        try {
+            long slot = probe(key);
+            if (encryTable(slot).getLong(offset(slot, ENCRY_SLOT)) != 0)
+                return true;
+            if (size >= maxEntries)
+                return false;
+
+            ByteBuffer table = encryTable(slot);
+            int offset = offset(slot, ENCRY_SLOT);
+            table.putLong(offset + 8, hi);
+            table.putLong(offset + 16, lo);
+            table.putLong(offset, (long) format << FORMAT_SHIFT | key);
+
+            long hash = tokenHash(encry);
+            long i = index(hash);
+            while (decryTable(i).getLong(offset(i, DECRY_SLOT)) != 0)
+                i = next(i);
+            decryTable(i).putLong(offset(i, DECRY_SLOT) + 8, key);
+            decryTable(i).putLong(offset(i, DECRY_SLOT), hash);
+            size++;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 删除明文或密文所在的映射, 后续的槽位前移填补, 不留删除标记
+     *
+     * @param value 明文或密文
+     * @return 是否删除
+     */
+    public boolean remove(String value) {
+        if (value == null || value.isEmpty())
+            return false;
+        long stamp = lock.writeLock();
+        try {
+            long key = DecryPackUtils.pack(encryType, value);
+            if (key == 0 || encryTable(probe(key)).getLong(offset(probe(key), ENCRY_SLOT)) == 0)
+                key = findDecry(value);
+            if (key == 0)
+                return false;
+
+            long slot = probe(key);
+            ByteBuffer encrys = encryTable(slot);
+            int offset = offset(slot, ENCRY_SLOT);
+            long packed = encrys.getLong(offset);
+            long hash = tokenHash(render((int) (packed >>> FORMAT_SHIFT), encrys.getLong(offset + 8), encrys
+                    .getLong(offset + 16)));
+            for (long i = index(hash);; i = next(i)) {
+                long decryHash = decryTable(i).getLong(offset(i, DECRY_SLOT));
+                if (decryHash == 0)
+                    break;
+                if (decryHash == hash && decryTable(i).getLong(offset(i, DECRY_SLOT) + 8) == key) {
+                    delete(decryTable, DECRY_SLOT, i);
+                    break;
+                }
+            }
+            delete(encryTable, ENCRY_SLOT, slot);
+            size--;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 清除全部映射, 堆外内存不释放
+     */
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            zero(encryTable);
+            zero(decryTable);
+            size = 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public EncryTypeEnum getEncryType() {
+        return encryType;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public long getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * @return 堆外内存字节数
+     */
+    public long offHeapBytes() {
+        return slots * (ENCRY_SLOT + DECRY_SLOT);
+    }
+
+    private String findEncry(long key) {
+        long slot = probe(key);
+        ByteBuffer table = encryTable(slot);
+        int offset = offset(slot, ENCRY_SLOT);
+        long value = table.getLong(offset);
+        if (value == 0)
+            return null;
+        return render((int) (value >>> FORMAT_SHIFT), table.getLong(offset + 8), table.getLong(offset + 16));
+    }
+
+    /**
+     * @return 明文, 不存在时为0
+     */
+    private long findDecry(String encry) {
+        long hash = tokenHash(encry);
+        for (long i = index(hash);; i = next(i)) {
+            ByteBuffer table = decryTable(i);
+            int offset = offset(i, DECRY_SLOT);
+            long value = table.getLong(offset);
+            if (value == 0)
+                return 0;
+            if (value != hash)
+                continue;
+            long key = table.getLong(offset + 8);
+            long slot = probe(key);
+            ByteBuffer encrys = encryTable(slot);
+            int encryOffset = offset(slot, ENCRY_SLOT);
+            long packed = encrys.getLong(encryOffset);
+            if (packed != 0 && matches(encry, (int) (packed >>> FORMAT_SHIFT), encrys.getLong(encryOffset + 8),
+                    encrys.getLong(encryOffset + 16)))
+                return key;
+        }
+    }
+
+    /**
+     * @return 明文所在或应写入的槽位
+     */
+    private long probe(long key) {
+        for (long i = index(mix(key));; i = next(i)) {
+            long value = encryTable(i).getLong(offset(i, ENCRY_SLOT));
+            if (value == 0 || (value & KEY_MASK) == key)
+                return i;
+        }
+    }
+
+    private long index(long hash) {
+        return ((hash >>> 32) * slots) >>> 32;
+    }
+
+    /**
+     * 线性探测的删除: 其后连续的槽位中, 起始位置不在(hole, i]之间的前移到空出的槽位
+     */
+    private void delete(ByteBuffer[] table, int slotSize, long hole) {
+        for (long i = next(hole);; i = next(i)) {
+            ByteBuffer buffer = table[(int) (i >>> CHUNK_SHIFT)];
+            int offset = offset(i, slotSize);
+            long value = buffer.getLong(offset);
+            if (value == 0)
+                break;
+            long home = index(slotSize == ENCRY_SLOT ? mix(value & KEY_MASK) : value);
+            if (hole <= i ? home > hole && home <= i : home > hole || home <= i)
+                continue;
+            ByteBuffer holeBuffer = table[(int) (hole >>> CHUNK_SHIFT)];
+            int holeOffset = offset(hole, slotSize);
+            for (int j = 0; j < slotSize; j += 8)
+                holeBuffer.putLong(holeOffset + j, buffer.getLong(offset + j));
+            hole = i;
+        }
+        ByteBuffer holeBuffer = table[(int) (hole >>> CHUNK_SHIFT)];
+        int holeOffset = offset(hole, slotSize);
+        for (int j = 0; j < slotSize; j += 8)
+            holeBuffer.putLong(holeOffset + j, 0);
+    }
+
+    private long next(long i) {
+        return i + 1 == slots ? 0 : i + 1;
+    }
+
+    private ByteBuffer encryTable(long slot) {
+        return encryTable[(int) (slot >>> CHUNK_SHIFT)];
+    }
+
+    private ByteBuffer decryTable(long slot) {
+        return decryTable[(int) (slot >>> CHUNK_SHIFT)];
+    }
+
+    private static int offset(long slot, int slotSize) {
+        return ((int) slot & CHUNK_MASK) * slotSize;
+    }
+
+    private static String render(int format, long hi, long lo) {
+        if (format == FORMAT_HEX) {
+            char[] chars = new char[32];
+            for (int i = 0; i < 16; i++) {
+                chars[i] = HEX[(int) (hi >>> (60 - 4 * i)) & 0xF];
+                chars[16 + i] = HEX[(int) (lo >>> (60 - 4 * i)) & 0xF];
+            }
+            return new String(chars);
+        }
+        if (format == FORMAT_BASE62)
+            return TokenUtils.toBase62(ByteBuffer.allocate(16).putLong(hi).putLong(lo).array());
+        StringBuilder sb = new StringBuilder(64);
+        for (int i = 0; i < 16; i++)
+            sb.append(digestByte(hi, lo, i));
+        return sb.toString();
+    }
+
+    /**
+     * 逐字符比较密文, 不生成字符串
+     */
+    private static boolean matches(String encry, int format, long hi, long lo) {
+        if (format == FORMAT_HEX) {
+            if (encry.length() != 32)
+                return false;
+            for (int i = 0; i < 16; i++)
+                if (encry.charAt(i) != HEX[(int) (hi >>> (60 - 4 * i)) & 0xF]
+                        || encry.charAt(16 + i) != HEX[(int) (lo >>> (60 - 4 * i)) & 0xF])
+                    return false;
+            return true;
+        }
+        if (format == FORMAT_BASE62)
+            return encry.length() == TokenUtils.BASE62_LENGTH && render(format, hi, lo).equals(encry);
+        int position = 0;
+        for (int i = 0; i < 16; i++) {
+            position = matchesDecimal(encry, position, digestByte(hi, lo, i));
+            if (position < 0)
+                return false;
+        }
+        return position == encry.length();
+    }
+
+    private static boolean matchesMd5(String encry, byte[] digest) {
+        int position = 0;
+        for (byte b : digest) {
+            position = matchesDecimal(encry, position, b);
+            if (position < 0)
+                return false;
+        }
+        return position == encry.length();
+    }
+
+    /**
+     * @return 比较后的位置, 不一致时为-1
+     */
+    private static int matchesDecimal(String encry, int position, int value) {
+        if (value < 0) {
+            if (position >= encry.length() || encry.charAt(position) != '-')
+                return -1;
+            position++;
+            value = -value;
+        }
+        int divisor = value >= 100 ? 100 : value >= 10 ? 10 : 1;
+        for (; divisor > 0; divisor /= 10, position++)
+            if (position >= encry.length() || encry.charAt(position) != '0' + value / divisor % 10)
+                return -1;
+        return position;
+    }
+
+    private static byte digestByte(long hi, long lo, int i) {
+        return (byte) (i < 8 ? hi >>> (56 - 8 * i) : lo >>> (56 - 8 * (i - 8)));
+    }
+
+    private static boolean isHex(String encry) {
+        if (encry.length() != 32)
+            return false;
+        for (int i = 0; i < 32; i++) {
+            char c = encry.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f'))
+                return false;
+        }
+        return true;
+    }
+
+    private static long parseHex(String encry, int from) {
+        long value = 0;
+        for (int i = from; i < from + 16; i++) {
+            char c = encry.charAt(i);
+            value = value << 4 | (c <= '9' ? c - '0' : c - 'a' + 10);
+        }
+        return value;
+    }
+
+    private static byte[] md5(String decry) {
+        try {
+            return MessageDigest.getInstance("MD5").digest(decry.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return 密文字符的64位哈希, 不为0
+     */
+    private static long tokenHash(String encry) {
+        long h = 0;
+        for (int i = 0; i < encry.length(); i++)
+            h = 31 * h + encry.charAt(i);
+        h = mix(h);
+        return h == 0 ? 1 : h;
+    }
+
+    /**
+     * MurmurHash3 fmix64
+     */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+
+    private static void zero(ByteBuffer[] table) {
+        for (ByteBuffer buffer : table)
+            for (int i = 0; i < buffer.capacity(); i += 8)
+                buffer.putLong(i, 0);
+    }
+
+    private static ByteBuffer[] allocate(long slots, int slotSize) {
+        int chunks = (int) ((slots + CHUNK_MASK) >>> CHUNK_SHIFT);
+        ByteBuffer[] table = new ByteBuffer[chunks];
+        for (int i = 0; i < chunks; i++) {
+            long chunkSlots = Math.min(1L << CHUNK_SHIFT, slots - ((long) i << CHUNK_SHIFT));
+            table[i] = ByteBuffer.allocateDirect((int) chunkSlots * slotSize).order(ByteOrder.nativeOrder());
+        }
+        return table;
+    }
+}
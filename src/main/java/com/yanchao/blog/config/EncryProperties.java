@@ -0,0 +1,166 @@
+package com.yanchao.blog.config;
+
+import com.yanchao.blog.constant.EncryTypeEnum;
+import com.yanchao.blog.constant.TokenFormatEnum;
+import com.yanchao.blog.constant.TokenModeEnum;
+import com.yanchao.blog.constant.TokenStoreTypeEnum;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 加解密配置
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "blog.encry")
+public class EncryProperties {
+
+    private Redis redis = new Redis();
+    private Near near = new Near();
+    private Primitive primitive = new Primitive();
+    private Token token = new Token();
+    private WriteBehind writeBehind = new WriteBehind();
+    private Store store = new Store();
+
+    /**
+     * Redis缓存
+     */
+    @Data
+    public static class Redis {
+        /** 是否启用 */
+        private boolean enabled = true;
+        /** key前缀 */
+        private String keyPrefix = "blog:encry:";
+        /** 过期时间 */
+        private Duration ttl = Duration.ofDays(7);
+        /** Redis异常后跳过缓存的时长, 避免每次请求都等待超时 */
+        private Duration backoff = Duration.ofSeconds(5);
+    }
+
+    /**
+     * 进程内缓存
+     */
+    @Data
+    public static class Near {
+        /** 是否启用 */
+        private boolean enabled = true;
+        /** 最大占用字节数(估算), 小于等于0时按heapPercent计算 */
+        private long maxBytes;
+        /** 未配置maxBytes时占最大堆内存的百分比 */
+        private int heapPercent = 5;
+    }
+
+    /**
+     * 手机号、身份证号的堆外索引, 在进程内缓存之前查询
+     */
+    @Data
+    public static class Primitive {
+        /** 是否启用 */
+        private boolean enabled;
+        /** 每种类型的最大条数(不超过2^30), 每条约占50字节堆外内存, 需要相应调整-XX:MaxDirectMemorySize */
+        private long maxEntries = 10000000;
+    }
+
+    /**
+     * 密文生成
+     */
+    @Data
+    public static class Token {
+        /** 生成方式 */
+        private TokenModeEnum mode = TokenModeEnum.MD5;
+        /** HMAC密钥(Base64), 按加解密类型区分. 密钥一经使用不能更换, 否则同一明文会生成不同密文 */
+        private Map<EncryTypeEnum, String> keys = new EnumMap<>(EncryTypeEnum.class);
+        /** 格式, HEX/BASE62时JDBC存储以BINARY(16)保存在encry_bin列, 历史格式的密文仍可解密 */
+        private TokenFormatEnum format = TokenFormatEnum.DECIMAL;
+        /** 历史数据迁移 */
+        private Migration migration = new Migration();
+    }
+
+    /**
+     * 历史密文迁移: 后台为encry_bin为空的行补写16字节密文, 迁移完成前后两种格式均可解密
+     */
+    @Data
+    public static class Migration {
+        /** 是否启用, 只在format为HEX/BASE62时生效 */
+        private boolean enabled;
+        /** 是否由本节点执行扫描, 多节点部署时只在一个节点开启 */
+        private boolean worker;
+        /** 每批行数 */
+        private int batchSize = 1000;
+        /** 批次间隔 */
+        private Duration interval = Duration.ofSeconds(1);
+        /** 一轮完整扫描没有迁移任何行时, 下一轮扫描前的等待时间 */
+        private Duration idleInterval = Duration.ofMinutes(10);
+    }
+
+    /**
+     * 新映射异步写库: 先追加到本地日志保证不丢, 再由后台线程批量写入
+     */
+    @Data
+    public static class WriteBehind {
+        /** 是否启用 */
+        private boolean enabled;
+        /** 日志目录 */
+        private String dir = "./data/write-behind";
+        /** 每次追加后是否fsync(并发追加合并为一次), 关闭后掉电可能丢失最近写入的映射 */
+        private boolean sync = true;
+        /** 待写库条数上限, 写库持续失败时超出后拒绝新映射 */
+        private int maxPending = 100000;
+        /** 后台写库间隔 */
+        private Duration flushInterval = Duration.ofMillis(200);
+        /** 每批写入条数 */
+        private int batchSize = 1000;
+    }
+
+    /**
+     * 映射存储
+     */
+    @Data
+    public static class Store {
+        /** 存储方式 */
+        private TokenStoreTypeEnum type = TokenStoreTypeEnum.JDBC;
+        /** Redis作为主存储时的key前缀 */
+        private String redisKeyPrefix = "blog:store:";
+        /** 内存映射日志 */
+        private Mapped mapped = new Mapped();
+        /** v2表结构 */
+        private V2 v2 = new V2();
+    }
+
+    /**
+     * v2表结构存储及从bas_encry的在线迁移
+     */
+    @Data
+    public static class V2 {
+        /** 是否同时写bas_encry并复制其数据, 迁移完成后关闭; 新部署可直接关闭 */
+        private boolean dualWrite = true;
+        /** 是否由本节点执行复制, 多节点部署时只在一个节点开启 */
+        private boolean backfillWorker;
+        /** 复制每批行数 */
+        private int backfillBatchSize = 1000;
+        /** 复制批次间隔 */
+        private Duration backfillInterval = Duration.ofMillis(200);
+        /** 一轮完整扫描没有复制任何行时, 下一轮扫描前的等待时间 */
+        private Duration backfillIdleInterval = Duration.ofMinutes(10);
+    }
+
+    /**
+     * 内存映射日志存储
+     */
+    @Data
+    public static class Mapped {
+        /** 日志目录 */
+        private String dir = "./data/mapped";
+        /** 每个日志段的记录数, 每条记录144字节 */
+        private int segmentRecords = 1 << 20;
+        /** 索引初始容量, 按预计映射数设置可避免启动时扩容 */
+        private int initialCapacity = 1 << 20;
+        /** 刷盘间隔, 两次刷盘之间掉电可能丢失最近写入的映射 */
+        private Duration forceInterval = Duration.ofSeconds(1);
+    }
+}
@@ -0,0 +1,29 @@
+package com.yanchao.blog.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 身份证号批量校验、解析配置
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "blog.identity")
+public class IdentityProperties {
+
+    private Batch batch = new Batch();
+
+    /**
+     * 批量接口: 请求体按块并行处理, 按顺序输出
+     */
+    @Data
+    public static class Batch {
+        /** 处理线程数, 所有请求共用, 小于等于0时为CPU核数 */
+        private int threads;
+        /** 每块的行数 */
+        private int chunkSize = 1000;
+        /** 每个请求处理中及待输出的块数上限, 小于等于0时为线程数的2倍; 请求占用的内存与此成正比, 与请求的行数无关 */
+        private int maxChunksInFlight;
+    }
+}
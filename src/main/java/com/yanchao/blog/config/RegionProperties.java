@@ -0,0 +1,21 @@
+package com.yanchao.blog.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 地区码配置
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "blog.region")
+public class RegionProperties {
+
+    /** 外部地区码文件, 格式同classpath中的region/regions.txt; 为空时只使用classpath中的 */
+    private String file;
+    /** 检查外部文件修改的间隔 */
+    private Duration checkInterval = Duration.ofSeconds(30);
+}
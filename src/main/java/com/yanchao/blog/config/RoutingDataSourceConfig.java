@@ -0,0 +1,68 @@
+package com.yanchao.blog.config;
+
+import com.yanchao.blog.datasource.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 读写分离数据源
+ * <p>
+ * 启用后替代spring.datasource自动配置的数据源: 主库按spring.datasource创建, 从库按blog.datasource.routing.replicas创建,
+ * 连接池参数均使用默认值. 路由数据源不是HikariDataSource, 连接池指标由此处按主库、从库名称分别注册(hikaricp_connections_*{pool=...})
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "blog.datasource.routing", name = "enabled", havingValue = "true")
+public class RoutingDataSourceConfig {
+
+    @Bean
+    @Primary
+    public ReadWriteRoutingDataSource dataSource(DataSourceProperties dataSourceProperties,
+            RoutingProperties routingProperties, ObjectProvider<MeterRegistry> meterRegistry) {
+        DataSource primary = dataSourceProperties.initializeDataSourceBuilder().build();
+        bindPool(ReadWriteRoutingDataSource.PRIMARY, primary, meterRegistry);
+        List<RoutingProperties.Replica> replicas = routingProperties.getReplicas();
+        if (replicas.isEmpty())
+            throw new IllegalStateException("blog.datasource.routing.replicas未配置");
+
+        Map<String, DataSource> dataSources = new LinkedHashMap<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            RoutingProperties.Replica replica = replicas.get(i);
+            String name = StringUtils.defaultIfBlank(replica.getName(), "replica-" + i);
+            if (ReadWriteRoutingDataSource.PRIMARY.equals(name) || dataSources.containsKey(name))
+                throw new IllegalStateException("从库名称重复: " + name);
+            DataSource dataSource = DataSourceBuilder.create()
+                    .driverClassName(StringUtils.defaultIfBlank(replica.getDriverClassName(),
+                            dataSourceProperties.determineDriverClassName()))
+                    .url(replica.getUrl()).username(replica.getUsername()).password(replica.getPassword()).build();
+            bindPool(name, dataSource, meterRegistry);
+            dataSources.put(name, dataSource);
+        }
+        return new ReadWriteRoutingDataSource(primary, dataSources);
+    }
+
+    /**
+     * 连接池启动(第一次获取连接)前设置名称及指标
+     */
+    private static void bindPool(String name, DataSource dataSource, ObjectProvider<MeterRegistry> meterRegistry) {
+        if (!(dataSource instanceof HikariDataSource))
+            return;
+        HikariDataSource hikariDataSource = (HikariDataSource) dataSource;
+        hikariDataSource.setPoolName(name);
+        meterRegistry.ifAvailable(
+                o -> hikariDataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(o)));
+    }
+}
@@ -0,0 +1,70 @@
+package com.yanchao.blog.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 读写分离配置, 主库仍使用spring.datasource
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "blog.datasource.routing")
+public class RoutingProperties {
+
+    /** 是否启用, 启用后由{@link RoutingDataSourceConfig}创建数据源 */
+    private boolean enabled;
+    /** 从库 */
+    private List<Replica> replicas = new ArrayList<>();
+    /** 健康检查间隔 */
+    private Duration healthCheckInterval = Duration.ofSeconds(1);
+    /** 健康检查的超时时间 */
+    private Duration validationTimeout = Duration.ofSeconds(1);
+    /** 是否通过心跳表(bas_heartbeat)检查复制延迟, 需先执行db/migration/bas_heartbeat.sql */
+    private boolean heartbeat = true;
+    /** 最大复制延迟, 超过后该从库不再承担读请求 */
+    private Duration maxLag = Duration.ofSeconds(5);
+    /** 从库未查到的数据是否再查主库, 避免复制延迟期间刚写入的映射查不到 */
+    private boolean fallbackOnMiss = true;
+    /** 对冲读 */
+    private Hedge hedge = new Hedge();
+
+    /**
+     * 对冲读: 从库查询超过近期耗时的分位数仍未返回时, 向另一从库(没有时为主库)发出相同查询, 取先返回的结果
+     */
+    @Data
+    public static class Hedge {
+        /** 是否启用 */
+        private boolean enabled;
+        /** 等待时间取近期从库查询耗时的该分位数 */
+        private double percentile = 95;
+        /** 等待时间下限 */
+        private Duration minDelay = Duration.ofMillis(2);
+        /** 等待时间上限, 样本不足时使用 */
+        private Duration maxDelay = Duration.ofMillis(100);
+        /** 对冲请求数不超过读请求数的百分比 */
+        private int budgetPercent = 5;
+        /** 预算可累积的对冲请求数, 应对突发 */
+        private int burst = 10;
+        /** 查询线程数, 线程用尽时不再对冲 */
+        private int threads = 64;
+    }
+
+    /**
+     * 从库
+     */
+    @Data
+    public static class Replica {
+        /** 名称, 用于路由及统计, 为空时按顺序命名为replica-N */
+        private String name;
+        /** 为空时与主库相同 */
+        private String driverClassName;
+        private String url;
+        private String username;
+        private String password;
+    }
+}
@@ -0,0 +1,19 @@
+package com.yanchao.blog.constant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 加解密接口, 用于监控指标
+ */
+@Getter
+@AllArgsConstructor
+public enum EncryEndpointEnum {
+
+    ENCRY("/encry", false), ENCRY_BATCH("/encry/batch", true), DECRY("/decry", false), DECRY_BATCH("/decry/batch",
+            true);
+
+    private final String uri;
+    /** 批量接口包含多种类型, 不按类型区分耗时 */
+    private final boolean batch;
+}
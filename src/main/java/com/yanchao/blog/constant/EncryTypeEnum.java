@@ -1,5 +1,8 @@
 package com.yanchao.blog.constant;
 
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
 /**
  * 加密类型枚举
  *
@@ -8,6 +11,19 @@ package com.yanchao.blog.constant;
  * @version: V1.0
  * @review: 王彦超[wang_yc@suixingpay.com]/Apr 30, 2020 2:42:05 PM
  */
+@Getter
+@AllArgsConstructor
 public enum EncryTypeEnum {
-    TEL_NO, USER_NAME, ID_NO, PASSWORD
+
+    TEL_NO(1), USER_NAME(2), ID_NO(3), PASSWORD(4);
+
+    /** 存储编码(bas_encry_v2.type), 新增类型只能追加, 不能修改已有编码 */
+    private final int code;
+
+    public static EncryTypeEnum of(int code) {
+        for (EncryTypeEnum encryType : values())
+            if (encryType.code == code)
+                return encryType;
+        throw new IllegalArgumentException("未知的加密类型编码: " + code);
+    }
 }
@@ -16,8 +16,20 @@ import lombok.Getter;
 public enum ErrorEnum {
 
     SUCCESS(0, "成功"), ERROR(1, "系统异常"), ENCRE_OR_DECRY_ERROR(2, "加解密异常"), WRONG_ID_NO(3, "身份证号码有误"), WRONG_TEL_NO(4,
-            "手机号码有误");
+            "手机号码有误"), WRONG_BATCH(5, "批量数据有误"), NOT_FOUND(6, "数据不存在");
+
+    private static final ErrorEnum[] VALUES = values();
 
     private final int code;
     private final String message;
+
+    /**
+     * @return 编码对应的枚举, 未知编码为{@link #ERROR}
+     */
+    public static ErrorEnum of(int code) {
+        for (ErrorEnum error : VALUES)
+            if (error.code == code)
+                return error;
+        return ERROR;
+    }
 }
@@ -0,0 +1,21 @@
+package com.yanchao.blog.constant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 身份证号校验结果
+ */
+@Getter
+@AllArgsConstructor
+public enum IdNoCheckEnum {
+
+    VALID("有效"), EMPTY("为空"), WRONG_LENGTH("长度不是18位"), WRONG_CHARSET("前17位不全是数字或末位不是数字、X"), WRONG_CHECKSUM(
+            "校验位错误"), WRONG_BIRTH_DATE("出生日期不存在或晚于当天");
+
+    private final String message;
+
+    public boolean isValid() {
+        return this == VALID;
+    }
+}
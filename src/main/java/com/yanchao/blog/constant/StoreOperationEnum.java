@@ -0,0 +1,13 @@
+package com.yanchao.blog.constant;
+
+/**
+ * 映射存储操作, 用于监控指标
+ */
+public enum StoreOperationEnum {
+    /** 按明文查询 */
+    GET_ENCRYS,
+    /** 按密文查询 */
+    GET_DECRYS,
+    /** 写入 */
+    PUT_IF_ABSENT
+}
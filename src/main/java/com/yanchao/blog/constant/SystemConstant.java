@@ -17,6 +17,8 @@ package com.yanchao.blog.constant;
 public final class SystemConstant {
 
     public static final String SYSTEM_NAME = "blog";
+    /** 每行一个JSON, Spring 5.2没有对应的MediaType常量 */
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
 
     private SystemConstant() {
         throw new IllegalStateException("Utility class");
@@ -0,0 +1,13 @@
+package com.yanchao.blog.constant;
+
+/**
+ * 密文格式
+ */
+public enum TokenFormatEnum {
+    /** 历史格式: MD5摘要逐字节有符号十进制拼接, 不定长(最长64位); HMAC方式为32位十六进制 */
+    DECIMAL,
+    /** 16字节摘要, 32位小写十六进制 */
+    HEX,
+    /** 16字节摘要, 22位base62(0-9A-Za-z), 不足前补0 */
+    BASE62
+}
@@ -0,0 +1,11 @@
+package com.yanchao.blog.constant;
+
+/**
+ * 密文生成方式
+ */
+public enum TokenModeEnum {
+    /** 无密钥MD5, 历史方式 */
+    MD5,
+    /** 按加解密类型分别使用密钥的HmacSHA256 */
+    HMAC
+}
@@ -0,0 +1,19 @@
+package com.yanchao.blog.constant;
+
+/**
+ * 映射存储方式
+ */
+public enum TokenStoreTypeEnum {
+    /** JPA(EncryDAO) */
+    JPA,
+    /** JdbcTemplate, 只查询映射列, 批量insert, 唯一约束冲突时不修改 */
+    JDBC,
+    /** JdbcTemplate, v2表结构(bas_encry_v2): 数值明文、TINYINT类型、两个唯一索引 */
+    JDBC_V2,
+    /** Redis作为主存储 */
+    REDIS,
+    /** 进程内存储, 用于测试及无数据库的单节点部署 */
+    LOCAL,
+    /** 本地内存映射日志, 用于边车部署 */
+    MAPPED
+}
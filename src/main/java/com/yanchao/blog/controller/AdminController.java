@@ -0,0 +1,150 @@
+package com.yanchao.blog.controller;
+
+import com.yanchao.blog.cache.EncryNearCache;
+import com.yanchao.blog.cache.EncryPrimitiveCache;
+import com.yanchao.blog.constant.EncryTypeEnum;
+import com.yanchao.blog.datasource.ReplicaRouting;
+import com.yanchao.blog.queue.EncryWriteBehindQueue;
+import com.yanchao.blog.region.RegionReloader;
+import com.yanchao.blog.service.EncryPartitionService;
+import com.yanchao.blog.store.JdbcTokenMigration;
+import com.yanchao.blog.store.JdbcV2Backfill;
+import com.yanchao.blog.store.MappedTokenStore;
+import com.yanchao.blog.vo.ResponseDataVO;
+import com.yanchao.blog.vo.ResponseVO;
+import com.yanchao.blog.vo.admin.EncryPartitionsVO;
+import com.yanchao.blog.vo.admin.RegionDictionaryVO;
+import com.yanchao.blog.vo.admin.ReplicaRoutingVO;
+import com.yanchao.blog.vo.admin.StoreBackfillStatsVO;
+import com.yanchao.blog.vo.admin.TokenMigrationStatsVO;
+import com.yanchao.blog.vo.admin.WriteBehindStatsVO;
+import com.yanchao.blog.vo.cache.NearCacheVO;
+import com.yanchao.blog.vo.cache.PrimitiveCacheVO;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+import static com.yanchao.blog.constant.ErrorEnum.NOT_FOUND;
+
+/**
+ * 运维管理
+ * <p>
+ * 接口没有鉴权且可清除缓存、重新加载数据, 默认不注册; 开启blog.admin.enabled前需由网关或网络隔离限制访问
+ */
+@Slf4j
+@Api("运维管理")
+@RestController
+@RequestMapping("/admin/")
+@ConditionalOnProperty(prefix = "blog.admin", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class AdminController {
+
+    private final EncryNearCache encryNearCache;
+    private final EncryPrimitiveCache encryPrimitiveCache;
+    private final EncryWriteBehindQueue encryWriteBehindQueue;
+    private final EncryPartitionService encryPartitionService;
+    private final ReplicaRouting replicaRouting;
+    private final RegionReloader regionReloader;
+    private final ObjectProvider<MappedTokenStore> mappedTokenStore;
+    private final ObjectProvider<JdbcTokenMigration> jdbcTokenMigration;
+    private final ObjectProvider<JdbcV2Backfill> jdbcV2Backfill;
+
+    @ApiOperation(value = "进程内缓存统计")
+    @GetMapping("cache/near")
+    public ResponseVO<NearCacheVO> nearCache() {
+        return ResponseVO.success(encryNearCache.stats());
+    }
+
+    @ApiOperation(value = "清除进程内缓存及堆外索引")
+    @DeleteMapping("cache/near")
+    public ResponseVO<ResponseDataVO> evictNearCache(EncryTypeEnum encryType, String value) {
+        log.info("清除进程内缓存及堆外索引: {} {}", encryType, value);
+        encryNearCache.evict(encryType, value);
+        encryPrimitiveCache.evict(encryType, value);
+        return ResponseVO.success(null);
+    }
+
+    @ApiOperation(value = "堆外索引统计")
+    @GetMapping("cache/primitive")
+    public ResponseVO<PrimitiveCacheVO> primitiveCache() {
+        return ResponseVO.success(encryPrimitiveCache.stats());
+    }
+
+    @ApiOperation(value = "异步写库统计")
+    @GetMapping("write-behind")
+    public ResponseVO<WriteBehindStatsVO> writeBehind() {
+        return ResponseVO.success(encryWriteBehindQueue.stats());
+    }
+
+    @ApiOperation(value = "历史密文迁移统计")
+    @GetMapping("token-migration")
+    public ResponseVO<TokenMigrationStatsVO> tokenMigration() {
+        JdbcTokenMigration migration = jdbcTokenMigration.getIfAvailable();
+        if (migration == null)
+            return ResponseVO.result(NOT_FOUND, null);
+        return ResponseVO.success(migration.stats());
+    }
+
+    @ApiOperation(value = "bas_encry复制到v2表统计")
+    @GetMapping("store/v2/backfill")
+    public ResponseVO<StoreBackfillStatsVO> v2Backfill() {
+        JdbcV2Backfill backfill = jdbcV2Backfill.getIfAvailable();
+        if (backfill == null)
+            return ResponseVO.result(NOT_FOUND, null);
+        return ResponseVO.success(backfill.stats());
+    }
+
+    @ApiOperation(value = "压缩内存映射日志, 可同时删除某一类型的映射")
+    @PostMapping("store/mapped/compact")
+    public ResponseVO<ResponseDataVO> compactMapped(EncryTypeEnum dropType) throws IOException {
+        MappedTokenStore store = mappedTokenStore.getIfAvailable();
+        if (store == null)
+            return ResponseVO.result(NOT_FOUND, null);
+        log.info("压缩内存映射日志, 删除类型: {}", dropType);
+        store.compact(encryType -> encryType != dropType);
+        return ResponseVO.success(null);
+    }
+
+    @ApiOperation(value = "加解密表分区统计")
+    @GetMapping("store/partitions")
+    public ResponseVO<EncryPartitionsVO> partitions() {
+        return ResponseVO.success(encryPartitionService.partitions());
+    }
+
+    @ApiOperation(value = "归档某一类型的分区, 该类型的映射移到单独的表")
+    @PostMapping("store/partitions/{encryType}/archive")
+    public ResponseVO<EncryPartitionsVO> archivePartition(@PathVariable EncryTypeEnum encryType) {
+        return ResponseVO.success(encryPartitionService.archive(encryType));
+    }
+
+    @ApiOperation(value = "重建某一类型的分区")
+    @PostMapping("store/partitions/{encryType}/rebuild")
+    public ResponseVO<EncryPartitionsVO> rebuildPartition(@PathVariable EncryTypeEnum encryType) {
+        return ResponseVO.success(encryPartitionService.rebuild(encryType));
+    }
+
+    @ApiOperation(value = "地区码统计")
+    @GetMapping("region")
+    public ResponseVO<RegionDictionaryVO> region() {
+        return ResponseVO.success(regionReloader.stats());
+    }
+
+    @ApiOperation(value = "重新加载地区码, 配置了外部文件时从文件加载")
+    @PostMapping("region/reload")
+    public ResponseVO<RegionDictionaryVO> reloadRegion() throws IOException {
+        return ResponseVO.success(regionReloader.reload());
+    }
+
+    @ApiOperation(value = "读写分离统计")
+    @GetMapping("datasource/replicas")
+    public ResponseVO<ReplicaRoutingVO> replicas() {
+        return ResponseVO.success(replicaRouting.stats());
+    }
+}
@@ -1,15 +1,26 @@
 package com.yanchao.blog.controller;
 
+import com.yanchao.blog.config.ResultException;
 import com.yanchao.blog.constant.EncryTypeEnum;
+import com.yanchao.blog.constant.ErrorEnum;
+import com.yanchao.blog.metrics.EncryMetrics;
 import com.yanchao.blog.service.EncryService;
+import com.yanchao.blog.vo.ResponseVO;
+import com.yanchao.blog.vo.encry.EncryBatchVO;
+import com.yanchao.blog.vo.encry.EncryItemVO;
+import com.yanchao.blog.vo.encry.EncryResultVO;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+import static com.yanchao.blog.constant.EncryEndpointEnum.*;
+import static com.yanchao.blog.constant.ErrorEnum.ERROR;
+import static com.yanchao.blog.constant.ErrorEnum.SUCCESS;
 
 /**
  * 加解密调用
@@ -27,18 +38,77 @@ import org.springframework.web.bind.annotation.RestController;
 public class EncryController {
 
     private final EncryService encryService;
+    private final EncryMetrics encryMetrics;
 
     @ApiOperation(value = "加密")
     @GetMapping("encry")
     public String encry(String decry, EncryTypeEnum encryType) {
-        log.info("加密");
-        return encryService.encry(decry, encryType);
+        log.debug("加密");
+        long start = System.nanoTime();
+        ErrorEnum outcome = ERROR;
+        try {
+            String encry = encryService.encry(decry, encryType);
+            outcome = SUCCESS;
+            return encry;
+        } catch (ResultException e) {
+            outcome = ErrorEnum.of(e.getCode());
+            throw e;
+        } finally {
+            encryMetrics.request(ENCRY, encryType, outcome, start);
+        }
+    }
+
+    @ApiOperation(value = "批量加密")
+    @PostMapping("encry/batch")
+    public ResponseVO<EncryBatchVO> encry(@RequestBody List<EncryItemVO> items) {
+        log.debug("批量加密: {}条", items.size());
+        long start = System.nanoTime();
+        List<EncryResultVO> results = null;
+        ErrorEnum outcome = ERROR;
+        try {
+            results = encryService.encry(items);
+            return ResponseVO.success(EncryBatchVO.builder().results(results).build());
+        } catch (ResultException e) {
+            outcome = ErrorEnum.of(e.getCode());
+            throw e;
+        } finally {
+            encryMetrics.batch(ENCRY_BATCH, results, outcome, start);
+        }
     }
 
     @ApiOperation(value = "解密")
     @GetMapping("decry")
     public String decry(String encry, EncryTypeEnum encryType) {
-        log.info("解密");
-        return encryService.decry(encry, encryType);
+        log.debug("解密");
+        long start = System.nanoTime();
+        ErrorEnum outcome = ERROR;
+        try {
+            String decry = encryService.decry(encry, encryType);
+            outcome = SUCCESS;
+            return decry;
+        } catch (ResultException e) {
+            outcome = ErrorEnum.of(e.getCode());
+            throw e;
+        } finally {
+            encryMetrics.request(DECRY, encryType, outcome, start);
+        }
+    }
+
+    @ApiOperation(value = "批量解密")
+    @PostMapping("decry/batch")
+    public ResponseVO<EncryBatchVO> decry(@RequestBody List<EncryItemVO> items) {
+        log.debug("批量解密: {}条", items.size());
+        long start = System.nanoTime();
+        List<EncryResultVO> results = null;
+        ErrorEnum outcome = ERROR;
+        try {
+            results = encryService.decry(items);
+            return ResponseVO.success(EncryBatchVO.builder().results(results).build());
+        } catch (ResultException e) {
+            outcome = ErrorEnum.of(e.getCode());
+            throw e;
+        } finally {
+            encryMetrics.batch(DECRY_BATCH, results, outcome, start);
+        }
     }
 }
@@ -0,0 +1,48 @@
+package com.yanchao.blog.controller;
+
+import com.yanchao.blog.service.IdentityBatchService;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static com.yanchao.blog.constant.SystemConstant.APPLICATION_NDJSON;
+
+/**
+ * 身份证号校验、解析
+ */
+@Slf4j
+@Api("身份证号")
+@RestController
+@RequestMapping("/identity/")
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class IdentityController {
+
+    private final IdentityBatchService identityBatchService;
+
+    /**
+     * 请求体不整体读入, 结果边处理边输出; 输出开始后出错时已无法改变状态码, 格式错误见最后一行的error
+     */
+    @ApiOperation(value = "批量校验、解析身份证号, 请求体为JSON字符串数组或每行一个号码, 按顺序每行返回一个JSON(NDJSON)")
+    @PostMapping(value = "batch", consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.TEXT_PLAIN_VALUE,
+            APPLICATION_NDJSON })
+    public void batch(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        boolean json = MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(request
+                .getContentType()));
+        response.setContentType(APPLICATION_NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        long start = System.nanoTime();
+        long lines = identityBatchService.analysis(request.getInputStream(), json, response.getOutputStream());
+        log.debug("批量解析身份证号: {}条, {}ms", lines, (System.nanoTime() - start) / 1000000);
+    }
+}
@@ -3,12 +3,24 @@ package com.yanchao.blog.dao.bas;
 import com.yanchao.blog.constant.EncryTypeEnum;
 import com.yanchao.blog.po.bas.EncryPO;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
 /**
  * 加解密表-Dao
+ * <p>
+ * 查询映射使用按列投影的findEncryBy*、findDecryBy*、findMappingsBy*: 只读事务, 不创建实体也不进入持久化上下文, 没有脏检查;
+ * 按实体查询的方法保留给需要完整记录的场景
  * 
  * @author: 王彦超[wang_yc@suixingpay.com]
  * @date: Apr 24, 2020 5:30:05 PM
@@ -21,4 +33,32 @@ public interface EncryDAO extends JpaRepository<EncryPO, Long> {
     List<EncryPO> findByDecryAndType(String decry, EncryTypeEnum type);
 
     List<EncryPO> findByEncryAndType(String encry, EncryTypeEnum type);
+
+    List<EncryPO> findByTypeAndDecryIn(EncryTypeEnum type, Collection<String> decrys);
+
+    List<EncryPO> findByTypeAndEncryIn(EncryTypeEnum type, Collection<String> encrys);
+
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    @Query("select e.encry from EncryPO e where e.type = :type and e.decry = :decry")
+    List<String> findEncryByDecryAndType(@Param("decry") String decry, @Param("type") EncryTypeEnum type);
+
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    @Query("select e.decry from EncryPO e where e.type = :type and e.encry = :encry")
+    List<String> findDecryByEncryAndType(@Param("encry") String encry, @Param("type") EncryTypeEnum type);
+
+    @Transactional(readOnly = true)
+    @QueryHints({ @QueryHint(name = HINT_READONLY, value = "true"), @QueryHint(name = HINT_FETCH_SIZE, value = "1000") })
+    @Query("select new com.yanchao.blog.dao.bas.EncryMapping(e.decry, e.encry) from EncryPO e"
+            + " where e.type = :type and e.decry in :decrys")
+    List<EncryMapping> findMappingsByTypeAndDecryIn(@Param("type") EncryTypeEnum type,
+            @Param("decrys") Collection<String> decrys);
+
+    @Transactional(readOnly = true)
+    @QueryHints({ @QueryHint(name = HINT_READONLY, value = "true"), @QueryHint(name = HINT_FETCH_SIZE, value = "1000") })
+    @Query("select new com.yanchao.blog.dao.bas.EncryMapping(e.decry, e.encry) from EncryPO e"
+            + " where e.type = :type and e.encry in :encrys")
+    List<EncryMapping> findMappingsByTypeAndEncryIn(@Param("type") EncryTypeEnum type,
+            @Param("encrys") Collection<String> encrys);
 }
@@ -0,0 +1,58 @@
+package com.yanchao.blog.dao.bas;
+
+import com.yanchao.blog.po.bas.EncryPO;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * 加解密表-主键号段分配
+ * <p>
+ * 与{@link EncryPO}的@TableGenerator使用bas_id_seq中的同一行(pooled-lo: next_val为下一段的起始值), JDBC与JPA写入的主键来自同一来源.
+ * 按next_val比较更新取号段, 多个节点并发取号段时失败方重新读取
+ */
+public class EncryIdGenerator {
+
+    private static final String SEQUENCE_NAME = "bas_encry";
+    private static final String SELECT_SQL = "select next_val from bas_id_seq where sequence_name = ?";
+    private static final String UPDATE_SQL = "update bas_id_seq set next_val = ? where sequence_name = ? and next_val = ?";
+    /** 未初始化时从已有主键之后开始 */
+    private static final String INIT_SQL = "insert into bas_id_seq (sequence_name, next_val) select ?, coalesce(max(id), 0) + 1 from bas_encry";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 当前号段中下一个主键, 与max均由this保护 */
+    private long next;
+    private long max;
+
+    public EncryIdGenerator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public synchronized long next() {
+        if (next >= max)
+            allocate();
+        return next++;
+    }
+
+    private void allocate() {
+        while (true) {
+            List<Long> values = jdbcTemplate.queryForList(SELECT_SQL, Long.class, SEQUENCE_NAME);
+            if (values.isEmpty()) {
+                try {
+                    jdbcTemplate.update(INIT_SQL, SEQUENCE_NAME);
+                } catch (DuplicateKeyException e) {
+                    // 其他节点已初始化
+                }
+                continue;
+            }
+            long value = values.get(0);
+            if (jdbcTemplate.update(UPDATE_SQL, value + EncryPO.ID_ALLOCATION_SIZE, SEQUENCE_NAME, value) == 1) {
+                next = value;
+                max = value + EncryPO.ID_ALLOCATION_SIZE;
+                return;
+            }
+        }
+    }
+}
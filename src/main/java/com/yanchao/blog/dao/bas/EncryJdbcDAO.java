@@ -0,0 +1,217 @@
+package com.yanchao.blog.dao.bas;
+
+import com.yanchao.blog.constant.EncryTypeEnum;
+import com.yanchao.blog.po.bas.EncryPO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 加解密表-JDBC批量操作
+ * <p>
+ * 批量写入直接走JdbcTemplate, 配合连接参数rewriteBatchedStatements由驱动改写为多值INSERT. 主键与JPA写入一样由bas_id_seq按号段分配
+ * ({@link EncryIdGenerator}), 不使用自增列.
+ * 写入均为insert ... on duplicate key update id = id: 唯一约束冲突的行不修改而不是报错, 并发创建同一映射时由调用方回查已存在的密文;
+ * 不使用insert ignore, 截断、非空等其他错误照常报错. 冲突行影响行数为0依赖连接参数useAffectedRows=true(否则驱动返回匹配行数1)
+ */
+@Repository
+public class EncryJdbcDAO {
+
+    private static final String INSERT_SQL = "insert into bas_encry (id, encry, decry, type, create_time, creator) values (?, ?, ?, ?, ?, ?) on duplicate key update id = id";
+    private static final String FIND_ENCRYS_SQL = "select decry, encry from bas_encry where type = :type and decry in (:values)";
+    private static final String FIND_DECRYS_SQL = "select decry, encry from bas_encry where type = :type and encry in (:values)";
+
+    private static final String INSERT_BIN_SQL = "insert into bas_encry (id, encry_bin, decry, type, create_time, creator) values (?, ?, ?, ?, ?, ?) on duplicate key update id = id";
+    private static final String FIND_ENCRY_BINS_SQL = "select decry, encry_bin from bas_encry where type = :type and decry in (:values) and encry_bin is not null";
+    private static final String FIND_DECRYS_BY_BIN_SQL = "select decry, encry_bin from bas_encry where type = :type and encry_bin in (:values)";
+    private static final String FIND_DECRYS_BY_LEGACY_HASH_SQL = "select decry, encry_bin from bas_encry where type = :type and legacy_hash in (:values)";
+    private static final String FIND_UNMIGRATED_SQL = "select id, encry, decry, type from bas_encry where id > ? and encry_bin is null order by id limit ?";
+    private static final String FIND_AFTER_SQL = "select id, encry, encry_bin, decry, type, create_time from bas_encry where id > ? order by id limit ?";
+    private static final String UPDATE_ENCRY_BIN_SQL = "update bas_encry set encry_bin = ?, legacy_hash = ? where id = ? and encry_bin is null";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final EncryIdGenerator idGenerator;
+
+    @Autowired
+    public EncryJdbcDAO(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.idGenerator = new EncryIdGenerator(jdbcTemplate);
+    }
+
+    /**
+     * 按明文批量查询, 只查询映射列
+     *
+     * @return 明文-密文
+     */
+    public Map<String, String> findEncrys(EncryTypeEnum encryType, Collection<String> decrys) {
+        Map<String, String> encrys = new HashMap<>(decrys.size() * 2);
+        query(FIND_ENCRYS_SQL, encryType, decrys, rs -> encrys.put(rs.getString(1), rs.getString(2)));
+        return encrys;
+    }
+
+    /**
+     * 按密文批量查询, 只查询映射列
+     *
+     * @return 密文-明文
+     */
+    public Map<String, String> findDecrys(EncryTypeEnum encryType, Collection<String> encrys) {
+        Map<String, String> decrys = new HashMap<>(encrys.size() * 2);
+        query(FIND_DECRYS_SQL, encryType, encrys, rs -> decrys.put(rs.getString(2), rs.getString(1)));
+        return decrys;
+    }
+
+    /**
+     * 按明文批量查询16字节密文
+     *
+     * @return 明文-16字节密文, 未迁移的历史数据不在其中
+     */
+    public Map<String, byte[]> findEncryBins(EncryTypeEnum encryType, Collection<String> decrys) {
+        Map<String, byte[]> encryBins = new HashMap<>(decrys.size() * 2);
+        query(FIND_ENCRY_BINS_SQL, encryType, decrys, rs -> encryBins.put(rs.getString(1), rs.getBytes(2)));
+        return encryBins;
+    }
+
+    /**
+     * 按16字节密文批量查询
+     *
+     * @return 16字节密文-明文
+     */
+    public Map<ByteBuffer, String> findDecrysByBin(EncryTypeEnum encryType, Collection<byte[]> encryBins) {
+        Map<ByteBuffer, String> decrys = new HashMap<>(encryBins.size() * 2);
+        query(FIND_DECRYS_BY_BIN_SQL, encryType, encryBins,
+                rs -> decrys.put(ByteBuffer.wrap(rs.getBytes(2)), rs.getString(1)));
+        return decrys;
+    }
+
+    /**
+     * 按历史格式密文的哈希批量查询, 哈希可能冲突, 由调用方比较密文
+     *
+     * @return 明文-16字节密文
+     */
+    public Map<String, byte[]> findByLegacyHash(EncryTypeEnum encryType, Collection<Long> legacyHashes) {
+        Map<String, byte[]> encryBins = new HashMap<>(legacyHashes.size() * 2);
+        query(FIND_DECRYS_BY_LEGACY_HASH_SQL, encryType, legacyHashes,
+                rs -> encryBins.put(rs.getString(1), rs.getBytes(2)));
+        return encryBins;
+    }
+
+    /**
+     * 按主键顺序查询未写入16字节密文的行
+     *
+     * @param afterId 起始主键(不含)
+     * @param limit   最大行数
+     */
+    public List<EncryPO> findUnmigrated(long afterId, int limit) {
+        return jdbcTemplate.query(FIND_UNMIGRATED_SQL, (rs, rowNum) -> EncryPO.builder().id(rs.getLong(1))
+                .encry(rs.getString(2)).decry(rs.getString(3)).type(EncryTypeEnum.valueOf(rs.getString(4))).build(),
+                afterId, limit);
+    }
+
+    /**
+     * 按主键顺序查询映射列, 用于复制到新表
+     *
+     * @param afterId 起始主键(不含)
+     * @param limit   最大行数
+     */
+    public List<EncryPO> findAfter(long afterId, int limit) {
+        return jdbcTemplate.query(FIND_AFTER_SQL, (rs, rowNum) -> EncryPO.builder().id(rs.getLong(1))
+                .encry(rs.getString(2)).encryBin(rs.getBytes(3)).decry(rs.getString(4))
+                .type(EncryTypeEnum.valueOf(rs.getString(5))).createTime(rs.getTimestamp(6)).build(), afterId, limit);
+    }
+
+    /**
+     * 批量补写16字节密文及历史密文哈希, 已写入的行不覆盖
+     */
+    public int[] batchUpdateEncryBins(List<EncryPO> encryPOs) {
+        if (encryPOs.isEmpty())
+            return new int[0];
+        return jdbcTemplate.batchUpdate(UPDATE_ENCRY_BIN_SQL, encryPOs, encryPOs.size(), (ps, encryPO) -> {
+            ps.setBytes(1, encryPO.getEncryBin());
+            if (encryPO.getLegacyHash() == null)
+                ps.setNull(2, Types.BIGINT);
+            else
+                ps.setLong(2, encryPO.getLegacyHash());
+            ps.setLong(3, encryPO.getId());
+        })[0];
+    }
+
+    /**
+     * 16字节密文不存在时写入, encry列为空
+     *
+     * @return 1: 写入成功; 0: 唯一约束冲突, 未写入
+     */
+    public int insertBinIgnore(EncryPO encryPO) {
+        return jdbcTemplate.update(INSERT_BIN_SQL, ps -> setBinValues(ps, encryPO));
+    }
+
+    /**
+     * 16字节密文批量不存在时写入
+     *
+     * @return 每行的写入结果, 驱动改写为多值INSERT时为{@link java.sql.Statement#SUCCESS_NO_INFO}
+     */
+    public int[] batchInsertBinIgnore(List<EncryPO> encryPOs) {
+        if (encryPOs.isEmpty())
+            return new int[0];
+        return jdbcTemplate.batchUpdate(INSERT_BIN_SQL, encryPOs, encryPOs.size(), this::setBinValues)[0];
+    }
+
+    /**
+     * 不存在时写入
+     *
+     * @return 1: 写入成功; 0: 唯一约束冲突, 未写入
+     */
+    public int insertIgnore(EncryPO encryPO) {
+        return jdbcTemplate.update(INSERT_SQL, ps -> setValues(ps, encryPO));
+    }
+
+    /**
+     * 批量不存在时写入
+     *
+     * @return 每行的写入结果, 驱动改写为多值INSERT时为{@link java.sql.Statement#SUCCESS_NO_INFO}
+     */
+    public int[] batchInsertIgnore(List<EncryPO> encryPOs) {
+        if (encryPOs.isEmpty())
+            return new int[0];
+        return jdbcTemplate.batchUpdate(INSERT_SQL, encryPOs, encryPOs.size(), this::setValues)[0];
+    }
+
+    private void query(String sql, EncryTypeEnum encryType, Collection<?> values, RowCallbackHandler handler) {
+        if (values.isEmpty())
+            return;
+        MapSqlParameterSource params = new MapSqlParameterSource("type", encryType.name()).addValue("values", values);
+        namedParameterJdbcTemplate.query(sql, params, handler);
+    }
+
+    private void setValues(PreparedStatement ps, EncryPO encryPO) throws SQLException {
+        ps.setLong(1, idGenerator.next());
+        ps.setString(2, encryPO.getEncry());
+        ps.setString(3, encryPO.getDecry());
+        ps.setString(4, encryPO.getType().name());
+        ps.setTimestamp(5, new Timestamp(encryPO.getCreateTime().getTime()));
+        ps.setString(6, encryPO.getCreator());
+    }
+
+    private void setBinValues(PreparedStatement ps, EncryPO encryPO) throws SQLException {
+        ps.setLong(1, idGenerator.next());
+        ps.setBytes(2, encryPO.getEncryBin());
+        ps.setString(3, encryPO.getDecry());
+        ps.setString(4, encryPO.getType().name());
+        ps.setTimestamp(5, new Timestamp(encryPO.getCreateTime().getTime()));
+        ps.setString(6, encryPO.getCreator());
+    }
+}
@@ -0,0 +1,15 @@
+package com.yanchao.blog.dao.bas;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 加解密表-明文与密文的投影, 只读取两列, 不是受管理的实体
+ */
+@Getter
+@AllArgsConstructor
+public class EncryMapping {
+
+    private final String decry;
+    private final String encry;
+}
@@ -0,0 +1,68 @@
+package com.yanchao.blog.dao.bas;
+
+import com.yanchao.blog.constant.EncryTypeEnum;
+import com.yanchao.blog.vo.admin.EncryPartitionVO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 加解密表-按类型分区的运维操作(MySQL)
+ * <p>
+ * 分区名为p_加上类型名小写(如p_tel_no), 见db/migration/bas_encry_partition.sql. 表名由调用方从固定的表名中选择, 不接收外部输入
+ */
+@Repository
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class EncryPartitionDAO {
+
+    private static final String PARTITION_PREFIX = "p_";
+    private static final String FIND_PARTITIONS_SQL = "select partition_name, table_rows, data_length, index_length from information_schema.partitions "
+            + "where table_schema = database() and table_name = ? and partition_name is not null order by partition_ordinal_position";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public static String partition(EncryTypeEnum encryType) {
+        return PARTITION_PREFIX + encryType.name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @return 各分区的行数(估算)及空间, 未分区时为空
+     */
+    public List<EncryPartitionVO> findPartitions(String table) {
+        return jdbcTemplate.query(FIND_PARTITIONS_SQL, (rs, rowNum) -> EncryPartitionVO.builder()
+                .partition(rs.getString(1)).encryType(encryType(rs.getString(1))).rows(rs.getLong(2))
+                .dataBytes(rs.getLong(3)).indexBytes(rs.getLong(4)).build(), table);
+    }
+
+    /**
+     * 将一个类型的分区与空的归档表交换: 只修改元数据, 不复制数据, 不影响其他分区
+     *
+     * @param archiveTable 归档表名, 不能已存在
+     */
+    public void archive(String table, EncryTypeEnum encryType, String archiveTable) {
+        jdbcTemplate.execute("create table " + archiveTable + " like " + table);
+        jdbcTemplate.execute("alter table " + archiveTable + " remove partitioning");
+        jdbcTemplate.execute("alter table " + table + " exchange partition " + partition(encryType) + " with table "
+                + archiveTable);
+    }
+
+    /**
+     * 重建一个类型的分区: 整理碎片、重建索引并更新统计信息, 期间只锁该分区
+     */
+    public void rebuild(String table, EncryTypeEnum encryType) {
+        jdbcTemplate.execute("alter table " + table + " rebuild partition " + partition(encryType));
+        jdbcTemplate.execute("alter table " + table + " analyze partition " + partition(encryType));
+    }
+
+    private static EncryTypeEnum encryType(String partition) {
+        String name = partition.substring(PARTITION_PREFIX.length()).toUpperCase(Locale.ROOT);
+        for (EncryTypeEnum encryType : EncryTypeEnum.values())
+            if (encryType.name().equals(name))
+                return encryType;
+        return null;
+    }
+}
@@ -0,0 +1,108 @@
+package com.yanchao.blog.dao.bas;
+
+import com.yanchao.blog.po.bas.EncryV2PO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 加解密表v2-JDBC批量操作
+ * <p>
+ * 查询均命中(type, decry_num, decry)、(type, encry)唯一索引或legacy_hash索引; 写入为insert ... on duplicate key update id = id, 与{@link EncryJdbcDAO}一致
+ */
+@Repository
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class EncryV2JdbcDAO {
+
+    private static final String INSERT_SQL = "insert into bas_encry_v2 (type, decry_num, decry, encry, encry_format, legacy_hash, create_time) values (?, ?, ?, ?, ?, ?, ?) on duplicate key update id = id";
+    private static final String FIND_BY_DECRY_NUMS_SQL = "select decry_num, decry, encry, encry_format from bas_encry_v2 where type = :type and decry_num in (:values) and decry = ''";
+    private static final String FIND_BY_DECRYS_SQL = "select decry_num, decry, encry, encry_format from bas_encry_v2 where type = :type and decry_num = 0 and decry in (:values)";
+    private static final String FIND_BY_ENCRYS_SQL = "select decry_num, decry, encry, encry_format from bas_encry_v2 where type = :type and encry in (:values)";
+    private static final String FIND_BY_LEGACY_HASHES_SQL = "select decry_num, decry, encry, encry_format from bas_encry_v2 where type = :type and legacy_hash in (:values)";
+
+    private static final RowMapper<EncryV2PO> ROW_MAPPER = (rs, rowNum) -> EncryV2PO.builder().decryNum(rs.getLong(1))
+            .decry(rs.getString(2)).encry(rs.getBytes(3)).encryFormat(rs.getInt(4)).build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 按压缩后的明文批量查询
+     */
+    public List<EncryV2PO> findByDecryNums(int type, Collection<Long> decryNums) {
+        return query(FIND_BY_DECRY_NUMS_SQL, type, decryNums);
+    }
+
+    /**
+     * 按未压缩的明文批量查询
+     */
+    public List<EncryV2PO> findByDecrys(int type, Collection<String> decrys) {
+        return query(FIND_BY_DECRYS_SQL, type, decrys);
+    }
+
+    /**
+     * 按密文字节批量查询
+     */
+    public List<EncryV2PO> findByEncrys(int type, Collection<byte[]> encrys) {
+        return query(FIND_BY_ENCRYS_SQL, type, encrys);
+    }
+
+    /**
+     * 按历史密文的哈希批量查询, 哈希可能冲突, 由调用方比较密文
+     */
+    public List<EncryV2PO> findByLegacyHashes(int type, Collection<Long> legacyHashes) {
+        return query(FIND_BY_LEGACY_HASHES_SQL, type, legacyHashes);
+    }
+
+    /**
+     * 不存在时写入
+     *
+     * @return 1: 写入成功; 0: 唯一约束冲突, 未写入
+     */
+    public int insertIgnore(EncryV2PO encryPO) {
+        return jdbcTemplate.update(INSERT_SQL, ps -> setValues(ps, encryPO));
+    }
+
+    /**
+     * 批量不存在时写入
+     *
+     * @return 每行的写入结果, 驱动改写为多值INSERT时为{@link java.sql.Statement#SUCCESS_NO_INFO}
+     */
+    public int[] batchInsertIgnore(List<EncryV2PO> encryPOs) {
+        if (encryPOs.isEmpty())
+            return new int[0];
+        return jdbcTemplate.batchUpdate(INSERT_SQL, encryPOs, encryPOs.size(), EncryV2JdbcDAO::setValues)[0];
+    }
+
+    private List<EncryV2PO> query(String sql, int type, Collection<?> values) {
+        if (values.isEmpty())
+            return new ArrayList<>();
+        MapSqlParameterSource params = new MapSqlParameterSource("type", type).addValue("values", values);
+        return namedParameterJdbcTemplate.query(sql, params, ROW_MAPPER);
+    }
+
+    private static void setValues(PreparedStatement ps, EncryV2PO encryPO) throws SQLException {
+        ps.setInt(1, encryPO.getType());
+        ps.setLong(2, encryPO.getDecryNum());
+        ps.setString(3, encryPO.getDecry());
+        ps.setBytes(4, encryPO.getEncry());
+        ps.setInt(5, encryPO.getEncryFormat());
+        if (encryPO.getLegacyHash() == null)
+            ps.setNull(6, Types.BIGINT);
+        else
+            ps.setLong(6, encryPO.getLegacyHash());
+        ps.setTimestamp(7, new Timestamp(encryPO.getCreateTime().getTime()));
+    }
+}
@@ -0,0 +1,47 @@
+package com.yanchao.blog.datasource;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 对冲请求预算(令牌桶): 每次读请求积累percent/100个令牌, 每次对冲消耗1个, 最多累积burst个,
+ * 对冲请求数因此不超过读请求数的percent%加burst
+ */
+public class HedgeBudget {
+
+    /** 令牌按千分之一计 */
+    private static final long UNIT = 1000;
+
+    private final long earn;
+    private final long max;
+    private final AtomicLong tokens;
+
+    public HedgeBudget(int percent, int burst) {
+        this.earn = UNIT * Math.max(0, percent) / 100;
+        this.max = UNIT * Math.max(0, burst);
+        this.tokens = new AtomicLong(max);
+    }
+
+    public void onRead() {
+        if (earn == 0)
+            return;
+        long current;
+        do {
+            current = tokens.get();
+            if (current >= max)
+                return;
+        } while (!tokens.compareAndSet(current, Math.min(max, current + earn)));
+    }
+
+    /**
+     * @return 是否允许对冲
+     */
+    public boolean tryAcquire() {
+        long current;
+        do {
+            current = tokens.get();
+            if (current < UNIT)
+                return false;
+        } while (!tokens.compareAndSet(current, current - UNIT));
+        return true;
+    }
+}
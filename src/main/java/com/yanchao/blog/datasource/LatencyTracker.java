@@ -0,0 +1,54 @@
+package com.yanchao.blog.datasource;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 近期耗时的分位数: 保留最近{@link #WINDOW}个样本, 每{@link #RECOMPUTE_EVERY}个样本重新排序计算一次
+ */
+public class LatencyTracker {
+
+    static final int WINDOW = 1024;
+    static final int RECOMPUTE_EVERY = 64;
+
+    private final double percentile;
+    private final AtomicLongArray samples = new AtomicLongArray(WINDOW);
+    private final AtomicLong count = new AtomicLong();
+
+    /** 样本不足一轮计算时为-1 */
+    private volatile long percentileNanos = -1;
+
+    /**
+     * @param percentile 分位数, 0~100
+     */
+    public LatencyTracker(double percentile) {
+        if (percentile <= 0 || percentile > 100)
+            throw new IllegalArgumentException("percentile: " + percentile);
+        this.percentile = percentile;
+    }
+
+    public void record(long nanos) {
+        long n = count.getAndIncrement();
+        samples.lazySet((int) (n % WINDOW), nanos);
+        if ((n + 1) % RECOMPUTE_EVERY == 0)
+            recompute();
+    }
+
+    /**
+     * @return 耗时分位数(纳秒), 样本不足时为-1
+     */
+    public long percentileNanos() {
+        return percentileNanos;
+    }
+
+    private void recompute() {
+        int size = (int) Math.min(count.get(), WINDOW);
+        long[] sorted = new long[size];
+        for (int i = 0; i < size; i++)
+            sorted[i] = samples.get(i);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100 * size) - 1;
+        percentileNanos = sorted[Math.max(0, index)];
+    }
+}
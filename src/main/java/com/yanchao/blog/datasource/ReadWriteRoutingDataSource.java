@@ -0,0 +1,123 @@
+package com.yanchao.blog.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 读写分离数据源: 默认使用主库, 只有经{@link #onReplica(ReplicaState, Supplier)}执行的查询使用指定从库
+ * <p>
+ * 路由在获取连接时确定, 已在事务中(已持有主库连接)的查询仍使用主库
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    public static final String PRIMARY = "primary";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<ReplicaState> replicas;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    /**
+     * @param primary  主库
+     * @param replicas 从库名称-数据源
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicas) {
+        this.primary = primary;
+        List<ReplicaState> states = new ArrayList<>(replicas.size());
+        Map<Object, Object> targets = new HashMap<>(replicas.size() * 2 + 2);
+        targets.put(PRIMARY, primary);
+        replicas.forEach((name, dataSource) -> {
+            states.add(new ReplicaState(name, dataSource));
+            targets.put(name, dataSource);
+        });
+        this.replicas = Collections.unmodifiableList(states);
+        setDefaultTargetDataSource(primary);
+        setTargetDataSources(targets);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String key = CURRENT.get();
+        return key == null ? PRIMARY : key;
+    }
+
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    public List<ReplicaState> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * 轮询选择可用的从库
+     *
+     * @return 没有可用从库时为null
+     */
+    public ReplicaState select() {
+        return select(null);
+    }
+
+    /**
+     * 轮询选择可用的从库
+     *
+     * @param exclude 排除的从库, 如对冲读时已在查询的从库
+     * @return 没有可用从库时为null
+     */
+    public ReplicaState select(ReplicaState exclude) {
+        int size = replicas.size();
+        int start = cursor.getAndIncrement() & Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            ReplicaState replica = replicas.get((start + i) % size);
+            if (replica != exclude && replica.isAvailable())
+                return replica;
+        }
+        return null;
+    }
+
+    /**
+     * 在指定从库上执行查询
+     */
+    public <T> T onReplica(ReplicaState replica, Supplier<T> query) {
+        String previous = CURRENT.get();
+        CURRENT.set(replica.getName());
+        try {
+            return query.get();
+        } finally {
+            if (previous == null)
+                CURRENT.remove();
+            else
+                CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * 从库不可用, 下一次健康检查成功后恢复
+     */
+    public void markDown(ReplicaState replica, Throwable e) {
+        if (replica.isUp())
+            log.warn("从库不可用, 读请求切换到其他从库或主库: {}", replica.getName(), e);
+        replica.down(e);
+        replica.failure();
+    }
+
+    @Override
+    public void close() throws IOException {
+        List<DataSource> dataSources = new ArrayList<>();
+        dataSources.add(primary);
+        replicas.forEach(o -> dataSources.add(o.getDataSource()));
+        for (DataSource dataSource : dataSources)
+            if (dataSource instanceof Closeable)
+                ((Closeable) dataSource).close();
+    }
+}
@@ -0,0 +1,121 @@
+package com.yanchao.blog.datasource;
+
+import com.yanchao.blog.config.RoutingProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 从库健康检查
+ * <p>
+ * 每次检查先在主库写入心跳时间, 再读取各从库复制过来的心跳时间, 差值即复制延迟(各节点都会写入, 取最近一次).
+ * 连接失败的从库标记为不可用, 延迟超过maxLag的不承担读请求, 恢复后自动重新加入
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "blog.datasource.routing", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class ReplicaHealthChecker {
+
+    private static final String UPDATE_HEARTBEAT = "update bas_heartbeat set beat_time = ? where id = 1";
+    private static final String INSERT_HEARTBEAT = "insert into bas_heartbeat (id, beat_time) values (1, ?)";
+    private static final String SELECT_HEARTBEAT = "select beat_time from bas_heartbeat where id = 1";
+
+    private final ReadWriteRoutingDataSource routingDataSource;
+    private final RoutingProperties routingProperties;
+
+    private ScheduledExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = routingProperties.getHealthCheckInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::check, 0, interval, TimeUnit.MILLISECONDS);
+        log.info("读写分离已启用: 从库{}个", routingDataSource.getReplicas().size());
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (executor != null)
+            executor.shutdown();
+    }
+
+    /**
+     * 检查所有从库
+     */
+    public void check() {
+        if (routingProperties.isHeartbeat())
+            beat();
+        for (ReplicaState replica : routingDataSource.getReplicas())
+            check(replica);
+    }
+
+    private void beat() {
+        try {
+            JdbcTemplate jdbcTemplate = jdbcTemplate(routingDataSource.getPrimary());
+            long now = System.currentTimeMillis();
+            if (jdbcTemplate.update(UPDATE_HEARTBEAT, now) == 0)
+                jdbcTemplate.update(INSERT_HEARTBEAT, now);
+        } catch (Exception e) {
+            // 主库心跳写入失败时从库延迟会持续增大, 直至全部回到主库
+            log.error("主库心跳写入失败", e);
+        }
+    }
+
+    private void check(ReplicaState replica) {
+        boolean wasAvailable = replica.isAvailable();
+        try {
+            long lagMillis = 0;
+            if (routingProperties.isHeartbeat()) {
+                List<Long> beats = jdbcTemplate(replica.getDataSource()).queryForList(SELECT_HEARTBEAT, Long.class);
+                // 尚未复制到心跳时按延迟过大处理
+                lagMillis = beats.isEmpty() ? Long.MAX_VALUE : Math.max(0, System.currentTimeMillis() - beats.get(0));
+            } else {
+                validate(replica.getDataSource());
+            }
+            replica.healthy(lagMillis, lagMillis > routingProperties.getMaxLag().toMillis());
+        } catch (Exception e) {
+            replica.down(e);
+        }
+
+        if (wasAvailable && !replica.isAvailable())
+            log.warn("从库{}: {}, lagMillis={}, error={}", replica.isUp() ? "复制延迟过大" : "不可用", replica.getName(),
+                    replica.getLagMillis(), replica.getLastError());
+        else if (!wasAvailable && replica.isAvailable())
+            log.info("从库可用: {}, lagMillis={}", replica.getName(), replica.getLagMillis());
+    }
+
+    private void validate(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!connection.isValid(timeoutSeconds()))
+                throw new SQLException("连接校验失败");
+        }
+    }
+
+    private JdbcTemplate jdbcTemplate(DataSource dataSource) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setQueryTimeout(timeoutSeconds());
+        return jdbcTemplate;
+    }
+
+    private int timeoutSeconds() {
+        return (int) Math.max(1, routingProperties.getValidationTimeout().getSeconds());
+    }
+}
@@ -0,0 +1,245 @@
+package com.yanchao.blog.datasource;
+
+import com.yanchao.blog.config.RoutingProperties;
+import com.yanchao.blog.util.PartitionUtils;
+import com.yanchao.blog.vo.admin.HedgeStatsVO;
+import com.yanchao.blog.vo.admin.ReplicaRoutingVO;
+import com.yanchao.blog.vo.admin.ReplicaVO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 读请求路由: 缓存未命中后的存储查询优先由从库完成
+ * <p>
+ * 没有可用从库时使用主库; 从库查询异常时标记为不可用并改由主库重试; 从库未查到的数据再查主库(fallbackOnMiss),
+ * 复制延迟期间刚写入的映射不会因此被当作不存在. 未启用读写分离或已在事务中时直接执行查询
+ * <p>
+ * 启用对冲读时, 从库查询超过近期耗时的分位数仍未返回, 在预算内向另一从库(没有时为主库)发出相同查询, 取先成功的结果;
+ * 缓存已在存储查询之前查过, 对冲不再查缓存. 慢的查询不会被取消, 由预算限制额外的负载
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class ReplicaRouting {
+
+    private final ObjectProvider<ReadWriteRoutingDataSource> routingDataSource;
+    private final RoutingProperties routingProperties;
+
+    private final LongAdder primaryReads = new LongAdder();
+    private final LongAdder failovers = new LongAdder();
+    private final LongAdder missFallbacks = new LongAdder();
+
+    private final LongAdder hedgeableReads = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private final LongAdder budgetExhausted = new LongAdder();
+
+    private LatencyTracker latencyTracker;
+    private HedgeBudget hedgeBudget;
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        RoutingProperties.Hedge hedge = routingProperties.getHedge();
+        latencyTracker = new LatencyTracker(hedge.getPercentile());
+        if (!hedge.isEnabled() || routingDataSource.getIfAvailable() == null)
+            return;
+        hedgeBudget = new HedgeBudget(hedge.getBudgetPercent(), hedge.getBurst());
+        AtomicInteger seq = new AtomicInteger();
+        // 不排队, 线程用尽时由调用线程直接查询且不对冲
+        executor = new ThreadPoolExecutor(hedge.getThreads(), hedge.getThreads(), 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), r -> {
+                    Thread thread = new Thread(r, "replica-read-" + seq.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        log.info("对冲读已启用: p{}, delay={}~{}, budget={}%", hedge.getPercentile(), hedge.getMinDelay(),
+                hedge.getMaxDelay(), hedge.getBudgetPercent());
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (executor != null)
+            executor.shutdown();
+    }
+
+    /**
+     * 批量查询
+     *
+     * @param keys   查询条件
+     * @param lookup 存储查询, 返回值只包含查到的数据
+     * @return 查询结果
+     */
+    public <V> Map<String, V> read(Collection<String> keys, Function<Collection<String>, Map<String, V>> lookup) {
+        ReadWriteRoutingDataSource routing = routingDataSource.getIfAvailable();
+        if (routing == null || keys.isEmpty())
+            return lookup.apply(keys);
+
+        // 事务中的查询需与写入使用同一连接
+        ReplicaState replica = TransactionSynchronizationManager.isActualTransactionActive() ? null : routing.select();
+        if (replica == null) {
+            primaryReads.increment();
+            return lookup.apply(keys);
+        }
+
+        Map<String, V> results;
+        try {
+            results = executor == null ? onReplica(routing, replica, keys, lookup)
+                    : hedged(routing, replica, keys, lookup);
+        } catch (DataAccessException e) {
+            failovers.increment();
+            return lookup.apply(keys);
+        }
+        if (results.size() >= keys.size() || !routingProperties.isFallbackOnMiss())
+            return results;
+
+        missFallbacks.increment();
+        Map<String, V> merged = new HashMap<>(keys.size() * 2);
+        merged.putAll(results);
+        merged.putAll(lookup.apply(PartitionUtils.misses(keys, results)));
+        return merged;
+    }
+
+    /**
+     * 单条查询
+     */
+    public <V> V read(String key, Function<Collection<String>, Map<String, V>> lookup) {
+        return read(Collections.singletonList(key), lookup).get(key);
+    }
+
+    private <V> Map<String, V> onReplica(ReadWriteRoutingDataSource routing, ReplicaState replica,
+            Collection<String> keys, Function<Collection<String>, Map<String, V>> lookup) {
+        long start = System.nanoTime();
+        try {
+            Map<String, V> results = routing.onReplica(replica, () -> lookup.apply(keys));
+            replica.read();
+            latencyTracker.record(System.nanoTime() - start);
+            return results;
+        } catch (DataAccessException e) {
+            routing.markDown(replica, e);
+            throw e;
+        }
+    }
+
+    private <V> Map<String, V> hedged(ReadWriteRoutingDataSource routing, ReplicaState replica,
+            Collection<String> keys, Function<Collection<String>, Map<String, V>> lookup) {
+        hedgeableReads.increment();
+        hedgeBudget.onRead();
+        CompletableFuture<Map<String, V>> first = submit(() -> onReplica(routing, replica, keys, lookup));
+        if (first == null)
+            return onReplica(routing, replica, keys, lookup);
+
+        try {
+            return first.get(delayNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 超过等待时间, 发出对冲请求
+        } catch (InterruptedException | ExecutionException e) {
+            return join(first);
+        }
+
+        if (!hedgeBudget.tryAcquire()) {
+            budgetExhausted.increment();
+            return join(first);
+        }
+        ReplicaState other = routing.select(replica);
+        CompletableFuture<Map<String, V>> second = submit(() -> other == null ? lookup.apply(keys)
+                : onReplica(routing, other, keys, lookup));
+        if (second == null)
+            return join(first);
+        hedges.increment();
+
+        // 取先成功的结果, 都失败时取后失败的异常
+        CompletableFuture<Map<String, V>> result = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(2);
+        AtomicBoolean settled = new AtomicBoolean();
+        first.whenComplete((value, error) -> settle(result, pending, settled, value, error, null));
+        second.whenComplete((value, error) -> settle(result, pending, settled, value, error, hedgeWins::increment));
+        return join(result);
+    }
+
+    /**
+     * @param onWin 由本次完成结果时, 在结果返回给调用方之前执行
+     */
+    private static <V> void settle(CompletableFuture<Map<String, V>> result, AtomicInteger pending,
+            AtomicBoolean settled, Map<String, V> value, Throwable error, Runnable onWin) {
+        if (error == null) {
+            if (!settled.compareAndSet(false, true))
+                return;
+            if (onWin != null)
+                onWin.run();
+            result.complete(value);
+        } else if (pending.decrementAndGet() == 0)
+            result.completeExceptionally(error);
+    }
+
+    private <V> CompletableFuture<Map<String, V>> submit(Supplier<Map<String, V>> query) {
+        try {
+            return CompletableFuture.supplyAsync(query, executor);
+        } catch (RejectedExecutionException e) {
+            return null;
+        }
+    }
+
+    private static <V> Map<String, V> join(CompletableFuture<Map<String, V>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataAccessResourceFailureException("从库查询被中断", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            throw new DataAccessResourceFailureException("从库查询失败", cause);
+        }
+    }
+
+    /**
+     * @return 对冲前的等待时间: 近期从库查询耗时的分位数, 限定在minDelay~maxDelay之间
+     */
+    private long delayNanos() {
+        RoutingProperties.Hedge hedge = routingProperties.getHedge();
+        long max = hedge.getMaxDelay().toNanos();
+        long percentile = latencyTracker.percentileNanos();
+        return percentile < 0 ? max : Math.min(max, Math.max(hedge.getMinDelay().toNanos(), percentile));
+    }
+
+    public ReplicaRoutingVO stats() {
+        ReadWriteRoutingDataSource routing = routingDataSource.getIfAvailable();
+        List<ReplicaVO> replicas = new ArrayList<>();
+        if (routing != null)
+            routing.getReplicas().forEach(o -> replicas.add(ReplicaVO.builder().name(o.getName()).up(o.isUp())
+                    .lagging(o.isLagging()).lagMillis(o.getLagMillis()).reads(o.getReads().sum())
+                    .failures(o.getFailures().sum()).lastError(o.getLastError()).build()));
+        return ReplicaRoutingVO.builder().enabled(routing != null).primaryReads(primaryReads.sum())
+                .failovers(failovers.sum()).missFallbacks(missFallbacks.sum()).hedge(hedgeStats())
+                .replicas(replicas).build();
+    }
+
+    private HedgeStatsVO hedgeStats() {
+        long reads = hedgeableReads.sum();
+        long hedgeCount = hedges.sum();
+        long wins = hedgeWins.sum();
+        return HedgeStatsVO.builder().enabled(executor != null).reads(reads).hedges(hedgeCount).wins(wins)
+                .budgetExhausted(budgetExhausted.sum()).hedgeRate(reads == 0 ? 0 : (double) hedgeCount / reads)
+                .winRate(hedgeCount == 0 ? 0 : (double) wins / hedgeCount)
+                .delayMillis(executor == null ? 0 : delayNanos() / 1e6).build();
+    }
+}
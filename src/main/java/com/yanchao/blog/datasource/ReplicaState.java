@@ -0,0 +1,59 @@
+package com.yanchao.blog.datasource;
+
+import lombok.Getter;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 从库状态, 由{@link ReplicaHealthChecker}定时更新, 读请求失败时由{@link ReplicaRouting}标记为不可用
+ */
+@Getter
+public class ReplicaState {
+
+    private final String name;
+    private final DataSource dataSource;
+
+    /** 首次健康检查前不承担读请求 */
+    private volatile boolean up;
+    /** 是否超过最大复制延迟 */
+    private volatile boolean lagging;
+    /** 复制延迟(毫秒), 未检查时为-1 */
+    private volatile long lagMillis = -1;
+    private volatile String lastError;
+
+    private final LongAdder reads = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    public ReplicaState(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * @return 是否可以承担读请求
+     */
+    public boolean isAvailable() {
+        return up && !lagging;
+    }
+
+    void healthy(long lagMillis, boolean lagging) {
+        this.lagMillis = lagMillis;
+        this.lagging = lagging;
+        this.lastError = null;
+        this.up = true;
+    }
+
+    void down(Throwable e) {
+        this.up = false;
+        this.lastError = e.toString();
+    }
+
+    void read() {
+        reads.increment();
+    }
+
+    void failure() {
+        failures.increment();
+    }
+}
@@ -0,0 +1,117 @@
+package com.yanchao.blog.metrics;
+
+import com.yanchao.blog.cache.EncryNearCache;
+import com.yanchao.blog.cache.EncryPrimitiveCache;
+import com.yanchao.blog.cache.EncryRedisCache;
+import com.yanchao.blog.cache.PrimitiveTokenIndex;
+import com.yanchao.blog.constant.EncryTypeEnum;
+import com.yanchao.blog.datasource.ReadWriteRoutingDataSource;
+import com.yanchao.blog.datasource.ReplicaRouting;
+import com.yanchao.blog.datasource.ReplicaState;
+import com.yanchao.blog.queue.EncryWriteBehindQueue;
+import com.yanchao.blog.vo.cache.NearCacheVO;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 加解密-已有统计注册为监控指标: 各级缓存命中率、读写分离及对冲读、异步写库队列
+ * <p>
+ * 只在采集时读取统计, 不影响请求处理
+ */
+@Component
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class EncryMeterBinder implements MeterBinder {
+
+    private static final String CACHE_REQUESTS = "blog.cache.requests";
+    private static final String CACHE_HIT_RATIO = "blog.cache.hit.ratio";
+
+    private final EncryPrimitiveCache encryPrimitiveCache;
+    private final EncryNearCache encryNearCache;
+    private final EncryRedisCache encryRedisCache;
+    private final EncryWriteBehindQueue encryWriteBehindQueue;
+    private final ReplicaRouting replicaRouting;
+    private final ObjectProvider<ReadWriteRoutingDataSource> routingDataSource;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindCaches(registry);
+        bindRouting(registry);
+        Gauge.builder("blog.write.behind.queue.depth", encryWriteBehindQueue, o -> o.stats().getQueueDepth())
+                .description("异步写库待写条数").register(registry);
+        FunctionCounter.builder("blog.write.behind.flush.failures", encryWriteBehindQueue,
+                o -> o.stats().getFlushFailures()).description("异步写库失败次数").register(registry);
+    }
+
+    private void bindCaches(MeterRegistry registry) {
+        for (EncryTypeEnum encryType : EncryTypeEnum.values())
+            if (PrimitiveTokenIndex.supports(encryType))
+                bindCache(registry, "primitive", encryType.name(), encryPrimitiveCache,
+                        o -> o.hitCount(encryType), o -> o.missCount(encryType));
+        bindCache(registry, "near", "encry", encryNearCache, o -> o.stats().getEncry().getHitCount(),
+                o -> o.stats().getEncry().getMissCount());
+        bindCache(registry, "near", "decry", encryNearCache, o -> o.stats().getDecry().getHitCount(),
+                o -> o.stats().getDecry().getMissCount());
+        bindCache(registry, "redis", "all", encryRedisCache, EncryRedisCache::hitCount, EncryRedisCache::missCount);
+        Gauge.builder("blog.cache.near.size", encryNearCache, o -> {
+            NearCacheVO stats = o.stats();
+            return stats.getEncry().getSize() + stats.getDecry().getSize();
+        }).description("进程内缓存条数").register(registry);
+    }
+
+    private static <T> void bindCache(MeterRegistry registry, String cache, String key, T source,
+            ToDoubleFunction<T> hits, ToDoubleFunction<T> misses) {
+        FunctionCounter.builder(CACHE_REQUESTS, source, hits).description("缓存查询条数").tag("cache", cache)
+                .tag("key", key).tag("result", "hit").register(registry);
+        FunctionCounter.builder(CACHE_REQUESTS, source, misses).description("缓存查询条数").tag("cache", cache)
+                .tag("key", key).tag("result", "miss").register(registry);
+        Gauge.builder(CACHE_HIT_RATIO, source, o -> {
+            double hit = hits.applyAsDouble(o);
+            double total = hit + misses.applyAsDouble(o);
+            return total == 0 ? 0 : hit / total;
+        }).description("启动以来的缓存命中率").tag("cache", cache).tag("key", key).register(registry);
+    }
+
+    private void bindRouting(MeterRegistry registry) {
+        counter(registry, "blog.datasource.reads", "primary", o -> o.stats().getPrimaryReads());
+        counter(registry, "blog.datasource.failovers", null, o -> o.stats().getFailovers());
+        counter(registry, "blog.datasource.miss.fallbacks", null, o -> o.stats().getMissFallbacks());
+        counter(registry, "blog.datasource.hedge.reads", null, o -> o.stats().getHedge().getReads());
+        counter(registry, "blog.datasource.hedges", null, o -> o.stats().getHedge().getHedges());
+        counter(registry, "blog.datasource.hedge.wins", null, o -> o.stats().getHedge().getWins());
+        counter(registry, "blog.datasource.hedge.budget.exhausted", null,
+                o -> o.stats().getHedge().getBudgetExhausted());
+        Gauge.builder("blog.datasource.hedge.delay", replicaRouting, o -> o.stats().getHedge().getDelayMillis())
+                .description("对冲前的等待时间").baseUnit("milliseconds").register(registry);
+
+        ReadWriteRoutingDataSource routing = routingDataSource.getIfAvailable();
+        if (routing == null)
+            return;
+        for (ReplicaState replica : routing.getReplicas()) {
+            FunctionCounter.builder("blog.datasource.reads", replica, o -> o.getReads().sum())
+                    .tag("target", replica.getName()).register(registry);
+            FunctionCounter.builder("blog.datasource.replica.failures", replica, o -> o.getFailures().sum())
+                    .tag("replica", replica.getName()).register(registry);
+            Gauge.builder("blog.datasource.replica.available", replica, o -> o.isAvailable() ? 1 : 0)
+                    .tag("replica", replica.getName()).register(registry);
+            Gauge.builder("blog.datasource.replica.lag", replica, ReplicaState::getLagMillis)
+                    .tag("replica", replica.getName()).baseUnit("milliseconds").register(registry);
+        }
+    }
+
+    private void counter(MeterRegistry registry, String name, String target, Function<ReplicaRouting, Long> count) {
+        FunctionCounter.Builder<ReplicaRouting> builder = FunctionCounter.builder(name, replicaRouting,
+                o -> count.apply(o));
+        if (target != null)
+            builder.tag("target", target);
+        builder.register(registry);
+    }
+}
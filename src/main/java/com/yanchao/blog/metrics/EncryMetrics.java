@@ -0,0 +1,124 @@
+package com.yanchao.blog.metrics;
+
+import com.yanchao.blog.constant.EncryEndpointEnum;
+import com.yanchao.blog.constant.EncryTypeEnum;
+import com.yanchao.blog.constant.ErrorEnum;
+import com.yanchao.blog.constant.StoreOperationEnum;
+import com.yanchao.blog.vo.encry.EncryResultVO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 加解密-监控指标
+ * <p>
+ * 接口×类型的耗时、接口×结果的次数、存储操作×类型的耗时. 所有计时器、计数器在启动时创建, 按枚举序号从数组中取,
+ * 请求处理中记录指标不创建对象; 耗时只发布直方图桶(由Prometheus计算分位数), 不在进程内计算分位数
+ */
+@Component
+public class EncryMetrics {
+
+    private static final EncryTypeEnum[] TYPES = EncryTypeEnum.values();
+    private static final ErrorEnum[] ERRORS = ErrorEnum.values();
+    /** 未传类型的单条请求 */
+    private static final String NO_TYPE = "NONE";
+    /** 批量请求 */
+    private static final String MIXED_TYPE = "MIXED";
+
+    /** 缓存命中为数十微秒, 下限为1ms时全部落在第一个桶内 */
+    private static final Duration MIN_EXPECTED = Duration.of(10, ChronoUnit.MICROS);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(10);
+
+    /** [接口][类型序号, 最后一个为NONE/MIXED] */
+    private final Timer[][] requestTimers;
+    /** [接口][结果序号] */
+    private final Counter[][] outcomeCounters;
+    /** [存储操作][类型序号] */
+    private final Timer[][] storeTimers;
+
+    @Autowired
+    public EncryMetrics(MeterRegistry meterRegistry) {
+        EncryEndpointEnum[] endpoints = EncryEndpointEnum.values();
+        requestTimers = new Timer[endpoints.length][TYPES.length + 1];
+        outcomeCounters = new Counter[endpoints.length][ERRORS.length];
+        for (EncryEndpointEnum endpoint : endpoints) {
+            Timer[] timers = requestTimers[endpoint.ordinal()];
+            if (endpoint.isBatch()) {
+                Timer timer = requestTimer(meterRegistry, endpoint, MIXED_TYPE);
+                for (int i = 0; i < timers.length; i++)
+                    timers[i] = timer;
+            } else {
+                for (EncryTypeEnum encryType : TYPES)
+                    timers[encryType.ordinal()] = requestTimer(meterRegistry, endpoint, encryType.name());
+                timers[TYPES.length] = requestTimer(meterRegistry, endpoint, NO_TYPE);
+            }
+            for (ErrorEnum error : ERRORS)
+                outcomeCounters[endpoint.ordinal()][error.ordinal()] = Counter.builder("blog.encry.outcomes")
+                        .description("加解密结果, 批量接口按条计").tag("endpoint", endpoint.getUri())
+                        .tag("outcome", error.name()).register(meterRegistry);
+        }
+
+        StoreOperationEnum[] operations = StoreOperationEnum.values();
+        storeTimers = new Timer[operations.length][TYPES.length];
+        for (StoreOperationEnum operation : operations)
+            for (EncryTypeEnum encryType : TYPES)
+                storeTimers[operation.ordinal()][encryType.ordinal()] = Timer.builder("blog.store.operations")
+                        .description("映射存储操作耗时, 包括读写分离的路由及回查").tag("operation", operation.name())
+                        .tag("type", encryType.name()).publishPercentileHistogram()
+                        .minimumExpectedValue(MIN_EXPECTED).maximumExpectedValue(MAX_EXPECTED)
+                        .register(meterRegistry);
+    }
+
+    /**
+     * 记录单条请求的耗时及结果
+     *
+     * @param encryType  为空时计入NONE, 批量接口忽略
+     * @param startNanos {@link System#nanoTime()}
+     */
+    public void request(EncryEndpointEnum endpoint, EncryTypeEnum encryType, ErrorEnum outcome, long startNanos) {
+        requestTimers[endpoint.ordinal()][encryType == null ? TYPES.length : encryType.ordinal()]
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        outcome(endpoint, outcome);
+    }
+
+    /**
+     * 记录批量请求的耗时, 结果按条计
+     *
+     * @param results 请求整体失败时为null, 只计outcome
+     */
+    public void batch(EncryEndpointEnum endpoint, List<EncryResultVO> results, ErrorEnum outcome, long startNanos) {
+        requestTimers[endpoint.ordinal()][TYPES.length].record(System.nanoTime() - startNanos,
+                TimeUnit.NANOSECONDS);
+        if (results == null) {
+            outcome(endpoint, outcome);
+            return;
+        }
+        for (int i = 0; i < results.size(); i++)
+            outcome(endpoint, ErrorEnum.of(results.get(i).getCode()));
+    }
+
+    /**
+     * @param startNanos {@link System#nanoTime()}
+     */
+    public void store(StoreOperationEnum operation, EncryTypeEnum encryType, long startNanos) {
+        storeTimers[operation.ordinal()][encryType.ordinal()].record(System.nanoTime() - startNanos,
+                TimeUnit.NANOSECONDS);
+    }
+
+    private void outcome(EncryEndpointEnum endpoint, ErrorEnum outcome) {
+        outcomeCounters[endpoint.ordinal()][outcome.ordinal()].increment();
+    }
+
+    private static Timer requestTimer(MeterRegistry meterRegistry, EncryEndpointEnum endpoint, String type) {
+        return Timer.builder("blog.encry.requests").description("加解密接口耗时").tag("endpoint", endpoint.getUri())
+                .tag("type", type).publishPercentileHistogram().minimumExpectedValue(MIN_EXPECTED)
+                .maximumExpectedValue(MAX_EXPECTED).register(meterRegistry);
+    }
+}
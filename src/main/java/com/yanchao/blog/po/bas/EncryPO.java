@@ -12,6 +12,8 @@ import java.util.Date;
 
 /**
  * 加解密表-实体
+ * <p>
+ * 唯一索引均包含type, 同一明文可以在不同类型下分别映射, 表可以按type分区(db/migration/bas_encry_partition.sql)
  * 
  * @author: 王彦超[wang_yc@suixingpay.com]
  * @date: Apr 24, 2020 5:08:47 PM
@@ -24,19 +26,35 @@ import java.util.Date;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "bas_encry", uniqueConstraints = { @UniqueConstraint(columnNames = { "encry", "type" }),
-        @UniqueConstraint(columnNames = "encry"), @UniqueConstraint(columnNames = "decry"),
-        @UniqueConstraint(columnNames = { "decry", "type" }) })
+        @UniqueConstraint(columnNames = { "decry", "type" }),
+        @UniqueConstraint(columnNames = { "encry_bin", "type" }) }, indexes = @Index(columnList = "legacy_hash"))
 public class EncryPO implements Serializable {
     private static final long serialVersionUID = -2118148820663319937L;
 
-    /** 主键 */
+    /**
+     * 每次从bas_id_seq分配的主键数
+     */
+    public static final int ID_ALLOCATION_SIZE = 1000;
+
+    /**
+     * 主键, 按号段从bas_id_seq分配, 不依赖自增列, Hibernate可以批量INSERT. JDBC写入同样从bas_id_seq分配
+     * ({@link com.yanchao.blog.dao.bas.EncryIdGenerator}), 所有写入方的主键来自同一来源
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Column(name = "id", nullable = false, insertable = false, updatable = false)
+    @TableGenerator(name = "bas_encry_id", table = "bas_id_seq", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "bas_encry", allocationSize = ID_ALLOCATION_SIZE)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "bas_encry_id")
+    @Column(name = "id", nullable = false, updatable = false)
     private Long id;
-    /** 密文 */
-    @Column(name = "encry", nullable = false, updatable = false)
+    /** 密文, 历史格式; 16字节格式的新数据为空 */
+    @Column(name = "encry", updatable = false)
     private String encry;
+    /** 16字节密文 */
+    @Column(name = "encry_bin", columnDefinition = "binary(16)")
+    private byte[] encryBin;
+    /** 历史格式密文的哈希, 用于迁移后按历史密文解密 */
+    @Column(name = "legacy_hash")
+    private Long legacyHash;
     /** 明文 */
     @Column(name = "decry", nullable = false, updatable = false)
     private String decry;
@@ -0,0 +1,56 @@
+package com.yanchao.blog.po.bas;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.util.Date;
+
+/**
+ * 加解密表v2-实体
+ * <p>
+ * 相比{@link EncryPO}: 类型为TINYINT编码; 可压缩的手机号、身份证号保存在decry_num(BIGINT), decry为空串, 其他明文decry_num为0;
+ * 密文为VARBINARY, 16字节格式保存原始字节; 只有查询需要的两个唯一索引. 表结构见db/migration/bas_encry_v2.sql, 按type分区见db/migration/bas_encry_partition.sql
+ */
+@Data
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "bas_encry_v2", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_bas_encry_v2_decry", columnNames = { "type", "decry_num", "decry" }),
+        @UniqueConstraint(name = "uk_bas_encry_v2_encry", columnNames = { "type", "encry" }) }, indexes = @Index(
+                name = "idx_bas_encry_v2_legacy_hash", columnList = "legacy_hash"))
+public class EncryV2PO implements Serializable {
+    private static final long serialVersionUID = 4409815536229837146L;
+
+    /** 主键 */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false, insertable = false, updatable = false)
+    private Long id;
+    /** 加密类型编码, {@link com.yanchao.blog.constant.EncryTypeEnum#getCode()} */
+    @Column(name = "type", nullable = false, updatable = false, columnDefinition = "tinyint")
+    private Integer type;
+    /** 压缩后的明文, 无法压缩时为0 */
+    @Column(name = "decry_num", nullable = false, updatable = false)
+    private Long decryNum;
+    /** 明文, 已压缩时为空串 */
+    @Column(name = "decry", nullable = false, updatable = false)
+    private String decry;
+    /** 密文 */
+    @Column(name = "encry", nullable = false, updatable = false, columnDefinition = "varbinary(64)")
+    private byte[] encry;
+    /** 密文格式: 0为原样保存的字符串(十进制等历史格式), 其他与{@link com.yanchao.blog.constant.TokenFormatEnum}的ordinal一致 */
+    @Column(name = "encry_format", nullable = false, updatable = false, columnDefinition = "tinyint")
+    private Integer encryFormat;
+    /** MD5摘要保存为16字节时, 其十进制形式(历史密文)的哈希, 用于按历史密文解密 */
+    @Column(name = "legacy_hash", updatable = false)
+    private Long legacyHash;
+    /** 创建时间 */
+    @Column(name = "create_time", nullable = false, updatable = false)
+    private Date createTime;
+}
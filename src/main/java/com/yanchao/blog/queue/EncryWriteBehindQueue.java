@@ -0,0 +1,423 @@
+package com.yanchao.blog.queue;
+
+import com.yanchao.blog.cache.EncryCache;
+import com.yanchao.blog.cache.EncryKey;
+import com.yanchao.blog.config.EncryProperties;
+import com.yanchao.blog.config.ResultException;
+import com.yanchao.blog.constant.EncryTypeEnum;
+import com.yanchao.blog.constant.SystemConstant;
+import com.yanchao.blog.po.bas.EncryPO;
+import com.yanchao.blog.store.TokenStore;
+import com.yanchao.blog.vo.admin.WriteBehindStatsVO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+import static com.yanchao.blog.constant.ErrorEnum.ENCRE_OR_DECRY_ERROR;
+
+/**
+ * 加解密-异步写库队列
+ * <p>
+ * 新映射先追加到本地日志(可选fsync)后即返回, 后台线程按批写入{@link TokenStore}. 日志按段滚动, 一段内的映射全部写库后删除该段;
+ * 启动时重放未删除的日志段. 未写库的映射保存在内存中, 本节点解密时先查这里, 保证读到自己的写入; 未写库的映射达到maxPending后拒绝新映射.
+ * <p>
+ * fsync在写入日志的锁外执行, 并发追加的记录由一次fsync合并刷盘(group commit).
+ * <p>
+ * 日志记录格式: 长度(int) + 内容(加解密类型、明文、密文, writeUTF) + CRC32(int), 末尾不完整或校验失败的记录视为崩溃时未写完, 重放时丢弃
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class EncryWriteBehindQueue {
+
+    private static final String SEGMENT_PREFIX = "encry-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final EncryProperties encryProperties;
+    private final TokenStore tokenStore;
+    private final EncryCache encryCache;
+
+    /** 明文->密文 */
+    private final Map<EncryKey, String> pendingEncrys = new ConcurrentHashMap<>();
+    /** 密文->明文 */
+    private final Map<EncryKey, String> pendingDecrys = new ConcurrentHashMap<>();
+
+    private final Object lock = new Object();
+    /** 待写库的映射, lock保护 */
+    private List<EncryPO> queue = new ArrayList<>();
+    /** 当前日志段, lock保护 */
+    private FileChannel segment;
+    private long segmentSeq;
+    /** 已写入日志的追加序号, lock保护写入 */
+    private volatile long appendedSeq;
+    /** 已刷盘的追加序号 */
+    private final AtomicLong syncedSeq = new AtomicLong();
+    /** 串行执行fsync, 持有时可再获取lock, 反之不可 */
+    private final Object syncLock = new Object();
+
+    private Path dir;
+    private ScheduledExecutorService executor;
+
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong flushedRows = new AtomicLong();
+    private final AtomicLong flushFailures = new AtomicLong();
+    private final AtomicLong conflicts = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong flushNanos = new AtomicLong();
+    private volatile long lastFlushNanos;
+    private volatile long maxFlushNanos;
+
+    @PostConstruct
+    public void init() throws IOException {
+        if (!isEnabled())
+            return;
+
+        EncryProperties.WriteBehind writeBehind = encryProperties.getWriteBehind();
+        dir = Paths.get(writeBehind.getDir());
+        Files.createDirectories(dir);
+        replay();
+        segment = openSegment(++segmentSeq);
+
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "encry-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = writeBehind.getFlushInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("异步写库已启用: dir={}, 待写库{}条", dir.toAbsolutePath(), queue.size());
+    }
+
+    @PreDestroy
+    public void destroy() throws IOException {
+        if (executor == null)
+            return;
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        synchronized (lock) {
+            segment.close();
+        }
+    }
+
+    public boolean isEnabled() {
+        return encryProperties.getWriteBehind().isEnabled();
+    }
+
+    public String getEncry(EncryTypeEnum encryType, String decry) {
+        return pendingEncrys.isEmpty() ? null : pendingEncrys.get(new EncryKey(encryType, decry));
+    }
+
+    public String getDecry(EncryTypeEnum encryType, String encry) {
+        return pendingDecrys.isEmpty() ? null : pendingDecrys.get(new EncryKey(encryType, encry));
+    }
+
+    /**
+     * @return 明文-密文, 只包含未写库的数据
+     */
+    public Map<String, String> getEncrys(EncryTypeEnum encryType, Collection<String> decrys) {
+        return getAll(pendingEncrys, encryType, decrys);
+    }
+
+    /**
+     * @return 密文-明文, 只包含未写库的数据
+     */
+    public Map<String, String> getDecrys(EncryTypeEnum encryType, Collection<String> encrys) {
+        return getAll(pendingDecrys, encryType, encrys);
+    }
+
+    /**
+     * 追加新映射, 写入日志后返回
+     *
+     * @param encryType 加解密类型
+     * @param encrys    明文-密文
+     * @throws ResultException 写入日志失败, 或待写库条数已达上限
+     */
+    public void append(EncryTypeEnum encryType, Map<String, String> encrys) {
+        if (encrys.isEmpty())
+            return;
+        // 写库持续失败时不再占用内存, 由调用方稍后重试
+        if (pendingEncrys.size() + encrys.size() > encryProperties.getWriteBehind().getMaxPending()) {
+            rejected.incrementAndGet();
+            log.warn("异步写库待写库{}条已达上限, 拒绝{}条", pendingEncrys.size(), encrys.size());
+            throw new ResultException(ENCRE_OR_DECRY_ERROR);
+        }
+
+        List<EncryPO> encryPOs = new ArrayList<>(encrys.size());
+        Date now = new Date();
+        encrys.forEach((decry, encry) -> encryPOs.add(EncryPO.builder().decry(decry).encry(encry).type(encryType)
+                .createTime(now).creator(SystemConstant.SYSTEM_NAME).build()));
+        ByteBuffer records = encode(encryPOs);
+
+        long seq;
+        synchronized (lock) {
+            try {
+                while (records.hasRemaining())
+                    segment.write(records);
+            } catch (IOException e) {
+                log.error("写入异步写库日志异常", e);
+                throw new ResultException(ENCRE_OR_DECRY_ERROR);
+            }
+            seq = ++appendedSeq;
+            // 与flush的取出在同一把锁内, 避免flush先删除未写入的待写库映射
+            encrys.forEach((decry, encry) -> {
+                pendingEncrys.put(new EncryKey(encryType, decry), encry);
+                pendingDecrys.put(new EncryKey(encryType, encry), decry);
+            });
+            queue.addAll(encryPOs);
+        }
+        if (encryProperties.getWriteBehind().isSync())
+            sync(seq);
+    }
+
+    /**
+     * 写库: 取出当前队列并滚动日志段, 全部写入后删除之前的日志段. 失败时放回队列, 日志段保留, 下次重试
+     */
+    public void flush() {
+        List<EncryPO> batch;
+        long flushedSeq;
+        synchronized (lock) {
+            if (queue.isEmpty())
+                return;
+            batch = queue;
+            queue = new ArrayList<>();
+            try {
+                FileChannel next = openSegment(segmentSeq + 1);
+                // 关闭前刷盘, 尚未fsync的追加不再需要当前日志段
+                if (encryProperties.getWriteBehind().isSync()) {
+                    segment.force(false);
+                    syncedSeq.accumulateAndGet(appendedSeq, Math::max);
+                }
+                segment.close();
+                segment = next;
+                flushedSeq = segmentSeq++;
+            } catch (IOException e) {
+                log.error("滚动异步写库日志异常", e);
+                batch.addAll(queue);
+                queue = batch;
+                return;
+            }
+        }
+
+        long start = System.nanoTime();
+        List<EncryPO> conflicted = new ArrayList<>();
+        try {
+            int batchSize = encryProperties.getWriteBehind().getBatchSize();
+            for (int i = 0; i < batch.size(); i += batchSize)
+                insert(batch.subList(i, Math.min(batch.size(), i + batchSize)), conflicted);
+        } catch (RuntimeException e) {
+            flushFailures.incrementAndGet();
+            log.error("异步写库失败, {}条稍后重试", batch.size(), e);
+            synchronized (lock) {
+                batch.addAll(queue);
+                queue = batch;
+            }
+            return;
+        }
+
+        deleteSegments(flushedSeq);
+        batch.forEach(o -> {
+            pendingEncrys.remove(new EncryKey(o.getType(), o.getDecry()), o.getEncry());
+            pendingDecrys.remove(new EncryKey(o.getType(), o.getEncry()), o.getDecry());
+        });
+        // 不再从待写库映射读到后, 清除缓存中未写入的映射, 之后由存储回源
+        conflicted.forEach(o -> encryCache.evict(o.getType(), o.getDecry(), o.getEncry()));
+
+        long nanos = System.nanoTime() - start;
+        lastFlushNanos = nanos;
+        if (nanos > maxFlushNanos)
+            maxFlushNanos = nanos;
+        flushNanos.addAndGet(nanos);
+        flushCount.incrementAndGet();
+        flushedRows.addAndGet(batch.size());
+    }
+
+    public WriteBehindStatsVO stats() {
+        long count = flushCount.get();
+        return WriteBehindStatsVO.builder().enabled(isEnabled()).queueDepth(pendingEncrys.size()).flushCount(count)
+                .flushedRows(flushedRows.get()).flushFailures(flushFailures.get()).conflicts(conflicts.get())
+                .rejected(rejected.get())
+                .lastFlushMillis(lastFlushNanos / 1e6).maxFlushMillis(maxFlushNanos / 1e6)
+                .avgFlushMillis(count == 0 ? 0 : flushNanos.get() / 1e6 / count).build();
+    }
+
+    /**
+     * 刷盘到包含seq的位置: 已由其他线程的fsync覆盖时直接返回, 否则一次fsync覆盖当前已写入的所有追加
+     */
+    private void sync(long seq) {
+        if (syncedSeq.get() >= seq)
+            return;
+        synchronized (syncLock) {
+            if (syncedSeq.get() >= seq)
+                return;
+            FileChannel channel;
+            long target;
+            synchronized (lock) {
+                channel = segment;
+                target = appendedSeq;
+            }
+            try {
+                channel.force(false);
+            } catch (ClosedChannelException e) {
+                // 日志段已由flush滚动, 关闭前已刷盘
+                if (syncedSeq.get() >= seq)
+                    return;
+                log.error("异步写库日志刷盘异常", e);
+                throw new ResultException(ENCRE_OR_DECRY_ERROR);
+            } catch (IOException e) {
+                log.error("异步写库日志刷盘异常", e);
+                throw new ResultException(ENCRE_OR_DECRY_ERROR);
+            }
+            syncedSeq.accumulateAndGet(target, Math::max);
+        }
+    }
+
+    /**
+     * 按类型写入存储: 存储返回的密文与本节点已返回的不同, 说明明文已有其他映射, 本节点返回过的密文将无法解密, 记录错误
+     *
+     * @param conflicted 未写入的映射, 由调用方从缓存中清除
+     */
+    private void insert(List<EncryPO> encryPOs, List<EncryPO> conflicted) {
+        Map<EncryTypeEnum, Map<String, String>> encrysByType = new EnumMap<>(EncryTypeEnum.class);
+        encryPOs.forEach(o -> encrysByType.computeIfAbsent(o.getType(), k -> new HashMap<>()).put(o.getDecry(),
+                o.getEncry()));
+
+        encrysByType.forEach((encryType, encrys) -> {
+            Map<String, String> stored = tokenStore.putIfAbsent(encryType, encrys);
+            encrys.forEach((decry, encry) -> {
+                if (!encry.equals(stored.get(decry))) {
+                    conflicts.incrementAndGet();
+                    conflicted.add(EncryPO.builder().type(encryType).decry(decry).encry(encry).build());
+                    log.error("异步写库冲突: type={}, encry={}, stored={}", encryType, encry, stored.get(decry));
+                }
+            });
+        });
+    }
+
+    private void replay() throws IOException {
+        List<Path> segments = listSegments();
+        for (Path path : segments) {
+            segmentSeq = Math.max(segmentSeq, seqOf(path));
+            List<EncryPO> encryPOs = decode(path);
+            queue.addAll(encryPOs);
+            encryPOs.forEach(o -> {
+                pendingEncrys.put(new EncryKey(o.getType(), o.getDecry()), o.getEncry());
+                pendingDecrys.put(new EncryKey(o.getType(), o.getEncry()), o.getDecry());
+            });
+        }
+        if (!segments.isEmpty())
+            log.info("重放异步写库日志: {}个日志段, {}条", segments.size(), queue.size());
+    }
+
+    private void deleteSegments(long maxSeq) {
+        try {
+            for (Path path : listSegments())
+                if (seqOf(path) <= maxSeq)
+                    Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // 未删除的日志段重启时会重放, putIfAbsent保证重复写入无影响
+            log.warn("删除异步写库日志异常: {}", e.getMessage());
+        }
+    }
+
+    private List<Path> listSegments() throws IOException {
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(segments::add);
+        }
+        segments.sort(Comparator.comparingLong(EncryWriteBehindQueue::seqOf));
+        return segments;
+    }
+
+    private FileChannel openSegment(long seq) throws IOException {
+        return FileChannel.open(dir.resolve(String.format("%s%019d%s", SEGMENT_PREFIX, seq, SEGMENT_SUFFIX)),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private static long seqOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static ByteBuffer encode(List<EncryPO> encryPOs) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(encryPOs.size() * 64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        ByteArrayOutputStream record = new ByteArrayOutputStream(64);
+        DataOutputStream recordOut = new DataOutputStream(record);
+        CRC32 crc = new CRC32();
+        try {
+            for (EncryPO encryPO : encryPOs) {
+                record.reset();
+                recordOut.writeUTF(encryPO.getType().name());
+                recordOut.writeUTF(encryPO.getDecry());
+                recordOut.writeUTF(encryPO.getEncry());
+                crc.reset();
+                crc.update(record.toByteArray(), 0, record.size());
+                out.writeInt(record.size());
+                record.writeTo(out);
+                out.writeInt((int) crc.getValue());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+
+    private static List<EncryPO> decode(Path path) throws IOException {
+        List<EncryPO> encryPOs = new ArrayList<>();
+        byte[] bytes = Files.readAllBytes(path);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        CRC32 crc = new CRC32();
+        Date now = new Date();
+        while (buffer.remaining() >= 4) {
+            int length = buffer.getInt();
+            if (length <= 0 || buffer.remaining() < length + 4)
+                break;
+            crc.reset();
+            crc.update(bytes, buffer.position(), length);
+            int position = buffer.position();
+            buffer.position(position + length);
+            if (buffer.getInt() != (int) crc.getValue())
+                break;
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, position, length));
+            encryPOs.add(EncryPO.builder().type(EncryTypeEnum.valueOf(in.readUTF())).decry(in.readUTF())
+                    .encry(in.readUTF()).createTime(now).creator(SystemConstant.SYSTEM_NAME).build());
+        }
+        if (buffer.hasRemaining())
+            log.warn("异步写库日志{}末尾{}字节不完整, 已丢弃", path.getFileName(), buffer.remaining());
+        return encryPOs;
+    }
+
+    private static Map<String, String> getAll(Map<EncryKey, String> pending, EncryTypeEnum encryType,
+            Collection<String> values) {
+        if (pending.isEmpty() || values.isEmpty())
+            return Collections.emptyMap();
+        Map<String, String> hits = new HashMap<>();
+        values.forEach(o -> {
+            String value = pending.get(new EncryKey(encryType, o));
+            if (value != null)
+                hits.put(o, value);
+        });
+        return hits;
+    }
+}
@@ -0,0 +1,30 @@
+package com.yanchao.blog.region;
+
+/**
+ * 当前使用的地区码索引
+ * <p>
+ * 索引创建后不可修改, 重新加载时整体替换引用; 查询方取一次{@link #current()}后在同一个索引上完成省、地市、区县的查询, 无需加锁
+ */
+public final class RegionDictionary {
+
+    private static volatile RegionIndex current = RegionIndex.classpath();
+
+    private RegionDictionary() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static RegionIndex current() {
+        return current;
+    }
+
+    /**
+     * @return 替换前的索引
+     */
+    public static RegionIndex replace(RegionIndex index) {
+        if (index == null)
+            throw new IllegalArgumentException("地区码索引不能为空");
+        RegionIndex previous = current;
+        current = index;
+        return previous;
+    }
+}
@@ -0,0 +1,299 @@
+package com.yanchao.blog.region;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 地区码索引: 按6位地区码及年份定位名称
+ * <p>
+ * 前4位(省+地市)定位一页, 后2位为页内下标, 页中保存该代码第一个有效期的序号; 只有存在地区码的地市分配页(约370页, 每页200字节).
+ * 有效期按代码、起始年份排序保存在几个数组中, 同一代码的有效期相邻且不重叠(撤销的代码以后可能复用为其他名称).
+ * 名称去重后保存在一个数组中(如"市辖区"只有一个实例). 查询不创建对象, 创建后不可修改, 替换见{@link RegionDictionary}
+ */
+public final class RegionIndex {
+
+    /**
+     * classpath中的地区码, 每行: 代码\t名称[\t起始年份[\t截止年份]], 年份包括在内, 为空时不限; #开头为注释, "# version:"开头为数据版本
+     */
+    public static final String RESOURCE = "region/regions.txt";
+
+    /** 不限起始年份 */
+    public static final int MIN_YEAR = 0;
+    /** 不限截止年份 */
+    public static final int MAX_YEAR = 9999;
+
+    private static final String VERSION = "# version:";
+    private static final int PAGES = 10000;
+    private static final int PAGE_SIZE = 100;
+
+    /** [前4位][后2位] = 第一个有效期序号 + 1, 0为不存在 */
+    private final char[][] pages;
+    private final int[] codes;
+    private final char[] nameIds;
+    private final short[] froms;
+    private final short[] tos;
+    private final String[] names;
+    private final String version;
+    private final int size;
+
+    private RegionIndex(char[][] pages, List<Period> periods, String[] names, String version, int size) {
+        this.pages = pages;
+        this.codes = new int[periods.size()];
+        this.nameIds = new char[periods.size()];
+        this.froms = new short[periods.size()];
+        this.tos = new short[periods.size()];
+        for (int i = 0; i < periods.size(); i++) {
+            Period period = periods.get(i);
+            codes[i] = period.code;
+            nameIds[i] = period.nameId;
+            froms[i] = period.from;
+            tos[i] = period.to;
+        }
+        this.names = names;
+        this.version = version;
+        this.size = size;
+    }
+
+    public static RegionIndex classpath() {
+        InputStream in = RegionIndex.class.getClassLoader().getResourceAsStream(RESOURCE);
+        if (in == null)
+            throw new IllegalStateException("地区码文件不存在: " + RESOURCE);
+        try {
+            return load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("地区码文件读取失败: " + RESOURCE, e);
+        }
+    }
+
+    /**
+     * @param in 读取后关闭
+     */
+    public static RegionIndex load(InputStream in) throws IOException {
+        Map<String, Character> ids = new HashMap<>();
+        List<String> names = new ArrayList<>();
+        List<Period> periods = new ArrayList<>();
+        String version = null;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNo = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (line.startsWith(VERSION)) {
+                    version = line.substring(VERSION.length()).trim();
+                    continue;
+                }
+                if (line.isEmpty() || line.charAt(0) == '#')
+                    continue;
+                String[] columns = line.split("\t", -1);
+                int code = columns[0].length() == 6 ? digits(columns[0], 0, 6) : -1;
+                int from = columns.length > 2 ? year(columns[2], MIN_YEAR) : MIN_YEAR;
+                int to = columns.length > 3 ? year(columns[3], MAX_YEAR) : MAX_YEAR;
+                if (code < 0 || columns.length < 2 || columns.length > 4 || columns[1].isEmpty() || from < 0
+                        || to < 0 || from > to)
+                    throw new IOException("地区码格式有误, 第" + lineNo + "行: " + line);
+
+                String name = columns[1];
+                Character id = ids.get(name);
+                if (id == null) {
+                    if (names.size() == Character.MAX_VALUE)
+                        throw new IOException("地区名称过多");
+                    id = (char) names.size();
+                    ids.put(name, id);
+                    names.add(name);
+                }
+                periods.add(new Period(code, id, from, to, lineNo));
+            }
+        }
+        if (periods.size() >= Character.MAX_VALUE)
+            throw new IOException("地区码有效期过多");
+
+        Collections.sort(periods);
+        char[][] pages = new char[PAGES][];
+        int size = 0;
+        for (int i = 0; i < periods.size(); i++) {
+            Period period = periods.get(i);
+            if (i > 0 && periods.get(i - 1).code == period.code) {
+                if (periods.get(i - 1).to >= period.from)
+                    throw new IOException("地区码有效期重叠, 第" + period.lineNo + "行: " + period.code);
+                continue;
+            }
+            char[] page = pages[period.code / PAGE_SIZE];
+            if (page == null)
+                page = pages[period.code / PAGE_SIZE] = new char[PAGE_SIZE];
+            page[period.code % PAGE_SIZE] = (char) (i + 1);
+            size++;
+        }
+        return new RegionIndex(pages, periods, names.toArray(new String[0]), version, size);
+    }
+
+    /**
+     * @param code 6位地区码
+     * @return 最近一个有效期的名称(包括已撤销的), 不存在时为null
+     */
+    public String name(int code) {
+        int i = first(code);
+        if (i < 0)
+            return null;
+        while (i + 1 < codes.length && codes[i + 1] == code)
+            i++;
+        return names[nameIds[i]];
+    }
+
+    /**
+     * 身份证号在出生后才申领, 出生时尚未设立的代码取出生后最早的有效期
+     *
+     * @param code 6位地区码
+     * @param year 出生或申领年份
+     * @return 该年有效的名称; 没有时为该年之后最早的有效期的名称; 该年之前已撤销或不存在时为null
+     */
+    public String name(int code, int year) {
+        int i = first(code);
+        if (i < 0)
+            return null;
+        for (; i < codes.length && codes[i] == code; i++) {
+            if (year <= tos[i])
+                // 有效期按起始年份排序, 第一个未结束的即该年有效的, 或该年之后最早的
+                return names[nameIds[i]];
+        }
+        return null;
+    }
+
+    /**
+     * @param idNo 身份证号或地区码
+     * @return 省(前2位)名称
+     */
+    public String province(CharSequence idNo) {
+        int code = digits(idNo, 0, 2);
+        return code < 0 ? null : name(code * 10000);
+    }
+
+    /**
+     * @see #name(int, int)
+     */
+    public String province(CharSequence idNo, int year) {
+        int code = digits(idNo, 0, 2);
+        return code < 0 ? null : name(code * 10000, year);
+    }
+
+    /**
+     * @return 地市(前4位)名称
+     */
+    public String city(CharSequence idNo) {
+        int code = digits(idNo, 0, 4);
+        return code < 0 ? null : name(code * 100);
+    }
+
+    /**
+     * @see #name(int, int)
+     */
+    public String city(CharSequence idNo, int year) {
+        int code = digits(idNo, 0, 4);
+        return code < 0 ? null : name(code * 100, year);
+    }
+
+    /**
+     * @return 区县(前6位)名称
+     */
+    public String area(CharSequence idNo) {
+        return name(digits(idNo, 0, 6));
+    }
+
+    /**
+     * @see #name(int, int)
+     */
+    public String area(CharSequence idNo, int year) {
+        return name(digits(idNo, 0, 6), year);
+    }
+
+    /**
+     * @return 数据版本, 文件中没有时为null
+     */
+    public String version() {
+        return version;
+    }
+
+    /**
+     * @return 地区码个数
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return 有效期个数, 不小于地区码个数
+     */
+    public int periodCount() {
+        return codes.length;
+    }
+
+    /**
+     * @return 去重后的名称个数
+     */
+    public int nameCount() {
+        return names.length;
+    }
+
+    /**
+     * @return 该代码第一个有效期的序号, 不存在时为-1
+     */
+    private int first(int code) {
+        if (code < 0 || code >= PAGES * PAGE_SIZE)
+            return -1;
+        char[] page = pages[code / PAGE_SIZE];
+        return page == null ? -1 : page[code % PAGE_SIZE] - 1;
+    }
+
+    /**
+     * @return 4位年份, 为空时为defaultYear, 格式有误时为-1
+     */
+    private static int year(String value, int defaultYear) {
+        if (value.isEmpty())
+            return defaultYear;
+        return value.length() == 4 ? digits(value, 0, 4) : -1;
+    }
+
+    /**
+     * @return [from, to)的数字, 长度不足或有非数字时为-1
+     */
+    static int digits(CharSequence value, int from, int to) {
+        if (value == null || value.length() < to)
+            return -1;
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9)
+                return -1;
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    /**
+     * 加载时的一个有效期
+     */
+    private static class Period implements Comparable<Period> {
+        private final int code;
+        private final char nameId;
+        private final short from;
+        private final short to;
+        private final int lineNo;
+
+        Period(int code, char nameId, int from, int to, int lineNo) {
+            this.code = code;
+            this.nameId = nameId;
+            this.from = (short) from;
+            this.to = (short) to;
+            this.lineNo = lineNo;
+        }
+
+        @Override
+        public int compareTo(Period o) {
+            return code != o.code ? Integer.compare(code, o.code) : Integer.compare(from, o.from);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.yanchao.blog.region;
+
+import com.yanchao.blog.config.RegionProperties;
+import com.yanchao.blog.vo.admin.RegionDictionaryVO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Date;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 从外部文件加载地区码, 文件修改后自动重新加载, 无需重启
+ * <p>
+ * 按修改时间及大小判断文件是否变化; 更新文件时应先写临时文件再重命名, 避免读到写了一半的文件.
+ * 新文件完整读取并校验通过后才替换{@link RegionDictionary}中的索引, 有误时记录错误并继续使用原数据
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class RegionReloader {
+
+    private static final String CLASSPATH = "classpath:" + RegionIndex.RESOURCE;
+
+    private final RegionProperties regionProperties;
+
+    private final AtomicLong reloads = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private volatile Date loadedAt = new Date();
+    private volatile String lastError;
+    private volatile long lastModified;
+    private volatile long lastSize;
+    private ScheduledExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        if (StringUtils.isBlank(regionProperties.getFile()))
+            return;
+        try {
+            reload();
+        } catch (IOException e) {
+            log.warn("启动时地区码文件加载失败, 使用{}", CLASSPATH);
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "region-reload");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = regionProperties.getCheckInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::check, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (executor != null)
+            executor.shutdown();
+    }
+
+    /**
+     * 文件变化时重新加载
+     */
+    public void check() {
+        try {
+            Path path = path();
+            if (Files.getLastModifiedTime(path).toMillis() != lastModified || Files.size(path) != lastSize)
+                reload();
+        } catch (Exception e) {
+            // 加载失败已记录
+            log.debug("地区码文件检查失败", e);
+        }
+    }
+
+    /**
+     * 重新加载外部文件, 未配置时重新加载classpath中的
+     */
+    public synchronized RegionDictionaryVO reload() throws IOException {
+        RegionIndex index;
+        try {
+            if (StringUtils.isBlank(regionProperties.getFile())) {
+                index = RegionIndex.classpath();
+            } else {
+                Path path = path();
+                // 先取修改时间, 读取期间再次修改时下一次检查仍会重新加载; 加载失败时文件再次修改后才重试
+                lastModified = Files.getLastModifiedTime(path).toMillis();
+                lastSize = Files.size(path);
+                try (InputStream in = Files.newInputStream(path)) {
+                    index = RegionIndex.load(in);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            failures.incrementAndGet();
+            lastError = e.getMessage();
+            log.error("地区码重新加载失败, 继续使用版本{}: {}", RegionDictionary.current().version(), e.getMessage());
+            throw e;
+        }
+
+        RegionIndex previous = RegionDictionary.replace(index);
+        reloads.incrementAndGet();
+        loadedAt = new Date();
+        lastError = null;
+        log.info("地区码已加载: {}, 版本{} -> {}, 地区码{}个, 有效期{}个", source(), previous.version(), index.version(),
+                index.size(), index.periodCount());
+        return stats();
+    }
+
+    public RegionDictionaryVO stats() {
+        RegionIndex index = RegionDictionary.current();
+        return RegionDictionaryVO.builder().version(index.version()).source(source()).loadedAt(loadedAt).size(
+                index.size()).periods(index.periodCount()).reloads(reloads.get()).failures(failures.get()).lastError(
+                lastError).build();
+    }
+
+    private String source() {
+        return StringUtils.isBlank(regionProperties.getFile()) ? CLASSPATH : regionProperties.getFile();
+    }
+
+    private Path path() {
+        return Paths.get(regionProperties.getFile());
+    }
+}
@@ -0,0 +1,73 @@
+package com.yanchao.blog.service;
+
+import com.yanchao.blog.cache.EncryCache;
+import com.yanchao.blog.config.EncryProperties;
+import com.yanchao.blog.config.ResultException;
+import com.yanchao.blog.constant.DateFormatConstant;
+import com.yanchao.blog.constant.EncryTypeEnum;
+import com.yanchao.blog.dao.bas.EncryPartitionDAO;
+import com.yanchao.blog.vo.admin.EncryPartitionsVO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.time.DateFormatUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+import java.util.Locale;
+
+import static com.yanchao.blog.constant.ErrorEnum.NOT_FOUND;
+
+/**
+ * 加解密表-按类型分区运维
+ * <p>
+ * 归档把一个类型的全部映射移到单独的表, 用于下线的类型; 重建用于大量写入或删除后整理该类型的索引. 均只影响该类型所在的分区.
+ * 归档后同时从Redis、本节点的堆外索引及进程内缓存中清除该类型, 其他节点的进程内缓存及堆外索引需分别清除(DELETE /admin/cache/near)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class EncryPartitionService {
+
+    private final EncryProperties encryProperties;
+    private final EncryPartitionDAO encryPartitionDAO;
+    private final EncryCache encryCache;
+
+    public EncryPartitionsVO partitions() {
+        String table = table();
+        return EncryPartitionsVO.builder().table(table).partitions(encryPartitionDAO.findPartitions(table)).build();
+    }
+
+    public EncryPartitionsVO archive(EncryTypeEnum encryType) {
+        String table = table();
+        String archiveTable = table + "_" + encryType.name().toLowerCase(Locale.ROOT) + "_"
+                + DateFormatUtils.format(new Date(), DateFormatConstant.NOTHING_BY_DATETIME);
+        log.info("归档分区: {}.{} -> {}", table, EncryPartitionDAO.partition(encryType), archiveTable);
+        encryPartitionDAO.archive(table, encryType, archiveTable);
+        log.info("归档分区: 清除缓存{}, Redis删除{}条", encryType, encryCache.evict(encryType));
+        return EncryPartitionsVO.builder().table(table).archiveTable(archiveTable)
+                .partitions(encryPartitionDAO.findPartitions(table)).build();
+    }
+
+    public EncryPartitionsVO rebuild(EncryTypeEnum encryType) {
+        String table = table();
+        log.info("重建分区: {}.{}", table, EncryPartitionDAO.partition(encryType));
+        encryPartitionDAO.rebuild(table, encryType);
+        return partitions();
+    }
+
+    /**
+     * @return 当前存储方式对应的表, 非数据库存储时抛出异常
+     */
+    private String table() {
+        switch (encryProperties.getStore().getType()) {
+            case JPA:
+            case JDBC:
+                return "bas_encry";
+            case JDBC_V2:
+                return "bas_encry_v2";
+            default:
+                throw new ResultException(NOT_FOUND);
+        }
+    }
+}
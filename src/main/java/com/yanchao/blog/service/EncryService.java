@@ -1,25 +1,31 @@
 package com.yanchao.blog.service;
 
+import com.yanchao.blog.cache.EncryCache;
 import com.yanchao.blog.config.ResultException;
 import com.yanchao.blog.constant.EncryTypeEnum;
-import com.yanchao.blog.constant.SystemConstant;
-import com.yanchao.blog.dao.bas.EncryDAO;
-import com.yanchao.blog.po.bas.EncryPO;
-import com.yanchao.blog.util.EncryUtils;
+import com.yanchao.blog.constant.ErrorEnum;
+import com.yanchao.blog.datasource.ReplicaRouting;
+import com.yanchao.blog.metrics.EncryMetrics;
+import com.yanchao.blog.queue.EncryWriteBehindQueue;
+import com.yanchao.blog.store.TokenStore;
 import com.yanchao.blog.util.IdentityUtils;
+import com.yanchao.blog.util.PartitionUtils;
+import com.yanchao.blog.vo.encry.EncryItemVO;
+import com.yanchao.blog.vo.encry.EncryResultVO;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.util.Date;
-import java.util.List;
+import java.util.*;
 import java.util.regex.Pattern;
 
 import static com.yanchao.blog.constant.ErrorEnum.*;
+import static com.yanchao.blog.constant.StoreOperationEnum.*;
 
 /**
  * 加解密
- * 
+ *
  * @author: 王彦超[wang_yc@suixingpay.com]
  * @date: Apr 27, 2020 5:00:01 PM
  * @version: V1.0
@@ -29,7 +35,21 @@ import static com.yanchao.blog.constant.ErrorEnum.*;
 @RequiredArgsConstructor(onConstructor = @__(@Autowired))
 public class EncryService {
 
-    private final EncryDAO encryDAO;
+    /**
+     * 单次批量请求的最大条数
+     */
+    public static final int MAX_BATCH_SIZE = 10000;
+    /**
+     * 手机号的正则表达式
+     */
+    private static final Pattern TEL_NO_PATTERN = Pattern.compile("^1[3-9]\\d{9}$");
+
+    private final TokenStore tokenStore;
+    private final EncryCache encryCache;
+    private final TokenService tokenService;
+    private final EncryWriteBehindQueue encryWriteBehindQueue;
+    private final ReplicaRouting replicaRouting;
+    private final EncryMetrics encryMetrics;
 
     /**
      * 加密
@@ -39,32 +59,51 @@ public class EncryService {
      * @return 密文
      */
     public String encry(String decry, EncryTypeEnum encryType) {
-        switch (encryType) {
-            case ID_NO:
-                if (!IdentityUtils.check(decry))
-                    throw new ResultException(WRONG_ID_NO);
-                break;
-            case TEL_NO:
-                if (!Pattern.matches("^1[3-9]\\d{9}$", decry))
-                    throw new ResultException(WRONG_TEL_NO);
-                break;
-            default:
-                throw new ResultException(ENCRE_OR_DECRY_ERROR);
-        }
-
-        List<EncryPO> encryPOs = encryDAO.findByDecryAndType(decry, encryType);
+        ErrorEnum error = check(decry, encryType);
+        if (error != SUCCESS)
+            throw new ResultException(error);
 
-        if (encryPOs == null || encryPOs.isEmpty()) {
-            String encry = EncryUtils.getMD5(decry);
-            encryDAO.save(EncryPO.builder().decry(decry).encry(encry).type(encryType).createTime(new Date())
-                    .creator(SystemConstant.SYSTEM_NAME).build());
+        String encry = encryCache.getEncry(encryType, decry);
+        if (encry != null)
             return encry;
+
+        encry = getOrCreate(decry, encryType);
+        encryCache.put(encryType, decry, encry);
+        return encry;
+    }
+
+    /**
+     * 批量加密, 单条校验失败不影响其他数据
+     *
+     * @param items 明文及加解密类型
+     * @return 密文, 与请求顺序一致
+     */
+    public List<EncryResultVO> encry(List<EncryItemVO> items) {
+        if (items == null || items.isEmpty() || items.size() > MAX_BATCH_SIZE)
+            throw new ResultException(WRONG_BATCH);
+
+        EncryResultVO[] results = new EncryResultVO[items.size()];
+        Map<EncryTypeEnum, Set<String>> decrysByType = new EnumMap<>(EncryTypeEnum.class);
+        for (int i = 0; i < items.size(); i++) {
+            EncryItemVO item = items.get(i);
+            ErrorEnum error = item == null ? WRONG_BATCH : check(item.getValue(), item.getEncryType());
+            if (error != SUCCESS)
+                results[i] = EncryResultVO.result(error, null);
+            else
+                decrysByType.computeIfAbsent(item.getEncryType(), k -> new LinkedHashSet<>()).add(item.getValue());
         }
 
-        if (encryPOs.size() > 1)
-            throw new ResultException(ENCRE_OR_DECRY_ERROR);
+        Map<EncryTypeEnum, Map<String, String>> encrysByType = new EnumMap<>(EncryTypeEnum.class);
+        decrysByType.forEach((encryType, decrys) -> encrysByType.put(encryType, encry(decrys, encryType)));
 
-        return encryPOs.get(0).getEncry();
+        for (int i = 0; i < items.size(); i++) {
+            if (results[i] != null)
+                continue;
+            EncryItemVO item = items.get(i);
+            String encry = encrysByType.get(item.getEncryType()).get(item.getValue());
+            results[i] = encry == null ? EncryResultVO.result(ENCRE_OR_DECRY_ERROR, null) : EncryResultVO.success(encry);
+        }
+        return Arrays.asList(results);
     }
 
     /**
@@ -75,11 +114,203 @@ public class EncryService {
      * @return 明文
      */
     public String decry(String encry, EncryTypeEnum encryType) {
-        List<EncryPO> encryPOs = encryDAO.findByEncryAndType(encry, encryType);
+        // 与加密一致, 参数有误时不查缓存、不查库
+        if (encryType == null || StringUtils.isBlank(encry))
+            throw new ResultException(ENCRE_OR_DECRY_ERROR);
+
+        String decry = encryCache.getDecry(encryType, encry);
+        if (decry == null)
+            decry = encryWriteBehindQueue.getDecry(encryType, encry);
+        if (decry != null)
+            return decry;
+
+        decry = replicaRouting.read(encry, o -> getDecrys(encryType, o));
+        if (decry == null)
+            throw new ResultException(NOT_FOUND);
 
-        if (encryPOs == null || encryPOs.size() > 1)
+        encryCache.put(encryType, decry, encry);
+        return decry;
+    }
+
+    /**
+     * 批量解密, 类型或密文为空时单条返回{@link ErrorEnum#WRONG_BATCH}, 密文不存在时单条返回{@link ErrorEnum#NOT_FOUND}
+     *
+     * @param items 密文及加解密类型
+     * @return 明文, 与请求顺序一致
+     */
+    public List<EncryResultVO> decry(List<EncryItemVO> items) {
+        if (items == null || items.isEmpty() || items.size() > MAX_BATCH_SIZE)
+            throw new ResultException(WRONG_BATCH);
+
+        EncryResultVO[] results = new EncryResultVO[items.size()];
+        Map<EncryTypeEnum, Set<String>> encrysByType = new EnumMap<>(EncryTypeEnum.class);
+        for (int i = 0; i < items.size(); i++) {
+            EncryItemVO item = items.get(i);
+            if (item == null || item.getEncryType() == null || StringUtils.isBlank(item.getValue()))
+                results[i] = EncryResultVO.result(WRONG_BATCH, null);
+            else
+                encrysByType.computeIfAbsent(item.getEncryType(), k -> new LinkedHashSet<>()).add(item.getValue());
+        }
+
+        Map<EncryTypeEnum, Map<String, String>> decrysByType = new EnumMap<>(EncryTypeEnum.class);
+        encrysByType.forEach((encryType, encrys) -> {
+            Map<String, String> decrys = new HashMap<>(encrys.size() * 2);
+            decrys.putAll(encryCache.getDecrys(encryType, encrys));
+            if (decrys.size() < encrys.size())
+                decrys.putAll(encryWriteBehindQueue.getDecrys(encryType, PartitionUtils.misses(encrys, decrys)));
+            if (decrys.size() < encrys.size()) {
+                Map<String, String> loaded = replicaRouting.read(PartitionUtils.misses(encrys, decrys),
+                        o -> getDecrys(encryType, o));
+                Map<String, String> mappings = new HashMap<>(loaded.size() * 2);
+                loaded.forEach((encry, decry) -> mappings.put(decry, encry));
+                encryCache.putAll(encryType, mappings);
+                decrys.putAll(loaded);
+            }
+            decrysByType.put(encryType, decrys);
+        });
+
+        for (int i = 0; i < items.size(); i++) {
+            if (results[i] != null)
+                continue;
+            EncryItemVO item = items.get(i);
+            String decry = decrysByType.get(item.getEncryType()).get(item.getValue());
+            results[i] = decry == null ? EncryResultVO.result(NOT_FOUND, null) : EncryResultVO.success(decry);
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * 明文校验
+     *
+     * @param decry     明文
+     * @param encryType 加解密类型
+     * @return 校验结果
+     */
+    public static ErrorEnum check(String decry, EncryTypeEnum encryType) {
+        if (encryType == null || decry == null)
+            return ENCRE_OR_DECRY_ERROR;
+
+        switch (encryType) {
+            case ID_NO:
+                return IdentityUtils.check(decry) ? SUCCESS : WRONG_ID_NO;
+            case TEL_NO:
+                return TEL_NO_PATTERN.matcher(decry).matches() ? SUCCESS : WRONG_TEL_NO;
+            default:
+                return ENCRE_OR_DECRY_ERROR;
+        }
+    }
+
+    /**
+     * 同一类型的明文批量加密: 缓存 -> 异步写库队列 -> 存储, 缺失的批量写入
+     *
+     * @param decrys    明文(已去重)
+     * @param encryType 加解密类型
+     * @return 明文-密文, 写入失败的明文不在其中
+     */
+    private Map<String, String> encry(Set<String> decrys, EncryTypeEnum encryType) {
+        Map<String, String> encrys = new HashMap<>(decrys.size() * 2);
+        encrys.putAll(encryCache.getEncrys(encryType, decrys));
+        if (encrys.size() < decrys.size())
+            encrys.putAll(encryWriteBehindQueue.getEncrys(encryType, PartitionUtils.misses(decrys, encrys)));
+        if (encrys.size() == decrys.size())
+            return encrys;
+
+        Map<String, String> loaded = new HashMap<>();
+        // HMAC方式密文由明文确定, 直接写入, 冲突的由存储回查; 异步写库时追加后即返回, 已有映射(如历史MD5密文)需先查库
+        if (!tokenService.isHmac() || encryWriteBehindQueue.isEnabled())
+            loaded.putAll(replicaRouting.read(PartitionUtils.misses(decrys, encrys), o -> getEncrys(encryType, o)));
+
+        Map<String, String> created = new HashMap<>();
+        for (String decry : decrys)
+            if (!encrys.containsKey(decry) && !loaded.containsKey(decry))
+                created.put(decry, tokenService.token(decry, encryType));
+
+        if (encryWriteBehindQueue.isEnabled()) {
+            encryWriteBehindQueue.append(encryType, created);
+            loaded.putAll(created);
+        } else {
+            loaded.putAll(putIfAbsent(encryType, created));
+        }
+
+        encryCache.putAll(encryType, loaded);
+        encrys.putAll(loaded);
+        return encrys;
+    }
+
+    /**
+     * 获取或创建映射: 先写入, 新映射只需一次存储交互; 已存在(包括并发创建)时由存储返回已有密文, 所有调用方得到同一密文
+     *
+     * @param decry     明文
+     * @param encryType 加解密类型
+     * @return 密文
+     */
+    private String getOrCreate(String decry, EncryTypeEnum encryType) {
+        if (encryWriteBehindQueue.isEnabled())
+            return getOrAppend(decry, encryType);
+
+        // 已存在的映射可能是更换生成方式前写入的, 以存储中为准
+        String encry = putIfAbsent(encryType, decry, tokenService.token(decry, encryType));
+        // 密文已被其他明文占用
+        if (encry == null)
             throw new ResultException(ENCRE_OR_DECRY_ERROR);
+        return encry;
+    }
 
-        return encryPOs.get(0).getDecry();
+    /**
+     * 异步写库方式获取或创建映射: 新映射追加到本地日志后即返回, 由后台线程写库
+     *
+     * @param decry     明文
+     * @param encryType 加解密类型
+     * @return 密文
+     */
+    private String getOrAppend(String decry, EncryTypeEnum encryType) {
+        String encry = encryWriteBehindQueue.getEncry(encryType, decry);
+        if (encry != null)
+            return encry;
+
+        // 已有映射的密文不一定与本次生成的相同(更换生成方式前写入), 追加后不再回查, 需先查库
+        encry = replicaRouting.read(decry, o -> getEncrys(encryType, o));
+        if (encry != null)
+            return encry;
+
+        encry = tokenService.token(decry, encryType);
+        encryWriteBehindQueue.append(encryType, Collections.singletonMap(decry, encry));
+        return encry;
+    }
+
+    private Map<String, String> getDecrys(EncryTypeEnum encryType, Collection<String> encrys) {
+        long start = System.nanoTime();
+        try {
+            return tokenStore.getDecrys(encryType, encrys);
+        } finally {
+            encryMetrics.store(GET_DECRYS, encryType, start);
+        }
+    }
+
+    private Map<String, String> getEncrys(EncryTypeEnum encryType, Collection<String> decrys) {
+        long start = System.nanoTime();
+        try {
+            return tokenStore.getEncrys(encryType, decrys);
+        } finally {
+            encryMetrics.store(GET_ENCRYS, encryType, start);
+        }
+    }
+
+    private Map<String, String> putIfAbsent(EncryTypeEnum encryType, Map<String, String> mappings) {
+        long start = System.nanoTime();
+        try {
+            return tokenStore.putIfAbsent(encryType, mappings);
+        } finally {
+            encryMetrics.store(PUT_IF_ABSENT, encryType, start);
+        }
+    }
+
+    private String putIfAbsent(EncryTypeEnum encryType, String decry, String encry) {
+        long start = System.nanoTime();
+        try {
+            return tokenStore.putIfAbsent(encryType, decry, encry);
+        } finally {
+            encryMetrics.store(PUT_IF_ABSENT, encryType, start);
+        }
     }
 }
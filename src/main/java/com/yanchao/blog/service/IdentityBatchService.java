@@ -0,0 +1,298 @@
+package com.yanchao.blog.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yanchao.blog.config.IdentityProperties;
+import com.yanchao.blog.constant.IdNoCheckEnum;
+import com.yanchao.blog.region.RegionDictionary;
+import com.yanchao.blog.region.RegionIndex;
+import com.yanchao.blog.util.IdentityDecoder;
+import com.yanchao.blog.util.IdentityValidator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 身份证号批量校验、解析, 结果每行一个JSON(NDJSON)
+ * <p>
+ * 边读请求体边处理: 每chunkSize行为一块交给处理线程, 按顺序写出已完成的块; 处理中及待输出的块达到上限时, 先等最早的块写出再继续读取.
+ * 因此占用的内存只与块数上限有关, 百万行的请求也不会在堆中保留全部号码或结果. 同一请求使用同一份地区码
+ */
+@Service
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class IdentityBatchService {
+
+    /** 每行输出的估算字节数, 用于预分配 */
+    private static final int LINE_BYTES = 192;
+
+    private final IdentityProperties identityProperties;
+    private final ObjectMapper objectMapper;
+
+    private ThreadPoolExecutor executor;
+    private int chunkSize;
+    private int maxChunksInFlight;
+
+    @PostConstruct
+    public void init() {
+        IdentityProperties.Batch batch = identityProperties.getBatch();
+        int threads = batch.getThreads() > 0 ? batch.getThreads() : Runtime.getRuntime().availableProcessors();
+        chunkSize = Math.max(1, batch.getChunkSize());
+        maxChunksInFlight = batch.getMaxChunksInFlight() > 0 ? batch.getMaxChunksInFlight() : threads * 2;
+        AtomicInteger seq = new AtomicInteger();
+        // 队列长度受各请求的块数上限约束
+        executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                r -> {
+                    Thread thread = new Thread(r, "identity-batch-" + seq.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (executor != null)
+            executor.shutdown();
+    }
+
+    /**
+     * 每个号码输出一行, 顺序与输入相同: {"line":1,"valid":true,"result":"VALID","region":"110105","prov":"北京市",
+     * "city":"市辖区","area":"朝阳区","birthDate":"1949-12-31","age":76,"sex":"FEMALE"};
+     * 无效时只有line、valid、result、message. 请求体格式有误时已读取的行正常输出, 最后一行为{"line":出错的行,"error":原因}
+     *
+     * @param in   请求体: json为true时为JSON字符串数组, 否则每行一个号码(可带双引号)
+     * @param json 请求体是否为JSON数组
+     * @param out  输出, 不关闭
+     * @return 输出的行数
+     */
+    public long analysis(InputStream in, boolean json, OutputStream out) throws IOException {
+        RegionIndex regions = RegionDictionary.current();
+        int today = IdentityDecoder.today();
+        IdNoReader reader = json ? new JsonIdNoReader(objectMapper.getFactory().createParser(in))
+                : new LineIdNoReader(in);
+        Deque<Future<byte[]>> pending = new ArrayDeque<>();
+        long lines = 0;
+        try {
+            String error = null;
+            String[] chunk = new String[chunkSize];
+            int size = 0;
+            while (true) {
+                String idNo;
+                try {
+                    idNo = reader.next();
+                } catch (JsonProcessingException e) {
+                    error = "请求体格式有误: " + e.getOriginalMessage();
+                    break;
+                }
+                if (idNo == null)
+                    break;
+                chunk[size++] = idNo;
+                if (size == chunkSize) {
+                    submit(pending, chunk, size, lines + 1, regions, today, out);
+                    lines += size;
+                    chunk = new String[chunkSize];
+                    size = 0;
+                }
+            }
+            if (size > 0) {
+                submit(pending, chunk, size, lines + 1, regions, today, out);
+                lines += size;
+            }
+            while (!pending.isEmpty())
+                out.write(await(pending.poll()));
+            if (error != null)
+                writeError(out, lines + 1, error);
+            out.flush();
+            return lines;
+        } finally {
+            // 输出失败(如客户端断开)时取消未完成的块
+            for (Future<byte[]> future : pending)
+                future.cancel(false);
+        }
+    }
+
+    private void submit(Deque<Future<byte[]>> pending, String[] chunk, int size, long firstLine, RegionIndex regions,
+            int today, OutputStream out) throws IOException {
+        while (pending.size() >= maxChunksInFlight)
+            out.write(await(pending.poll()));
+        pending.add(executor.submit(() -> encode(chunk, size, firstLine, regions, today)));
+    }
+
+    private static byte[] await(Future<byte[]> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("身份证号批量处理被中断");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException)
+                throw (IOException) e.getCause();
+            throw new IllegalStateException("身份证号批量处理失败", e.getCause());
+        }
+    }
+
+    /**
+     * 一块号码的输出
+     */
+    private byte[] encode(String[] idNos, int size, long firstLine, RegionIndex regions, int today)
+            throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(size * LINE_BYTES);
+        char[] buffer = new char[10];
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(bytes, JsonEncoding.UTF8)) {
+            // 换行由下面写入, 不在顶层对象之间加空格
+            generator.setRootValueSeparator(null);
+            for (int i = 0; i < size; i++) {
+                write(generator, firstLine + i, idNos[i], regions, today, buffer);
+                generator.writeRaw('\n');
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void write(JsonGenerator generator, long line, String idNo, RegionIndex regions, int today,
+            char[] buffer) throws IOException {
+        IdNoCheckEnum result = IdentityValidator.check(idNo);
+        int birthDate = result.isValid() ? IdentityDecoder.birthDate(idNo) : IdentityDecoder.INVALID;
+        if (result.isValid() && birthDate == IdentityDecoder.INVALID)
+            result = IdNoCheckEnum.WRONG_BIRTH_DATE;
+
+        generator.writeStartObject();
+        generator.writeNumberField("line", line);
+        generator.writeBooleanField("valid", result.isValid());
+        generator.writeStringField("result", result.name());
+        if (!result.isValid()) {
+            generator.writeStringField("message", result.getMessage());
+            generator.writeEndObject();
+            return;
+        }
+
+        idNo.getChars(0, 6, buffer, 0);
+        generator.writeFieldName("region");
+        generator.writeString(buffer, 0, 6);
+        // 按出生年份取当时有效的名称, 与IdentityUtils.analysis相同
+        int year = IdentityDecoder.year(birthDate);
+        writeName(generator, "prov", regions.province(idNo, year));
+        writeName(generator, "city", regions.city(idNo, year));
+        writeName(generator, "area", regions.area(idNo, year));
+        generator.writeFieldName("birthDate");
+        generator.writeString(buffer, 0, formatDate(birthDate, buffer));
+        generator.writeNumberField("age", IdentityDecoder.age(birthDate, today));
+        generator.writeStringField("sex", IdentityDecoder.sex(idNo).name());
+        generator.writeEndObject();
+    }
+
+    private static void writeName(JsonGenerator generator, String field, String name) throws IOException {
+        if (name != null)
+            generator.writeStringField(field, name);
+    }
+
+    /**
+     * @return yyyy-MM-dd的长度
+     */
+    private static int formatDate(int birthDate, char[] buffer) {
+        int year = IdentityDecoder.year(birthDate);
+        int month = IdentityDecoder.month(birthDate);
+        int day = IdentityDecoder.day(birthDate);
+        buffer[0] = (char) ('0' + year / 1000);
+        buffer[1] = (char) ('0' + year / 100 % 10);
+        buffer[2] = (char) ('0' + year / 10 % 10);
+        buffer[3] = (char) ('0' + year % 10);
+        buffer[4] = '-';
+        buffer[5] = (char) ('0' + month / 10);
+        buffer[6] = (char) ('0' + month % 10);
+        buffer[7] = '-';
+        buffer[8] = (char) ('0' + day / 10);
+        buffer[9] = (char) ('0' + day % 10);
+        return 10;
+    }
+
+    private void writeError(OutputStream out, long line, String error) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(bytes, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeNumberField("line", line);
+            generator.writeStringField("error", error);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+        out.write(bytes.toByteArray());
+    }
+
+    /**
+     * 逐个读取请求体中的号码
+     */
+    private interface IdNoReader {
+        /**
+         * @return 下一个号码, 没有时为null
+         */
+        String next() throws IOException;
+    }
+
+    /**
+     * 每行一个号码, 去掉首尾空白及双引号(兼容每行一个JSON字符串); 空行也输出一行结果, 保持行号一致
+     */
+    private static class LineIdNoReader implements IdNoReader {
+        private final BufferedReader reader;
+
+        LineIdNoReader(InputStream in) {
+            this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public String next() throws IOException {
+            String line = reader.readLine();
+            if (line == null)
+                return null;
+            line = line.trim();
+            if (line.length() >= 2 && line.charAt(0) == '"' && line.charAt(line.length() - 1) == '"')
+                line = line.substring(1, line.length() - 1);
+            return line;
+        }
+    }
+
+    /**
+     * JSON字符串数组, 按token读取, 不解析整个数组; null按空号码处理
+     */
+    private static class JsonIdNoReader implements IdNoReader {
+        private final JsonParser parser;
+        private boolean started;
+
+        JsonIdNoReader(JsonParser parser) {
+            this.parser = parser;
+        }
+
+        @Override
+        public String next() throws IOException {
+            if (!started) {
+                started = true;
+                JsonToken token = parser.nextToken();
+                if (token == null)
+                    return null;
+                if (token != JsonToken.START_ARRAY)
+                    throw new JsonParseException(parser, "应为JSON数组");
+            }
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY)
+                return null;
+            if (token == JsonToken.VALUE_NULL)
+                return "";
+            if (token != JsonToken.VALUE_STRING)
+                throw new JsonParseException(parser, "数组元素应为字符串");
+            return parser.getText();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.yanchao.blog.service;
+
+import com.yanchao.blog.config.EncryProperties;
+import com.yanchao.blog.config.ResultException;
+import com.yanchao.blog.constant.EncryTypeEnum;
+import com.yanchao.blog.constant.TokenFormatEnum;
+import com.yanchao.blog.constant.TokenModeEnum;
+import com.yanchao.blog.util.EncryUtils;
+import com.yanchao.blog.util.TokenUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static com.yanchao.blog.constant.ErrorEnum.ENCRE_OR_DECRY_ERROR;
+
+/**
+ * 密文生成
+ * <p>
+ * HMAC方式下同一明文总是得到同一密文, 加密不需要查库, 表只用于解密时反查
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class TokenService {
+
+    private static final String HMAC_SHA256 = "HmacSHA256";
+    /**
+     * HMAC密钥最小长度(字节)
+     */
+    private static final int MIN_KEY_LENGTH = 32;
+
+    private final EncryProperties encryProperties;
+
+    /**
+     * Mac非线程安全, 每个线程按加解密类型各持有一个
+     */
+    private final Map<EncryTypeEnum, ThreadLocal<Mac>> macs = new EnumMap<>(EncryTypeEnum.class);
+
+    @PostConstruct
+    public void init() {
+        if (!isHmac())
+            return;
+
+        encryProperties.getToken().getKeys().forEach((encryType, key) -> {
+            if (key == null || key.isEmpty())
+                return;
+            byte[] secret = Base64.getDecoder().decode(key);
+            if (secret.length < MIN_KEY_LENGTH)
+                throw new IllegalStateException(encryType + "密钥长度不足" + MIN_KEY_LENGTH + "字节");
+            SecretKeySpec keySpec = new SecretKeySpec(secret, HMAC_SHA256);
+            macs.put(encryType, ThreadLocal.withInitial(() -> {
+                try {
+                    Mac mac = Mac.getInstance(HMAC_SHA256);
+                    mac.init(keySpec);
+                    return mac;
+                } catch (GeneralSecurityException e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+        });
+        if (macs.isEmpty())
+            throw new IllegalStateException("HMAC方式未配置密钥: blog.encry.token.keys");
+        log.info("HMAC密文已启用: {}", macs.keySet());
+    }
+
+    /**
+     * 是否为确定性密钥方式, 此时生成的密文即为最终密文, 无需先查库
+     */
+    public boolean isHmac() {
+        return encryProperties.getToken().getMode() == TokenModeEnum.HMAC;
+    }
+
+    /**
+     * 生成密文
+     *
+     * @param decry     明文
+     * @param encryType 加解密类型
+     * @return 密文
+     */
+    public String token(String decry, EncryTypeEnum encryType) {
+        TokenFormatEnum format = encryProperties.getToken().getFormat();
+        if (!isHmac())
+            return format == TokenFormatEnum.DECIMAL ? EncryUtils.getMD5(decry)
+                    : TokenUtils.format(EncryUtils.getMD5Bytes(decry), format);
+
+        ThreadLocal<Mac> mac = macs.get(encryType);
+        if (mac == null)
+            throw new ResultException(ENCRE_OR_DECRY_ERROR);
+        // HMAC方式的历史格式即为十六进制
+        return format == TokenFormatEnum.BASE62 ? TokenUtils.toBase62(EncryUtils.getHmacBytes(mac.get(), decry))
+                : EncryUtils.getHmac(mac.get(), decry);
+    }
+}
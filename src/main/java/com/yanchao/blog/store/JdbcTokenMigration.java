@@ -0,0 +1,160 @@
+package com.yanchao.blog.store;
+
+import com.yanchao.blog.config.EncryProperties;
+import com.yanchao.blog.constant.TokenFormatEnum;
+import com.yanchao.blog.dao.bas.EncryJdbcDAO;
+import com.yanchao.blog.po.bas.EncryPO;
+import com.yanchao.blog.util.EncryUtils;
+import com.yanchao.blog.util.TokenUtils;
+import com.yanchao.blog.vo.admin.TokenMigrationStatsVO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 映射存储-历史密文迁移
+ * <p>
+ * 按主键顺序扫描encry_bin为空的行, 补写16字节密文: MD5方式的十进制密文按明文重新计算摘要, 与原密文一致时写入摘要及原密文的哈希,
+ * 解密时按哈希查询后比较; 否则按HMAC方式的十六进制密文解析. 无法还原的行(如非MD5生成的密文)跳过, 保留在encry列.
+ * <p>
+ * 扫描到末尾后继续定时扫描, 以覆盖滚动发布期间旧版本节点写入的行. 只在worker为true的节点执行; 一轮完整扫描没有迁移任何行时(idle),
+ * 按idleInterval等待后再扫描下一轮
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "blog.encry.store", name = "type", havingValue = "JDBC", matchIfMissing = true)
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class JdbcTokenMigration {
+
+    private final EncryProperties encryProperties;
+    private final EncryJdbcDAO encryJdbcDAO;
+
+    private ScheduledExecutorService executor;
+
+    /** 已扫描到的主键, 只由迁移线程更新 */
+    private volatile long lastId;
+    private volatile boolean caughtUp;
+    private final AtomicLong migrated = new AtomicLong();
+    /** 本轮跳过条数, 只由迁移线程更新 */
+    private long passSkipped;
+    /** 上一轮跳过条数 */
+    private volatile long skipped;
+    /** 本轮迁移条数, 只由迁移线程更新 */
+    private long passMigrated;
+    /** 上一轮完整扫描没有迁移任何行 */
+    private volatile boolean idle;
+
+    @PostConstruct
+    public void init() {
+        if (!isEnabled() || !isWorker())
+            return;
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "jdbc-token-migration");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.schedule(this::run, encryProperties.getToken().getMigration().getInterval().toMillis(),
+                TimeUnit.MILLISECONDS);
+        log.info("历史密文迁移已启用: format={}", encryProperties.getToken().getFormat());
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (executor != null)
+            executor.shutdown();
+    }
+
+    public boolean isEnabled() {
+        EncryProperties.Token token = encryProperties.getToken();
+        return token.getMigration().isEnabled() && token.getFormat() != TokenFormatEnum.DECIMAL;
+    }
+
+    public boolean isWorker() {
+        return encryProperties.getToken().getMigration().isWorker();
+    }
+
+    /**
+     * 迁移一批并安排下一批, 一轮完整扫描没有迁移任何行时延长间隔
+     */
+    private void run() {
+        EncryProperties.Migration migration = encryProperties.getToken().getMigration();
+        Duration delay = migrate() == 0 && idle ? migration.getIdleInterval() : migration.getInterval();
+        if (!executor.isShutdown())
+            executor.schedule(this::run, delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 迁移一批
+     *
+     * @return 本批扫描的行数
+     */
+    public int migrate() {
+        try {
+            List<EncryPO> rows = encryJdbcDAO.findUnmigrated(lastId, encryProperties.getToken().getMigration()
+                    .getBatchSize());
+            if (rows.isEmpty()) {
+                if (!caughtUp)
+                    log.info("历史密文迁移已扫描到末尾: lastId={}, 迁移{}条, 跳过{}条", lastId, migrated.get(), passSkipped);
+                caughtUp = true;
+                skipped = passSkipped;
+                passSkipped = 0;
+                idle = passMigrated == 0;
+                passMigrated = 0;
+                // 从头扫描, 覆盖旧版本节点在已扫描区间之后写入的行
+                lastId = 0;
+                return 0;
+            }
+
+            List<EncryPO> updates = new ArrayList<>(rows.size());
+            for (EncryPO row : rows) {
+                EncryPO update = convert(row);
+                if (update == null)
+                    passSkipped++;
+                else
+                    updates.add(update);
+            }
+            int[] counts = encryJdbcDAO.batchUpdateEncryBins(updates);
+            for (int count : counts)
+                if (count != 0) {
+                    migrated.incrementAndGet();
+                    passMigrated++;
+                }
+            lastId = rows.get(rows.size() - 1).getId();
+            return rows.size();
+        } catch (Exception e) {
+            log.error("历史密文迁移失败: lastId={}", lastId, e);
+            return 0;
+        }
+    }
+
+    public TokenMigrationStatsVO stats() {
+        return TokenMigrationStatsVO.builder().enabled(isEnabled()).worker(isWorker()).lastId(lastId)
+                .migrated(migrated.get()).skipped(skipped).caughtUp(caughtUp).idle(idle).build();
+    }
+
+    /**
+     * @return 补写了16字节密文的行, 无法还原时为null
+     */
+    private static EncryPO convert(EncryPO row) {
+        // 32位的十进制密文也能按十六进制解析, 先按明文摘要比较
+        byte[] encryBin = EncryUtils.getMD5Bytes(row.getDecry());
+        if (TokenUtils.toDecimal(encryBin).equals(row.getEncry()))
+            return EncryPO.builder().id(row.getId()).encryBin(encryBin)
+                    .legacyHash(TokenUtils.legacyHash(row.getEncry())).build();
+
+        encryBin = TokenUtils.fromHex(row.getEncry());
+        return encryBin == null ? null : EncryPO.builder().id(row.getId()).encryBin(encryBin).build();
+    }
+}
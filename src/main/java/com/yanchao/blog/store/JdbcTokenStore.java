@@ -0,0 +1,168 @@
+package com.yanchao.blog.store;
+
+import com.yanchao.blog.config.EncryProperties;
+import com.yanchao.blog.constant.EncryTypeEnum;
+import com.yanchao.blog.constant.SystemConstant;
+import com.yanchao.blog.constant.TokenFormatEnum;
+import com.yanchao.blog.dao.bas.EncryJdbcDAO;
+import com.yanchao.blog.po.bas.EncryPO;
+import com.yanchao.blog.util.PartitionUtils;
+import com.yanchao.blog.util.TokenUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+
+/**
+ * 映射存储-JDBC
+ * <p>
+ * 查询只取映射列, 不经过实体及持久化上下文; 写入为批量insert(唯一约束冲突时不修改), 未确认写入的行回查.
+ * <p>
+ * 密文格式为HEX/BASE62时新数据只写encry_bin列(BINARY(16)), 解密依次按16字节密文、历史密文哈希(已迁移的历史数据)查询,
+ * 迁移期间再按encry列查询未迁移的历史数据, 两种格式的密文均可解密
+ */
+@Component
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+@ConditionalOnProperty(prefix = "blog.encry.store", name = "type", havingValue = "JDBC", matchIfMissing = true)
+public class JdbcTokenStore implements TokenStore {
+
+    /**
+     * IN查询及批量写入每组的最大条数
+     */
+    private static final int CHUNK_SIZE = 1000;
+
+    private final EncryJdbcDAO encryJdbcDAO;
+    private final EncryProperties encryProperties;
+
+    @Override
+    public Map<String, String> getEncrys(EncryTypeEnum encryType, Collection<String> decrys) {
+        Map<String, String> encrys = new HashMap<>(decrys.size() * 2);
+        TokenFormatEnum format = format();
+        for (List<String> chunk : PartitionUtils.partition(decrys, CHUNK_SIZE)) {
+            if (format == TokenFormatEnum.DECIMAL) {
+                encrys.putAll(encryJdbcDAO.findEncrys(encryType, chunk));
+                continue;
+            }
+            encryJdbcDAO.findEncryBins(encryType, chunk)
+                    .forEach((decry, encryBin) -> encrys.put(decry, TokenUtils.format(encryBin, format)));
+            // 按本块判断是否有未命中, 结果中已包含之前各块的数据
+            List<String> misses = isMigrating() ? PartitionUtils.misses(chunk, encrys) : Collections.emptyList();
+            if (!misses.isEmpty())
+                encryJdbcDAO.findEncrys(encryType, misses).forEach(encrys::putIfAbsent);
+        }
+        return encrys;
+    }
+
+    @Override
+    public Map<String, String> getDecrys(EncryTypeEnum encryType, Collection<String> encrys) {
+        Map<String, String> decrys = new HashMap<>(encrys.size() * 2);
+        for (List<String> chunk : PartitionUtils.partition(encrys, CHUNK_SIZE)) {
+            if (format() == TokenFormatEnum.DECIMAL) {
+                decrys.putAll(encryJdbcDAO.findDecrys(encryType, chunk));
+                continue;
+            }
+            decrys.putAll(getDecrysByBin(encryType, chunk));
+            // 按本块判断是否有未命中, 结果中已包含之前各块的数据
+            List<String> misses = PartitionUtils.misses(chunk, decrys);
+            if (!misses.isEmpty())
+                decrys.putAll(getDecrysByLegacyHash(encryType, misses));
+            misses = isMigrating() ? PartitionUtils.misses(chunk, decrys) : Collections.emptyList();
+            if (!misses.isEmpty())
+                decrys.putAll(encryJdbcDAO.findDecrys(encryType, misses));
+        }
+        return decrys;
+    }
+
+    @Override
+    public Map<String, String> putIfAbsent(EncryTypeEnum encryType, Map<String, String> encrys) {
+        Map<String, String> results = new HashMap<>(encrys.size() * 2);
+        List<String> unconfirmed = new ArrayList<>();
+        Date now = new Date();
+        TokenFormatEnum format = format();
+        List<EncryPO> encryPOs = new ArrayList<>(encrys.size());
+        encrys.forEach((decry, encry) -> {
+            EncryPO encryPO = EncryPO.builder().decry(decry).encry(encry).type(encryType).createTime(now)
+                    .creator(SystemConstant.SYSTEM_NAME).build();
+            if (format != TokenFormatEnum.DECIMAL) {
+                encryPO.setEncryBin(TokenUtils.parse(encry, format));
+                // 与当前格式不符的密文无法写入, 已存在时以库中为准
+                if (encryPO.getEncryBin() == null) {
+                    unconfirmed.add(decry);
+                    return;
+                }
+            }
+            encryPOs.add(encryPO);
+        });
+
+        for (List<EncryPO> chunk : PartitionUtils.partition(encryPOs, CHUNK_SIZE)) {
+            int[] counts = chunk.size() == 1 ? new int[] { insertIgnore(chunk.get(0), format) }
+                    : format == TokenFormatEnum.DECIMAL ? encryJdbcDAO.batchInsertIgnore(chunk)
+                            : encryJdbcDAO.batchInsertBinIgnore(chunk);
+            for (int i = 0; i < counts.length; i++)
+                if (counts[i] == 1)
+                    results.put(chunk.get(i).getDecry(), chunk.get(i).getEncry());
+                else
+                    unconfirmed.add(chunk.get(i).getDecry());
+        }
+        // 被忽略(已存在或并发写入)或驱动改写为多值INSERT未返回单行结果的, 以库中为准
+        results.putAll(getEncrys(encryType, unconfirmed));
+        return results;
+    }
+
+    /**
+     * 按16字节密文查询: 当前格式的密文, 及HMAC方式的历史十六进制密文
+     */
+    private Map<String, String> getDecrysByBin(EncryTypeEnum encryType, Collection<String> encrys) {
+        Map<ByteBuffer, List<String>> encrysByBin = new HashMap<>(encrys.size() * 2);
+        for (String encry : encrys) {
+            byte[] encryBin = TokenUtils.parse(encry, format());
+            if (encryBin == null)
+                encryBin = TokenUtils.fromHex(encry);
+            if (encryBin != null)
+                encrysByBin.computeIfAbsent(ByteBuffer.wrap(encryBin), k -> new ArrayList<>(1)).add(encry);
+        }
+        Map<String, String> decrys = new HashMap<>(encrysByBin.size() * 2);
+        if (encrysByBin.isEmpty())
+            return decrys;
+        List<byte[]> encryBins = new ArrayList<>(encrysByBin.size());
+        encrysByBin.keySet().forEach(o -> encryBins.add(o.array()));
+        encryJdbcDAO.findDecrysByBin(encryType, encryBins)
+                .forEach((encryBin, decry) -> encrysByBin.get(encryBin).forEach(encry -> decrys.put(encry, decry)));
+        return decrys;
+    }
+
+    /**
+     * 按历史十进制密文的哈希查询已迁移的历史数据, 命中后比较密文
+     */
+    private Map<String, String> getDecrysByLegacyHash(EncryTypeEnum encryType, Collection<String> encrys) {
+        Map<Long, List<String>> encrysByHash = new HashMap<>(encrys.size() * 2);
+        encrys.forEach(o -> encrysByHash.computeIfAbsent(TokenUtils.legacyHash(o), k -> new ArrayList<>(1)).add(o));
+        Map<String, String> decrys = new HashMap<>(encrys.size() * 2);
+        encryJdbcDAO.findByLegacyHash(encryType, encrysByHash.keySet()).forEach((decry, encryBin) -> {
+            String legacy = TokenUtils.toDecimal(encryBin);
+            List<String> candidates = encrysByHash.get(TokenUtils.legacyHash(legacy));
+            if (candidates != null && candidates.contains(legacy))
+                decrys.put(legacy, decry);
+        });
+        return decrys;
+    }
+
+    private int insertIgnore(EncryPO encryPO, TokenFormatEnum format) {
+        return format == TokenFormatEnum.DECIMAL ? encryJdbcDAO.insertIgnore(encryPO)
+                : encryJdbcDAO.insertBinIgnore(encryPO);
+    }
+
+    private TokenFormatEnum format() {
+        return encryProperties.getToken().getFormat();
+    }
+
+    /**
+     * 迁移期间未迁移的历史数据只能按encry列查询
+     */
+    private boolean isMigrating() {
+        return encryProperties.getToken().getMigration().isEnabled();
+    }
+}
@@ -0,0 +1,124 @@
+package com.yanchao.blog.store;
+
+import com.yanchao.blog.config.EncryProperties;
+import com.yanchao.blog.dao.bas.EncryJdbcDAO;
+import com.yanchao.blog.po.bas.EncryPO;
+import com.yanchao.blog.vo.admin.StoreBackfillStatsVO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 映射存储-bas_encry复制到bas_encry_v2
+ * <p>
+ * dualWrite期间按主键顺序复制, 已存在的行跳过. 扫描到末尾后从头再扫描, 以覆盖滚动发布期间旧版本节点只写入bas_encry的行;
+ * 所有节点升级后的一轮完整扫描结束(caughtUp)即可关闭dualWrite.
+ * <p>
+ * 只在backfillWorker为true的节点执行; 一轮完整扫描没有复制任何行时(idle), 按backfillIdleInterval等待后再扫描下一轮
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "blog.encry.store", name = "type", havingValue = "JDBC_V2")
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class JdbcV2Backfill {
+
+    private final EncryProperties encryProperties;
+    private final EncryJdbcDAO encryJdbcDAO;
+    private final JdbcV2TokenStore jdbcV2TokenStore;
+
+    private ScheduledExecutorService executor;
+
+    /** 已扫描到的主键, 只由复制线程更新 */
+    private volatile long lastId;
+    private volatile boolean caughtUp;
+    private volatile long passes;
+    /** 上一轮完整扫描没有复制任何行 */
+    private volatile boolean idle;
+    private final AtomicLong copied = new AtomicLong();
+    /** 本轮复制条数, 只由复制线程更新 */
+    private long passCopied;
+
+    @PostConstruct
+    public void init() {
+        if (!isEnabled() || !isWorker())
+            return;
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "jdbc-v2-backfill");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.schedule(this::run, encryProperties.getStore().getV2().getBackfillInterval().toMillis(),
+                TimeUnit.MILLISECONDS);
+        log.info("bas_encry复制到bas_encry_v2已启用");
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (executor != null)
+            executor.shutdown();
+    }
+
+    public boolean isEnabled() {
+        return encryProperties.getStore().getV2().isDualWrite();
+    }
+
+    public boolean isWorker() {
+        return encryProperties.getStore().getV2().isBackfillWorker();
+    }
+
+    /**
+     * 复制一批并安排下一批, 一轮完整扫描没有复制任何行时延长间隔
+     */
+    private void run() {
+        EncryProperties.V2 v2 = encryProperties.getStore().getV2();
+        Duration delay = backfill() == 0 && idle ? v2.getBackfillIdleInterval() : v2.getBackfillInterval();
+        if (!executor.isShutdown())
+            executor.schedule(this::run, delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 复制一批
+     *
+     * @return 本批扫描的行数
+     */
+    public int backfill() {
+        try {
+            List<EncryPO> rows = encryJdbcDAO.findAfter(lastId, encryProperties.getStore().getV2()
+                    .getBackfillBatchSize());
+            if (rows.isEmpty()) {
+                if (!caughtUp)
+                    log.info("bas_encry复制已扫描到末尾: lastId={}, 复制{}条", lastId, copied.get());
+                caughtUp = true;
+                passes++;
+                idle = passCopied == 0;
+                passCopied = 0;
+                lastId = 0;
+                return 0;
+            }
+            int count = jdbcV2TokenStore.copy(rows);
+            copied.addAndGet(count);
+            passCopied += count;
+            lastId = rows.get(rows.size() - 1).getId();
+            return rows.size();
+        } catch (Exception e) {
+            log.error("bas_encry复制失败: lastId={}", lastId, e);
+            return 0;
+        }
+    }
+
+    public StoreBackfillStatsVO stats() {
+        return StoreBackfillStatsVO.builder().enabled(isEnabled()).worker(isWorker()).lastId(lastId)
+                .copied(copied.get()).passes(passes).caughtUp(caughtUp).idle(idle).build();
+    }
+}
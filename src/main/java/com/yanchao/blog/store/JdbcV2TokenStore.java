@@ -0,0 +1,279 @@
+package com.yanchao.blog.store;
+
+import com.yanchao.blog.config.EncryProperties;
+import com.yanchao.blog.constant.EncryTypeEnum;
+import com.yanchao.blog.constant.TokenFormatEnum;
+import com.yanchao.blog.dao.bas.EncryJdbcDAO;
+import com.yanchao.blog.dao.bas.EncryV2JdbcDAO;
+import com.yanchao.blog.po.bas.EncryPO;
+import com.yanchao.blog.po.bas.EncryV2PO;
+import com.yanchao.blog.util.DecryPackUtils;
+import com.yanchao.blog.util.EncryUtils;
+import com.yanchao.blog.util.PartitionUtils;
+import com.yanchao.blog.util.TokenUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 映射存储-JDBC-v2表结构(bas_encry_v2)
+ * <p>
+ * 手机号、身份证号按{@link DecryPackUtils}压缩为数值, 密文为16字节格式时保存原始字节, 其他密文按字符串保存. 解密时同一密文按字符串及16字节
+ * (十六进制或base62解析)两种方式查询, 按行上的密文格式区分, 切换格式前后生成的密文均可解密. MD5摘要保存为16字节的行同时保存其十进制形式的哈希,
+ * 迁移前返回过的十进制密文按哈希查询后比较, 与{@link JdbcTokenStore}的历史密文迁移一致.
+ * <p>
+ * 在线迁移: dualWrite为true时以bas_encry为准, 新映射先写bas_encry再写v2表, 查询先查v2表, 未命中的查bas_encry;
+ * 同时由{@link JdbcV2Backfill}将bas_encry的数据复制到v2表. 复制完成且所有节点升级后关闭dualWrite, 不再访问bas_encry
+ */
+@Component
+@ConditionalOnProperty(prefix = "blog.encry.store", name = "type", havingValue = "JDBC_V2")
+public class JdbcV2TokenStore implements TokenStore {
+
+    /**
+     * IN查询及批量写入每组的最大条数
+     */
+    private static final int CHUNK_SIZE = 1000;
+    /** 原样保存的字符串密文 */
+    private static final int STRING_FORMAT = 0;
+
+    private final EncryV2JdbcDAO encryV2JdbcDAO;
+    private final EncryProperties encryProperties;
+    /** 迁移期间访问bas_encry */
+    private final JdbcTokenStore legacyTokenStore;
+
+    @Autowired
+    public JdbcV2TokenStore(EncryV2JdbcDAO encryV2JdbcDAO, EncryJdbcDAO encryJdbcDAO,
+            EncryProperties encryProperties) {
+        this.encryV2JdbcDAO = encryV2JdbcDAO;
+        this.encryProperties = encryProperties;
+        this.legacyTokenStore = new JdbcTokenStore(encryJdbcDAO, encryProperties);
+    }
+
+    @Override
+    public Map<String, String> getEncrys(EncryTypeEnum encryType, Collection<String> decrys) {
+        Map<String, String> encrys = new HashMap<>(decrys.size() * 2);
+        for (List<String> chunk : PartitionUtils.partition(decrys, CHUNK_SIZE)) {
+            Map<Long, List<String>> decrysByNum = new HashMap<>(chunk.size() * 2);
+            List<String> others = new ArrayList<>();
+            for (String decry : chunk) {
+                long decryNum = DecryPackUtils.pack(encryType, decry);
+                if (decryNum == 0)
+                    others.add(decry);
+                else
+                    decrysByNum.computeIfAbsent(decryNum, k -> new ArrayList<>(1)).add(decry);
+            }
+            encryV2JdbcDAO.findByDecryNums(encryType.getCode(), decrysByNum.keySet()).forEach(
+                    o -> decrysByNum.get(o.getDecryNum()).forEach(decry -> encrys.put(decry, render(o))));
+            encryV2JdbcDAO.findByDecrys(encryType.getCode(), others).forEach(o -> encrys.put(o.getDecry(), render(o)));
+        }
+        if (encrys.size() < decrys.size() && isDualWrite())
+            encrys.putAll(legacyTokenStore.getEncrys(encryType, PartitionUtils.misses(decrys, encrys)));
+        return encrys;
+    }
+
+    @Override
+    public Map<String, String> getDecrys(EncryTypeEnum encryType, Collection<String> encrys) {
+        Map<String, String> decrys = new HashMap<>(encrys.size() * 2);
+        for (List<String> chunk : PartitionUtils.partition(encrys, CHUNK_SIZE)) {
+            // 同一字节序列按字符串密文及16字节密文分别匹配
+            Map<ByteBuffer, List<String>> stringKeys = new HashMap<>(chunk.size() * 2);
+            Map<ByteBuffer, List<String>> binaryKeys = new HashMap<>(chunk.size() * 2);
+            for (String encry : chunk) {
+                stringKeys.computeIfAbsent(ByteBuffer.wrap(encry.getBytes(StandardCharsets.UTF_8)),
+                        k -> new ArrayList<>(1)).add(encry);
+                for (byte[] encryBin : Arrays.asList(TokenUtils.fromHex(encry), TokenUtils.fromBase62(encry)))
+                    if (encryBin != null)
+                        binaryKeys.computeIfAbsent(ByteBuffer.wrap(encryBin), k -> new ArrayList<>(1)).add(encry);
+            }
+            Set<ByteBuffer> keys = new HashSet<>(stringKeys.keySet());
+            keys.addAll(binaryKeys.keySet());
+            List<byte[]> values = new ArrayList<>(keys.size());
+            keys.forEach(o -> values.add(o.array()));
+
+            for (EncryV2PO row : encryV2JdbcDAO.findByEncrys(encryType.getCode(), values)) {
+                List<String> matched = (row.getEncryFormat() == STRING_FORMAT ? stringKeys : binaryKeys)
+                        .get(ByteBuffer.wrap(row.getEncry()));
+                if (matched != null) {
+                    String decry = decry(encryType, row);
+                    matched.forEach(encry -> decrys.put(encry, decry));
+                }
+            }
+            decrys.putAll(getDecrysByLegacyHash(encryType, PartitionUtils.misses(chunk, decrys)));
+        }
+        if (decrys.size() < encrys.size() && isDualWrite())
+            decrys.putAll(legacyTokenStore.getDecrys(encryType, PartitionUtils.misses(encrys, decrys)));
+        return decrys;
+    }
+
+    @Override
+    public Map<String, String> putIfAbsent(EncryTypeEnum encryType, Map<String, String> encrys) {
+        if (isDualWrite()) {
+            // 以bas_encry为准, v2表只跟随写入
+            Map<String, String> results = legacyTokenStore.putIfAbsent(encryType, encrys);
+            insertIgnore(encryType, results, new Date());
+            return results;
+        }
+
+        Map<String, String> results = new HashMap<>(encrys.size() * 2);
+        List<String> unconfirmed = new ArrayList<>();
+        List<EncryV2PO> rows = new ArrayList<>(encrys.size());
+        Date now = new Date();
+        encrys.forEach((decry, encry) -> rows.add(toRow(encryType, decry, encry, now)));
+        for (List<EncryV2PO> chunk : PartitionUtils.partition(rows, CHUNK_SIZE)) {
+            int[] counts = chunk.size() == 1 ? new int[] { encryV2JdbcDAO.insertIgnore(chunk.get(0)) }
+                    : encryV2JdbcDAO.batchInsertIgnore(chunk);
+            for (int i = 0; i < counts.length; i++) {
+                String decry = decry(encryType, chunk.get(i));
+                if (counts[i] == 1)
+                    results.put(decry, encrys.get(decry));
+                else
+                    unconfirmed.add(decry);
+            }
+        }
+        // 被忽略(已存在或并发写入)或驱动改写为多值INSERT未返回单行结果的, 以库中为准
+        results.putAll(getEncrys(encryType, unconfirmed));
+        return results;
+    }
+
+    /**
+     * 复制bas_encry的行, 先查询v2表, 只写入不存在的行; 重复扫描时只有查询
+     *
+     * @return 写入的行数, 与并发写入冲突而被忽略的也计入
+     */
+    public int copy(List<EncryPO> encryPOs) {
+        TokenFormatEnum format = format() == TokenFormatEnum.DECIMAL ? TokenFormatEnum.HEX : format();
+        List<EncryV2PO> rows = new ArrayList<>(encryPOs.size());
+        for (EncryPO encryPO : encryPOs) {
+            // 与JdbcTokenStore一致, 已写入16字节密文的以16字节密文为准; 历史十进制密文由toRow保存哈希, 仍可解密
+            if (encryPO.getEncryBin() != null)
+                rows.add(toRow(encryPO.getType(), encryPO.getDecry(), encryPO.getEncryBin(), format,
+                        encryPO.getCreateTime()));
+            else if (encryPO.getEncry() != null)
+                rows.add(toRow(encryPO.getType(), encryPO.getDecry(), encryPO.getEncry(), encryPO.getCreateTime()));
+        }
+        int copied = 0;
+        for (List<EncryV2PO> chunk : PartitionUtils.partition(rows, CHUNK_SIZE)) {
+            List<EncryV2PO> absent = absent(chunk);
+            if (!absent.isEmpty())
+                encryV2JdbcDAO.batchInsertIgnore(absent);
+            copied += absent.size();
+        }
+        return copied;
+    }
+
+    /**
+     * @return v2表中还没有对应明文的行
+     */
+    private List<EncryV2PO> absent(List<EncryV2PO> rows) {
+        Map<Integer, Set<Long>> decryNums = new HashMap<>();
+        Map<Integer, Set<String>> others = new HashMap<>();
+        for (EncryV2PO row : rows) {
+            if (row.getDecryNum() == 0)
+                others.computeIfAbsent(row.getType(), k -> new HashSet<>()).add(row.getDecry());
+            else
+                decryNums.computeIfAbsent(row.getType(), k -> new HashSet<>()).add(row.getDecryNum());
+        }
+        decryNums.forEach((type, values) -> encryV2JdbcDAO.findByDecryNums(type, values)
+                .forEach(o -> values.remove(o.getDecryNum())));
+        others.forEach((type, values) -> encryV2JdbcDAO.findByDecrys(type, values)
+                .forEach(o -> values.remove(o.getDecry())));
+
+        List<EncryV2PO> absent = new ArrayList<>(rows.size());
+        for (EncryV2PO row : rows) {
+            Set<?> values = row.getDecryNum() == 0 ? others.get(row.getType()) : decryNums.get(row.getType());
+            // 同一批中的重复明文只写一次
+            if (values.remove(row.getDecryNum() == 0 ? row.getDecry() : row.getDecryNum()))
+                absent.add(row);
+        }
+        return absent;
+    }
+
+    private void insertIgnore(EncryTypeEnum encryType, Map<String, String> encrys, Date now) {
+        List<EncryV2PO> rows = new ArrayList<>(encrys.size());
+        encrys.forEach((decry, encry) -> rows.add(toRow(encryType, decry, encry, now)));
+        for (List<EncryV2PO> chunk : PartitionUtils.partition(rows, CHUNK_SIZE))
+            encryV2JdbcDAO.batchInsertIgnore(chunk);
+    }
+
+    /**
+     * 16字节格式的密文保存原始字节, 其他密文按字符串保存
+     */
+    private EncryV2PO toRow(EncryTypeEnum encryType, String decry, String encry, Date createTime) {
+        TokenFormatEnum format = format();
+        byte[] encryBin = TokenUtils.parse(encry, format);
+        if (encryBin != null)
+            return toRow(encryType, decry, encryBin, format, createTime);
+        long decryNum = DecryPackUtils.pack(encryType, decry);
+        return EncryV2PO.builder().type(encryType.getCode()).decryNum(decryNum).decry(decryNum == 0 ? decry : "")
+                .encry(encry.getBytes(StandardCharsets.UTF_8)).encryFormat(STRING_FORMAT).createTime(createTime)
+                .build();
+    }
+
+    /**
+     * 16字节密文为明文的MD5摘要时, 保存十进制形式的哈希
+     */
+    private static EncryV2PO toRow(EncryTypeEnum encryType, String decry, byte[] encryBin, TokenFormatEnum format,
+            Date createTime) {
+        long decryNum = DecryPackUtils.pack(encryType, decry);
+        Long legacyHash = Arrays.equals(encryBin, EncryUtils.getMD5Bytes(decry))
+                ? TokenUtils.legacyHash(TokenUtils.toDecimal(encryBin)) : null;
+        return EncryV2PO.builder().type(encryType.getCode()).decryNum(decryNum).decry(decryNum == 0 ? decry : "")
+                .encry(encryBin).encryFormat(format.ordinal()).legacyHash(legacyHash).createTime(createTime).build();
+    }
+
+    /**
+     * 十进制形式的历史密文: 按哈希查询后逐个比较, 哈希冲突不会返回错误数据
+     */
+    private Map<String, String> getDecrysByLegacyHash(EncryTypeEnum encryType, Collection<String> encrys) {
+        Map<Long, List<String>> encrysByHash = new HashMap<>(encrys.size() * 2);
+        for (String encry : encrys)
+            if (isDecimal(encry))
+                encrysByHash.computeIfAbsent(TokenUtils.legacyHash(encry), k -> new ArrayList<>(1)).add(encry);
+        Map<String, String> decrys = new HashMap<>(encrysByHash.size() * 2);
+        for (EncryV2PO row : encryV2JdbcDAO.findByLegacyHashes(encryType.getCode(), encrysByHash.keySet())) {
+            if (row.getEncryFormat() == STRING_FORMAT)
+                continue;
+            String legacy = TokenUtils.toDecimal(row.getEncry());
+            List<String> candidates = encrysByHash.get(TokenUtils.legacyHash(legacy));
+            if (candidates != null && candidates.contains(legacy))
+                decrys.put(legacy, decry(encryType, row));
+        }
+        return decrys;
+    }
+
+    /**
+     * @return 是否可能为{@link EncryUtils#getMD5(String)}的十进制密文
+     */
+    private static boolean isDecimal(String encry) {
+        if (encry.isEmpty())
+            return false;
+        for (int i = 0; i < encry.length(); i++) {
+            char c = encry.charAt(i);
+            if ((c < '0' || c > '9') && c != '-')
+                return false;
+        }
+        return true;
+    }
+
+    private static String render(EncryV2PO row) {
+        if (row.getEncryFormat() == STRING_FORMAT)
+            return new String(row.getEncry(), StandardCharsets.UTF_8);
+        return TokenUtils.format(row.getEncry(), TokenFormatEnum.values()[row.getEncryFormat()]);
+    }
+
+    private static String decry(EncryTypeEnum encryType, EncryV2PO row) {
+        return row.getDecryNum() == 0 ? row.getDecry() : DecryPackUtils.unpack(encryType, row.getDecryNum());
+    }
+
+    private TokenFormatEnum format() {
+        return encryProperties.getToken().getFormat();
+    }
+
+    private boolean isDualWrite() {
+        return encryProperties.getStore().getV2().isDualWrite();
+    }
+}
@@ -0,0 +1,97 @@
+package com.yanchao.blog.store;
+
+import com.yanchao.blog.constant.EncryTypeEnum;
+import com.yanchao.blog.constant.SystemConstant;
+import com.yanchao.blog.dao.bas.EncryDAO;
+import com.yanchao.blog.po.bas.EncryPO;
+import com.yanchao.blog.util.PartitionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 映射存储-JPA
+ * <p>
+ * 先按明文查询, 不存在的saveAll写入; 唯一约束冲突时整批回滚, 逐条重试并回查. 查询只读取明文、密文两列, 不加载实体
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+@ConditionalOnProperty(prefix = "blog.encry.store", name = "type", havingValue = "JPA")
+public class JpaTokenStore implements TokenStore {
+
+    /**
+     * IN查询每组的最大条数
+     */
+    private static final int CHUNK_SIZE = 1000;
+
+    private final EncryDAO encryDAO;
+
+    @Override
+    public Map<String, String> getEncrys(EncryTypeEnum encryType, Collection<String> decrys) {
+        Map<String, String> encrys = new HashMap<>(decrys.size() * 2);
+        for (List<String> chunk : PartitionUtils.partition(decrys, CHUNK_SIZE))
+            encryDAO.findMappingsByTypeAndDecryIn(encryType, chunk).forEach(o -> encrys.put(o.getDecry(),
+                    o.getEncry()));
+        return encrys;
+    }
+
+    @Override
+    public Map<String, String> getDecrys(EncryTypeEnum encryType, Collection<String> encrys) {
+        Map<String, String> decrys = new HashMap<>(encrys.size() * 2);
+        for (List<String> chunk : PartitionUtils.partition(encrys, CHUNK_SIZE))
+            encryDAO.findMappingsByTypeAndEncryIn(encryType, chunk).forEach(o -> decrys.put(o.getEncry(),
+                    o.getDecry()));
+        return decrys;
+    }
+
+    @Override
+    public String getEncry(EncryTypeEnum encryType, String decry) {
+        List<String> encrys = encryDAO.findEncryByDecryAndType(decry, encryType);
+        return encrys.isEmpty() ? null : encrys.get(0);
+    }
+
+    @Override
+    public String getDecry(EncryTypeEnum encryType, String encry) {
+        List<String> decrys = encryDAO.findDecryByEncryAndType(encry, encryType);
+        return decrys.isEmpty() ? null : decrys.get(0);
+    }
+
+    @Override
+    public Map<String, String> putIfAbsent(EncryTypeEnum encryType, Map<String, String> encrys) {
+        Map<String, String> results = getEncrys(encryType, encrys.keySet());
+        List<EncryPO> encryPOs = new ArrayList<>();
+        Date now = new Date();
+        encrys.forEach((decry, encry) -> {
+            if (!results.containsKey(decry))
+                encryPOs.add(EncryPO.builder().decry(decry).encry(encry).type(encryType).createTime(now)
+                        .creator(SystemConstant.SYSTEM_NAME).build());
+        });
+        if (encryPOs.isEmpty())
+            return results;
+
+        try {
+            encryDAO.saveAll(encryPOs);
+            encryPOs.forEach(o -> results.put(o.getDecry(), o.getEncry()));
+        } catch (DataIntegrityViolationException e) {
+            log.warn("批量写入冲突, 逐条重试: {}", e.getMessage());
+            encryPOs.forEach(o -> {
+                String encry = o.getEncry();
+                try {
+                    o.setId(null);
+                    encryDAO.save(o);
+                } catch (DataIntegrityViolationException ex) {
+                    encry = getEncry(encryType, o.getDecry());
+                }
+                if (encry != null)
+                    results.put(o.getDecry(), encry);
+            });
+        }
+        return results;
+    }
+}
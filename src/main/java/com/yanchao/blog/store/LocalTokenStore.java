@@ -0,0 +1,66 @@
+package com.yanchao.blog.store;
+
+import com.yanchao.blog.cache.EncryKey;
+import com.yanchao.blog.constant.EncryTypeEnum;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 映射存储-进程内
+ * <p>
+ * 数据只保存在内存中, 重启后丢失, 用于测试及无数据库的单节点试用
+ */
+@Component
+@ConditionalOnProperty(prefix = "blog.encry.store", name = "type", havingValue = "LOCAL")
+public class LocalTokenStore implements TokenStore {
+
+    /** 明文->密文 */
+    private final Map<EncryKey, String> encryStore = new ConcurrentHashMap<>();
+    /** 密文->明文 */
+    private final Map<EncryKey, String> decryStore = new ConcurrentHashMap<>();
+
+    @Override
+    public Map<String, String> getEncrys(EncryTypeEnum encryType, Collection<String> decrys) {
+        return getAll(encryStore, encryType, decrys);
+    }
+
+    @Override
+    public Map<String, String> getDecrys(EncryTypeEnum encryType, Collection<String> encrys) {
+        return getAll(decryStore, encryType, encrys);
+    }
+
+    @Override
+    public Map<String, String> putIfAbsent(EncryTypeEnum encryType, Map<String, String> encrys) {
+        Map<String, String> results = new HashMap<>(encrys.size() * 2);
+        encrys.forEach((decry, encry) -> {
+            EncryKey decryKey = new EncryKey(encryType, decry);
+            String existing = encryStore.putIfAbsent(decryKey, encry);
+            if (existing != null) {
+                results.put(decry, existing);
+                return;
+            }
+            String owner = decryStore.putIfAbsent(new EncryKey(encryType, encry), decry);
+            if (owner == null || owner.equals(decry))
+                results.put(decry, encry);
+            else
+                encryStore.remove(decryKey, encry);
+        });
+        return results;
+    }
+
+    private static Map<String, String> getAll(Map<EncryKey, String> store, EncryTypeEnum encryType,
+            Collection<String> values) {
+        Map<String, String> results = new HashMap<>(values.size() * 2);
+        values.forEach(o -> {
+            String value = store.get(new EncryKey(encryType, o));
+            if (value != null)
+                results.put(o, value);
+        });
+        return results;
+    }
+}
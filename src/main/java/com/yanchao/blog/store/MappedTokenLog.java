@@ -0,0 +1,500 @@
+package com.yanchao.blog.store;
+
+import com.yanchao.blog.constant.EncryTypeEnum;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+import java.util.zip.CRC32;
+
+/**
+ * 内存映射的追加写映射日志
+ * <p>
+ * 映射以定长记录追加写入按段滚动的内存映射文件, 启动时顺序扫描日志重建明文、密文两个方向的开放寻址索引. 索引只保存哈希及记录号, 哈希相同时才读取映射内存比较,
+ * 查询不加锁(StampedLock乐观读), 单线程写入.
+ * <p>
+ * 记录格式({@value #RECORD_SIZE}字节): 标志(1) + 类型序号(1) + 明文长度(1) + 密文长度(1) + 明文(64) + 密文(64) + CRC32(4) + 保留(8).
+ * 类型按{@link EncryTypeEnum}序号保存, 枚举只能在末尾追加. 扫描时遇到空记录即为日志末尾, 校验失败视为崩溃时未写完的记录, 从该处截断.
+ * <p>
+ * 写入只保证进入页缓存, 由{@link #force()}刷盘, 两次刷盘之间掉电可能丢失最近写入的映射
+ */
+@Slf4j
+public final class MappedTokenLog implements Closeable {
+
+    /** 记录长度 */
+    public static final int RECORD_SIZE = 144;
+    /** 明文、密文最大字节数 */
+    public static final int MAX_VALUE_LENGTH = 64;
+
+    private static final byte MAGIC = (byte) 0xA5;
+    private static final int TYPE_OFFSET = 1;
+    private static final int DECRY_LENGTH_OFFSET = 2;
+    private static final int ENCRY_LENGTH_OFFSET = 3;
+    private static final int DECRY_OFFSET = 4;
+    private static final int ENCRY_OFFSET = DECRY_OFFSET + MAX_VALUE_LENGTH;
+    private static final int CRC_OFFSET = ENCRY_OFFSET + MAX_VALUE_LENGTH;
+
+    private static final String SEGMENT_PREFIX = "token-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+    private static final String COMPACT_DIR = "compact";
+    private static final String COMPACT_COMPLETE = "COMPLETE";
+    private static final float LOAD_FACTOR = 0.7f;
+    /** 槽位低32位为记录号+1, 高32位为哈希 */
+    private static final long RECORD_MASK = 0xFFFFFFFFL;
+    private static final EncryTypeEnum[] TYPES = EncryTypeEnum.values();
+
+    private final Path dir;
+    private final int segmentRecords;
+    private final int initialCapacity;
+    private final StampedLock lock = new StampedLock();
+    private final byte[] scratch = new byte[RECORD_SIZE];
+    private final CRC32 crc = new CRC32();
+
+    /** 日志段, 只增不减, 写锁内替换 */
+    private volatile MappedByteBuffer[] segments = new MappedByteBuffer[0];
+    /** 已写入记录数 */
+    private volatile long count;
+    /** 明文->记录号 */
+    private volatile Index decryIndex;
+    /** 密文->记录号 */
+    private volatile Index encryIndex;
+
+    /**
+     * @param dir             日志目录
+     * @param segmentRecords  每个日志段的记录数
+     * @param initialCapacity 索引初始容量, 按预计映射数设置可避免扩容
+     */
+    public MappedTokenLog(Path dir, int segmentRecords, int initialCapacity) throws IOException {
+        this.dir = dir;
+        this.segmentRecords = segmentRecords;
+        this.initialCapacity = initialCapacity;
+        Files.createDirectories(dir);
+        recoverCompaction();
+        open();
+    }
+
+    public String getEncry(EncryTypeEnum encryType, String decry) {
+        return get(encryType, decry, true);
+    }
+
+    public String getDecry(EncryTypeEnum encryType, String encry) {
+        return get(encryType, encry, false);
+    }
+
+    /**
+     * 不存在时写入
+     *
+     * @return 最终密文; 密文已被其他明文占用时为null
+     */
+    public String putIfAbsent(EncryTypeEnum encryType, String decry, String encry) {
+        byte[] decryBytes = decry.getBytes(StandardCharsets.UTF_8);
+        byte[] encryBytes = encry.getBytes(StandardCharsets.UTF_8);
+        if (decryBytes.length > MAX_VALUE_LENGTH || encryBytes.length > MAX_VALUE_LENGTH)
+            throw new IllegalArgumentException("明文或密文超过" + MAX_VALUE_LENGTH + "字节");
+
+        long stamp = lock.writeLock();
+        try {
+            long record = find(decryIndex, encryType, decryBytes, DECRY_OFFSET, DECRY_LENGTH_OFFSET);
+            if (record >= 0)
+                return read(record, ENCRY_OFFSET, ENCRY_LENGTH_OFFSET);
+            if (find(encryIndex, encryType, encryBytes, ENCRY_OFFSET, ENCRY_LENGTH_OFFSET) >= 0)
+                return null;
+
+            record = append(encryType, decryBytes, encryBytes);
+            index(record);
+            return encry;
+        } catch (IOException e) {
+            throw new IllegalStateException("写入映射日志异常", e);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * @return 映射数
+     */
+    public long size() {
+        return count;
+    }
+
+    /**
+     * 刷盘
+     */
+    public void force() {
+        for (MappedByteBuffer segment : segments)
+            segment.force();
+    }
+
+    /**
+     * 压缩: 只保留满足条件的类型, 写入新日志后替换. 新日志完整写入并标记后才删除旧日志, 替换过程中崩溃时启动会继续完成替换或丢弃新日志
+     *
+     * @param keep 保留的类型
+     */
+    public void compact(Predicate<EncryTypeEnum> keep) throws IOException {
+        long stamp = lock.writeLock();
+        try {
+            Path compactDir = dir.resolve(COMPACT_DIR);
+            deleteDir(compactDir);
+            long kept = 0;
+            try (MappedTokenLog compacted = new MappedTokenLog(compactDir, segmentRecords, initialCapacity)) {
+                for (long record = 0; record < count; record++) {
+                    EncryTypeEnum encryType = TYPES[segment(record).get(offset(record) + TYPE_OFFSET)];
+                    if (keep.test(encryType)) {
+                        compacted.putIfAbsent(encryType, read(record, DECRY_OFFSET, DECRY_LENGTH_OFFSET),
+                                read(record, ENCRY_OFFSET, ENCRY_LENGTH_OFFSET));
+                        kept++;
+                    }
+                }
+                compacted.force();
+            }
+            Files.createFile(compactDir.resolve(COMPACT_COMPLETE));
+            log.info("映射日志压缩: {} -> {}条", count, kept);
+
+            segments = new MappedByteBuffer[0];
+            recoverCompaction();
+            open();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void close() {
+        force();
+    }
+
+    private String get(EncryTypeEnum encryType, String value, boolean byDecry) {
+        byte[] utf8 = isAscii(value) ? null : value.getBytes(StandardCharsets.UTF_8);
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0)
+            try {
+                String result = lookup(encryType, value, utf8, byDecry);
+                if (lock.validate(stamp))
+                    return result;
+            } catch (RuntimeException e) {
+                // 乐观读期间有写入, 可能读到不一致的索引, 加读锁重试
+            }
+        stamp = lock.readLock();
+        try {
+            return lookup(encryType, value, utf8, byDecry);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private String lookup(EncryTypeEnum encryType, String value, byte[] utf8, boolean byDecry) {
+        long record = byDecry ? find(decryIndex, encryType, value, utf8, DECRY_OFFSET, DECRY_LENGTH_OFFSET)
+                : find(encryIndex, encryType, value, utf8, ENCRY_OFFSET, ENCRY_LENGTH_OFFSET);
+        if (record < 0)
+            return null;
+        return byDecry ? read(record, ENCRY_OFFSET, ENCRY_LENGTH_OFFSET) : read(record, DECRY_OFFSET, DECRY_LENGTH_OFFSET);
+    }
+
+    private long find(Index index, EncryTypeEnum encryType, byte[] value, int valueOffset, int lengthOffset) {
+        return find(index, encryType, null, value, valueOffset, lengthOffset);
+    }
+
+    /**
+     * 在索引中查找记录
+     *
+     * @param ascii 纯ASCII时直接按字符比较, 不编码
+     * @param utf8  非ASCII时的UTF-8编码
+     * @return 记录号, 不存在时为-1
+     */
+    private long find(Index index, EncryTypeEnum encryType, String ascii, byte[] utf8, int valueOffset,
+            int lengthOffset) {
+        long[] slots = index.slots;
+        int mask = slots.length - 1;
+        int hash = utf8 == null ? hash(encryType, ascii) : hash(encryType, utf8);
+        for (int i = hash & mask;; i = (i + 1) & mask) {
+            long slot = slots[i];
+            if (slot == 0)
+                break;
+            // 先比较哈希, 不同时不读取记录
+            if ((int) (slot >>> 32) != hash)
+                continue;
+            long record = (slot & RECORD_MASK) - 1;
+            ByteBuffer segment = segment(record);
+            int offset = offset(record);
+            if (segment.get(offset + TYPE_OFFSET) == encryType.ordinal()
+                    && (utf8 == null ? equals(segment, offset, valueOffset, lengthOffset, ascii)
+                            : equals(segment, offset, valueOffset, lengthOffset, utf8)))
+                return record;
+        }
+        return -1;
+    }
+
+    private long append(EncryTypeEnum encryType, byte[] decry, byte[] encry) throws IOException {
+        long record = count;
+        if (record == RECORD_MASK - 1)
+            throw new IllegalStateException("映射日志已满");
+        if (record == (long) segments.length * segmentRecords)
+            mapSegment(segments.length);
+
+        Arrays.fill(scratch, (byte) 0);
+        scratch[0] = MAGIC;
+        scratch[TYPE_OFFSET] = (byte) encryType.ordinal();
+        scratch[DECRY_LENGTH_OFFSET] = (byte) decry.length;
+        scratch[ENCRY_LENGTH_OFFSET] = (byte) encry.length;
+        System.arraycopy(decry, 0, scratch, DECRY_OFFSET, decry.length);
+        System.arraycopy(encry, 0, scratch, ENCRY_OFFSET, encry.length);
+        crc.reset();
+        crc.update(scratch, 0, CRC_OFFSET);
+        int checksum = (int) crc.getValue();
+        scratch[CRC_OFFSET] = (byte) (checksum >>> 24);
+        scratch[CRC_OFFSET + 1] = (byte) (checksum >>> 16);
+        scratch[CRC_OFFSET + 2] = (byte) (checksum >>> 8);
+        scratch[CRC_OFFSET + 3] = (byte) checksum;
+
+        ByteBuffer segment = segment(record).duplicate();
+        segment.position(offset(record));
+        segment.put(scratch);
+        count = record + 1;
+        return record;
+    }
+
+    private void index(long record) {
+        if (decryIndex.size + 1 > decryIndex.slots.length * LOAD_FACTOR) {
+            decryIndex = rehash(decryIndex);
+            encryIndex = rehash(encryIndex);
+        }
+        insert(decryIndex, record, DECRY_OFFSET, DECRY_LENGTH_OFFSET);
+        insert(encryIndex, record, ENCRY_OFFSET, ENCRY_LENGTH_OFFSET);
+    }
+
+    private void insert(Index index, long record, int valueOffset, int lengthOffset) {
+        insert(index, (long) hash(record, valueOffset, lengthOffset) << 32 | (record + 1));
+    }
+
+    private static void insert(Index index, long slot) {
+        long[] slots = index.slots;
+        int mask = slots.length - 1;
+        int i = (int) (slot >>> 32) & mask;
+        while (slots[i] != 0)
+            i = (i + 1) & mask;
+        slots[i] = slot;
+        index.size++;
+    }
+
+    /**
+     * 扩容, 槽位中保存了哈希, 不需要读取记录
+     */
+    private static Index rehash(Index index) {
+        Index resized = new Index(index.slots.length << 1);
+        for (long slot : index.slots)
+            if (slot != 0)
+                insert(resized, slot);
+        return resized;
+    }
+
+    /**
+     * 打开日志: 映射全部日志段, 顺序扫描重建索引, 遇到空记录或校验失败的记录截断
+     */
+    private void open() throws IOException {
+        List<Path> paths = listSegments(dir);
+        segments = new MappedByteBuffer[0];
+        count = 0;
+        decryIndex = new Index(tableSize(initialCapacity));
+        encryIndex = new Index(tableSize(initialCapacity));
+
+        for (int i = 0; i < paths.size(); i++)
+            mapSegment(i);
+
+        long total = (long) segments.length * segmentRecords;
+        for (long record = 0; record < total; record++) {
+            ByteBuffer segment = segment(record);
+            int offset = offset(record);
+            if (segment.get(offset) != MAGIC)
+                break;
+            if (!checksum(segment, offset)) {
+                log.warn("映射日志第{}条记录校验失败, 从此处截断", record);
+                truncate(record);
+                break;
+            }
+            count = record + 1;
+            index(record);
+        }
+        log.info("映射日志已加载: dir={}, {}条", dir.toAbsolutePath(), count);
+    }
+
+    /**
+     * 截断: 清空该记录所在日志段的剩余部分, 删除之后的日志段
+     */
+    private void truncate(long record) throws IOException {
+        ByteBuffer segment = segment(record).duplicate();
+        segment.position(offset(record));
+        while (segment.hasRemaining())
+            segment.put((byte) 0);
+        int last = (int) (record / segmentRecords);
+        List<Path> paths = listSegments(dir);
+        for (int i = last + 1; i < paths.size(); i++)
+            Files.deleteIfExists(paths.get(i));
+        MappedByteBuffer[] kept = new MappedByteBuffer[last + 1];
+        System.arraycopy(segments, 0, kept, 0, last + 1);
+        segments = kept;
+    }
+
+    private void mapSegment(int index) throws IOException {
+        Path path = dir.resolve(String.format("%s%08d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    (long) segmentRecords * RECORD_SIZE);
+            MappedByteBuffer[] resized = new MappedByteBuffer[index + 1];
+            System.arraycopy(segments, 0, resized, 0, index);
+            resized[index] = segment;
+            segments = resized;
+        }
+    }
+
+    /**
+     * 完成或丢弃上次未完成的压缩
+     */
+    private void recoverCompaction() throws IOException {
+        Path compactDir = dir.resolve(COMPACT_DIR);
+        if (!Files.isDirectory(compactDir))
+            return;
+        if (Files.exists(compactDir.resolve(COMPACT_COMPLETE))) {
+            for (Path path : listSegments(dir))
+                Files.delete(path);
+            for (Path path : listSegments(compactDir))
+                Files.move(path, dir.resolve(path.getFileName()), StandardCopyOption.ATOMIC_MOVE);
+        }
+        deleteDir(compactDir);
+    }
+
+    private ByteBuffer segment(long record) {
+        return segments[(int) (record / segmentRecords)];
+    }
+
+    private int offset(long record) {
+        return (int) (record % segmentRecords) * RECORD_SIZE;
+    }
+
+    private String read(long record, int valueOffset, int lengthOffset) {
+        ByteBuffer segment = segment(record);
+        int offset = offset(record);
+        byte[] bytes = new byte[segment.get(offset + lengthOffset)];
+        for (int i = 0; i < bytes.length; i++)
+            bytes[i] = segment.get(offset + valueOffset + i);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private boolean checksum(ByteBuffer segment, int offset) {
+        for (int i = 0; i < CRC_OFFSET; i++)
+            scratch[i] = segment.get(offset + i);
+        crc.reset();
+        crc.update(scratch, 0, CRC_OFFSET);
+        return segment.getInt(offset + CRC_OFFSET) == (int) crc.getValue();
+    }
+
+    private int hash(long record, int valueOffset, int lengthOffset) {
+        ByteBuffer segment = segment(record);
+        int offset = offset(record);
+        int length = segment.get(offset + lengthOffset);
+        int h = seed(segment.get(offset + TYPE_OFFSET));
+        for (int i = 0; i < length; i++)
+            h = (h ^ (segment.get(offset + valueOffset + i) & 0xFF)) * 0x01000193;
+        return mix(h);
+    }
+
+    private static int hash(EncryTypeEnum encryType, String ascii) {
+        int h = seed((byte) encryType.ordinal());
+        for (int i = 0; i < ascii.length(); i++)
+            h = (h ^ ascii.charAt(i)) * 0x01000193;
+        return mix(h);
+    }
+
+    private static int hash(EncryTypeEnum encryType, byte[] utf8) {
+        int h = seed((byte) encryType.ordinal());
+        for (byte b : utf8)
+            h = (h ^ (b & 0xFF)) * 0x01000193;
+        return mix(h);
+    }
+
+    /**
+     * FNV-1a
+     */
+    private static int seed(byte type) {
+        return (0x811C9DC5 ^ type) * 0x01000193;
+    }
+
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        return h ^ (h >>> 13);
+    }
+
+    private static boolean equals(ByteBuffer segment, int offset, int valueOffset, int lengthOffset, String ascii) {
+        int length = segment.get(offset + lengthOffset);
+        if (length != ascii.length())
+            return false;
+        for (int i = 0; i < length; i++)
+            if (segment.get(offset + valueOffset + i) != ascii.charAt(i))
+                return false;
+        return true;
+    }
+
+    private static boolean equals(ByteBuffer segment, int offset, int valueOffset, int lengthOffset, byte[] utf8) {
+        int length = segment.get(offset + lengthOffset);
+        if (length != utf8.length)
+            return false;
+        for (int i = 0; i < length; i++)
+            if (segment.get(offset + valueOffset + i) != utf8[i])
+                return false;
+        return true;
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++)
+            if (value.charAt(i) >= 0x80)
+                return false;
+        return true;
+    }
+
+    private static int tableSize(int capacity) {
+        return Integer.highestOneBit(Math.max(16, (int) (capacity / LOAD_FACTOR)) - 1) << 1;
+    }
+
+    private static List<Path> listSegments(Path dir) throws IOException {
+        List<Path> paths = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(paths::add);
+        }
+        paths.sort(Comparator.comparing(Path::toString));
+        return paths;
+    }
+
+    private static void deleteDir(Path path) throws IOException {
+        if (!Files.isDirectory(path))
+            return;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(path)) {
+            for (Path child : stream)
+                Files.delete(child);
+        }
+        Files.delete(path);
+    }
+
+    /**
+     * 开放寻址索引, 槽位保存哈希及记录号+1, 0为空
+     */
+    private static final class Index {
+        private final long[] slots;
+        private int size;
+
+        private Index(int capacity) {
+            slots = new long[capacity];
+        }
+    }
+}
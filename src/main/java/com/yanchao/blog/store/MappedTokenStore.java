@@ -0,0 +1,125 @@
+package com.yanchao.blog.store;
+
+import com.yanchao.blog.config.EncryProperties;
+import com.yanchao.blog.constant.EncryTypeEnum;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * 映射存储-内存映射日志
+ * <p>
+ * 映射保存在本地的{@link MappedTokenLog}中, 不依赖数据库, 用于边车部署. 多节点之间不共享数据, 每个节点应使用HMAC方式生成密文,
+ * 保证同一明文在各节点得到同一密文
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "blog.encry.store", name = "type", havingValue = "MAPPED")
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class MappedTokenStore implements TokenStore {
+
+    private final EncryProperties encryProperties;
+
+    private MappedTokenLog tokenLog;
+    private ScheduledExecutorService executor;
+
+    @PostConstruct
+    public void init() throws IOException {
+        EncryProperties.Mapped mapped = encryProperties.getStore().getMapped();
+        tokenLog = new MappedTokenLog(Paths.get(mapped.getDir()), mapped.getSegmentRecords(),
+                mapped.getInitialCapacity());
+
+        long interval = mapped.getForceInterval().toMillis();
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "mapped-token-force");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(tokenLog::force, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        executor.shutdown();
+        tokenLog.close();
+    }
+
+    @Override
+    public String getEncry(EncryTypeEnum encryType, String decry) {
+        return tokenLog.getEncry(encryType, decry);
+    }
+
+    @Override
+    public String getDecry(EncryTypeEnum encryType, String encry) {
+        return tokenLog.getDecry(encryType, encry);
+    }
+
+    @Override
+    public String putIfAbsent(EncryTypeEnum encryType, String decry, String encry) {
+        return tokenLog.putIfAbsent(encryType, decry, encry);
+    }
+
+    @Override
+    public Map<String, String> getEncrys(EncryTypeEnum encryType, Collection<String> decrys) {
+        Map<String, String> encrys = new HashMap<>(decrys.size() * 2);
+        for (String decry : decrys) {
+            String encry = tokenLog.getEncry(encryType, decry);
+            if (encry != null)
+                encrys.put(decry, encry);
+        }
+        return encrys;
+    }
+
+    @Override
+    public Map<String, String> getDecrys(EncryTypeEnum encryType, Collection<String> encrys) {
+        Map<String, String> decrys = new HashMap<>(encrys.size() * 2);
+        for (String encry : encrys) {
+            String decry = tokenLog.getDecry(encryType, encry);
+            if (decry != null)
+                decrys.put(encry, decry);
+        }
+        return decrys;
+    }
+
+    @Override
+    public Map<String, String> putIfAbsent(EncryTypeEnum encryType, Map<String, String> encrys) {
+        Map<String, String> results = new HashMap<>(encrys.size() * 2);
+        encrys.forEach((decry, encry) -> {
+            String result = tokenLog.putIfAbsent(encryType, decry, encry);
+            if (result != null)
+                results.put(decry, result);
+        });
+        return results;
+    }
+
+    /**
+     * @return 映射数
+     */
+    public long size() {
+        return tokenLog.size();
+    }
+
+    /**
+     * 压缩日志, 只保留满足条件的类型
+     *
+     * @param keep 保留的类型
+     */
+    public void compact(Predicate<EncryTypeEnum> keep) throws IOException {
+        log.info("压缩映射日志");
+        tokenLog.compact(keep);
+    }
+}
@@ -0,0 +1,107 @@
+package com.yanchao.blog.store;
+
+import com.yanchao.blog.config.EncryProperties;
+import com.yanchao.blog.constant.EncryTypeEnum;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 映射存储-Redis
+ * <p>
+ * Redis作为主存储(需开启持久化), 不设置过期时间. 每条映射由Lua脚本原子写入两个方向, 批量写入时先在pipeline外SCRIPT LOAD(pipeline中的返回值为null,
+ * 且脚本已存在时只返回摘要, 不受Redis重启影响), 再通过pipeline一次交互执行EVALSHA.
+ * 同一映射的两个key不在同一slot, 不支持Redis Cluster
+ */
+@Component
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+@ConditionalOnProperty(prefix = "blog.encry.store", name = "type", havingValue = "REDIS")
+public class RedisTokenStore implements TokenStore {
+
+    private static final String DECRY_KEY = ":d:";
+    private static final String ENCRY_KEY = ":e:";
+    /**
+     * KEYS[1]: 明文key; KEYS[2]: 密文key; ARGV[1]: 密文; ARGV[2]: 明文. 返回最终密文, 密文已被其他明文占用时返回nil
+     */
+    private static final String PUT_IF_ABSENT_SCRIPT = "local e = redis.call('GET', KEYS[1]) "
+            + "if e then return e end "
+            + "local d = redis.call('GET', KEYS[2]) "
+            + "if d and d ~= ARGV[2] then return false end "
+            + "redis.call('SET', KEYS[2], ARGV[2]) "
+            + "redis.call('SET', KEYS[1], ARGV[1]) "
+            + "return ARGV[1]";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final EncryProperties encryProperties;
+
+    @Override
+    public Map<String, String> getEncrys(EncryTypeEnum encryType, Collection<String> decrys) {
+        return multiGet(encryType, DECRY_KEY, decrys);
+    }
+
+    @Override
+    public Map<String, String> getDecrys(EncryTypeEnum encryType, Collection<String> encrys) {
+        return multiGet(encryType, ENCRY_KEY, encrys);
+    }
+
+    @Override
+    public Map<String, String> putIfAbsent(EncryTypeEnum encryType, Map<String, String> encrys) {
+        if (encrys.isEmpty())
+            return new HashMap<>();
+
+        List<String> decrys = new ArrayList<>(encrys.keySet());
+        String sha = stringRedisTemplate.execute((RedisCallback<String>) connection -> connection.scriptLoad(
+                PUT_IF_ABSENT_SCRIPT.getBytes(StandardCharsets.UTF_8)));
+        if (sha == null)
+            throw new IllegalStateException("SCRIPT LOAD未返回摘要");
+        List<Object> replies = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (String decry : decrys) {
+                String encry = encrys.get(decry);
+                stringConnection.evalSha(sha, ReturnType.VALUE, 2, key(encryType, DECRY_KEY, decry),
+                        key(encryType, ENCRY_KEY, encry), encry, decry);
+            }
+            return null;
+        });
+
+        Map<String, String> results = new HashMap<>(encrys.size() * 2);
+        for (int i = 0; i < decrys.size(); i++) {
+            Object reply = replies.get(i);
+            if (reply != null)
+                results.put(decrys.get(i), reply instanceof byte[] ? new String((byte[]) reply, StandardCharsets.UTF_8)
+                        : reply.toString());
+        }
+        return results;
+    }
+
+    private Map<String, String> multiGet(EncryTypeEnum encryType, String direction, Collection<String> values) {
+        Map<String, String> results = new HashMap<>(values.size() * 2);
+        if (values.isEmpty())
+            return results;
+        List<String> keys = new ArrayList<>(values.size());
+        values.forEach(o -> keys.add(key(encryType, direction, o)));
+        List<String> stored = stringRedisTemplate.opsForValue().multiGet(keys);
+        if (stored == null)
+            return results;
+
+        Iterator<String> iterator = values.iterator();
+        for (String value : stored) {
+            String source = iterator.next();
+            if (value != null)
+                results.put(source, value);
+        }
+        return results;
+    }
+
+    private String key(EncryTypeEnum encryType, String direction, String value) {
+        return encryProperties.getStore().getRedisKeyPrefix() + encryType.name() + direction + value;
+    }
+}
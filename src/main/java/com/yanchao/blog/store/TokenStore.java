@@ -0,0 +1,57 @@
+package com.yanchao.blog.store;
+
+import com.yanchao.blog.constant.EncryTypeEnum;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 映射存储
+ * <p>
+ * 保存明文与密文的映射, 按加解密类型隔离, 映射写入后不再修改. 实现由blog.encry.store.type选择, 需通过AbstractTokenStoreTest的一致性测试
+ */
+public interface TokenStore {
+
+    /**
+     * 批量查询密文
+     *
+     * @param encryType 加解密类型
+     * @param decrys    明文
+     * @return 明文-密文, 只包含存在的数据
+     */
+    Map<String, String> getEncrys(EncryTypeEnum encryType, Collection<String> decrys);
+
+    /**
+     * 批量查询明文
+     *
+     * @param encryType 加解密类型
+     * @param encrys    密文
+     * @return 密文-明文, 只包含存在的数据
+     */
+    Map<String, String> getDecrys(EncryTypeEnum encryType, Collection<String> encrys);
+
+    /**
+     * 批量不存在时写入
+     *
+     * @param encryType 加解密类型
+     * @param encrys    明文-密文
+     * @return 明文-最终密文: 新写入的为传入的密文, 已存在的为已有密文; 无法写入(如密文已被其他明文占用)的不在结果中
+     */
+    Map<String, String> putIfAbsent(EncryTypeEnum encryType, Map<String, String> encrys);
+
+    default String getEncry(EncryTypeEnum encryType, String decry) {
+        return getEncrys(encryType, Collections.singleton(decry)).get(decry);
+    }
+
+    default String getDecry(EncryTypeEnum encryType, String encry) {
+        return getDecrys(encryType, Collections.singleton(encry)).get(encry);
+    }
+
+    /**
+     * @return 最终密文, 无法写入时为null
+     */
+    default String putIfAbsent(EncryTypeEnum encryType, String decry, String encry) {
+        return putIfAbsent(encryType, Collections.singletonMap(decry, encry)).get(decry);
+    }
+}
@@ -0,0 +1,74 @@
+package com.yanchao.blog.util;
+
+import com.yanchao.blog.constant.EncryTypeEnum;
+
+/**
+ * 明文数值压缩
+ * <p>
+ * 手机号(11位, 首位非0)为数值; 身份证号(17位数字+校验位)为前17位数值 * 11 + 校验位(X为10) + 1. 压缩结果均大于0且小于2^62,
+ * 0表示无法压缩(小写x、15位身份证号等还原后与原值不同的明文不压缩)
+ */
+public final class DecryPackUtils {
+
+    private static final int TEL_NO_LENGTH = 11;
+    private static final int ID_NO_LENGTH = 18;
+    private static final int CHECK_X = 10;
+
+    private DecryPackUtils() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static boolean supports(EncryTypeEnum encryType) {
+        return encryType == EncryTypeEnum.TEL_NO || encryType == EncryTypeEnum.ID_NO;
+    }
+
+    /**
+     * @return 压缩后的明文, 类型不支持或无法压缩时为0
+     */
+    public static long pack(EncryTypeEnum encryType, String decry) {
+        if (decry == null)
+            return 0;
+        if (encryType == EncryTypeEnum.TEL_NO) {
+            if (decry.length() != TEL_NO_LENGTH || decry.charAt(0) == '0')
+                return 0;
+            return Math.max(digits(decry, TEL_NO_LENGTH), 0);
+        }
+        if (encryType != EncryTypeEnum.ID_NO || decry.length() != ID_NO_LENGTH)
+            return 0;
+        long digits = digits(decry, ID_NO_LENGTH - 1);
+        char check = decry.charAt(ID_NO_LENGTH - 1);
+        if (digits < 0 || (check != 'X' && (check < '0' || check > '9')))
+            return 0;
+        return digits * 11 + (check == 'X' ? CHECK_X : check - '0') + 1;
+    }
+
+    /**
+     * @param key {@link #pack(EncryTypeEnum, String)}的结果, 不为0
+     */
+    public static String unpack(EncryTypeEnum encryType, long key) {
+        if (encryType == EncryTypeEnum.TEL_NO)
+            return Long.toString(key);
+        long value = key - 1;
+        char[] chars = new char[ID_NO_LENGTH];
+        int check = (int) (value % 11);
+        chars[ID_NO_LENGTH - 1] = check == CHECK_X ? 'X' : (char) ('0' + check);
+        value /= 11;
+        for (int i = ID_NO_LENGTH - 2; i >= 0; i--, value /= 10)
+            chars[i] = (char) ('0' + value % 10);
+        return new String(chars);
+    }
+
+    /**
+     * @return 数值, 含非数字字符时为-1
+     */
+    private static long digits(String value, int length) {
+        long digits = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9')
+                return -1;
+            digits = digits * 10 + (c - '0');
+        }
+        return digits;
+    }
+}
@@ -3,9 +3,11 @@ package com.yanchao.blog.util;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 
+import javax.crypto.Mac;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.Base64;
 
 /**
@@ -41,6 +43,49 @@ public final class EncryUtils {
         return encry;
     }
 
+    /**
+     * MD5摘要
+     *
+     * @param decry 明文
+     * @return 16字节摘要
+     */
+    public static byte[] getMD5Bytes(String decry) {
+        byte[] encry = null;
+        if (StringUtils.isNotBlank(decry))
+            try {
+                encry = MessageDigest.getInstance("MD5").digest(decry.getBytes(StandardCharsets.UTF_8));
+            } catch (NoSuchAlgorithmException e) {
+                log.error("MD5加密异常", e);
+            }
+        return encry;
+    }
+
+    /**
+     * HmacSHA256, 取前16字节转为小写十六进制
+     *
+     * @param mac   已用密钥初始化的Mac, 非线程安全
+     * @param decry 明文
+     * @return 32位密文
+     */
+    public static String getHmac(Mac mac, String decry) {
+        byte[] digest = getHmacBytes(mac, decry);
+        return digest == null ? null : TokenUtils.toHex(digest);
+    }
+
+    /**
+     * HmacSHA256, 取前16字节
+     *
+     * @param mac   已用密钥初始化的Mac, 非线程安全
+     * @param decry 明文
+     * @return 16字节密文
+     */
+    public static byte[] getHmacBytes(Mac mac, String decry) {
+        byte[] encry = null;
+        if (StringUtils.isNotBlank(decry))
+            encry = Arrays.copyOf(mac.doFinal(decry.getBytes(StandardCharsets.UTF_8)), TokenUtils.TOKEN_BYTES);
+        return encry;
+    }
+
     public static String getBase64(String decry) {
         String encry = null;
         if (StringUtils.isNotBlank(decry))
@@ -0,0 +1,177 @@
+package com.yanchao.blog.util;
+
+import com.yanchao.blog.constant.IdNoCheckEnum;
+import com.yanchao.blog.constant.SexEnum;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import static com.yanchao.blog.constant.IdNoCheckEnum.WRONG_BIRTH_DATE;
+import static com.yanchao.blog.constant.SexEnum.FEMALE;
+import static com.yanchao.blog.constant.SexEnum.MALE;
+
+/**
+ * 18位身份证号出生日期、年龄、性别解析
+ * <p>
+ * 直接读取字符, 不创建对象: 出生日期以yyyyMMdd形式的int表示(如19491231), 校验月份、天数(包括闰年2月29日)及不晚于当天;
+ * 当天的日期缓存到次日零点. 调用方应先通过{@link IdentityValidator}校验格式
+ */
+public final class IdentityDecoder {
+
+    /**
+     * 出生年份下限, 更早的按有误处理
+     */
+    public static final int MIN_YEAR = 1800;
+    /**
+     * 出生日期不存在时的返回值
+     */
+    public static final int INVALID = -1;
+
+    private static final int BIRTH_DATE_OFFSET = 6;
+    private static final int SEX_OFFSET = 16;
+    private static final int[] DAYS_OF_MONTH = { 0, 31, 29, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31 };
+
+    private static volatile Today today = new Today();
+
+    private IdentityDecoder() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * 校验格式及出生日期
+     */
+    public static IdNoCheckEnum check(CharSequence idNo) {
+        IdNoCheckEnum result = IdentityValidator.check(idNo);
+        return result.isValid() && birthDate(idNo) == INVALID ? WRONG_BIRTH_DATE : result;
+    }
+
+    /**
+     * @return 第7到14位的出生日期(yyyyMMdd), 不是数字、日期不存在、早于{@link #MIN_YEAR}或晚于当天时为{@link #INVALID}
+     */
+    public static int birthDate(CharSequence idNo) {
+        if (idNo == null || idNo.length() < BIRTH_DATE_OFFSET + 8)
+            return INVALID;
+        int date = 0;
+        for (int i = BIRTH_DATE_OFFSET; i < BIRTH_DATE_OFFSET + 8; i++) {
+            int digit = idNo.charAt(i) - '0';
+            if (digit < 0 || digit > 9)
+                return INVALID;
+            date = date * 10 + digit;
+        }
+        return validate(date);
+    }
+
+    /**
+     * @param bytes  ASCII
+     * @param offset 身份证号的起始位置
+     * @see #birthDate(CharSequence)
+     */
+    public static int birthDate(byte[] bytes, int offset) {
+        if (bytes == null || offset < 0 || bytes.length < offset + BIRTH_DATE_OFFSET + 8)
+            return INVALID;
+        int date = 0;
+        for (int i = offset + BIRTH_DATE_OFFSET; i < offset + BIRTH_DATE_OFFSET + 8; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9)
+                return INVALID;
+            date = date * 10 + digit;
+        }
+        return validate(date);
+    }
+
+    public static int year(int birthDate) {
+        return birthDate / 10000;
+    }
+
+    public static int month(int birthDate) {
+        return birthDate / 100 % 100;
+    }
+
+    public static int day(int birthDate) {
+        return birthDate % 100;
+    }
+
+    public static LocalDate toLocalDate(int birthDate) {
+        return LocalDate.of(year(birthDate), month(birthDate), day(birthDate));
+    }
+
+    /**
+     * @return 周岁
+     */
+    public static int age(int birthDate) {
+        return age(birthDate, today());
+    }
+
+    /**
+     * @param today yyyyMMdd
+     * @return 到today的周岁, 2月29日出生的在平年3月1日满周岁
+     */
+    public static int age(int birthDate, int today) {
+        return year(today) - year(birthDate) - (today % 10000 < birthDate % 10000 ? 1 : 0);
+    }
+
+    /**
+     * @return 第17位奇数为男, 偶数为女; 不是数字时为null
+     */
+    public static SexEnum sex(CharSequence idNo) {
+        if (idNo == null || idNo.length() <= SEX_OFFSET)
+            return null;
+        return sex(idNo.charAt(SEX_OFFSET));
+    }
+
+    /**
+     * @param bytes  ASCII
+     * @param offset 身份证号的起始位置
+     */
+    public static SexEnum sex(byte[] bytes, int offset) {
+        if (bytes == null || offset < 0 || bytes.length <= offset + SEX_OFFSET)
+            return null;
+        return sex((char) bytes[offset + SEX_OFFSET]);
+    }
+
+    /**
+     * @return 当天(yyyyMMdd)
+     */
+    public static int today() {
+        Today current = today;
+        if (System.currentTimeMillis() >= current.until)
+            today = current = new Today();
+        return current.date;
+    }
+
+    private static int validate(int date) {
+        int year = year(date);
+        int month = month(date);
+        int day = day(date);
+        if (year < MIN_YEAR || month < 1 || month > 12 || day < 1 || day > DAYS_OF_MONTH[month])
+            return INVALID;
+        if (month == 2 && day == 29 && !isLeapYear(year))
+            return INVALID;
+        return date > today() ? INVALID : date;
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static SexEnum sex(char c) {
+        int digit = c - '0';
+        if (digit < 0 || digit > 9)
+            return null;
+        return (digit & 1) == 1 ? MALE : FEMALE;
+    }
+
+    /**
+     * 当天的日期及其有效期
+     */
+    private static final class Today {
+        private final int date;
+        private final long until;
+
+        Today() {
+            LocalDate now = LocalDate.now();
+            date = now.getYear() * 10000 + now.getMonthValue() * 100 + now.getDayOfMonth();
+            until = now.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.yanchao.blog.util;
+
+import com.yanchao.blog.constant.IdNoCheckEnum;
+
+import java.nio.ByteBuffer;
+
+import static com.yanchao.blog.constant.IdNoCheckEnum.*;
+
+/**
+ * 18位身份证号校验: 长度、字符、校验位(GB 11643)
+ * <p>
+ * 一次遍历, 不创建对象; 字节形式按ASCII处理, 可直接校验请求体或文件中的数据而不先转为String
+ */
+public final class IdentityValidator {
+
+    public static final int LENGTH = 18;
+    /**
+     * 前17位的加权系数
+     */
+    private static final int[] COEFFICIENTS = { 7, 9, 10, 5, 8, 4, 2, 1, 6, 3, 7, 9, 10, 5, 8, 4, 2 };
+    /**
+     * 加权和模11对应的校验位
+     */
+    private static final char[] MANTISSAS = { '1', '0', 'X', '9', '8', '7', '6', '5', '4', '3', '2' };
+
+    private IdentityValidator() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static IdNoCheckEnum check(CharSequence idNo) {
+        if (idNo == null || idNo.length() == 0)
+            return EMPTY;
+        if (idNo.length() != LENGTH)
+            return WRONG_LENGTH;
+
+        int sum = 0;
+        for (int i = 0; i < LENGTH - 1; i++) {
+            int digit = idNo.charAt(i) - '0';
+            if (digit < 0 || digit > 9)
+                return WRONG_CHARSET;
+            sum += digit * COEFFICIENTS[i];
+        }
+        return checkMantissa(idNo.charAt(LENGTH - 1), sum);
+    }
+
+    /**
+     * @param bytes  ASCII
+     * @param offset 起始位置
+     * @param length 字节数
+     */
+    public static IdNoCheckEnum check(byte[] bytes, int offset, int length) {
+        if (bytes == null || length == 0)
+            return EMPTY;
+        if (length != LENGTH)
+            return WRONG_LENGTH;
+
+        int sum = 0;
+        for (int i = 0; i < LENGTH - 1; i++) {
+            int digit = bytes[offset + i] - '0';
+            if (digit < 0 || digit > 9)
+                return WRONG_CHARSET;
+            sum += digit * COEFFICIENTS[i];
+        }
+        return checkMantissa(bytes[offset + LENGTH - 1], sum);
+    }
+
+    /**
+     * 校验position到limit之间的字节, 不改变position
+     */
+    public static IdNoCheckEnum check(ByteBuffer buffer) {
+        if (buffer == null || !buffer.hasRemaining())
+            return EMPTY;
+        if (buffer.remaining() != LENGTH)
+            return WRONG_LENGTH;
+
+        int offset = buffer.position();
+        int sum = 0;
+        for (int i = 0; i < LENGTH - 1; i++) {
+            int digit = buffer.get(offset + i) - '0';
+            if (digit < 0 || digit > 9)
+                return WRONG_CHARSET;
+            sum += digit * COEFFICIENTS[i];
+        }
+        return checkMantissa(buffer.get(offset + LENGTH - 1), sum);
+    }
+
+    public static boolean isValid(CharSequence idNo) {
+        return check(idNo) == VALID;
+    }
+
+    /**
+     * 末位, 小写x视同X
+     */
+    private static IdNoCheckEnum checkMantissa(int mantissa, int sum) {
+        if (mantissa == 'x')
+            mantissa = 'X';
+        if ((mantissa < '0' || mantissa > '9') && mantissa != 'X')
+            return WRONG_CHARSET;
+        return mantissa == MANTISSAS[sum % 11] ? VALID : WRONG_CHECKSUM;
+    }
+}
@@ -0,0 +1,47 @@
+package com.yanchao.blog.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 集合分组及逐级查询的未命中键
+ */
+public final class PartitionUtils {
+
+    private PartitionUtils() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * 按固定大小分组, 用于IN查询及批量写入
+     *
+     * @param values 数据
+     * @param size   每组最大条数
+     * @return 分组, 除最后一组外每组size条
+     */
+    public static <T> List<List<T>> partition(Collection<T> values, int size) {
+        List<T> list = values instanceof List ? (List<T>) values : new ArrayList<>(values);
+        List<List<T>> chunks = new ArrayList<>((list.size() + size - 1) / size);
+        for (int i = 0; i < list.size(); i += size)
+            chunks.add(list.subList(i, Math.min(list.size(), i + size)));
+        return chunks;
+    }
+
+    /**
+     * 未命中的键, 用于逐级查询时只向下一级查询前一级未命中的部分
+     *
+     * @param keys 查询的键
+     * @param hits 已命中的结果, 可以包含keys以外的键(如多组查询累积的结果)
+     * @return 不在hits中的键, 保持keys的顺序
+     */
+    public static List<String> misses(Collection<String> keys, Map<String, ?> hits) {
+        List<String> misses = new ArrayList<>(Math.max(keys.size() - hits.size(), 0));
+        keys.forEach(o -> {
+            if (!hits.containsKey(o))
+                misses.add(o);
+        });
+        return misses;
+    }
+}
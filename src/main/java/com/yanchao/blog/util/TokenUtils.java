@@ -0,0 +1,158 @@
+package com.yanchao.blog.util;
+
+import com.yanchao.blog.constant.TokenFormatEnum;
+
+/**
+ * 16字节密文的格式转换
+ * <p>
+ * 历史的十进制格式为{@link EncryUtils#getMD5(String)}的逐字节有符号十进制拼接, 不定长且不能唯一还原(按16个-128~127的数值拆分往往有多种拆法),
+ * 因此按{@link #legacyHash(String)}查询后再比较
+ */
+public final class TokenUtils {
+
+    /** 密文字节数 */
+    public static final int TOKEN_BYTES = 16;
+    public static final int HEX_LENGTH = 32;
+    public static final int BASE62_LENGTH = 22;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final char[] BASE62 = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+
+    private TokenUtils() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * @param bytes  16字节密文
+     * @param format 格式
+     * @return 密文字符串
+     */
+    public static String format(byte[] bytes, TokenFormatEnum format) {
+        switch (format) {
+            case HEX:
+                return toHex(bytes);
+            case BASE62:
+                return toBase62(bytes);
+            default:
+                return toDecimal(bytes);
+        }
+    }
+
+    /**
+     * 按格式解析
+     *
+     * @return 16字节密文, 与格式不符时为null; 十进制格式不能唯一还原, 总是为null
+     */
+    public static byte[] parse(String token, TokenFormatEnum format) {
+        switch (format) {
+            case HEX:
+                return fromHex(token);
+            case BASE62:
+                return fromBase62(token);
+            default:
+                return null;
+        }
+    }
+
+    public static String toHex(byte[] bytes) {
+        char[] chars = new char[HEX_LENGTH];
+        for (int i = 0; i < TOKEN_BYTES; i++) {
+            chars[i << 1] = HEX[(bytes[i] >> 4) & 0xF];
+            chars[(i << 1) + 1] = HEX[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 按无符号128位整数转为base62, 定长22位
+     */
+    public static String toBase62(byte[] bytes) {
+        int[] limbs = new int[4];
+        for (int i = 0; i < TOKEN_BYTES; i++)
+            limbs[i >> 2] = limbs[i >> 2] << 8 | (bytes[i] & 0xFF);
+        char[] chars = new char[BASE62_LENGTH];
+        for (int position = BASE62_LENGTH - 1; position >= 0; position--) {
+            long remainder = 0;
+            for (int i = 0; i < limbs.length; i++) {
+                long current = remainder << 32 | (limbs[i] & 0xFFFFFFFFL);
+                limbs[i] = (int) (current / 62);
+                remainder = current % 62;
+            }
+            chars[position] = BASE62[(int) remainder];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 历史格式, 与{@link EncryUtils#getMD5(String)}一致
+     */
+    public static String toDecimal(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(64);
+        for (byte b : bytes)
+            sb.append(b);
+        return sb.toString();
+    }
+
+    /**
+     * @return 32位小写十六进制对应的16字节, 格式不符时为null
+     */
+    public static byte[] fromHex(String token) {
+        if (token == null || token.length() != HEX_LENGTH)
+            return null;
+        byte[] bytes = new byte[TOKEN_BYTES];
+        for (int i = 0; i < HEX_LENGTH; i++) {
+            char c = token.charAt(i);
+            int digit = c >= '0' && c <= '9' ? c - '0' : c >= 'a' && c <= 'f' ? c - 'a' + 10 : -1;
+            if (digit < 0)
+                return null;
+            bytes[i >> 1] |= (i & 1) == 0 ? digit << 4 : digit;
+        }
+        return bytes;
+    }
+
+    /**
+     * @return 22位base62对应的16字节, 格式不符或超过128位时为null
+     */
+    public static byte[] fromBase62(String token) {
+        if (token == null || token.length() != BASE62_LENGTH)
+            return null;
+        int[] limbs = new int[4];
+        for (int position = 0; position < BASE62_LENGTH; position++) {
+            int digit = base62Digit(token.charAt(position));
+            if (digit < 0)
+                return null;
+            long carry = digit;
+            for (int i = limbs.length - 1; i >= 0; i--) {
+                long current = (limbs[i] & 0xFFFFFFFFL) * 62 + carry;
+                limbs[i] = (int) current;
+                carry = current >>> 32;
+            }
+            if (carry != 0)
+                return null;
+        }
+        byte[] bytes = new byte[TOKEN_BYTES];
+        for (int i = 0; i < TOKEN_BYTES; i++)
+            bytes[i] = (byte) (limbs[i >> 2] >>> (24 - 8 * (i & 3)));
+        return bytes;
+    }
+
+    private static int base62Digit(char c) {
+        if (c >= '0' && c <= '9')
+            return c - '0';
+        if (c >= 'A' && c <= 'Z')
+            return c - 'A' + 10;
+        if (c >= 'a' && c <= 'z')
+            return c - 'a' + 36;
+        return -1;
+    }
+
+    /**
+     * 历史格式密文的64位哈希(FNV-1a), 用于按定长列查询不能还原的十进制密文
+     */
+    public static long legacyHash(String token) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < token.length(); i++)
+            hash = (hash ^ token.charAt(i)) * 0x100000001B3L;
+        return hash;
+    }
+}
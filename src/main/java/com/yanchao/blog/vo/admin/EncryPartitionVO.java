@@ -0,0 +1,25 @@
+package com.yanchao.blog.vo.admin;
+
+import com.yanchao.blog.constant.EncryTypeEnum;
+import com.yanchao.blog.vo.ResponseDataVO;
+import lombok.*;
+
+/**
+ * 加解密表分区
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public class EncryPartitionVO extends ResponseDataVO {
+    private static final long serialVersionUID = -3394117064625518270L;
+
+    private String partition;
+    private EncryTypeEnum encryType;
+    /** 行数(估算) */
+    private long rows;
+    private long dataBytes;
+    private long indexBytes;
+}
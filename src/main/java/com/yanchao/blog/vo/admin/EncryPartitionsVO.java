@@ -0,0 +1,24 @@
+package com.yanchao.blog.vo.admin;
+
+import com.yanchao.blog.vo.ResponseDataVO;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 加解密表分区列表
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public class EncryPartitionsVO extends ResponseDataVO {
+    private static final long serialVersionUID = 2213675408021950761L;
+
+    private String table;
+    /** 归档产生的表名, 只在归档时返回 */
+    private String archiveTable;
+    private List<EncryPartitionVO> partitions;
+}
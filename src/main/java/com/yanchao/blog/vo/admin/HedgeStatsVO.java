@@ -0,0 +1,33 @@
+package com.yanchao.blog.vo.admin;
+
+import com.yanchao.blog.vo.ResponseDataVO;
+import lombok.*;
+
+/**
+ * 对冲读统计
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public class HedgeStatsVO extends ResponseDataVO {
+    private static final long serialVersionUID = -6829075432217196614L;
+
+    private boolean enabled;
+    /** 可对冲的从库读请求数 */
+    private long reads;
+    /** 已发出的对冲请求数 */
+    private long hedges;
+    /** 对冲请求先返回的次数 */
+    private long wins;
+    /** 超过等待时间但预算不足未对冲的次数 */
+    private long budgetExhausted;
+    /** 对冲率: hedges / reads */
+    private double hedgeRate;
+    /** 对冲胜出率: wins / hedges */
+    private double winRate;
+    /** 当前等待时间(毫秒) */
+    private double delayMillis;
+}
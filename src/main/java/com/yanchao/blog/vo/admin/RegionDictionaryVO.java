@@ -0,0 +1,34 @@
+package com.yanchao.blog.vo.admin;
+
+import com.yanchao.blog.vo.ResponseDataVO;
+import lombok.*;
+
+import java.util.Date;
+
+/**
+ * 地区码统计
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public class RegionDictionaryVO extends ResponseDataVO {
+    private static final long serialVersionUID = 6203815570741928463L;
+
+    /** 数据版本 */
+    private String version;
+    /** 外部文件路径, 使用classpath中的数据时为classpath:region/regions.txt */
+    private String source;
+    private Date loadedAt;
+    /** 地区码个数 */
+    private int size;
+    /** 有效期个数 */
+    private int periods;
+    /** 重新加载成功次数 */
+    private long reloads;
+    /** 重新加载失败次数, 失败时继续使用原数据 */
+    private long failures;
+    private String lastError;
+}
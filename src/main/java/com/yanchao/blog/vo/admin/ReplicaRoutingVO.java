@@ -0,0 +1,29 @@
+package com.yanchao.blog.vo.admin;
+
+import com.yanchao.blog.vo.ResponseDataVO;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 读写分离统计
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public class ReplicaRoutingVO extends ResponseDataVO {
+    private static final long serialVersionUID = 2790532064191367305L;
+
+    private boolean enabled;
+    /** 没有可用从库, 由主库完成的读请求数 */
+    private long primaryReads;
+    /** 从库读失败后改由主库完成的次数 */
+    private long failovers;
+    /** 从库未查到, 再查主库的次数 */
+    private long missFallbacks;
+    private HedgeStatsVO hedge;
+    private List<ReplicaVO> replicas;
+}
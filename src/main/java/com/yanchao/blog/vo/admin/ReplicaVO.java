@@ -0,0 +1,30 @@
+package com.yanchao.blog.vo.admin;
+
+import com.yanchao.blog.vo.ResponseDataVO;
+import lombok.*;
+
+/**
+ * 从库状态
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public class ReplicaVO extends ResponseDataVO {
+    private static final long serialVersionUID = -4417602963385029153L;
+
+    private String name;
+    /** 连接是否正常 */
+    private boolean up;
+    /** 是否超过最大复制延迟 */
+    private boolean lagging;
+    /** 复制延迟(毫秒), 未检查时为-1 */
+    private long lagMillis;
+    /** 由该从库完成的读请求数 */
+    private long reads;
+    /** 读请求失败次数 */
+    private long failures;
+    private String lastError;
+}
@@ -0,0 +1,31 @@
+package com.yanchao.blog.vo.admin;
+
+import com.yanchao.blog.vo.ResponseDataVO;
+import lombok.*;
+
+/**
+ * 存储迁移复制统计
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public class StoreBackfillStatsVO extends ResponseDataVO {
+    private static final long serialVersionUID = 5126693271750829370L;
+
+    private boolean enabled;
+    /** 是否由本节点执行复制 */
+    private boolean worker;
+    /** 本轮已扫描到的主键 */
+    private long lastId;
+    /** 已复制条数 */
+    private long copied;
+    /** 已完成的完整扫描轮数 */
+    private long passes;
+    /** 是否已扫描到末尾 */
+    private boolean caughtUp;
+    /** 上一轮完整扫描是否没有复制任何行 */
+    private boolean idle;
+}
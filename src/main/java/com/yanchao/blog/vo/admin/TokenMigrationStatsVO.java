@@ -0,0 +1,31 @@
+package com.yanchao.blog.vo.admin;
+
+import com.yanchao.blog.vo.ResponseDataVO;
+import lombok.*;
+
+/**
+ * 历史密文迁移统计
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public class TokenMigrationStatsVO extends ResponseDataVO {
+    private static final long serialVersionUID = -2870165723519018844L;
+
+    private boolean enabled;
+    /** 是否由本节点执行扫描 */
+    private boolean worker;
+    /** 本轮已扫描到的主键 */
+    private long lastId;
+    /** 已迁移条数 */
+    private long migrated;
+    /** 上一轮扫描中无法还原而跳过的条数 */
+    private long skipped;
+    /** 是否已扫描到末尾, 为true且跳过数为0时可执行迁移脚本的第二步 */
+    private boolean caughtUp;
+    /** 上一轮完整扫描是否没有迁移任何行 */
+    private boolean idle;
+}
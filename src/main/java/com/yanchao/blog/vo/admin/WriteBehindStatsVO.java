@@ -0,0 +1,34 @@
+package com.yanchao.blog.vo.admin;
+
+import com.yanchao.blog.vo.ResponseDataVO;
+import lombok.*;
+
+/**
+ * 异步写库统计
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public class WriteBehindStatsVO extends ResponseDataVO {
+    private static final long serialVersionUID = 7311532817004620452L;
+
+    private boolean enabled;
+    /** 待写库条数 */
+    private long queueDepth;
+    /** 写库次数 */
+    private long flushCount;
+    /** 已写库条数 */
+    private long flushedRows;
+    /** 写库失败次数 */
+    private long flushFailures;
+    /** 写入冲突条数(库中已存在不同密文) */
+    private long conflicts;
+    /** 待写库条数达到上限而拒绝的次数 */
+    private long rejected;
+    private double lastFlushMillis;
+    private double maxFlushMillis;
+    private double avgFlushMillis;
+}
@@ -0,0 +1,28 @@
+package com.yanchao.blog.vo.cache;
+
+import com.yanchao.blog.vo.ResponseDataVO;
+import lombok.*;
+
+/**
+ * 缓存统计
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public class CacheStatsVO extends ResponseDataVO {
+    private static final long serialVersionUID = 2286130569826375113L;
+
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount;
+    /** 条数 */
+    private long size;
+    /** 估算占用字节数 */
+    private long weight;
+    /** 最大占用字节数 */
+    private long maxWeight;
+}
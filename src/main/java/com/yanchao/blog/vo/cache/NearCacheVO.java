@@ -0,0 +1,22 @@
+package com.yanchao.blog.vo.cache;
+
+import com.yanchao.blog.vo.ResponseDataVO;
+import lombok.*;
+
+/**
+ * 进程内缓存统计
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public class NearCacheVO extends ResponseDataVO {
+    private static final long serialVersionUID = -4603158710529047724L;
+
+    /** 明文->密文 */
+    private CacheStatsVO encry;
+    /** 密文->明文 */
+    private CacheStatsVO decry;
+}
@@ -0,0 +1,22 @@
+package com.yanchao.blog.vo.cache;
+
+import com.yanchao.blog.vo.ResponseDataVO;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 堆外索引统计
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public class PrimitiveCacheVO extends ResponseDataVO {
+    private static final long serialVersionUID = -2361470718530695724L;
+
+    private boolean enabled;
+    private List<PrimitiveIndexVO> indexes;
+}
@@ -0,0 +1,28 @@
+package com.yanchao.blog.vo.cache;
+
+import com.yanchao.blog.constant.EncryTypeEnum;
+import com.yanchao.blog.vo.ResponseDataVO;
+import lombok.*;
+
+/**
+ * 堆外索引统计
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public class PrimitiveIndexVO extends ResponseDataVO {
+    private static final long serialVersionUID = 6021838593151340487L;
+
+    private EncryTypeEnum encryType;
+    private long hitCount;
+    private long missCount;
+    /** 条数 */
+    private long size;
+    /** 最大条数 */
+    private long maxEntries;
+    /** 堆外内存字节数 */
+    private long offHeapBytes;
+}
@@ -0,0 +1,21 @@
+package com.yanchao.blog.vo.encry;
+
+import com.yanchao.blog.vo.ResponseDataVO;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 批量加解密结果, 与请求顺序一致
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public class EncryBatchVO extends ResponseDataVO {
+    private static final long serialVersionUID = -1180357226340965175L;
+
+    private List<EncryResultVO> results;
+}
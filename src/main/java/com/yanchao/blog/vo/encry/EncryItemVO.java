@@ -0,0 +1,23 @@
+package com.yanchao.blog.vo.encry;
+
+import com.yanchao.blog.constant.EncryTypeEnum;
+import com.yanchao.blog.vo.RequestVO;
+import lombok.*;
+
+/**
+ * 批量加解密请求项
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public class EncryItemVO extends RequestVO {
+    private static final long serialVersionUID = -3417725283160474201L;
+
+    /** 明文或密文 */
+    private String value;
+    /** 加解密类型 */
+    private EncryTypeEnum encryType;
+}
@@ -0,0 +1,33 @@
+package com.yanchao.blog.vo.encry;
+
+import com.yanchao.blog.constant.ErrorEnum;
+import com.yanchao.blog.vo.ResponseDataVO;
+import lombok.*;
+
+import static com.yanchao.blog.constant.ErrorEnum.SUCCESS;
+
+/**
+ * 批量加解密结果项
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public class EncryResultVO extends ResponseDataVO {
+    private static final long serialVersionUID = 5730129950488101846L;
+
+    private int code;
+    private String message;
+    /** 密文或明文 */
+    private String value;
+
+    public static EncryResultVO success(String value) {
+        return result(SUCCESS, value);
+    }
+
+    public static EncryResultVO result(ErrorEnum error, String value) {
+        return new EncryResultVO(error.getCode(), error.getMessage(), value);
+    }
+}
@@ -29,5 +29,7 @@ public class IdentityInfoVO implements Serializable {
     private DicVO city;
     private DicVO area;
     private Date birthDate;
+    /** 周岁 */
+    private int age;
     private SexEnum sex;
 }
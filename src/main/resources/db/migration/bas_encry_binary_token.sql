@@ -0,0 +1,16 @@
+-- 加解密表-16字节密文迁移(MySQL)
+-- blog.encry.token.format配置为HEX/BASE62前执行第一步; 第二步在迁移完成(/admin/token-migration的caughtUp为true且skipped为0)、
+-- 且所有节点均已升级后执行
+
+-- 第一步: 新增列及索引. 大表建议使用pt-online-schema-change或gh-ost执行
+alter table bas_encry
+  modify column encry varchar(255) null,
+  add column encry_bin binary(16) null after encry,
+  add column legacy_hash bigint null after encry_bin,
+  add unique key uk_bas_encry_encry_bin_type (encry_bin, type),
+  add key idx_bas_encry_legacy_hash (legacy_hash);
+
+-- 第二步: 清空已迁移行的历史密文, 按主键分批执行直到影响行数为0, 避免长事务.
+-- 历史十进制密文已由legacy_hash + encry_bin还原比较, 清空后仍可解密; 关闭blog.encry.token.migration后不再查询encry列.
+-- 不要直接删除encry列: MySQL删除列时会从联合唯一索引中移除该列, (encry, type)将变为(type)上的唯一索引
+update bas_encry set encry = null where encry is not null and encry_bin is not null limit 10000;
@@ -0,0 +1,36 @@
+-- 加解密表按类型分区(MySQL 5.7+)
+-- 每个类型一个分区, 各自的索引独立且较小; 按type查询时只访问该分区. 分区名为p_加上类型名小写, 运维接口依赖此命名:
+-- GET /admin/store/partitions, POST /admin/store/partitions/{type}/archive, POST /admin/store/partitions/{type}/rebuild
+-- 大表执行需复制全表, 建议使用pt-online-schema-change
+
+-- bas_encry
+-- 1. 删除encry、decry上的单列唯一索引(JPA生成, 索引名随机): 同一明文/密文不能出现在两个类型下, 且分区表的唯一索引必须包含type.
+--    执行以下查询生成的语句:
+select concat('alter table bas_encry drop index ', index_name, ';')
+  from information_schema.statistics
+ where table_schema = database() and table_name = 'bas_encry' and non_unique = 0 and index_name <> 'PRIMARY'
+ group by index_name
+having count(*) = 1 and max(column_name) in ('encry', 'decry');
+-- 2. 主键加上type并分区
+alter table bas_encry drop primary key, add primary key (id, type)
+  partition by list columns (type) (
+    partition p_tel_no values in ('TEL_NO'),
+    partition p_user_name values in ('USER_NAME'),
+    partition p_id_no values in ('ID_NO'),
+    partition p_password values in ('PASSWORD')
+  );
+
+-- bas_encry_v2, type为EncryTypeEnum.code
+alter table bas_encry_v2 drop primary key, add primary key (id, type)
+  partition by list (type) (
+    partition p_tel_no values in (1),
+    partition p_user_name values in (2),
+    partition p_id_no values in (3),
+    partition p_password values in (4)
+  );
+
+-- 新增类型时先增加分区, 否则写入失败:
+-- alter table bas_encry add partition (partition p_xxx values in ('XXX'));
+-- alter table bas_encry_v2 add partition (partition p_xxx values in (5));
+-- 归档的表恢复(分区中已有的行会交换到归档表中):
+-- alter table bas_encry exchange partition p_xxx with table bas_encry_xxx_yyyyMMddHHmmss;
@@ -0,0 +1,31 @@
+-- 加解密表v2(MySQL), blog.encry.store.type=JDBC_V2
+-- 与bas_encry相比: type为TINYINT编码(EncryTypeEnum.code); 手机号、身份证号压缩为decry_num, decry为空串;
+-- 密文为VARBINARY, 16字节格式保存原始字节; 去掉creator等固定值列; 只保留查询需要的两个唯一索引.
+-- legacy_hash: MD5摘要保存为16字节的行, 十进制形式密文(迁移前返回过)的哈希, 关闭dual-write后历史密文按此解密
+-- 每行约40~60字节(bas_encry约150字节), 每次写入维护2棵二级索引(bas_encry为4棵, 且均为varchar(255)宽键)
+
+create table if not exists bas_encry_v2 (
+  id bigint not null auto_increment,
+  type tinyint not null,
+  decry_num bigint not null default 0,
+  decry varchar(255) not null default '',
+  encry varbinary(64) not null,
+  encry_format tinyint not null,
+  legacy_hash bigint null,
+  create_time datetime not null,
+  primary key (id),
+  unique key uk_bas_encry_v2_decry (type, decry_num, decry),
+  unique key uk_bas_encry_v2_encry (type, encry),
+  key idx_bas_encry_v2_legacy_hash (legacy_hash)
+) engine = InnoDB default charset = utf8mb4;
+
+-- 在线迁移(复制后切换), 不停服:
+-- 1. 执行上面的建表语句
+-- 2. 逐个节点发布, 配置blog.encry.store.type=JDBC_V2, blog.encry.store.v2.dual-write=true:
+--    新映射先写bas_encry再写v2表, 查询v2表未命中的再查bas_encry; 后台按主键复制bas_encry到v2表(已存在的跳过)
+-- 3. 所有节点发布完成后, 等待/admin/store/v2/backfill的passes再增加1(发布完成后的一轮完整复制结束), 核对行数:
+select (select count(*) from bas_encry) as v1_rows, (select count(*) from bas_encry_v2) as v2_rows;
+-- 4. 逐个节点配置blog.encry.store.v2.dual-write=false, 之后不再访问bas_encry. 保留bas_encry一段时间以便回退:
+--    回退时恢复type=JDBC, dual-write关闭后v2表新写入的映射需按主键反向复制回bas_encry
+-- 5. 确认不再回退后:
+-- rename table bas_encry to bas_encry_archive;
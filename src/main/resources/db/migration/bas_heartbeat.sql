@@ -0,0 +1,8 @@
+-- 主从复制心跳表(MySQL), 在主库执行, 随复制同步到从库. 启用读写分离后各节点定时写入当前时间(毫秒),
+-- 从库上读到的时间与当前时间之差即复制延迟; 各节点时钟需同步(NTP), 偏差会计入延迟
+
+create table if not exists bas_heartbeat (
+  id int not null,
+  beat_time bigint not null,
+  primary key (id)
+) engine = InnoDB;
@@ -0,0 +1,15 @@
+-- 主键号段表(MySQL), JPA(EncryPO)与JDBC(EncryJdbcDAO)写入均按号段分配主键, 不再使用自增列. ddl-auto会自动建表, 已有数据时需在
+-- 升级前初始化起始值, 否则号段从1开始与已有主键冲突. next_val为下一段的起始值(pooled-lo), 每次分配1000个
+
+create table if not exists bas_id_seq (
+  sequence_name varchar(255) not null,
+  next_val bigint,
+  primary key (sequence_name)
+) engine = InnoDB;
+
+insert into bas_id_seq (sequence_name, next_val)
+select 'bas_encry', coalesce(max(id), 0) + 1 from bas_encry
+    on duplicate key update next_val = greatest(next_val, values(next_val));
+
+-- 所有节点升级后去掉自增属性. 滚动发布期间未升级节点写入的自增主键可能与号段冲突, 冲突的映射未写入, 由调用方重试:
+-- alter table bas_encry modify id bigint not null;
@@ -0,0 +1,147 @@
+package com.yanchao.blog.cache;
+
+import com.yanchao.blog.config.EncryProperties;
+import com.yanchao.blog.util.EncryUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.*;
+
+import static com.yanchao.blog.constant.EncryTypeEnum.TEL_NO;
+import static com.yanchao.blog.constant.EncryTypeEnum.USER_NAME;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 加解密-两级缓存-测试类: 堆外索引 -> 进程内缓存 -> Redis的查询顺序、Redis命中后回填及Redis异常后跳过, Redis为模拟
+ */
+public class EncryCacheTest {
+
+    private static final String KEY_PREFIX = "blog:encry:";
+
+    private EncryProperties encryProperties;
+    private EncryPrimitiveCache encryPrimitiveCache;
+    private EncryNearCache encryNearCache;
+    private ValueOperations<String, String> valueOperations;
+    private StringRedisTemplate stringRedisTemplate;
+    private EncryCache encryCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void init() {
+        encryProperties = new EncryProperties();
+        encryProperties.getPrimitive().setEnabled(true);
+        encryProperties.getPrimitive().setMaxEntries(1000);
+        encryProperties.getNear().setMaxBytes(1 << 20);
+        encryProperties.getRedis().setBackoff(Duration.ofMillis(200));
+        encryPrimitiveCache = new EncryPrimitiveCache(encryProperties);
+        encryPrimitiveCache.init();
+        encryNearCache = new EncryNearCache(encryProperties);
+        encryNearCache.init();
+
+        valueOperations = mock(ValueOperations.class);
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        encryCache = new EncryCache(encryPrimitiveCache, encryNearCache,
+                new EncryRedisCache(stringRedisTemplate, encryProperties));
+    }
+
+    @Test
+    void tiers() {
+        String tel = "13800000000";
+        String userName = "yanchao";
+        encryCache.put(TEL_NO, tel, EncryUtils.getMD5(tel));
+        encryCache.put(USER_NAME, userName, EncryUtils.getMD5(userName));
+
+        // 手机号写入堆外索引, 不再写入进程内缓存; 不支持的类型写入进程内缓存
+        assertEquals(EncryUtils.getMD5(tel), encryPrimitiveCache.getEncry(TEL_NO, tel));
+        assertNull(encryNearCache.getEncry(TEL_NO, tel));
+        assertEquals(EncryUtils.getMD5(userName), encryNearCache.getEncry(USER_NAME, userName));
+        // 堆外索引无法保存的密文写入进程内缓存
+        String base64 = EncryUtils.getBase64("13800000001");
+        encryCache.put(TEL_NO, "13800000001", base64);
+        assertEquals(base64, encryNearCache.getEncry(TEL_NO, "13800000001"));
+        // 写入Redis
+        verify(stringRedisTemplate, times(3)).executePipelined(any(RedisCallback.class));
+
+        assertEquals(EncryUtils.getMD5(tel), encryCache.getEncry(TEL_NO, tel));
+        assertEquals("13800000001", encryCache.getDecry(TEL_NO, base64));
+        assertEquals(userName, encryCache.getDecry(USER_NAME, EncryUtils.getMD5(userName)));
+        verifyNoInteractions(valueOperations);
+    }
+
+    @Test
+    void onlyMissesReachRedis() {
+        encryCache.put(TEL_NO, "13800000000", EncryUtils.getMD5("13800000000"));
+        encryCache.put(TEL_NO, "13800000001", EncryUtils.getBase64("13800000001"));
+        when(valueOperations.multiGet(anyList())).thenAnswer(invocation -> {
+            List<String> keys = invocation.getArgument(0);
+            List<String> values = new ArrayList<>(keys.size());
+            keys.forEach(o -> values.add(o.endsWith("13800000002") ? EncryUtils.getMD5("13800000002") : null));
+            return values;
+        });
+
+        List<String> decrys = Arrays.asList("13800000000", "13800000001", "13800000002", "13800000003");
+        Map<String, String> encrys = encryCache.getEncrys(TEL_NO, decrys);
+        assertEquals(3, encrys.size());
+        assertEquals(EncryUtils.getMD5("13800000000"), encrys.get("13800000000"));
+        assertEquals(EncryUtils.getBase64("13800000001"), encrys.get("13800000001"));
+        assertEquals(EncryUtils.getMD5("13800000002"), encrys.get("13800000002"));
+        verify(valueOperations).multiGet(Arrays.asList(KEY_PREFIX + "TEL_NO:d:13800000002",
+                KEY_PREFIX + "TEL_NO:d:13800000003"));
+
+        // Redis命中的回填本节点, 两个方向
+        assertEquals(EncryUtils.getMD5("13800000002"), encryPrimitiveCache.getEncry(TEL_NO, "13800000002"));
+        assertEquals("13800000002", encryCache.getDecry(TEL_NO, EncryUtils.getMD5("13800000002")));
+        assertEquals(encrys, encryCache.getEncrys(TEL_NO, decrys.subList(0, 3)));
+        verify(valueOperations, times(1)).multiGet(anyList());
+        verify(valueOperations, never()).get(anyString());
+    }
+
+    @Test
+    void backsOffAfterRedisFailure() throws InterruptedException {
+        encryCache.put(TEL_NO, "13800000000", EncryUtils.getMD5("13800000000"));
+        when(valueOperations.multiGet(anyList())).thenThrow(new RedisConnectionFailureException("down"));
+        when(valueOperations.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+
+        // Redis异常时只返回本节点命中的, 由调用方回源
+        List<String> decrys = Arrays.asList("13800000000", "13800000001");
+        assertEquals(Collections.singletonMap("13800000000", EncryUtils.getMD5("13800000000")),
+                encryCache.getEncrys(TEL_NO, decrys));
+        verify(valueOperations, times(1)).multiGet(anyList());
+
+        // backoff内不访问Redis, 写入也跳过
+        assertNull(encryCache.getEncry(TEL_NO, "13800000001"));
+        assertTrue(encryCache.getDecrys(TEL_NO, Collections.singletonList("x")).isEmpty());
+        encryCache.put(TEL_NO, "13800000002", EncryUtils.getMD5("13800000002"));
+        verify(valueOperations, times(1)).multiGet(anyList());
+        verify(valueOperations, never()).get(anyString());
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        // 本节点仍写入
+        assertEquals(EncryUtils.getMD5("13800000002"), encryCache.getEncry(TEL_NO, "13800000002"));
+
+        Thread.sleep(encryProperties.getRedis().getBackoff().toMillis() + 50);
+        reset(valueOperations);
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList((String) null));
+        assertTrue(encryCache.getEncrys(TEL_NO, Collections.singletonList("13800000001")).isEmpty());
+        verify(valueOperations, times(1)).multiGet(anyList());
+    }
+
+    @Test
+    void otherErrorsPropagate() {
+        when(valueOperations.get(anyString())).thenThrow(new IllegalArgumentException("bad key"));
+        assertThrows(IllegalArgumentException.class, () -> encryCache.getEncry(TEL_NO, "13800000000"));
+        // 不进入backoff
+        reset(valueOperations);
+        encryCache.getEncry(TEL_NO, "13800000000");
+        verify(valueOperations).get(KEY_PREFIX + "TEL_NO:d:13800000000");
+    }
+}
@@ -0,0 +1,113 @@
+package com.yanchao.blog.cache;
+
+import com.yanchao.blog.config.EncryProperties;
+import com.yanchao.blog.util.EncryUtils;
+import com.yanchao.blog.vo.cache.CacheStatsVO;
+import com.yanchao.blog.vo.cache.NearCacheVO;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.yanchao.blog.constant.EncryTypeEnum.TEL_NO;
+import static com.yanchao.blog.constant.EncryTypeEnum.USER_NAME;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 加解密-进程内缓存-测试类: 两个方向、按类型区分、清除及按估算字节数淘汰
+ */
+public class EncryNearCacheTest {
+
+    @Test
+    void bothDirections() {
+        EncryNearCache nearCache = nearCache(1 << 20);
+        Map<String, String> encrys = new HashMap<>();
+        for (int i = 0; i < 10; i++) {
+            String decry = String.valueOf(13800000000L + i);
+            encrys.put(decry, EncryUtils.getMD5(decry));
+        }
+        nearCache.putAll(TEL_NO, encrys);
+
+        String decry = "13800000000";
+        String encry = EncryUtils.getMD5(decry);
+        assertEquals(encry, nearCache.getEncry(TEL_NO, decry));
+        assertEquals(decry, nearCache.getDecry(TEL_NO, encry));
+        assertNull(nearCache.getEncry(USER_NAME, decry));
+        assertEquals(Collections.singletonMap(decry, encry),
+                nearCache.getEncrys(TEL_NO, Arrays.asList(decry, "13900000000")));
+        assertEquals(Collections.singletonMap(encry, decry),
+                nearCache.getDecrys(TEL_NO, Arrays.asList(encry, EncryUtils.getMD5("13900000000"))));
+    }
+
+    @Test
+    void evict() {
+        EncryNearCache nearCache = nearCache(1 << 20);
+        nearCache.put(TEL_NO, "13800000000", EncryUtils.getMD5("13800000000"));
+        nearCache.put(TEL_NO, "13800000001", EncryUtils.getMD5("13800000001"));
+        nearCache.put(USER_NAME, "yanchao", EncryUtils.getMD5("yanchao"));
+
+        // 按密文清除时两个方向都清除
+        nearCache.evict(TEL_NO, EncryUtils.getMD5("13800000000"));
+        assertNull(nearCache.getEncry(TEL_NO, "13800000000"));
+        assertNull(nearCache.getDecry(TEL_NO, EncryUtils.getMD5("13800000000")));
+        assertEquals("13800000001", nearCache.getDecry(TEL_NO, EncryUtils.getMD5("13800000001")));
+
+        nearCache.evict(TEL_NO, null);
+        assertNull(nearCache.getEncry(TEL_NO, "13800000001"));
+        assertEquals(EncryUtils.getMD5("yanchao"), nearCache.getEncry(USER_NAME, "yanchao"));
+
+        nearCache.evict(null, null);
+        assertNull(nearCache.getDecry(USER_NAME, EncryUtils.getMD5("yanchao")));
+    }
+
+    @Test
+    void evictsBeyondMaxBytes() throws InterruptedException {
+        // 每条约270字节(估算), 每个方向约能容纳100条
+        EncryNearCache nearCache = nearCache(54000);
+        for (int i = 0; i < 2000; i++) {
+            String decry = String.valueOf(13800000000L + i);
+            nearCache.put(TEL_NO, decry, EncryUtils.getMD5(decry));
+        }
+
+        // Caffeine异步维护容量
+        NearCacheVO stats = nearCache.stats();
+        for (int i = 0; i < 100 && !evicted(stats); i++) {
+            Thread.sleep(50);
+            stats = nearCache.stats();
+        }
+        assertTrue(evicted(stats));
+        for (CacheStatsVO direction : Arrays.asList(stats.getEncry(), stats.getDecry())) {
+            assertEquals(27000, direction.getMaxWeight());
+            assertTrue(direction.getEvictionCount() > 0);
+        }
+    }
+
+    @Test
+    void disabled() {
+        EncryProperties encryProperties = new EncryProperties();
+        encryProperties.getNear().setEnabled(false);
+        EncryNearCache nearCache = new EncryNearCache(encryProperties);
+        nearCache.init();
+        nearCache.put(TEL_NO, "13800000000", EncryUtils.getMD5("13800000000"));
+        assertNull(nearCache.getEncry(TEL_NO, "13800000000"));
+        assertTrue(nearCache.getEncrys(TEL_NO, Collections.singletonList("13800000000")).isEmpty());
+    }
+
+    /**
+     * 写入缓冲中的数据已处理完, 两个方向都已淘汰到容量以内
+     */
+    private static boolean evicted(NearCacheVO stats) {
+        return Arrays.asList(stats.getEncry(), stats.getDecry()).stream()
+                .allMatch(o -> o.getWeight() <= o.getMaxWeight() && o.getSize() < 200);
+    }
+
+    private static EncryNearCache nearCache(long maxBytes) {
+        EncryProperties encryProperties = new EncryProperties();
+        encryProperties.getNear().setMaxBytes(maxBytes);
+        EncryNearCache nearCache = new EncryNearCache(encryProperties);
+        nearCache.init();
+        return nearCache;
+    }
+}
@@ -0,0 +1,66 @@
+package com.yanchao.blog.cache;
+
+import com.yanchao.blog.config.EncryProperties;
+import com.yanchao.blog.util.EncryUtils;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.yanchao.blog.constant.EncryTypeEnum.ID_NO;
+import static com.yanchao.blog.constant.EncryTypeEnum.TEL_NO;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 加解密-Redis缓存-测试类, 需要本地Redis: -Dredis.host=127.0.0.1
+ */
+@EnabledIfSystemProperty(named = "redis.host", matches = ".+")
+public class EncryRedisCacheTest {
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static EncryRedisCache encryRedisCache;
+
+    @BeforeAll
+    static void init() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(System.getProperty("redis.host"), 6379));
+        connectionFactory.afterPropertiesSet();
+        EncryProperties encryProperties = new EncryProperties();
+        encryProperties.getRedis().setKeyPrefix("blog:test:" + System.currentTimeMillis() + ":");
+        encryRedisCache = new EncryRedisCache(new StringRedisTemplate(connectionFactory), encryProperties);
+    }
+
+    @AfterAll
+    static void destroy() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void evict() {
+        Map<String, String> tels = new HashMap<>();
+        for (int i = 0; i < 2500; i++) {
+            String decry = String.valueOf(13800000000L + i);
+            tels.put(decry, EncryUtils.getMD5(decry));
+        }
+        encryRedisCache.putAll(TEL_NO, tels);
+        String idNo = "11010519491231002X";
+        encryRedisCache.put(ID_NO, idNo, EncryUtils.getMD5(idNo));
+
+        encryRedisCache.evict(TEL_NO, "13800000000", EncryUtils.getMD5("13800000000"));
+        assertNull(encryRedisCache.getEncry(TEL_NO, "13800000000"));
+        assertNull(encryRedisCache.getDecry(TEL_NO, EncryUtils.getMD5("13800000000")));
+        assertEquals("13800000001", encryRedisCache.getDecry(TEL_NO, EncryUtils.getMD5("13800000001")));
+
+        // 两个方向, 跨多批SCAN
+        assertEquals(2 * (tels.size() - 1), encryRedisCache.evict(TEL_NO));
+        assertTrue(encryRedisCache.getEncrys(TEL_NO, tels.keySet()).isEmpty());
+        assertEquals(EncryUtils.getMD5(idNo), encryRedisCache.getEncry(ID_NO, idNo));
+        assertEquals(2, encryRedisCache.evict(ID_NO));
+    }
+}
@@ -0,0 +1,124 @@
+package com.yanchao.blog.cache;
+
+import com.yanchao.blog.util.EncryUtils;
+import com.yanchao.blog.util.TokenUtils;
+import org.junit.jupiter.api.Test;
+
+import static com.yanchao.blog.constant.EncryTypeEnum.ID_NO;
+import static com.yanchao.blog.constant.EncryTypeEnum.TEL_NO;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 加解密-堆外定长索引-测试类
+ */
+public class PrimitiveTokenIndexTest {
+
+    @Test
+    void md5Token() {
+        PrimitiveTokenIndex index = new PrimitiveTokenIndex(TEL_NO, 1000);
+        for (int i = 0; i < 1000; i++) {
+            String decry = String.valueOf(13800000000L + i);
+            assertTrue(index.put(decry, EncryUtils.getMD5(decry)));
+        }
+
+        assertEquals(1000, index.size());
+        for (int i = 0; i < 1000; i++) {
+            String decry = String.valueOf(13800000000L + i);
+            String encry = EncryUtils.getMD5(decry);
+            assertEquals(encry, index.getEncry(decry));
+            assertEquals(decry, index.getDecry(encry));
+        }
+        assertNull(index.getEncry("13900000000"));
+        assertNull(index.getDecry(EncryUtils.getMD5("13900000000")));
+    }
+
+    @Test
+    void hexToken() {
+        PrimitiveTokenIndex index = new PrimitiveTokenIndex(ID_NO, 16);
+        String decry = "11010519491231002X";
+        String encry = "00ff0123456789abcdef0123456789ab";
+
+        assertTrue(index.put(decry, encry));
+        assertEquals(encry, index.getEncry(decry));
+        assertEquals(decry, index.getDecry(encry));
+        assertNull(index.getDecry("00ff0123456789abcdef0123456789ac"));
+    }
+
+    @Test
+    void base62Token() {
+        PrimitiveTokenIndex index = new PrimitiveTokenIndex(TEL_NO, 16);
+        String decry = "13800000000";
+        String encry = TokenUtils.toBase62(EncryUtils.getMD5Bytes("key" + decry));
+
+        assertTrue(index.put(decry, encry));
+        assertEquals(encry, index.getEncry(decry));
+        assertEquals(decry, index.getDecry(encry));
+        assertNull(index.getDecry(TokenUtils.toBase62(EncryUtils.getMD5Bytes(decry))));
+    }
+
+    @Test
+    void rejectsUnsupported() {
+        PrimitiveTokenIndex index = new PrimitiveTokenIndex(ID_NO, 16);
+
+        // 小写x、15位身份证号还原后与原值不同, 不进入索引
+        assertFalse(index.put("11010519491231002x", EncryUtils.getMD5("11010519491231002x")));
+        assertFalse(index.put("110105491231002", EncryUtils.getMD5("110105491231002")));
+        // 非MD5、非十六进制的密文
+        assertFalse(index.put("110105194912310021", EncryUtils.getBase64("110105194912310021")));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void keepsExistingAndStopsWhenFull() {
+        PrimitiveTokenIndex index = new PrimitiveTokenIndex(TEL_NO, 2);
+        String encry = EncryUtils.getMD5("13800000000");
+
+        assertTrue(index.put("13800000000", encry));
+        assertTrue(index.put("13800000000", "00ff0123456789abcdef0123456789ab"));
+        assertEquals(encry, index.getEncry("13800000000"));
+
+        assertTrue(index.put("13800000001", EncryUtils.getMD5("13800000001")));
+        assertFalse(index.put("13800000002", EncryUtils.getMD5("13800000002")));
+        assertNull(index.getEncry("13800000002"));
+    }
+
+    @Test
+    void removeAndClear() {
+        PrimitiveTokenIndex index = new PrimitiveTokenIndex(TEL_NO, 1000);
+        for (int i = 0; i < 1000; i++) {
+            String decry = String.valueOf(13800000000L + i);
+            assertTrue(index.put(decry, EncryUtils.getMD5(decry)));
+        }
+
+        // 按明文、按密文删除, 其余映射(包括探测链上后移的)仍可查到
+        for (int i = 0; i < 1000; i += 2) {
+            String decry = String.valueOf(13800000000L + i);
+            assertTrue(index.remove(i % 4 == 0 ? decry : EncryUtils.getMD5(decry)));
+        }
+        assertFalse(index.remove("13800000000"));
+        assertEquals(500, index.size());
+        for (int i = 0; i < 1000; i++) {
+            String decry = String.valueOf(13800000000L + i);
+            String encry = EncryUtils.getMD5(decry);
+            assertEquals(i % 2 == 0 ? null : encry, index.getEncry(decry));
+            assertEquals(i % 2 == 0 ? null : decry, index.getDecry(encry));
+        }
+
+        // 删除后可重新写入
+        assertTrue(index.put("13800000000", "00ff0123456789abcdef0123456789ab"));
+        assertEquals("13800000000", index.getDecry("00ff0123456789abcdef0123456789ab"));
+
+        index.clear();
+        assertEquals(0, index.size());
+        assertNull(index.getEncry("13800000001"));
+        assertNull(index.getDecry(EncryUtils.getMD5("13800000001")));
+        assertTrue(index.put("13800000001", EncryUtils.getMD5("13800000001")));
+    }
+
+    @Test
+    void maxEntries() {
+        assertThrows(IllegalArgumentException.class, () -> new PrimitiveTokenIndex(TEL_NO, 0));
+        assertThrows(IllegalArgumentException.class, () -> new PrimitiveTokenIndex(TEL_NO,
+                PrimitiveTokenIndex.MAX_ENTRIES + 1));
+    }
+}
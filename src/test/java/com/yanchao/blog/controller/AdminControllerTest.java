@@ -0,0 +1,41 @@
+package com.yanchao.blog.controller;
+
+import com.yanchao.blog.cache.EncryNearCache;
+import com.yanchao.blog.cache.EncryPrimitiveCache;
+import com.yanchao.blog.datasource.ReplicaRouting;
+import com.yanchao.blog.queue.EncryWriteBehindQueue;
+import com.yanchao.blog.region.RegionReloader;
+import com.yanchao.blog.service.EncryPartitionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 运维管理-测试类: 未开启blog.admin.enabled时不注册
+ */
+public class AdminControllerTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withBean(EncryNearCache.class, () -> mock(EncryNearCache.class))
+            .withBean(EncryPrimitiveCache.class, () -> mock(EncryPrimitiveCache.class))
+            .withBean(EncryWriteBehindQueue.class, () -> mock(EncryWriteBehindQueue.class))
+            .withBean(EncryPartitionService.class, () -> mock(EncryPartitionService.class))
+            .withBean(ReplicaRouting.class, () -> mock(ReplicaRouting.class))
+            .withBean(RegionReloader.class, () -> mock(RegionReloader.class))
+            .withUserConfiguration(AdminController.class);
+
+    @Test
+    void disabledByDefault() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean(AdminController.class));
+        contextRunner.withPropertyValues("blog.admin.enabled=false")
+                .run(context -> assertThat(context).doesNotHaveBean(AdminController.class));
+    }
+
+    @Test
+    void enabled() {
+        contextRunner.withPropertyValues("blog.admin.enabled=true")
+                .run(context -> assertThat(context).hasSingleBean(AdminController.class));
+    }
+}
@@ -0,0 +1,193 @@
+package com.yanchao.blog.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yanchao.blog.cache.EncryCache;
+import com.yanchao.blog.config.EncryProperties;
+import com.yanchao.blog.config.GlobalExceptionHandler;
+import com.yanchao.blog.config.RoutingProperties;
+import com.yanchao.blog.constant.ErrorEnum;
+import com.yanchao.blog.dao.bas.EncryJdbcDAO;
+import com.yanchao.blog.datasource.ReadWriteRoutingDataSource;
+import com.yanchao.blog.datasource.ReplicaRouting;
+import com.yanchao.blog.metrics.EncryMetrics;
+import com.yanchao.blog.queue.EncryWriteBehindQueue;
+import com.yanchao.blog.service.EncryService;
+import com.yanchao.blog.service.TokenService;
+import com.yanchao.blog.store.JdbcTokenStore;
+import com.yanchao.blog.util.EncryUtils;
+import com.yanchao.blog.vo.encry.EncryItemVO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.yanchao.blog.constant.EncryTypeEnum.ID_NO;
+import static com.yanchao.blog.constant.EncryTypeEnum.TEL_NO;
+import static com.yanchao.blog.constant.ErrorEnum.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * 加解密调用-批量接口测试类: 单条结果码、超过存储分组大小(1000条)的请求, H2(MODE=MySQL)存储, 缓存不命中
+ */
+public class EncryControllerTest {
+
+    private static final AtomicInteger SEQ = new AtomicInteger();
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int STORE_CHUNK_SIZE = 1000;
+
+    private EncryJdbcDAO encryJdbcDAO;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void init() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:encry-controller-" + SEQ.incrementAndGet() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("db/bas_encry.sql")).execute(dataSource);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        encryJdbcDAO = spy(new EncryJdbcDAO(jdbcTemplate, new NamedParameterJdbcTemplate(jdbcTemplate)));
+
+        EncryProperties encryProperties = new EncryProperties();
+        JdbcTokenStore tokenStore = new JdbcTokenStore(encryJdbcDAO, encryProperties);
+        TokenService tokenService = new TokenService(encryProperties);
+        tokenService.init();
+        EncryCache encryCache = mock(EncryCache.class);
+        ReplicaRouting replicaRouting = new ReplicaRouting(
+                new StaticListableBeanFactory().getBeanProvider(ReadWriteRoutingDataSource.class),
+                new RoutingProperties());
+        replicaRouting.init();
+        EncryMetrics encryMetrics = new EncryMetrics(new SimpleMeterRegistry());
+        EncryService encryService = new EncryService(tokenStore, encryCache, tokenService,
+                new EncryWriteBehindQueue(encryProperties, tokenStore, encryCache), replicaRouting, encryMetrics);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new EncryController(encryService, encryMetrics))
+                .setControllerAdvice(new GlobalExceptionHandler()).build();
+    }
+
+    @Test
+    void batchItemResults() throws Exception {
+        String tel = "13800000000";
+        String idNo = "11010519491231002X";
+        List<EncryItemVO> items = Arrays.asList(new EncryItemVO(tel, TEL_NO), new EncryItemVO("12800000000", TEL_NO),
+                new EncryItemVO(tel, null), null, new EncryItemVO("110105194912310020", ID_NO),
+                new EncryItemVO(idNo, ID_NO), new EncryItemVO(tel, TEL_NO));
+
+        JsonNode encrys = batch("/encry/batch", items);
+        assertResult(encrys.get(0), SUCCESS, EncryUtils.getMD5(tel));
+        assertResult(encrys.get(1), WRONG_TEL_NO, null);
+        assertResult(encrys.get(2), ENCRE_OR_DECRY_ERROR, null);
+        assertResult(encrys.get(3), WRONG_BATCH, null);
+        assertResult(encrys.get(4), WRONG_ID_NO, null);
+        assertResult(encrys.get(5), SUCCESS, EncryUtils.getMD5(idNo));
+        // 重复的明文只写入一次, 返回同一密文
+        assertResult(encrys.get(6), SUCCESS, EncryUtils.getMD5(tel));
+
+        JsonNode decrys = batch("/decry/batch", Arrays.asList(new EncryItemVO(EncryUtils.getMD5(tel), TEL_NO),
+                new EncryItemVO(EncryUtils.getMD5(tel), ID_NO), new EncryItemVO(" ", TEL_NO),
+                new EncryItemVO(EncryUtils.getMD5(idNo), null), new EncryItemVO(EncryUtils.getMD5(idNo), ID_NO)));
+        assertResult(decrys.get(0), SUCCESS, tel);
+        // 密文按类型区分
+        assertResult(decrys.get(1), NOT_FOUND, null);
+        assertResult(decrys.get(2), WRONG_BATCH, null);
+        assertResult(decrys.get(3), WRONG_BATCH, null);
+        assertResult(decrys.get(4), SUCCESS, idNo);
+    }
+
+    @Test
+    void batchAcrossStoreChunks() throws Exception {
+        int size = 2500;
+        List<EncryItemVO> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            items.add(new EncryItemVO(i % 10 == 3 ? "1280000" + i : String.valueOf(13800000000L + i), TEL_NO));
+
+        JsonNode encrys = batch("/encry/batch", items);
+        assertEquals(size, encrys.size());
+        int created = 0;
+        List<EncryItemVO> decryItems = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (i % 10 == 3) {
+                assertResult(encrys.get(i), WRONG_TEL_NO, null);
+                // 不存在的密文
+                decryItems.add(new EncryItemVO(EncryUtils.getMD5(String.valueOf(i)), TEL_NO));
+            } else {
+                assertResult(encrys.get(i), SUCCESS, EncryUtils.getMD5(items.get(i).getValue()));
+                decryItems.add(new EncryItemVO(encrys.get(i).get("value").asText(), TEL_NO));
+                created++;
+            }
+        }
+        ArgumentCaptor<Collection> queried = ArgumentCaptor.forClass(Collection.class);
+        verify(encryJdbcDAO, atLeastOnce()).findEncrys(eq(TEL_NO), queried.capture());
+        assertChunkSizes(queried.getAllValues(), created);
+        ArgumentCaptor<List> inserted = ArgumentCaptor.forClass(List.class);
+        verify(encryJdbcDAO, atLeastOnce()).batchInsertIgnore(inserted.capture());
+        assertChunkSizes(inserted.getAllValues(), created);
+
+        JsonNode decrys = batch("/decry/batch", decryItems);
+        assertEquals(size, decrys.size());
+        for (int i = 0; i < size; i++)
+            if (i % 10 == 3)
+                assertResult(decrys.get(i), NOT_FOUND, null);
+            else
+                assertResult(decrys.get(i), SUCCESS, items.get(i).getValue());
+        queried = ArgumentCaptor.forClass(Collection.class);
+        verify(encryJdbcDAO, atLeastOnce()).findDecrys(eq(TEL_NO), queried.capture());
+        assertChunkSizes(queried.getAllValues(), size);
+    }
+
+    @Test
+    void rejectsWholeBatch() throws Exception {
+        List<EncryItemVO> items = new ArrayList<>();
+        for (int i = 0; i <= EncryService.MAX_BATCH_SIZE; i++)
+            items.add(new EncryItemVO(String.valueOf(13800000000L + i), TEL_NO));
+        for (String uri : Arrays.asList("/encry/batch", "/decry/batch")) {
+            assertEquals(ERROR.getCode(), request(uri, items).get("code").asInt());
+            assertEquals(ERROR.getCode(), request(uri, new ArrayList<>()).get("code").asInt());
+        }
+        verifyNoInteractions(encryJdbcDAO);
+    }
+
+    /**
+     * 存储按分组查询、写入, 每组不超过1000条
+     */
+    private static void assertChunkSizes(List<? extends Collection> chunks, int total) {
+        assertEquals((total + STORE_CHUNK_SIZE - 1) / STORE_CHUNK_SIZE, chunks.size());
+        chunks.forEach(o -> assertTrue(o.size() <= STORE_CHUNK_SIZE));
+        assertEquals(total, chunks.stream().mapToInt(Collection::size).sum());
+    }
+
+    private static void assertResult(JsonNode result, ErrorEnum error, String value) {
+        assertEquals(error.getCode(), result.get("code").asInt(), result::toString);
+        assertEquals(value, result.get("value").isNull() ? null : result.get("value").asText());
+    }
+
+    private JsonNode batch(String uri, List<EncryItemVO> items) throws Exception {
+        JsonNode response = request(uri, items);
+        assertEquals(SUCCESS.getCode(), response.get("code").asInt());
+        return response.get("data").get("results");
+    }
+
+    private JsonNode request(String uri, List<EncryItemVO> items) throws Exception {
+        String body = mockMvc.perform(post(uri).contentType(MediaType.APPLICATION_JSON)
+                .content(OBJECT_MAPPER.writeValueAsString(items))).andReturn().getResponse()
+                .getContentAsString();
+        return OBJECT_MAPPER.readTree(body);
+    }
+}
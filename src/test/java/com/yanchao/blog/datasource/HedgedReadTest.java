@@ -0,0 +1,176 @@
+package com.yanchao.blog.datasource;
+
+import com.yanchao.blog.config.EncryProperties;
+import com.yanchao.blog.config.RoutingProperties;
+import com.yanchao.blog.dao.bas.EncryJdbcDAO;
+import com.yanchao.blog.store.JdbcTokenStore;
+import com.yanchao.blog.store.TokenStore;
+import com.yanchao.blog.util.EncryUtils;
+import com.yanchao.blog.vo.admin.HedgeStatsVO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.yanchao.blog.constant.EncryTypeEnum.TEL_NO;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 对冲读-测试类, 两个H2(MODE=MySQL)从库, 第一个从库获取连接时延迟返回
+ */
+public class HedgedReadTest {
+
+    private static final AtomicInteger SEQ = new AtomicInteger();
+
+    private static final String DECRY = "13800000001";
+    private static final long SLOW_MILLIS = 1000;
+
+    private ReplicaRouting replicaRouting;
+    private TokenStore routedStore;
+
+    @AfterEach
+    void destroy() {
+        // budget、percentile不创建从库
+        if (replicaRouting != null)
+            replicaRouting.destroy();
+    }
+
+    @Test
+    void hedgesToAnotherReplica() {
+        init(5, 10);
+
+        long start = System.currentTimeMillis();
+        assertEquals(DECRY, decry());
+        assertTrue(System.currentTimeMillis() - start < SLOW_MILLIS, "对冲请求应先返回");
+
+        HedgeStatsVO stats = replicaRouting.stats().getHedge();
+        assertTrue(stats.isEnabled());
+        assertEquals(1, stats.getReads());
+        assertEquals(1, stats.getHedges());
+        assertEquals(1, stats.getWins());
+        assertEquals(1.0, stats.getHedgeRate());
+        assertEquals(1.0, stats.getWinRate());
+    }
+
+    @Test
+    void budgetLimitsHedges() {
+        init(0, 1);
+
+        assertEquals(DECRY, decry());
+        // 预算用尽, 等待慢的从库返回
+        long start = System.currentTimeMillis();
+        assertEquals(DECRY, decry());
+        assertEquals(DECRY, decry());
+        assertTrue(System.currentTimeMillis() - start >= SLOW_MILLIS, "预算用尽后不应对冲");
+
+        HedgeStatsVO stats = replicaRouting.stats().getHedge();
+        assertEquals(3, stats.getReads());
+        assertEquals(1, stats.getHedges());
+        assertTrue(stats.getBudgetExhausted() >= 1);
+    }
+
+    @Test
+    void budget() {
+        HedgeBudget budget = new HedgeBudget(10, 1);
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+        for (int i = 0; i < 9; i++)
+            budget.onRead();
+        assertFalse(budget.tryAcquire());
+        budget.onRead();
+        assertTrue(budget.tryAcquire());
+    }
+
+    @Test
+    void percentile() {
+        LatencyTracker tracker = new LatencyTracker(95);
+        for (int i = 1; i < LatencyTracker.RECOMPUTE_EVERY; i++)
+            tracker.record(i);
+        assertEquals(-1, tracker.percentileNanos());
+        for (int i = LatencyTracker.RECOMPUTE_EVERY; i <= LatencyTracker.WINDOW; i++)
+            tracker.record(i);
+        assertEquals(973, tracker.percentileNanos());
+    }
+
+    private String decry() {
+        String encry = EncryUtils.getMD5(DECRY);
+        return replicaRouting.read(encry, o -> routedStore.getDecrys(TEL_NO, o));
+    }
+
+    private void init(int budgetPercent, int burst) {
+        int seq = SEQ.incrementAndGet();
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("slow", new SlowDataSource(h2("hedge-slow-" + seq)));
+        replicas.put("fast", h2("hedge-fast-" + seq));
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(h2("hedge-primary-" + seq), replicas);
+        routing.getReplicas().forEach(o -> {
+            tokenStore(o.getDataSource()).putIfAbsent(TEL_NO, DECRY, EncryUtils.getMD5(DECRY));
+            new JdbcTemplate(o.getDataSource()).update("insert into bas_heartbeat (id, beat_time) values (1, ?)",
+                    System.currentTimeMillis());
+        });
+
+        RoutingProperties routingProperties = new RoutingProperties();
+        RoutingProperties.Hedge hedge = routingProperties.getHedge();
+        hedge.setEnabled(true);
+        hedge.setMaxDelay(Duration.ofMillis(50));
+        hedge.setBudgetPercent(budgetPercent);
+        hedge.setBurst(burst);
+        new ReplicaHealthChecker(routing, routingProperties).check();
+
+        replicaRouting = new ReplicaRouting(new StaticListableBeanFactory(Collections.singletonMap("dataSource",
+                routing)).getBeanProvider(ReadWriteRoutingDataSource.class), routingProperties);
+        replicaRouting.init();
+        routedStore = tokenStore(routing);
+    }
+
+    private static DataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("db/bas_encry.sql"),
+                new ClassPathResource("db/bas_heartbeat.sql")).execute(dataSource);
+        return dataSource;
+    }
+
+    private static TokenStore tokenStore(DataSource dataSource) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        return new JdbcTokenStore(new EncryJdbcDAO(jdbcTemplate, new NamedParameterJdbcTemplate(jdbcTemplate)),
+                new EncryProperties());
+    }
+
+    /**
+     * 模拟偶发慢查询的从库
+     */
+    private static class SlowDataSource extends DelegatingDataSource {
+
+        SlowDataSource(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            // 建表及健康检查不延迟, 只有路由到该从库的查询延迟
+            if (Thread.currentThread().getName().startsWith("replica-read-")) {
+                try {
+                    Thread.sleep(SLOW_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return super.getConnection();
+        }
+    }
+}
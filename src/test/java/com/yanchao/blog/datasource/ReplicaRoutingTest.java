@@ -0,0 +1,177 @@
+package com.yanchao.blog.datasource;
+
+import com.yanchao.blog.config.EncryProperties;
+import com.yanchao.blog.config.RoutingProperties;
+import com.yanchao.blog.dao.bas.EncryJdbcDAO;
+import com.yanchao.blog.store.JdbcTokenStore;
+import com.yanchao.blog.store.TokenStore;
+import com.yanchao.blog.util.EncryUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.yanchao.blog.constant.EncryTypeEnum.TEL_NO;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 读写分离-测试类, 两个H2(MODE=MySQL)分别作为主库、从库, 不做复制, 由测试直接写入从库模拟复制结果
+ */
+public class ReplicaRoutingTest {
+
+    private static final AtomicInteger SEQ = new AtomicInteger();
+
+    private static final String ON_REPLICA = "13800000001";
+    private static final String ON_PRIMARY = "13800000002";
+
+    private FailingDataSource replicaDataSource;
+    private ReplicaState replica;
+    private TokenStore replicaStore;
+    private TokenStore routedStore;
+    private ReplicaHealthChecker healthChecker;
+    private ReplicaRouting replicaRouting;
+
+    @BeforeEach
+    void init() {
+        int seq = SEQ.incrementAndGet();
+        DataSource primaryDataSource = h2("routing-primary-" + seq);
+        replicaDataSource = new FailingDataSource(h2("routing-replica-" + seq));
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primaryDataSource,
+                Collections.singletonMap("replica-0", replicaDataSource));
+        replica = routing.getReplicas().get(0);
+
+        RoutingProperties routingProperties = new RoutingProperties();
+        healthChecker = new ReplicaHealthChecker(routing, routingProperties);
+        replicaRouting = new ReplicaRouting(new StaticListableBeanFactory(Collections.singletonMap("dataSource",
+                routing)).getBeanProvider(ReadWriteRoutingDataSource.class), routingProperties);
+        replicaRouting.init();
+
+        replicaStore = tokenStore(replicaDataSource);
+        routedStore = tokenStore(routing);
+        // 写入总是使用主库
+        routedStore.putIfAbsent(TEL_NO, ON_PRIMARY, EncryUtils.getMD5(ON_PRIMARY));
+        replicaStore.putIfAbsent(TEL_NO, ON_REPLICA, EncryUtils.getMD5(ON_REPLICA));
+        assertNull(tokenStore(primaryDataSource).getEncry(TEL_NO, ON_REPLICA));
+    }
+
+    @Test
+    void readsFromReplicaAndFallsBackOnMiss() {
+        replicate(System.currentTimeMillis());
+        healthChecker.check();
+        assertTrue(replica.isAvailable());
+
+        Map<String, String> decrys = decrys(ON_REPLICA, ON_PRIMARY);
+        assertEquals(ON_REPLICA, decrys.get(EncryUtils.getMD5(ON_REPLICA)));
+        // 从库未复制到的映射由主库补查
+        assertEquals(ON_PRIMARY, decrys.get(EncryUtils.getMD5(ON_PRIMARY)));
+        assertEquals(1, replica.getReads().sum());
+        assertEquals(1, replicaRouting.stats().getMissFallbacks());
+    }
+
+    @Test
+    void laggingReplicaIsSkipped() {
+        replicate(System.currentTimeMillis() - 60000);
+        healthChecker.check();
+        assertTrue(replica.isUp());
+        assertTrue(replica.isLagging());
+
+        // 只存在于从库的映射查不到, 说明查询由主库完成
+        assertTrue(decrys(ON_REPLICA).isEmpty());
+        assertEquals(ON_PRIMARY, decrys(ON_PRIMARY).get(EncryUtils.getMD5(ON_PRIMARY)));
+        assertEquals(0, replica.getReads().sum());
+        assertEquals(2, replicaRouting.stats().getPrimaryReads());
+
+        replicate(System.currentTimeMillis());
+        healthChecker.check();
+        assertTrue(replica.isAvailable());
+    }
+
+    @Test
+    void missingHeartbeatIsLagging() {
+        healthChecker.check();
+        assertTrue(replica.isUp());
+        assertFalse(replica.isAvailable());
+    }
+
+    @Test
+    void failoverWhenReplicaDies() {
+        replicate(System.currentTimeMillis());
+        healthChecker.check();
+        assertTrue(replica.isAvailable());
+
+        replicaDataSource.dead = true;
+        assertEquals(ON_PRIMARY, decrys(ON_PRIMARY).get(EncryUtils.getMD5(ON_PRIMARY)));
+        assertFalse(replica.isUp());
+        assertEquals(1, replica.getFailures().sum());
+        assertEquals(1, replicaRouting.stats().getFailovers());
+
+        // 不可用期间不再尝试从库
+        assertEquals(ON_PRIMARY, decrys(ON_PRIMARY).get(EncryUtils.getMD5(ON_PRIMARY)));
+        assertEquals(1, replica.getFailures().sum());
+
+        healthChecker.check();
+        assertFalse(replica.isUp());
+        assertNotNull(replica.getLastError());
+
+        replicaDataSource.dead = false;
+        healthChecker.check();
+        assertTrue(replica.isAvailable());
+        assertEquals(ON_REPLICA, decrys(ON_REPLICA).get(EncryUtils.getMD5(ON_REPLICA)));
+    }
+
+    private Map<String, String> decrys(String... decrys) {
+        String[] encrys = Arrays.stream(decrys).map(EncryUtils::getMD5).toArray(String[]::new);
+        return replicaRouting.read(Arrays.asList(encrys), o -> routedStore.getDecrys(TEL_NO, o));
+    }
+
+    private void replicate(long beatTime) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(replicaDataSource);
+        if (jdbcTemplate.update("update bas_heartbeat set beat_time = ? where id = 1", beatTime) == 0)
+            jdbcTemplate.update("insert into bas_heartbeat (id, beat_time) values (1, ?)", beatTime);
+    }
+
+    private static DataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("db/bas_encry.sql"),
+                new ClassPathResource("db/bas_heartbeat.sql")).execute(dataSource);
+        return dataSource;
+    }
+
+    private static TokenStore tokenStore(DataSource dataSource) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        return new JdbcTokenStore(new EncryJdbcDAO(jdbcTemplate, new NamedParameterJdbcTemplate(jdbcTemplate)),
+                new EncryProperties());
+    }
+
+    /**
+     * 模拟从库宕机
+     */
+    private static class FailingDataSource extends DelegatingDataSource {
+        private volatile boolean dead;
+
+        FailingDataSource(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (dead)
+                throw new SQLException("Connection refused");
+            return super.getConnection();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.yanchao.blog.metrics;
+
+import com.yanchao.blog.vo.encry.EncryResultVO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static com.yanchao.blog.constant.EncryEndpointEnum.*;
+import static com.yanchao.blog.constant.EncryTypeEnum.TEL_NO;
+import static com.yanchao.blog.constant.ErrorEnum.*;
+import static com.yanchao.blog.constant.StoreOperationEnum.GET_DECRYS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 加解密监控指标-测试类
+ */
+public class EncryMetricsTest {
+
+    private MeterRegistry registry;
+    private EncryMetrics encryMetrics;
+
+    @BeforeEach
+    void init() {
+        registry = new SimpleMeterRegistry();
+        encryMetrics = new EncryMetrics(registry);
+    }
+
+    @Test
+    void request() {
+        encryMetrics.request(ENCRY, TEL_NO, SUCCESS, System.nanoTime());
+        encryMetrics.request(ENCRY, null, ENCRE_OR_DECRY_ERROR, System.nanoTime());
+
+        assertEquals(1, registry.get("blog.encry.requests").tag("endpoint", "/encry").tag("type", "TEL_NO").timer()
+                .count());
+        assertEquals(1, registry.get("blog.encry.requests").tag("endpoint", "/encry").tag("type", "NONE").timer()
+                .count());
+        assertEquals(1, outcomes("/encry", "SUCCESS"));
+        assertEquals(1, outcomes("/encry", "ENCRE_OR_DECRY_ERROR"));
+    }
+
+    @Test
+    void batchCountsItems() {
+        encryMetrics.batch(DECRY_BATCH, Arrays.asList(EncryResultVO.success("13800000001"),
+                EncryResultVO.result(NOT_FOUND, null), EncryResultVO.result(NOT_FOUND, null)), ERROR,
+                System.nanoTime());
+        encryMetrics.batch(DECRY_BATCH, null, WRONG_BATCH, System.nanoTime());
+
+        assertEquals(2, registry.get("blog.encry.requests").tag("endpoint", "/decry/batch").tag("type", "MIXED")
+                .timer().count());
+        assertEquals(1, outcomes("/decry/batch", "SUCCESS"));
+        assertEquals(2, outcomes("/decry/batch", "NOT_FOUND"));
+        assertEquals(1, outcomes("/decry/batch", "WRONG_BATCH"));
+        assertEquals(0, outcomes("/decry/batch", "ERROR"));
+    }
+
+    @Test
+    void store() {
+        encryMetrics.store(GET_DECRYS, TEL_NO, System.nanoTime());
+        assertEquals(1, registry.get("blog.store.operations").tag("operation", "GET_DECRYS").tag("type", "TEL_NO")
+                .timer().count());
+    }
+
+    @Test
+    void histogramResolvesCacheHits() {
+        // 约20微秒的请求落在1ms以下的桶内
+        // SimpleMeterRegistry不保存直方图桶
+        MeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        new EncryMetrics(registry).request(ENCRY, TEL_NO, SUCCESS,
+                System.nanoTime() - TimeUnit.MICROSECONDS.toNanos(20));
+
+        Timer timer = registry.get("blog.encry.requests").tag("endpoint", "/encry").tag("type", "TEL_NO").timer();
+        CountAtBucket first = Arrays.stream(timer.takeSnapshot().histogramCounts()).filter(o -> o.count() > 0)
+                .findFirst().orElseThrow(AssertionError::new);
+        assertTrue(first.bucket(TimeUnit.MILLISECONDS) < 1, "bucket: " + first);
+    }
+
+    private double outcomes(String endpoint, String outcome) {
+        return registry.get("blog.encry.outcomes").tag("endpoint", endpoint).tag("outcome", outcome).counter()
+                .count();
+    }
+}
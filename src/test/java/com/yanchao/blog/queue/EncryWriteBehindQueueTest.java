@@ -0,0 +1,251 @@
+package com.yanchao.blog.queue;
+
+import com.yanchao.blog.cache.EncryCache;
+import com.yanchao.blog.config.EncryProperties;
+import com.yanchao.blog.config.ResultException;
+import com.yanchao.blog.store.LocalTokenStore;
+import com.yanchao.blog.util.EncryUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.RecoverableDataAccessException;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.yanchao.blog.constant.EncryTypeEnum.ID_NO;
+import static com.yanchao.blog.constant.EncryTypeEnum.TEL_NO;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+/**
+ * 加解密-异步写库队列-测试类: 日志校验、重启重放、写库失败重试、冲突处理及待写库上限
+ */
+public class EncryWriteBehindQueueTest {
+
+    @TempDir
+    Path dir;
+
+    private EncryProperties encryProperties;
+    private LocalTokenStore tokenStore;
+    private EncryCache encryCache;
+    private final List<EncryWriteBehindQueue> queues = new ArrayList<>();
+
+    @BeforeEach
+    void init() {
+        encryProperties = new EncryProperties();
+        encryProperties.getWriteBehind().setEnabled(true);
+        encryProperties.getWriteBehind().setDir(dir.toString());
+        // 只由测试调用flush
+        encryProperties.getWriteBehind().setFlushInterval(Duration.ofHours(1));
+        tokenStore = spy(new LocalTokenStore());
+        encryCache = mock(EncryCache.class);
+    }
+
+    @AfterEach
+    void destroy() throws IOException {
+        for (EncryWriteBehindQueue queue : queues)
+            queue.destroy();
+    }
+
+    @Test
+    void flush() throws IOException {
+        EncryWriteBehindQueue queue = start();
+        Map<String, String> encrys = mappings(3);
+        queue.append(TEL_NO, encrys);
+        String idNo = "11010519491231002X";
+        queue.append(ID_NO, Collections.singletonMap(idNo, EncryUtils.getMD5(idNo)));
+
+        // 写库前本节点可读到
+        encrys.forEach((decry, encry) -> {
+            assertEquals(encry, queue.getEncry(TEL_NO, decry));
+            assertEquals(decry, queue.getDecry(TEL_NO, encry));
+        });
+        assertNull(queue.getEncry(ID_NO, encrys.keySet().iterator().next()));
+        assertEquals(encrys, queue.getEncrys(TEL_NO, encrys.keySet()));
+
+        queue.flush();
+        assertEquals(encrys, tokenStore.getEncrys(TEL_NO, encrys.keySet()));
+        assertEquals(idNo, tokenStore.getDecry(ID_NO, EncryUtils.getMD5(idNo)));
+        assertTrue(queue.getEncrys(TEL_NO, encrys.keySet()).isEmpty());
+        assertEquals(0, queue.stats().getQueueDepth());
+        assertEquals(4, queue.stats().getFlushedRows());
+        // 只保留当前日志段
+        assertEquals(1, segments().size());
+    }
+
+    @Test
+    void replayAfterRestart() throws IOException {
+        // 写库失败后停止, 模拟未写库即重启
+        doThrow(new RecoverableDataAccessException("down")).when(tokenStore).putIfAbsent(any(), anyMap());
+        EncryWriteBehindQueue queue = start();
+        Map<String, String> encrys = mappings(5);
+        queue.append(TEL_NO, encrys);
+        queue.destroy();
+        queues.remove(queue);
+
+        doCallRealMethod().when(tokenStore).putIfAbsent(any(), anyMap());
+        EncryWriteBehindQueue restarted = start();
+        assertEquals(encrys, restarted.getEncrys(TEL_NO, encrys.keySet()));
+        assertEquals(encrys.size(), restarted.stats().getQueueDepth());
+
+        restarted.flush();
+        assertEquals(encrys, tokenStore.getEncrys(TEL_NO, encrys.keySet()));
+        assertEquals(1, segments().size());
+    }
+
+    @Test
+    void dropsCorruptedTail() throws IOException {
+        doThrow(new RecoverableDataAccessException("down")).when(tokenStore).putIfAbsent(any(), anyMap());
+        EncryWriteBehindQueue queue = start();
+        queue.append(TEL_NO, Collections.singletonMap("13800000000", EncryUtils.getMD5("13800000000")));
+        queue.append(TEL_NO, Collections.singletonMap("13800000001", EncryUtils.getMD5("13800000001")));
+        queue.append(TEL_NO, Collections.singletonMap("13800000002", EncryUtils.getMD5("13800000002")));
+        queue.destroy();
+        queues.remove(queue);
+
+        // 最后一条的CRC损坏, 其后再追加不完整的记录
+        Path segment = segments().get(0);
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(file.length() - 1);
+            int last = file.read();
+            file.seek(file.length() - 1);
+            file.write(last ^ 0xff);
+            file.seek(file.length());
+            file.writeInt(64);
+            file.write(new byte[10]);
+        }
+
+        EncryWriteBehindQueue restarted = start();
+        assertEquals(2, restarted.stats().getQueueDepth());
+        assertEquals(EncryUtils.getMD5("13800000001"), restarted.getEncry(TEL_NO, "13800000001"));
+        assertNull(restarted.getEncry(TEL_NO, "13800000002"));
+    }
+
+    @Test
+    void retriesFailedFlush() throws IOException {
+        EncryWriteBehindQueue queue = start();
+        Map<String, String> encrys = mappings(3);
+        queue.append(TEL_NO, encrys);
+
+        doThrow(new RecoverableDataAccessException("down")).doCallRealMethod().when(tokenStore)
+                .putIfAbsent(any(), anyMap());
+        queue.flush();
+        assertEquals(1, queue.stats().getFlushFailures());
+        assertEquals(encrys, queue.getEncrys(TEL_NO, encrys.keySet()));
+        assertTrue(tokenStore.getEncrys(TEL_NO, encrys.keySet()).isEmpty());
+        // 未写库的日志段保留, 此时重启可重放
+        assertEquals(2, segments().size());
+
+        // 失败后追加的一并写入
+        queue.append(TEL_NO, Collections.singletonMap("13900000000", EncryUtils.getMD5("13900000000")));
+        queue.flush();
+        assertEquals(encrys, tokenStore.getEncrys(TEL_NO, encrys.keySet()));
+        assertEquals("13900000000", tokenStore.getDecry(TEL_NO, EncryUtils.getMD5("13900000000")));
+        assertEquals(0, queue.stats().getQueueDepth());
+        assertEquals(1, segments().size());
+    }
+
+    @Test
+    void conflicts() throws IOException {
+        String decry = "13800000000";
+        String stored = EncryUtils.getMD5(decry);
+        String appended = EncryUtils.getBase64(decry);
+        tokenStore.putIfAbsent(TEL_NO, decry, stored);
+
+        EncryWriteBehindQueue queue = start();
+        queue.append(TEL_NO, Collections.singletonMap(decry, appended));
+        queue.flush();
+
+        assertEquals(1, queue.stats().getConflicts());
+        assertEquals(stored, tokenStore.getEncry(TEL_NO, decry));
+        assertNull(queue.getDecry(TEL_NO, appended));
+        verify(encryCache).evict(TEL_NO, decry, appended);
+    }
+
+    @Test
+    void rejectsBeyondMaxPending() throws IOException {
+        encryProperties.getWriteBehind().setMaxPending(3);
+        doThrow(new RecoverableDataAccessException("down")).doCallRealMethod().when(tokenStore)
+                .putIfAbsent(any(), anyMap());
+        EncryWriteBehindQueue queue = start();
+        queue.append(TEL_NO, mappings(3));
+
+        // 写库失败后仍占用上限
+        queue.flush();
+        Map<String, String> more = Collections.singletonMap("13900000000", EncryUtils.getMD5("13900000000"));
+        assertThrows(ResultException.class, () -> queue.append(TEL_NO, more));
+        assertEquals(1, queue.stats().getRejected());
+        assertNull(queue.getEncry(TEL_NO, "13900000000"));
+
+        queue.flush();
+        queue.append(TEL_NO, more);
+        assertEquals(1, queue.stats().getQueueDepth());
+    }
+
+    @Test
+    void concurrentAppends() throws Exception {
+        doThrow(new RecoverableDataAccessException("down")).when(tokenStore).putIfAbsent(any(), anyMap());
+        EncryWriteBehindQueue queue = start();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                long base = 13800000000L + i * 1000;
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 100; j++) {
+                        String decry = String.valueOf(base + j);
+                        queue.append(TEL_NO, Collections.singletonMap(decry, EncryUtils.getMD5(decry)));
+                        // 穿插滚动日志段
+                        if (j % 30 == 0)
+                            queue.flush();
+                    }
+                }));
+            }
+            for (Future<?> future : futures)
+                future.get();
+        } finally {
+            executor.shutdown();
+        }
+        queue.destroy();
+        queues.remove(queue);
+
+        assertEquals(800, start().stats().getQueueDepth());
+    }
+
+    private EncryWriteBehindQueue start() throws IOException {
+        EncryWriteBehindQueue queue = new EncryWriteBehindQueue(encryProperties, tokenStore, encryCache);
+        queue.init();
+        queues.add(queue);
+        return queue;
+    }
+
+    private List<Path> segments() throws IOException {
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "encry-*.log")) {
+            stream.forEach(segments::add);
+        }
+        Collections.sort(segments);
+        return segments;
+    }
+
+    private static Map<String, String> mappings(int size) {
+        Map<String, String> encrys = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            String decry = String.valueOf(13800000000L + i);
+            encrys.put(decry, EncryUtils.getMD5(decry));
+        }
+        return encrys;
+    }
+}
@@ -0,0 +1,103 @@
+package com.yanchao.blog.region;
+
+import com.yanchao.blog.util.IdentityUtils;
+import com.yanchao.blog.vo.user.IdentityInfoVO;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 地区码索引-测试类
+ */
+public class RegionIndexTest {
+
+    private static final String ID_NO = "11010519491231002X";
+
+    @Test
+    void classpath() {
+        RegionIndex index = RegionIndex.classpath();
+        assertEquals(3519, index.size());
+        assertEquals("2026.10", index.version());
+        // 各地市的"市辖区"等共用一个实例
+        assertTrue(index.nameCount() < index.size());
+
+        assertEquals("北京市", index.province(ID_NO));
+        assertEquals("市辖区", index.city(ID_NO));
+        assertEquals("朝阳区", index.area(ID_NO));
+        assertSame(index.name(110100), index.name(120100));
+        assertEquals("香港特别行政区", index.name(810000));
+
+        assertNull(index.name(110199));
+        assertNull(index.name(-1));
+        assertNull(index.name(1000000));
+        assertNull(index.area("11010"));
+        assertNull(index.province("X1"));
+    }
+
+    @Test
+    void load() throws IOException {
+        RegionIndex index = load("# 注释\n110000\t北京市\n\n110100\t市辖区\n110101\t东城区\n");
+        assertEquals(3, index.size());
+        assertEquals("东城区", index.name(110101));
+
+        assertThrows(IOException.class, () -> load("11000\t北京市\n"));
+        assertThrows(IOException.class, () -> load("110000 北京市\n"));
+        assertThrows(IOException.class, () -> load("110000\t\n"));
+        assertThrows(IOException.class, () -> load("110000\t北京市\t1949\t1948\n"));
+        assertThrows(IOException.class, () -> load("110000\t北京市\t49\n"));
+        assertThrows(IOException.class, () -> load("110000\t北京市\t\t\t\n"));
+    }
+
+    /**
+     * 撤销后复用的代码按年份取当时的名称
+     */
+    @Test
+    void periods() throws IOException {
+        RegionIndex index = load("# version: test\n110103\t崇文区\t1958\t2010\n110103\t复用区\t2020\n"
+                + "110104\t宣武区\t\t2010\n");
+        assertEquals("test", index.version());
+        assertEquals(2, index.size());
+        assertEquals(3, index.periodCount());
+
+        assertEquals("崇文区", index.name(110103, 1958));
+        assertEquals("崇文区", index.name(110103, 2010));
+        // 出生时尚未设立, 取之后最早的
+        assertEquals("崇文区", index.name(110103, 1950));
+        assertEquals("复用区", index.name(110103, 2015));
+        assertEquals("复用区", index.name(110103, 2030));
+        assertEquals("复用区", index.name(110103));
+
+        assertEquals("宣武区", index.name(110104, 1900));
+        assertNull(index.name(110104, 2011));
+        assertEquals("宣武区", index.name(110104));
+        assertNull(index.name(110105, 2000));
+
+        assertThrows(IOException.class, () -> load("110103\t崇文区\t1958\t2010\n110103\t东城区\t2010\n"));
+        assertThrows(IOException.class, () -> load("110103\t崇文区\n110103\t东城区\n"));
+    }
+
+    /**
+     * 区县按第5、6位查询
+     */
+    @Test
+    void analysis() {
+        IdentityInfoVO idInfo = IdentityUtils.analysis(ID_NO);
+        assertEquals("北京市", idInfo.getProv().getName());
+        assertEquals("11", idInfo.getProv().getCode());
+        assertEquals("市辖区", idInfo.getCity().getName());
+        assertEquals("05", idInfo.getArea().getCode());
+        assertEquals("朝阳区", idInfo.getArea().getName());
+
+        // 2010年撤销的崇文区
+        assertEquals("崇文区", IdentityUtils.analysis("110103198001010013").getArea().getName());
+        assertNull(IdentityUtils.analysis("110103201101010015").getArea());
+    }
+
+    private static RegionIndex load(String content) throws IOException {
+        return RegionIndex.load(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}
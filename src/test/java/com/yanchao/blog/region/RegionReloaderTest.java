@@ -0,0 +1,107 @@
+package com.yanchao.blog.region;
+
+import com.yanchao.blog.config.RegionProperties;
+import com.yanchao.blog.util.IdentityUtils;
+import com.yanchao.blog.vo.admin.RegionDictionaryVO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 地区码重新加载-测试类
+ */
+public class RegionReloaderTest {
+
+    private static final String ID_NO = "11010519491231002X";
+
+    @TempDir
+    Path dir;
+
+    private RegionReloader reloader;
+
+    @AfterEach
+    void destroy() {
+        if (reloader != null)
+            reloader.destroy();
+        RegionDictionary.replace(RegionIndex.classpath());
+    }
+
+    @Test
+    void reload() throws IOException {
+        Path file = dir.resolve("regions.txt");
+        write(file, "# version: v1\n110000\t北京市\n110100\t市辖区\n110105\t朝阳区\n", 1000);
+        reloader = reloader(file);
+        reloader.init();
+        assertEquals("v1", RegionDictionary.current().version());
+        assertEquals("朝阳区", IdentityUtils.analysis(ID_NO).getArea().getName());
+
+        // 未修改时不重新加载
+        reloader.check();
+        assertEquals(1, reloader.stats().getReloads());
+
+        write(file, "# version: v2\n110000\t北京市\n110100\t市辖区\n110105\t朝阳新区\n", 2000);
+        reloader.check();
+        RegionDictionaryVO stats = reloader.stats();
+        assertEquals("v2", stats.getVersion());
+        assertEquals(2, stats.getReloads());
+        assertEquals(file.toString(), stats.getSource());
+        assertEquals("朝阳新区", IdentityUtils.analysis(ID_NO).getArea().getName());
+    }
+
+    /**
+     * 文件有误时继续使用原数据, 修正后恢复
+     */
+    @Test
+    void keepOnError() throws IOException {
+        Path file = dir.resolve("regions.txt");
+        write(file, "# version: v1\n110000\t北京市\n", 1000);
+        reloader = reloader(file);
+        reloader.init();
+
+        write(file, "# version: v2\n110000\t北京市\t2000\t1999\n", 2000);
+        reloader.check();
+        assertThrows(IOException.class, reloader::reload);
+        RegionDictionaryVO stats = reloader.stats();
+        assertEquals("v1", stats.getVersion());
+        assertEquals(2, stats.getFailures());
+        assertNotNull(stats.getLastError());
+
+        write(file, "# version: v3\n110000\t北京市\n", 3000);
+        reloader.check();
+        assertEquals("v3", reloader.stats().getVersion());
+        assertNull(reloader.stats().getLastError());
+    }
+
+    @Test
+    void missingFile() {
+        reloader = reloader(dir.resolve("missing.txt"));
+        reloader.init();
+        reloader.check();
+        assertEquals(RegionIndex.classpath().version(), reloader.stats().getVersion());
+        assertEquals(1, reloader.stats().getFailures());
+    }
+
+    private static RegionReloader reloader(Path file) {
+        RegionProperties regionProperties = new RegionProperties();
+        regionProperties.setFile(file.toString());
+        return new RegionReloader(regionProperties);
+    }
+
+    /**
+     * 先写临时文件再重命名; 指定修改时间, 避免同一毫秒内修改两次
+     */
+    private void write(Path file, String content, long modified) throws IOException {
+        Path tmp = Files.write(dir.resolve("regions.tmp"), content.getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(tmp, FileTime.fromMillis(modified));
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,99 @@
+package com.yanchao.blog.service;
+
+import com.yanchao.blog.cache.EncryCache;
+import com.yanchao.blog.config.EncryProperties;
+import com.yanchao.blog.config.RoutingProperties;
+import com.yanchao.blog.constant.TokenModeEnum;
+import com.yanchao.blog.datasource.ReadWriteRoutingDataSource;
+import com.yanchao.blog.datasource.ReplicaRouting;
+import com.yanchao.blog.metrics.EncryMetrics;
+import com.yanchao.blog.queue.EncryWriteBehindQueue;
+import com.yanchao.blog.store.LocalTokenStore;
+import com.yanchao.blog.util.EncryUtils;
+import com.yanchao.blog.vo.encry.EncryItemVO;
+import com.yanchao.blog.vo.encry.EncryResultVO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import static com.yanchao.blog.constant.EncryTypeEnum.TEL_NO;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 加解密-HMAC方式异步写库-测试类: 已有映射(更换生成方式前写入的MD5密文)以存储为准
+ */
+public class EncryServiceWriteBehindTest {
+
+    private static final String LEGACY_DECRY = "13800000000";
+    private static final String NEW_DECRY = "13800000001";
+
+    @TempDir
+    Path dir;
+
+    private LocalTokenStore tokenStore;
+    private TokenService tokenService;
+    private EncryWriteBehindQueue encryWriteBehindQueue;
+    private EncryService encryService;
+
+    @BeforeEach
+    void init() throws IOException {
+        EncryProperties encryProperties = new EncryProperties();
+        encryProperties.getToken().setMode(TokenModeEnum.HMAC);
+        encryProperties.getToken().getKeys().put(TEL_NO, Base64.getEncoder().encodeToString(new byte[32]));
+        encryProperties.getWriteBehind().setEnabled(true);
+        encryProperties.getWriteBehind().setDir(dir.toString());
+        tokenService = new TokenService(encryProperties);
+        tokenService.init();
+
+        tokenStore = new LocalTokenStore();
+        tokenStore.putIfAbsent(TEL_NO, LEGACY_DECRY, EncryUtils.getMD5(LEGACY_DECRY));
+
+        EncryCache encryCache = mock(EncryCache.class);
+        encryWriteBehindQueue = new EncryWriteBehindQueue(encryProperties, tokenStore, encryCache);
+        encryWriteBehindQueue.init();
+        ReplicaRouting replicaRouting = new ReplicaRouting(
+                new StaticListableBeanFactory().getBeanProvider(ReadWriteRoutingDataSource.class),
+                new RoutingProperties());
+        replicaRouting.init();
+        encryService = new EncryService(tokenStore, encryCache, tokenService, encryWriteBehindQueue, replicaRouting,
+                new EncryMetrics(new SimpleMeterRegistry()));
+    }
+
+    @AfterEach
+    void destroy() throws IOException {
+        encryWriteBehindQueue.destroy();
+    }
+
+    @Test
+    void encry() {
+        assertEquals(EncryUtils.getMD5(LEGACY_DECRY), encryService.encry(LEGACY_DECRY, TEL_NO));
+        assertEquals(tokenService.token(NEW_DECRY, TEL_NO), encryService.encry(NEW_DECRY, TEL_NO));
+
+        encryWriteBehindQueue.flush();
+        assertEquals(0, encryWriteBehindQueue.stats().getConflicts());
+        assertEquals(NEW_DECRY, tokenStore.getDecry(TEL_NO, tokenService.token(NEW_DECRY, TEL_NO)));
+    }
+
+    @Test
+    void batchEncry() {
+        List<EncryResultVO> results = encryService.encry(Arrays.asList(new EncryItemVO(LEGACY_DECRY, TEL_NO),
+                new EncryItemVO(NEW_DECRY, TEL_NO)));
+        assertEquals(EncryUtils.getMD5(LEGACY_DECRY), results.get(0).getValue());
+        assertEquals(tokenService.token(NEW_DECRY, TEL_NO), results.get(1).getValue());
+
+        encryWriteBehindQueue.flush();
+        assertEquals(0, encryWriteBehindQueue.stats().getConflicts());
+        assertEquals(LEGACY_DECRY, tokenStore.getDecry(TEL_NO, results.get(0).getValue()));
+        assertEquals(NEW_DECRY, tokenStore.getDecry(TEL_NO, results.get(1).getValue()));
+    }
+}
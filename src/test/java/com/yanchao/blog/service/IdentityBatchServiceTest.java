@@ -0,0 +1,160 @@
+package com.yanchao.blog.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yanchao.blog.config.IdentityProperties;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 身份证号批量校验、解析-测试类
+ */
+public class IdentityBatchServiceTest {
+
+    private static final String VALID_ID_NO = "11010519491231002X";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static IdentityBatchService identityBatchService;
+
+    @BeforeAll
+    static void init() {
+        IdentityProperties identityProperties = new IdentityProperties();
+        // 小块、少量在途块, 覆盖分块及等待输出
+        identityProperties.getBatch().setThreads(2);
+        identityProperties.getBatch().setChunkSize(3);
+        identityProperties.getBatch().setMaxChunksInFlight(2);
+        identityBatchService = new IdentityBatchService(identityProperties, OBJECT_MAPPER);
+        identityBatchService.init();
+    }
+
+    @AfterAll
+    static void destroy() {
+        identityBatchService.destroy();
+    }
+
+    @Test
+    void lines() throws IOException {
+        List<JsonNode> results = analysis(VALID_ID_NO + "\n110105194912310021\n\n\"110105194912310011\"\r\n"
+                + "110105190002290017\n110103198001010013\n1101051949", false);
+        assertEquals(7, results.size());
+        for (int i = 0; i < results.size(); i++)
+            assertEquals(i + 1, results.get(i).path("line").asInt());
+
+        JsonNode valid = results.get(0);
+        assertTrue(valid.path("valid").asBoolean());
+        assertEquals("VALID", valid.path("result").asText());
+        assertEquals("110105", valid.path("region").asText());
+        assertEquals("北京市", valid.path("prov").asText());
+        assertEquals("市辖区", valid.path("city").asText());
+        assertEquals("朝阳区", valid.path("area").asText());
+        assertEquals("1949-12-31", valid.path("birthDate").asText());
+        assertTrue(valid.path("age").asInt() >= 76);
+        assertEquals("FEMALE", valid.path("sex").asText());
+
+        assertEquals("WRONG_CHECKSUM", results.get(1).path("result").asText());
+        assertFalse(results.get(1).path("valid").asBoolean());
+        assertFalse(results.get(1).has("region"));
+        assertEquals("EMPTY", results.get(2).path("result").asText());
+        assertEquals("MALE", results.get(3).path("sex").asText());
+        assertEquals("WRONG_BIRTH_DATE", results.get(4).path("result").asText());
+        assertEquals("崇文区", results.get(5).path("area").asText());
+        assertEquals("WRONG_LENGTH", results.get(6).path("result").asText());
+    }
+
+    @Test
+    void jsonArray() throws IOException {
+        List<JsonNode> results = analysis("[\"" + VALID_ID_NO + "\", null, \"110105194912310011\"]", true);
+        assertEquals(3, results.size());
+        assertEquals("VALID", results.get(0).path("result").asText());
+        assertEquals("EMPTY", results.get(1).path("result").asText());
+        assertEquals("MALE", results.get(2).path("sex").asText());
+
+        assertTrue(analysis("[]", true).isEmpty());
+        assertTrue(analysis("", true).isEmpty());
+    }
+
+    /**
+     * 格式有误前的号码正常输出, 最后一行为错误
+     */
+    @Test
+    void wrongFormat() throws IOException {
+        List<JsonNode> results = analysis("[\"" + VALID_ID_NO + "\", \"" + VALID_ID_NO + "\", 1]", true);
+        assertEquals(3, results.size());
+        assertEquals("VALID", results.get(1).path("result").asText());
+        assertEquals(3, results.get(2).path("line").asInt());
+        assertTrue(results.get(2).has("error"));
+
+        results = analysis("{\"idNo\": \"" + VALID_ID_NO + "\"}", true);
+        assertEquals(1, results.size());
+        assertTrue(results.get(0).has("error"));
+    }
+
+    /**
+     * 边读边输出, 输入按需生成, 输出只计数, 结果与顺序一致
+     */
+    @Test
+    void stream() throws IOException {
+        int count = 100000;
+        InputStream in = new SequenceInputStream(new Enumeration<InputStream>() {
+            private int i;
+
+            @Override
+            public boolean hasMoreElements() {
+                return i < count;
+            }
+
+            @Override
+            public InputStream nextElement() {
+                i++;
+                return new ByteArrayInputStream(((i % 2 == 0 ? VALID_ID_NO : "110105194912310011") + "\n").getBytes(
+                        StandardCharsets.US_ASCII));
+            }
+        });
+        LineCheckingOutputStream out = new LineCheckingOutputStream();
+        assertEquals(count, identityBatchService.analysis(in, false, out));
+        assertEquals(count, out.lines);
+    }
+
+    private static List<JsonNode> analysis(String body, boolean json) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        identityBatchService.analysis(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), json, out);
+        List<JsonNode> results = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new StringReader(new String(out.toByteArray(),
+                StandardCharsets.UTF_8)))) {
+            String line;
+            while ((line = reader.readLine()) != null)
+                results.add(OBJECT_MAPPER.readTree(line));
+        }
+        return results;
+    }
+
+    /**
+     * 逐行检查行号连续及奇偶行的性别, 不保留输出
+     */
+    private static class LineCheckingOutputStream extends OutputStream {
+        private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+        private long lines;
+
+        @Override
+        public void write(int b) throws IOException {
+            if (b != '\n') {
+                line.write(b);
+                return;
+            }
+            JsonNode result = OBJECT_MAPPER.readTree(line.toByteArray());
+            line.reset();
+            lines++;
+            assertEquals(lines, result.path("line").asLong());
+            assertEquals(lines % 2 == 0 ? "FEMALE" : "MALE", result.path("sex").asText());
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.yanchao.blog.service;
+
+import com.yanchao.blog.config.EncryProperties;
+import com.yanchao.blog.config.ResultException;
+import com.yanchao.blog.constant.TokenFormatEnum;
+import com.yanchao.blog.constant.TokenModeEnum;
+import com.yanchao.blog.util.EncryUtils;
+import com.yanchao.blog.util.TokenUtils;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.yanchao.blog.constant.EncryTypeEnum.ID_NO;
+import static com.yanchao.blog.constant.EncryTypeEnum.TEL_NO;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 密文生成-测试类: HMAC方式的确定性、输出格式及按加解密类型区分密钥
+ */
+public class TokenServiceTest {
+
+    /** RFC 4231 test case 6: 131字节0xaa密钥 */
+    private static final byte[] RFC_KEY = new byte[131];
+    private static final String RFC_DATA = "Test Using Larger Than Block-Size Key - Hash Key First";
+    /** HMAC-SHA256的前16字节 */
+    private static final String RFC_TOKEN = "60e431591ee0b67f0d8a26aacbf5b77f";
+
+    private static final String DECRY = "13800000000";
+
+    static {
+        Arrays.fill(RFC_KEY, (byte) 0xaa);
+    }
+
+    @Test
+    void hmacKnownAnswer() throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(RFC_KEY, "HmacSHA256"));
+        assertEquals(RFC_TOKEN, EncryUtils.getHmac(mac, RFC_DATA));
+        assertArrayEquals(TokenUtils.fromHex(RFC_TOKEN), EncryUtils.getHmacBytes(mac, RFC_DATA));
+        assertNull(EncryUtils.getHmac(mac, " "));
+
+        assertEquals(RFC_TOKEN, hmac(TokenFormatEnum.HEX).token(RFC_DATA, TEL_NO));
+    }
+
+    @Test
+    void deterministic() throws Exception {
+        TokenService tokenService = hmac(TokenFormatEnum.HEX);
+        String token = tokenService.token(DECRY, TEL_NO);
+        assertEquals(token, tokenService.token(DECRY, TEL_NO));
+        // 其他节点、重启后相同
+        assertEquals(token, hmac(TokenFormatEnum.HEX).token(DECRY, TEL_NO));
+        assertNotEquals(token, tokenService.token("13800000001", TEL_NO));
+
+        // 每个线程各自的Mac
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++)
+                futures.add(executor.submit(() -> tokenService.token(DECRY, TEL_NO)));
+            for (Future<String> future : futures)
+                assertEquals(token, future.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void hmacFormats() {
+        String hex = hmac(TokenFormatEnum.HEX).token(DECRY, TEL_NO);
+        assertEquals(TokenUtils.HEX_LENGTH, hex.length());
+        assertTrue(hex.matches("[0-9a-f]+"));
+
+        // HMAC方式的历史格式即为十六进制
+        assertEquals(hex, hmac(TokenFormatEnum.DECIMAL).token(DECRY, TEL_NO));
+
+        String base62 = hmac(TokenFormatEnum.BASE62).token(DECRY, TEL_NO);
+        assertEquals(TokenUtils.BASE62_LENGTH, base62.length());
+        assertArrayEquals(TokenUtils.fromHex(hex), TokenUtils.fromBase62(base62));
+    }
+
+    @Test
+    void md5Formats() {
+        assertEquals(EncryUtils.getMD5(DECRY), md5(TokenFormatEnum.DECIMAL).token(DECRY, TEL_NO));
+        assertEquals(TokenUtils.toHex(EncryUtils.getMD5Bytes(DECRY)), md5(TokenFormatEnum.HEX).token(DECRY, TEL_NO));
+        assertEquals(TokenUtils.toBase62(EncryUtils.getMD5Bytes(DECRY)),
+                md5(TokenFormatEnum.BASE62).token(DECRY, TEL_NO));
+        // MD5方式不区分类型
+        assertEquals(md5(TokenFormatEnum.HEX).token(DECRY, TEL_NO), md5(TokenFormatEnum.HEX).token(DECRY, ID_NO));
+    }
+
+    @Test
+    void keysPerType() {
+        EncryProperties encryProperties = properties(TokenModeEnum.HMAC, TokenFormatEnum.HEX);
+        encryProperties.getToken().getKeys().put(ID_NO, Base64.getEncoder().encodeToString(new byte[32]));
+        TokenService tokenService = new TokenService(encryProperties);
+        tokenService.init();
+
+        String tel = tokenService.token(DECRY, TEL_NO);
+        String idNo = tokenService.token(DECRY, ID_NO);
+        assertNotEquals(tel, idNo);
+        assertEquals(tel, hmac(TokenFormatEnum.HEX).token(DECRY, TEL_NO));
+
+        // 未配置密钥的类型不能加密
+        assertThrows(ResultException.class, () -> hmac(TokenFormatEnum.HEX).token(DECRY, ID_NO));
+    }
+
+    @Test
+    void rejectsWeakKeys() {
+        EncryProperties encryProperties = properties(TokenModeEnum.HMAC, TokenFormatEnum.HEX);
+        encryProperties.getToken().getKeys().put(ID_NO, Base64.getEncoder().encodeToString(new byte[31]));
+        assertThrows(IllegalStateException.class, () -> new TokenService(encryProperties).init());
+
+        EncryProperties noKeys = properties(TokenModeEnum.HMAC, TokenFormatEnum.HEX);
+        noKeys.getToken().getKeys().clear();
+        assertThrows(IllegalStateException.class, () -> new TokenService(noKeys).init());
+    }
+
+    private static TokenService hmac(TokenFormatEnum format) {
+        TokenService tokenService = new TokenService(properties(TokenModeEnum.HMAC, format));
+        tokenService.init();
+        return tokenService;
+    }
+
+    private static TokenService md5(TokenFormatEnum format) {
+        TokenService tokenService = new TokenService(properties(TokenModeEnum.MD5, format));
+        tokenService.init();
+        return tokenService;
+    }
+
+    /**
+     * @return 只配置了手机号密钥
+     */
+    private static EncryProperties properties(TokenModeEnum mode, TokenFormatEnum format) {
+        EncryProperties encryProperties = new EncryProperties();
+        encryProperties.getToken().setMode(mode);
+        encryProperties.getToken().setFormat(format);
+        encryProperties.getToken().getKeys().put(TEL_NO, Base64.getEncoder().encodeToString(RFC_KEY));
+        return encryProperties;
+    }
+}
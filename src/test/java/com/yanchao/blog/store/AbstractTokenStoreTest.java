@@ -0,0 +1,180 @@
+package com.yanchao.blog.store;
+
+import com.yanchao.blog.util.EncryUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.yanchao.blog.constant.EncryTypeEnum.ID_NO;
+import static com.yanchao.blog.constant.EncryTypeEnum.TEL_NO;
+import static com.yanchao.blog.constant.EncryTypeEnum.USER_NAME;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 映射存储-一致性及性能测试, 每种存储实现继承此类
+ */
+public abstract class AbstractTokenStoreTest {
+
+    private static final AtomicLong SEQ = new AtomicLong(13000000000L + System.nanoTime() % 1000000000L);
+
+    protected abstract TokenStore tokenStore();
+
+    @Test
+    void putIfAbsent() {
+        String decry = nextTelNo();
+        String encry = token(decry);
+
+        assertNull(tokenStore().getEncry(TEL_NO, decry));
+        assertEquals(encry, tokenStore().putIfAbsent(TEL_NO, decry, encry));
+        assertEquals(encry, tokenStore().getEncry(TEL_NO, decry));
+        assertEquals(decry, tokenStore().getDecry(TEL_NO, encry));
+    }
+
+    @Test
+    void putIfAbsentKeepsExisting() {
+        String decry = nextTelNo();
+        String encry = token(decry);
+        tokenStore().putIfAbsent(TEL_NO, decry, encry);
+
+        assertEquals(encry, tokenStore().putIfAbsent(TEL_NO, decry, otherToken(decry)));
+        assertNull(tokenStore().getDecry(TEL_NO, otherToken(decry)));
+    }
+
+    @Test
+    void putIfAbsentRejectsTakenEncry() {
+        String decry = nextTelNo();
+        String encry = token(decry);
+        tokenStore().putIfAbsent(TEL_NO, decry, encry);
+
+        assertNull(tokenStore().putIfAbsent(TEL_NO, nextTelNo(), encry));
+        assertEquals(decry, tokenStore().getDecry(TEL_NO, encry));
+    }
+
+    @Test
+    void batch() {
+        Map<String, String> encrys = mappings(2500);
+        List<String> decrys = new ArrayList<>(encrys.keySet());
+        String existing = decrys.get(0);
+        tokenStore().putIfAbsent(TEL_NO, existing, encrys.get(existing));
+
+        assertEquals(encrys, tokenStore().putIfAbsent(TEL_NO, encrys));
+
+        List<String> queries = new ArrayList<>(decrys);
+        queries.add(nextTelNo());
+        assertEquals(encrys, tokenStore().getEncrys(TEL_NO, queries));
+
+        Map<String, String> decrysByEncry = new HashMap<>();
+        encrys.forEach((decry, encry) -> decrysByEncry.put(encry, decry));
+        List<String> encryQueries = new ArrayList<>(decrysByEncry.keySet());
+        encryQueries.add(token(nextTelNo()));
+        assertEquals(decrysByEncry, tokenStore().getDecrys(TEL_NO, encryQueries));
+    }
+
+    @Test
+    void typesAreIsolated() {
+        String decry = nextTelNo();
+        String encry = token(decry);
+        tokenStore().putIfAbsent(TEL_NO, decry, encry);
+
+        assertNull(tokenStore().getEncry(ID_NO, decry));
+        assertNull(tokenStore().getDecry(ID_NO, encry));
+    }
+
+    @Test
+    void sameValueUnderTwoTypes() {
+        String decry = nextTelNo();
+        String encry = token(decry);
+        String userNameEncry = token(decry + "@");
+
+        assertEquals(encry, tokenStore().putIfAbsent(TEL_NO, decry, encry));
+        assertEquals(userNameEncry, tokenStore().putIfAbsent(USER_NAME, decry, userNameEncry));
+        assertEquals(encry, tokenStore().getEncry(TEL_NO, decry));
+        assertEquals(decry, tokenStore().getDecry(USER_NAME, userNameEncry));
+        // 同一密文也可以出现在不同类型下
+        assertEquals(encry, tokenStore().putIfAbsent(ID_NO, nextTelNo(), encry));
+    }
+
+    @Test
+    void concurrentPutIfAbsentAgrees() throws Exception {
+        String decry = nextTelNo();
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            String encry = token(decry + i);
+            futures.add(executor.submit(() -> {
+                start.await();
+                return tokenStore().putIfAbsent(TEL_NO, decry, encry);
+            }));
+        }
+        start.countDown();
+
+        Set<String> results = new HashSet<>();
+        for (Future<String> future : futures)
+            results.add(future.get(30, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        assertEquals(1, results.size());
+        assertEquals(results.iterator().next(), tokenStore().getEncry(TEL_NO, decry));
+    }
+
+    @Test
+    @Tag("benchmark")
+    void throughput() {
+        int rounds = 20;
+        int batchSize = 1000;
+        List<Map<String, String>> batches = new ArrayList<>();
+        for (int i = 0; i < rounds; i++)
+            batches.add(mappings(batchSize));
+
+        long start = System.nanoTime();
+        batches.forEach(o -> tokenStore().putIfAbsent(TEL_NO, o));
+        long writeNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        batches.forEach(o -> tokenStore().getEncrys(TEL_NO, o.keySet()));
+        long readNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (Map<String, String> batch : batches)
+            for (String encry : batch.values())
+                tokenStore().getDecry(TEL_NO, encry);
+        long singleReadNanos = System.nanoTime() - start;
+
+        int total = rounds * batchSize;
+        System.out.printf("%s: 批量写入 %.0f ops/s, 批量查询 %.0f ops/s, 单条查询 %.0f ops/s%n",
+                tokenStore().getClass().getSimpleName(), total * 1e9 / writeNanos, total * 1e9 / readNanos,
+                total * 1e9 / singleReadNanos);
+    }
+
+    /**
+     * @return 按存储支持的格式生成的密文
+     */
+    protected String token(String decry) {
+        return EncryUtils.getMD5(decry);
+    }
+
+    /**
+     * @return 与{@link #token(String)}不同的另一密文
+     */
+    protected String otherToken(String decry) {
+        return EncryUtils.getBase64(decry);
+    }
+
+    protected static String nextTelNo() {
+        return String.valueOf(SEQ.incrementAndGet());
+    }
+
+    private Map<String, String> mappings(int size) {
+        Map<String, String> encrys = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            String decry = nextTelNo();
+            encrys.put(decry, token(decry));
+        }
+        return encrys;
+    }
+}
@@ -0,0 +1,140 @@
+package com.yanchao.blog.store;
+
+import com.yanchao.blog.config.EncryProperties;
+import com.yanchao.blog.constant.SystemConstant;
+import com.yanchao.blog.constant.TokenFormatEnum;
+import com.yanchao.blog.dao.bas.EncryJdbcDAO;
+import com.yanchao.blog.po.bas.EncryPO;
+import com.yanchao.blog.util.EncryUtils;
+import com.yanchao.blog.util.TokenUtils;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.Arrays;
+import java.util.Date;
+
+import static com.yanchao.blog.constant.EncryTypeEnum.TEL_NO;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 映射存储-JDBC-16字节密文-测试类, H2(MODE=MySQL)
+ */
+public class JdbcCompactTokenStoreTest extends AbstractTokenStoreTest {
+
+    private static JdbcTemplate jdbcTemplate;
+    private static EncryProperties encryProperties;
+    private static EncryJdbcDAO encryJdbcDAO;
+    private static TokenStore tokenStore;
+    private static JdbcTokenMigration migration;
+
+    @BeforeAll
+    static void init() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:jdbc-compact-token-store;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("db/bas_encry.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        encryProperties = new EncryProperties();
+        encryProperties.getToken().setFormat(TokenFormatEnum.HEX);
+        encryProperties.getToken().getMigration().setEnabled(true);
+        encryJdbcDAO = new EncryJdbcDAO(jdbcTemplate, new NamedParameterJdbcTemplate(jdbcTemplate));
+        tokenStore = new JdbcTokenStore(encryJdbcDAO, encryProperties);
+        migration = new JdbcTokenMigration(encryProperties, encryJdbcDAO);
+    }
+
+    @Override
+    protected TokenStore tokenStore() {
+        return tokenStore;
+    }
+
+    @Override
+    protected String token(String decry) {
+        return TokenUtils.toHex(EncryUtils.getMD5Bytes(decry));
+    }
+
+    @Test
+    void storesBinaryOnly() {
+        String decry = nextTelNo();
+        tokenStore.putIfAbsent(TEL_NO, decry, token(decry));
+
+        assertNull(jdbcTemplate.queryForObject("select encry from bas_encry where decry = ?", String.class, decry));
+        assertArrayEquals(EncryUtils.getMD5Bytes(decry), jdbcTemplate.queryForObject(
+                "select encry_bin from bas_encry where decry = ?", byte[].class, decry));
+    }
+
+    @Test
+    void legacyTokensBeforeAndAfterMigration() {
+        String md5Decry = nextTelNo();
+        String md5Encry = EncryUtils.getMD5(md5Decry);
+        String hexDecry = nextTelNo();
+        String hexEncry = token(hexDecry);
+        String base64Decry = nextTelNo();
+        String base64Encry = EncryUtils.getBase64(base64Decry);
+        insertLegacy(md5Decry, md5Encry);
+        insertLegacy(hexDecry, hexEncry);
+        insertLegacy(base64Decry, base64Encry);
+
+        // 迁移前按encry列查询
+        assertLegacyReadable(md5Decry, md5Encry, hexDecry, hexEncry);
+
+        long migrated = migration.stats().getMigrated();
+        while (migration.migrate() > 0)
+            ;
+        assertEquals(migrated + 2, migration.stats().getMigrated());
+        migration.migrate();
+        assertTrue(migration.stats().isCaughtUp());
+        assertEquals(1, migration.stats().getSkipped());
+        // 没有可迁移的行时整轮为idle
+        while (migration.migrate() > 0)
+            ;
+        assertTrue(migration.stats().isIdle());
+
+        // 迁移并清空encry列后, 关闭迁移仍可按历史密文解密
+        jdbcTemplate.update("update bas_encry set encry = null where encry_bin is not null");
+        encryProperties.getToken().getMigration().setEnabled(false);
+        try {
+            assertLegacyReadable(md5Decry, md5Encry, hexDecry, hexEncry);
+            assertEquals(token(md5Decry), tokenStore.getEncry(TEL_NO, md5Decry));
+            assertEquals(md5Decry, tokenStore.getDecry(TEL_NO, token(md5Decry)));
+            assertNull(tokenStore.getDecry(TEL_NO, base64Encry));
+        } finally {
+            encryProperties.getToken().getMigration().setEnabled(true);
+        }
+    }
+
+    @Test
+    void migratesDecimalTokensOfHexLength() {
+        // 该号码的MD5十进制密文恰为32位数字, 也能按十六进制解析
+        String decry = "13900533779";
+        String encry = EncryUtils.getMD5(decry);
+        assertNotNull(TokenUtils.fromHex(encry));
+        insertLegacy(decry, encry);
+
+        while (migration.migrate() > 0)
+            ;
+        assertArrayEquals(EncryUtils.getMD5Bytes(decry), jdbcTemplate.queryForObject(
+                "select encry_bin from bas_encry where decry = ?", byte[].class, decry));
+        assertEquals(Long.valueOf(TokenUtils.legacyHash(encry)), jdbcTemplate.queryForObject(
+                "select legacy_hash from bas_encry where decry = ?", Long.class, decry));
+
+        jdbcTemplate.update("update bas_encry set encry = null where decry = ?", decry);
+        assertEquals(decry, tokenStore.getDecry(TEL_NO, encry));
+        assertEquals(decry, tokenStore.getDecry(TEL_NO, token(decry)));
+    }
+
+    private static void assertLegacyReadable(String md5Decry, String md5Encry, String hexDecry, String hexEncry) {
+        assertEquals(md5Decry, tokenStore.getDecry(TEL_NO, md5Encry));
+        assertEquals(hexDecry, tokenStore.getDecry(TEL_NO, hexEncry));
+        assertEquals(2, tokenStore.getDecrys(TEL_NO, Arrays.asList(md5Encry, hexEncry)).size());
+    }
+
+    private static void insertLegacy(String decry, String encry) {
+        // 历史数据只有encry列
+        encryJdbcDAO.insertIgnore(EncryPO.builder().encry(encry).decry(decry).type(TEL_NO).createTime(new Date())
+                .creator(SystemConstant.SYSTEM_NAME).build());
+    }
+}
@@ -0,0 +1,33 @@
+package com.yanchao.blog.store;
+
+import com.yanchao.blog.config.EncryProperties;
+import com.yanchao.blog.dao.bas.EncryJdbcDAO;
+import org.junit.jupiter.api.BeforeAll;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * 映射存储-JDBC-测试类, H2(MODE=MySQL)
+ */
+public class JdbcTokenStoreTest extends AbstractTokenStoreTest {
+
+    private static TokenStore tokenStore;
+
+    @BeforeAll
+    static void init() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:jdbc-token-store;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("db/bas_encry.sql")).execute(dataSource);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        tokenStore = new JdbcTokenStore(new EncryJdbcDAO(jdbcTemplate, new NamedParameterJdbcTemplate(jdbcTemplate)),
+                new EncryProperties());
+    }
+
+    @Override
+    protected TokenStore tokenStore() {
+        return tokenStore;
+    }
+}
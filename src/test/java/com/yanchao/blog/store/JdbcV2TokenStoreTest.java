@@ -0,0 +1,173 @@
+package com.yanchao.blog.store;
+
+import com.yanchao.blog.config.EncryProperties;
+import com.yanchao.blog.constant.SystemConstant;
+import com.yanchao.blog.constant.TokenFormatEnum;
+import com.yanchao.blog.dao.bas.EncryJdbcDAO;
+import com.yanchao.blog.dao.bas.EncryV2JdbcDAO;
+import com.yanchao.blog.po.bas.EncryPO;
+import com.yanchao.blog.util.EncryUtils;
+import com.yanchao.blog.util.TokenUtils;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Map;
+
+import static com.yanchao.blog.constant.EncryTypeEnum.ID_NO;
+import static com.yanchao.blog.constant.EncryTypeEnum.TEL_NO;
+import static com.yanchao.blog.constant.EncryTypeEnum.USER_NAME;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 映射存储-JDBC-v2表结构-测试类, H2(MODE=MySQL)
+ */
+public class JdbcV2TokenStoreTest extends AbstractTokenStoreTest {
+
+    private static JdbcTemplate jdbcTemplate;
+    private static EncryProperties encryProperties;
+    private static EncryJdbcDAO encryJdbcDAO;
+    private static JdbcV2TokenStore tokenStore;
+    private static JdbcV2Backfill backfill;
+
+    @BeforeAll
+    static void init() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:jdbc-v2-token-store;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("db/bas_encry.sql"),
+                new ClassPathResource("db/bas_encry_v2.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        NamedParameterJdbcTemplate namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        encryProperties = new EncryProperties();
+        encryProperties.getStore().getV2().setDualWrite(false);
+        encryJdbcDAO = new EncryJdbcDAO(jdbcTemplate, namedParameterJdbcTemplate);
+        tokenStore = new JdbcV2TokenStore(new EncryV2JdbcDAO(jdbcTemplate, namedParameterJdbcTemplate), encryJdbcDAO,
+                encryProperties);
+        backfill = new JdbcV2Backfill(encryProperties, encryJdbcDAO, tokenStore);
+    }
+
+    @Override
+    protected TokenStore tokenStore() {
+        return tokenStore;
+    }
+
+    @Test
+    void packsPlaintext() {
+        String telNo = nextTelNo();
+        String idNo = "11010519491231002X";
+        String userName = "王彦超" + telNo;
+        tokenStore.putIfAbsent(TEL_NO, telNo, token(telNo));
+        tokenStore.putIfAbsent(ID_NO, idNo, token(idNo));
+        tokenStore.putIfAbsent(USER_NAME, userName, token(userName));
+
+        assertEquals(Long.valueOf(telNo), jdbcTemplate.queryForObject(
+                "select decry_num from bas_encry_v2 where type = ? and encry = ?", Long.class, TEL_NO.getCode(),
+                token(telNo).getBytes()));
+        assertEquals(idNo, tokenStore.getDecry(ID_NO, token(idNo)));
+        assertEquals(token(userName), tokenStore.getEncry(USER_NAME, userName));
+        assertEquals(userName, tokenStore.getDecry(USER_NAME, token(userName)));
+    }
+
+    @Test
+    void compactTokens() {
+        String decry = nextTelNo();
+        String encry = TokenUtils.toBase62(EncryUtils.getMD5Bytes(decry));
+        encryProperties.getToken().setFormat(TokenFormatEnum.BASE62);
+        try {
+            assertEquals(encry, tokenStore.putIfAbsent(TEL_NO, decry, encry));
+            assertEquals(16, jdbcTemplate.queryForObject(
+                    "select length(encry) from bas_encry_v2 where type = ? and decry_num = ?", Integer.class,
+                    TEL_NO.getCode(), Long.valueOf(decry)));
+        } finally {
+            encryProperties.getToken().setFormat(TokenFormatEnum.DECIMAL);
+        }
+        // 切换格式后按行上的格式返回, 仍可解密
+        assertEquals(encry, tokenStore.getEncry(TEL_NO, decry));
+        assertEquals(decry, tokenStore.getDecry(TEL_NO, encry));
+    }
+
+    @Test
+    void dualWriteAndBackfill() {
+        String legacyDecry = nextTelNo();
+        String legacyEncry = token(legacyDecry);
+        insertLegacy(legacyDecry, legacyEncry);
+
+        encryProperties.getStore().getV2().setDualWrite(true);
+        try {
+            // 复制前查询bas_encry
+            assertEquals(legacyEncry, tokenStore.getEncry(TEL_NO, legacyDecry));
+            assertEquals(legacyDecry, tokenStore.getDecry(TEL_NO, legacyEncry));
+            // 以bas_encry为准
+            assertEquals(legacyEncry, tokenStore.putIfAbsent(TEL_NO, legacyDecry, otherToken(legacyDecry)));
+
+            String decry = nextTelNo();
+            assertEquals(token(decry), tokenStore.putIfAbsent(TEL_NO, decry, token(decry)));
+            assertEquals(token(decry), jdbcTemplate.queryForObject("select encry from bas_encry where decry = ?",
+                    String.class, decry));
+
+            while (backfill.backfill() > 0)
+                ;
+            assertTrue(backfill.stats().isCaughtUp());
+            // 再扫描一轮: 行均已存在, 不再写入
+            long copied = backfill.stats().getCopied();
+            while (backfill.backfill() > 0)
+                ;
+            assertEquals(copied, backfill.stats().getCopied());
+            assertTrue(backfill.stats().isIdle());
+        } finally {
+            encryProperties.getStore().getV2().setDualWrite(false);
+        }
+
+        Map<String, String> decrys = tokenStore.getDecrys(TEL_NO, Collections.singletonList(legacyEncry));
+        assertEquals(legacyDecry, decrys.get(legacyEncry));
+        assertEquals(legacyEncry, tokenStore.getEncry(TEL_NO, legacyDecry));
+    }
+
+    @Test
+    void backfillMigratedLegacyTokens() {
+        String legacyDecry = nextTelNo();
+        String legacyEncry = token(legacyDecry);
+        String hexEncry = TokenUtils.toHex(EncryUtils.getMD5Bytes(legacyDecry));
+        insertLegacy(legacyDecry, legacyEncry);
+
+        // 先由历史密文迁移补写encry_bin, 再复制到v2表
+        encryProperties.getToken().setFormat(TokenFormatEnum.HEX);
+        encryProperties.getStore().getV2().setDualWrite(true);
+        try {
+            JdbcTokenMigration migration = new JdbcTokenMigration(encryProperties, encryJdbcDAO);
+            while (migration.migrate() > 0)
+                ;
+            assertNotNull(jdbcTemplate.queryForObject("select legacy_hash from bas_encry where decry = ?", Long.class,
+                    legacyDecry));
+            while (backfill.backfill() > 0)
+                ;
+        } finally {
+            encryProperties.getStore().getV2().setDualWrite(false);
+        }
+
+        try {
+            Map<String, String> decrys = tokenStore.getDecrys(TEL_NO, Arrays.asList(legacyEncry, hexEncry));
+            assertEquals(legacyDecry, decrys.get(legacyEncry));
+            assertEquals(legacyDecry, decrys.get(hexEncry));
+            assertEquals(legacyDecry, tokenStore.getDecry(TEL_NO, legacyEncry));
+            assertEquals(hexEncry, tokenStore.getEncry(TEL_NO, legacyDecry));
+            // 十进制形式但不是该明文摘要的密文不返回
+            assertNull(tokenStore.getDecry(TEL_NO, legacyEncry.substring(1)));
+        } finally {
+            encryProperties.getToken().setFormat(TokenFormatEnum.DECIMAL);
+        }
+    }
+
+    private static void insertLegacy(String decry, String encry) {
+        // 历史数据只有encry列
+        encryJdbcDAO.insertIgnore(EncryPO.builder().encry(encry).decry(decry).type(TEL_NO).createTime(new Date())
+                .creator(SystemConstant.SYSTEM_NAME).build());
+    }
+}
@@ -0,0 +1,95 @@
+package com.yanchao.blog.store;
+
+import com.yanchao.blog.util.EncryUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.yanchao.blog.constant.EncryTypeEnum.TEL_NO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 映射存储-JPA-批量写入测试, 统计写入N条新映射时与数据库的交互次数
+ */
+@Import({ JpaTokenStore.class, JpaBatchInsertTest.RoundTripConfig.class })
+@DataJpaTest(properties = { "blog.encry.store.type=JPA", "spring.jpa.database=H2" })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class JpaBatchInsertTest {
+
+    /** 语句执行及提交、回滚的次数 */
+    private static final AtomicLong ROUND_TRIPS = new AtomicLong();
+
+    @Autowired
+    private JpaTokenStore tokenStore;
+
+    @Test
+    void batchInsertRoundTrips() {
+        int size = 2500;
+        Map<String, String> encrys = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            String decry = String.valueOf(15000000000L + i);
+            encrys.put(decry, EncryUtils.getMD5(decry));
+        }
+
+        ROUND_TRIPS.set(0);
+        assertEquals(encrys, tokenStore.putIfAbsent(TEL_NO, encrys));
+        long roundTrips = ROUND_TRIPS.get();
+
+        // 查询3次(每1000条一次) + 号段3次(每次查询、更新、提交) + INSERT 3批 + 提交, 约20次; 自增主键时每条一次INSERT
+        assertTrue(roundTrips < size / 50, "round trips: " + roundTrips);
+        assertEquals(encrys, tokenStore.getEncrys(TEL_NO, encrys.keySet()));
+    }
+
+    @TestConfiguration
+    static class RoundTripConfig {
+
+        @Bean
+        static BeanPostProcessor roundTripCounter() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource ? proxy(DataSource.class, bean) : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * 代理DataSource -> Connection -> Statement, 统计execute*、commit、rollback
+     */
+    private static <T> T proxy(Class<T> type, Object target) {
+        return type.cast(Proxy.newProxyInstance(JpaBatchInsertTest.class.getClassLoader(),
+                new Class<?>[] { type }, (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.startsWith("execute") || name.equals("commit") || name.equals("rollback"))
+                        ROUND_TRIPS.incrementAndGet();
+                    Object result;
+                    try {
+                        result = method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                    if (result instanceof Connection)
+                        return proxy(Connection.class, result);
+                    if (result instanceof Statement)
+                        return proxy((Class<?>) method.getReturnType(), result);
+                    return result;
+                }));
+    }
+}
@@ -0,0 +1,74 @@
+package com.yanchao.blog.store;
+
+import com.yanchao.blog.config.EncryProperties;
+import com.yanchao.blog.dao.bas.EncryJdbcDAO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.yanchao.blog.constant.EncryTypeEnum.TEL_NO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 映射存储-JPA-测试类, 内嵌H2
+ */
+@Import(JpaTokenStore.class)
+// JDBC写入使用MySQL语法
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = { "blog.encry.store.type=JPA", "spring.jpa.database=H2",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:jpa-token-store;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa", "spring.datasource.password=" })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class JpaTokenStoreTest extends AbstractTokenStoreTest {
+
+    @Autowired
+    private JpaTokenStore tokenStore;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    protected TokenStore tokenStore() {
+        return tokenStore;
+    }
+
+    @Test
+    void sharesIdsWithJdbcWriter() {
+        // JDBC与JPA交替写入同一张表, 主键均来自bas_id_seq
+        NamedParameterJdbcTemplate namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        TokenStore jdbcTokenStore = new JdbcTokenStore(new EncryJdbcDAO(jdbcTemplate, namedParameterJdbcTemplate),
+                new EncryProperties());
+        String first = nextTelNo();
+        tokenStore.putIfAbsent(TEL_NO, first, token(first));
+        long nextVal = jdbcTemplate.queryForObject("select next_val from bas_id_seq where sequence_name = ?",
+                Long.class, "bas_encry");
+
+        List<String> decrys = new ArrayList<>();
+        List<String> jdbcDecrys = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            String decry = nextTelNo();
+            decrys.add(decry);
+            TokenStore writer = i % 2 == 0 ? jdbcTokenStore : tokenStore;
+            if (writer == jdbcTokenStore)
+                jdbcDecrys.add(decry);
+            assertEquals(token(decry), writer.putIfAbsent(TEL_NO, decry, token(decry)));
+        }
+
+        assertEquals(decrys.size(), tokenStore.getEncrys(TEL_NO, decrys).size());
+        assertEquals(decrys.size(), jdbcTokenStore.getEncrys(TEL_NO, decrys).size());
+        // JDBC写入的主键在JPA已分配的号段之后, 不与其重叠
+        assertEquals(jdbcDecrys.size(), namedParameterJdbcTemplate.queryForObject(
+                "select count(*) from bas_encry where decry in (:decrys) and id >= :nextVal",
+                new MapSqlParameterSource("decrys", jdbcDecrys).addValue("nextVal", nextVal), Integer.class));
+    }
+}
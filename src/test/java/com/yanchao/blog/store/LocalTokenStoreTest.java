@@ -0,0 +1,14 @@
+package com.yanchao.blog.store;
+
+/**
+ * 映射存储-进程内-测试类
+ */
+public class LocalTokenStoreTest extends AbstractTokenStoreTest {
+
+    private final TokenStore tokenStore = new LocalTokenStore();
+
+    @Override
+    protected TokenStore tokenStore() {
+        return tokenStore;
+    }
+}
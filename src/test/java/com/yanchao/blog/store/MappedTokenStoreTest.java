@@ -0,0 +1,118 @@
+package com.yanchao.blog.store;
+
+import com.yanchao.blog.config.EncryProperties;
+import com.yanchao.blog.util.EncryUtils;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static com.yanchao.blog.constant.EncryTypeEnum.ID_NO;
+import static com.yanchao.blog.constant.EncryTypeEnum.TEL_NO;
+import static com.yanchao.blog.constant.EncryTypeEnum.USER_NAME;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 映射存储-内存映射日志-测试类
+ */
+public class MappedTokenStoreTest extends AbstractTokenStoreTest {
+
+    @TempDir
+    static Path dir;
+
+    private static MappedTokenStore tokenStore;
+
+    @BeforeAll
+    static void init() throws IOException {
+        EncryProperties encryProperties = new EncryProperties();
+        EncryProperties.Mapped mapped = encryProperties.getStore().getMapped();
+        mapped.setDir(dir.resolve("store").toString());
+        // 小日志段、小索引, 覆盖日志段滚动及索引扩容
+        mapped.setSegmentRecords(1024);
+        mapped.setInitialCapacity(16);
+        tokenStore = new MappedTokenStore(encryProperties);
+        tokenStore.init();
+    }
+
+    @AfterAll
+    static void destroy() {
+        tokenStore.destroy();
+    }
+
+    @Override
+    protected TokenStore tokenStore() {
+        return tokenStore;
+    }
+
+    @Test
+    void reopen() throws IOException {
+        Path logDir = dir.resolve("reopen");
+        try (MappedTokenLog tokenLog = new MappedTokenLog(logDir, 64, 16)) {
+            for (int i = 0; i < 200; i++)
+                tokenLog.putIfAbsent(TEL_NO, telNo(i), EncryUtils.getMD5(telNo(i)));
+            tokenLog.putIfAbsent(USER_NAME, "王彦超", EncryUtils.getMD5("王彦超"));
+        }
+
+        try (MappedTokenLog tokenLog = new MappedTokenLog(logDir, 64, 16)) {
+            assertEquals(201, tokenLog.size());
+            for (int i = 0; i < 200; i++)
+                assertEquals(telNo(i), tokenLog.getDecry(TEL_NO, EncryUtils.getMD5(telNo(i))));
+            assertEquals(EncryUtils.getMD5("王彦超"), tokenLog.getEncry(USER_NAME, "王彦超"));
+            assertNull(tokenLog.getEncry(ID_NO, telNo(0)));
+        }
+    }
+
+    @Test
+    void recoverTornRecord() throws IOException {
+        Path logDir = dir.resolve("torn");
+        try (MappedTokenLog tokenLog = new MappedTokenLog(logDir, 64, 16)) {
+            for (int i = 0; i < 10; i++)
+                tokenLog.putIfAbsent(TEL_NO, telNo(i), EncryUtils.getMD5(telNo(i)));
+        }
+        // 模拟最后一条记录未写完: 破坏其密文
+        try (FileChannel channel = FileChannel.open(logDir.resolve("token-00000000.dat"), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] { 'x' }), 9L * MappedTokenLog.RECORD_SIZE + 70);
+        }
+
+        try (MappedTokenLog tokenLog = new MappedTokenLog(logDir, 64, 16)) {
+            assertEquals(9, tokenLog.size());
+            assertNull(tokenLog.getEncry(TEL_NO, telNo(9)));
+            assertEquals(EncryUtils.getMD5(telNo(9)), tokenLog.putIfAbsent(TEL_NO, telNo(9), EncryUtils.getMD5(telNo(9))));
+        }
+        try (MappedTokenLog tokenLog = new MappedTokenLog(logDir, 64, 16)) {
+            assertEquals(10, tokenLog.size());
+        }
+    }
+
+    @Test
+    void compact() throws IOException {
+        Path logDir = dir.resolve("compact");
+        try (MappedTokenLog tokenLog = new MappedTokenLog(logDir, 64, 16)) {
+            for (int i = 0; i < 100; i++) {
+                tokenLog.putIfAbsent(TEL_NO, telNo(i), EncryUtils.getMD5(telNo(i)));
+                tokenLog.putIfAbsent(ID_NO, telNo(i), EncryUtils.getMD5(telNo(i)));
+            }
+            tokenLog.compact(encryType -> encryType != ID_NO);
+
+            assertEquals(100, tokenLog.size());
+            assertNull(tokenLog.getEncry(ID_NO, telNo(0)));
+            assertEquals(EncryUtils.getMD5(telNo(99)), tokenLog.getEncry(TEL_NO, telNo(99)));
+            assertFalse(Files.exists(logDir.resolve("compact")));
+        }
+        try (MappedTokenLog tokenLog = new MappedTokenLog(logDir, 64, 16)) {
+            assertEquals(100, tokenLog.size());
+            assertEquals(telNo(50), tokenLog.getDecry(TEL_NO, EncryUtils.getMD5(telNo(50))));
+        }
+    }
+
+    private static String telNo(int i) {
+        return String.valueOf(13800000000L + i);
+    }
+}
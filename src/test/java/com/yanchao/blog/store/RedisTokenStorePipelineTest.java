@@ -0,0 +1,70 @@
+package com.yanchao.blog.store;
+
+import com.yanchao.blog.config.EncryProperties;
+import com.yanchao.blog.util.EncryUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static com.yanchao.blog.constant.EncryTypeEnum.TEL_NO;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 映射存储-Redis-pipeline测试类, 不需要Redis: 模拟的连接与Lettuce一致, pipeline中的命令返回null, 结果在关闭pipeline时返回
+ */
+public class RedisTokenStorePipelineTest {
+
+    private static final String SHA = "0123456789abcdef0123456789abcdef01234567";
+
+    @Test
+    void putIfAbsentLoadsScriptOutsidePipeline() {
+        String decry = "13800000000";
+        String encry = EncryUtils.getMD5(decry);
+        String occupied = EncryUtils.getMD5("13800000001");
+        Map<String, String> encrys = new LinkedHashMap<>();
+        encrys.put(decry, encry);
+        encrys.put("13800000001", occupied);
+
+        List<String> commands = new ArrayList<>();
+        boolean[] pipelined = new boolean[1];
+        RedisConnection connection = mock(RedisConnection.class, invocation -> {
+            String name = invocation.getMethod().getName();
+            commands.add(name + (pipelined[0] ? "(pipelined)" : ""));
+            switch (name) {
+                case "openPipeline":
+                    pipelined[0] = true;
+                    return null;
+                case "closePipeline":
+                    pipelined[0] = false;
+                    // 第二条的密文已被其他明文占用, 脚本返回nil
+                    return Arrays.asList(encry.getBytes(StandardCharsets.UTF_8), null);
+                case "scriptLoad":
+                    return pipelined[0] ? null : SHA;
+                case "evalSha":
+                    // 与LettuceScriptingCommands相同的校验
+                    assertNotNull(invocation.getArgument(0), "Script digest must not be null!");
+                    assertEquals(SHA, invocation.getArgument(0));
+                    return null;
+                default:
+                    return invocation.getMethod().getReturnType() == boolean.class ? false : null;
+            }
+        });
+        RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
+        when(connectionFactory.getConnection()).thenReturn(connection);
+
+        TokenStore tokenStore = new RedisTokenStore(new StringRedisTemplate(connectionFactory), new EncryProperties());
+        Map<String, String> stored = tokenStore.putIfAbsent(TEL_NO, encrys);
+
+        assertEquals(Collections.singletonMap(decry, encry), stored);
+        assertTrue(commands.contains("scriptLoad"));
+        assertFalse(commands.contains("scriptLoad(pipelined)"));
+        assertEquals(2, Collections.frequency(commands, "evalSha(pipelined)"));
+        assertTrue(commands.indexOf("scriptLoad") < commands.indexOf("openPipeline"));
+    }
+}
@@ -0,0 +1,40 @@
+package com.yanchao.blog.store;
+
+import com.yanchao.blog.config.EncryProperties;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 映射存储-Redis-测试类, 需要本地Redis: -Dredis.host=127.0.0.1
+ */
+@EnabledIfSystemProperty(named = "redis.host", matches = ".+")
+public class RedisTokenStoreTest extends AbstractTokenStoreTest {
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static TokenStore tokenStore;
+
+    @BeforeAll
+    static void init() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(System.getProperty("redis.host"), 6379));
+        connectionFactory.afterPropertiesSet();
+        StringRedisTemplate stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        EncryProperties encryProperties = new EncryProperties();
+        encryProperties.getStore().setRedisKeyPrefix("blog:test:" + System.currentTimeMillis() + ":");
+        tokenStore = new RedisTokenStore(stringRedisTemplate, encryProperties);
+    }
+
+    @AfterAll
+    static void destroy() {
+        connectionFactory.destroy();
+    }
+
+    @Override
+    protected TokenStore tokenStore() {
+        return tokenStore;
+    }
+}
@@ -0,0 +1,153 @@
+package com.yanchao.blog.util;
+
+import com.sun.management.ThreadMXBean;
+import com.yanchao.blog.config.ResultException;
+import com.yanchao.blog.vo.user.IdentityInfoVO;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Random;
+
+import static com.yanchao.blog.constant.IdNoCheckEnum.*;
+import static com.yanchao.blog.constant.SexEnum.FEMALE;
+import static com.yanchao.blog.constant.SexEnum.MALE;
+import static com.yanchao.blog.util.IdentityDecoder.INVALID;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 身份证号出生日期、年龄、性别解析-测试类
+ */
+public class IdentityDecoderTest {
+
+    private static final String VALID_ID_NO = "11010519491231002X";
+
+    @Test
+    void birthDate() {
+        int birthDate = IdentityDecoder.birthDate(VALID_ID_NO);
+        assertEquals(19491231, birthDate);
+        assertEquals(1949, IdentityDecoder.year(birthDate));
+        assertEquals(12, IdentityDecoder.month(birthDate));
+        assertEquals(31, IdentityDecoder.day(birthDate));
+        assertEquals(LocalDate.of(1949, 12, 31), IdentityDecoder.toLocalDate(birthDate));
+        assertEquals(birthDate, IdentityDecoder.birthDate(("," + VALID_ID_NO).getBytes(StandardCharsets.US_ASCII),
+                1));
+
+        assertEquals(20000229, IdentityDecoder.birthDate("11010520000229"));
+        assertEquals(20240229, IdentityDecoder.birthDate("11010520240229"));
+        assertEquals(INVALID, IdentityDecoder.birthDate("11010519000229"));
+        assertEquals(INVALID, IdentityDecoder.birthDate("11010520230229"));
+        assertEquals(INVALID, IdentityDecoder.birthDate("11010519491131"));
+        assertEquals(INVALID, IdentityDecoder.birthDate("11010519491301"));
+        assertEquals(INVALID, IdentityDecoder.birthDate("11010519490001"));
+        assertEquals(INVALID, IdentityDecoder.birthDate("11010519490100"));
+        assertEquals(INVALID, IdentityDecoder.birthDate("11010517991231"));
+        assertEquals(INVALID, IdentityDecoder.birthDate("1101051949123"));
+        assertEquals(INVALID, IdentityDecoder.birthDate("1101051949123X"));
+        assertEquals(INVALID, IdentityDecoder.birthDate((CharSequence) null));
+        assertEquals(INVALID, IdentityDecoder.birthDate(VALID_ID_NO.getBytes(StandardCharsets.US_ASCII), 5));
+    }
+
+    @Test
+    void future() {
+        LocalDate today = LocalDate.now();
+        assertEquals(IdentityDecoder.today(), today.getYear() * 10000 + today.getMonthValue() * 100 + today
+                .getDayOfMonth());
+        assertEquals(IdentityDecoder.today(), IdentityDecoder.birthDate("110105" + format(today)));
+        assertEquals(INVALID, IdentityDecoder.birthDate("110105" + format(today.plusDays(1))));
+        assertEquals(INVALID, IdentityDecoder.birthDate("110105" + format(today.plusYears(1))));
+    }
+
+    @Test
+    void age() {
+        assertEquals(0, IdentityDecoder.age(20260101, 20260101));
+        assertEquals(9, IdentityDecoder.age(20160615, 20260614));
+        assertEquals(10, IdentityDecoder.age(20160615, 20260615));
+        // 2月29日出生的在平年3月1日满周岁
+        assertEquals(0, IdentityDecoder.age(20240229, 20250228));
+        assertEquals(1, IdentityDecoder.age(20240229, 20250301));
+        assertEquals(4, IdentityDecoder.age(20240229, 20280229));
+    }
+
+    @Test
+    void sex() {
+        assertEquals(FEMALE, IdentityDecoder.sex(VALID_ID_NO));
+        assertEquals(MALE, IdentityDecoder.sex("110105194912310011"));
+        assertEquals(MALE, IdentityDecoder.sex("110105194912310011".getBytes(StandardCharsets.US_ASCII), 0));
+        assertNull(IdentityDecoder.sex("1101051949123100X"));
+        assertNull(IdentityDecoder.sex("1101051949"));
+    }
+
+    @Test
+    void check() {
+        assertEquals(VALID, IdentityDecoder.check(VALID_ID_NO));
+        assertEquals(WRONG_CHECKSUM, IdentityDecoder.check("110105194912310021"));
+        assertEquals(WRONG_BIRTH_DATE, IdentityDecoder.check("110105190002290017"));
+        assertThrows(ResultException.class, () -> IdentityUtils.analysis("110105190002290017"));
+    }
+
+    @Test
+    void analysis() {
+        IdentityInfoVO idInfo = IdentityUtils.analysis(VALID_ID_NO);
+        assertEquals(Date.from(LocalDate.of(1949, 12, 31).atStartOfDay(ZoneId.systemDefault()).toInstant()), idInfo
+                .getBirthDate());
+        assertEquals(FEMALE, idInfo.getSex());
+        assertEquals(IdentityDecoder.age(19491231, IdentityDecoder.today()), idInfo.getAge());
+    }
+
+    /**
+     * 与LocalDate的校验结果一致
+     */
+    @Test
+    void sameAsLocalDate() {
+        Random random = new Random(42);
+        int today = IdentityDecoder.today();
+        for (int i = 0; i < 100000; i++) {
+            int date = (1790 + random.nextInt(250)) * 10000 + random.nextInt(14) * 100 + random.nextInt(33);
+            int expected;
+            try {
+                LocalDate localDate = LocalDate.of(date / 10000, date / 100 % 100, date % 100);
+                expected = localDate.getYear() < IdentityDecoder.MIN_YEAR || date > today ? INVALID : date;
+            } catch (DateTimeException e) {
+                expected = INVALID;
+            }
+            assertEquals(expected, IdentityDecoder.birthDate("110105" + date), String.valueOf(date));
+        }
+    }
+
+    /**
+     * 解析过程不创建对象, 精确的结果见UtilBenchmark.decodeIdNo(-prof gc)
+     */
+    @Test
+    void allocationFree() {
+        ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        String[] idNos = { VALID_ID_NO, "110105194912310011", "110105190002290017" };
+        long threadId = Thread.currentThread().getId();
+
+        int sink = 0;
+        for (int round = 0; round < 2; round++) {
+            long before = threadMXBean.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < 100000; i++) {
+                String idNo = idNos[i % idNos.length];
+                int birthDate = IdentityDecoder.birthDate(idNo);
+                if (birthDate != INVALID)
+                    sink += IdentityDecoder.age(birthDate) + IdentityDecoder.sex(idNo).ordinal();
+            }
+            long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+            // 第一轮包括类加载等, 只检查第二轮; 留出getThreadAllocatedBytes本身的分配
+            if (round == 1)
+                assertTrue(allocated < 1024, "allocated " + allocated + " bytes");
+        }
+        assertTrue(sink > 0);
+    }
+
+    private static String format(LocalDate date) {
+        return String.valueOf(date.getYear() * 10000 + date.getMonthValue() * 100 + date.getDayOfMonth());
+    }
+}
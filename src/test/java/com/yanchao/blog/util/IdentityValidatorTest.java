@@ -0,0 +1,106 @@
+package com.yanchao.blog.util;
+
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static com.yanchao.blog.constant.IdNoCheckEnum.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 身份证号校验-测试类
+ */
+public class IdentityValidatorTest {
+
+    private static final String VALID_ID_NO = "11010519491231002X";
+
+    @Test
+    void reasons() {
+        assertEquals(VALID, IdentityValidator.check(VALID_ID_NO));
+        assertEquals(VALID, IdentityValidator.check(VALID_ID_NO.toLowerCase()));
+        assertEquals(EMPTY, IdentityValidator.check((CharSequence) null));
+        assertEquals(EMPTY, IdentityValidator.check(""));
+        assertEquals(WRONG_LENGTH, IdentityValidator.check("11010519491231002"));
+        assertEquals(WRONG_CHARSET, IdentityValidator.check("1101051949123100XX"));
+        assertEquals(WRONG_CHARSET, IdentityValidator.check("11010519491231002Y"));
+        assertEquals(WRONG_CHARSET, IdentityValidator.check("１１0105194912310021"));
+        assertEquals(WRONG_CHECKSUM, IdentityValidator.check("110105194912310021"));
+    }
+
+    @Test
+    void bytesAndBuffer() {
+        byte[] bytes = ("," + VALID_ID_NO + ",110105194912310021,").getBytes(StandardCharsets.US_ASCII);
+        assertEquals(VALID, IdentityValidator.check(bytes, 1, 18));
+        assertEquals(WRONG_CHECKSUM, IdentityValidator.check(bytes, 20, 18));
+        assertEquals(WRONG_LENGTH, IdentityValidator.check(bytes, 1, 19));
+        assertEquals(WRONG_CHARSET, IdentityValidator.check("中文身份证号".getBytes(StandardCharsets.UTF_8), 0, 18));
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, 18);
+        assertEquals(VALID, IdentityValidator.check(buffer));
+        assertEquals(1, buffer.position());
+        assertEquals(EMPTY, IdentityValidator.check(ByteBuffer.allocate(0)));
+        assertEquals(EMPTY, IdentityValidator.check((ByteBuffer) null));
+    }
+
+    /**
+     * 校验过程不创建对象, 精确的结果见UtilBenchmark.validateIdNo(-prof gc)
+     */
+    @Test
+    void allocationFree() {
+        ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        String[] idNos = { VALID_ID_NO, "110105194912310021", "11010519491231002" };
+        byte[] bytes = VALID_ID_NO.getBytes(StandardCharsets.US_ASCII);
+        long threadId = Thread.currentThread().getId();
+
+        int sink = 0;
+        for (int round = 0; round < 2; round++) {
+            long before = threadMXBean.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < 100000; i++) {
+                sink += IdentityValidator.check(idNos[i % idNos.length]).ordinal();
+                sink += IdentityValidator.check(bytes, 0, bytes.length).ordinal();
+            }
+            long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+            // 第一轮包括类加载等, 只检查第二轮; 留出getThreadAllocatedBytes本身的分配
+            if (round == 1)
+                assertTrue(allocated < 1024, "allocated " + allocated + " bytes");
+        }
+        assertTrue(sink > 0);
+    }
+
+    /**
+     * 与原正则实现的结果一致
+     */
+    @Test
+    void sameAsRegex() {
+        Random random = new Random(42);
+        char[] chars = { '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'X', 'x', 'a', ' ' };
+        for (int i = 0; i < 100000; i++) {
+            StringBuilder idNo = new StringBuilder();
+            int length = random.nextInt(10) == 0 ? random.nextInt(20) : 18;
+            for (int j = 0; j < length; j++)
+                idNo.append(random.nextInt(20) == 0 ? chars[random.nextInt(chars.length)] : (char) ('0' + random
+                        .nextInt(10)));
+            String value = idNo.toString();
+            assertEquals(regex(value), IdentityValidator.isValid(value), value);
+            byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+            assertEquals(IdentityValidator.check(value), IdentityValidator.check(bytes, 0, bytes.length), value);
+        }
+    }
+
+    private static boolean regex(String idNo) {
+        if (idNo.trim().isEmpty() || idNo.length() != 18 || !idNo.matches("^[0-9]{17}[0-9Xx]$"))
+            return false;
+        String[] mantissas = { "1", "0", "X", "9", "8", "7", "6", "5", "4", "3", "2" };
+        int[] coefficients = { 7, 9, 10, 5, 8, 4, 2, 1, 6, 3, 7, 9, 10, 5, 8, 4, 2 };
+        return idNo.substring(17).equalsIgnoreCase(mantissas[IntStream.range(0, 17).map(o -> (idNo.charAt(o) - '0')
+                * coefficients[o]).sum() % 11]);
+    }
+}
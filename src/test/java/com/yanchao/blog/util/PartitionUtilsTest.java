@@ -0,0 +1,34 @@
+package com.yanchao.blog.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 集合分组-测试类
+ */
+public class PartitionUtilsTest {
+
+    @Test
+    void partition() {
+        List<List<Integer>> chunks = PartitionUtils.partition(new TreeSet<>(Arrays.asList(1, 2, 3, 4, 5)), 2);
+        assertEquals(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4), Collections.singletonList(5)), chunks);
+        assertTrue(PartitionUtils.partition(Collections.emptyList(), 2).isEmpty());
+    }
+
+    @Test
+    void misses() {
+        List<String> keys = Arrays.asList("c", "a", "b");
+        assertEquals(Arrays.asList("c", "b"), PartitionUtils.misses(keys, Collections.singletonMap("a", 1)));
+
+        // 多组查询累积的结果多于本组的键
+        Map<String, String> hits = new HashMap<>();
+        for (int i = 0; i < 10; i++)
+            hits.put("x" + i, "y");
+        hits.put("b", "y");
+        assertEquals(Arrays.asList("c", "a"), PartitionUtils.misses(keys, hits));
+        assertTrue(PartitionUtils.misses(Collections.emptyList(), hits).isEmpty());
+    }
+}
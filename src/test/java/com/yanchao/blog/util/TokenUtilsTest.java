@@ -0,0 +1,52 @@
+package com.yanchao.blog.util;
+
+import com.yanchao.blog.constant.TokenFormatEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 16字节密文格式转换-测试类
+ */
+public class TokenUtilsTest {
+
+    @Test
+    void roundTrip() {
+        Random random = new Random(42);
+        byte[] bytes = new byte[TokenUtils.TOKEN_BYTES];
+        for (int i = 0; i < 10000; i++) {
+            random.nextBytes(bytes);
+            for (TokenFormatEnum format : Arrays.asList(TokenFormatEnum.HEX, TokenFormatEnum.BASE62))
+                assertArrayEquals(bytes, TokenUtils.parse(TokenUtils.format(bytes, format), format));
+        }
+    }
+
+    @Test
+    void fixedLength() {
+        byte[] zero = new byte[TokenUtils.TOKEN_BYTES];
+        byte[] max = new byte[TokenUtils.TOKEN_BYTES];
+        Arrays.fill(max, (byte) -1);
+
+        assertEquals("0000000000000000000000", TokenUtils.toBase62(zero));
+        assertEquals("7n42DGM5Tflk9n8mt7Fhc7", TokenUtils.toBase62(max));
+        assertEquals("ffffffffffffffffffffffffffffffff", TokenUtils.toHex(max));
+    }
+
+    @Test
+    void rejectsInvalid() {
+        // 超过128位
+        assertNull(TokenUtils.fromBase62("zzzzzzzzzzzzzzzzzzzzzz"));
+        assertNull(TokenUtils.fromBase62("000000000000000000000-"));
+        assertNull(TokenUtils.fromHex("FFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFF"));
+        assertNull(TokenUtils.fromHex("fff"));
+        assertNull(TokenUtils.parse(EncryUtils.getMD5("13800000000"), TokenFormatEnum.DECIMAL));
+    }
+
+    @Test
+    void decimalMatchesMd5() {
+        assertEquals(EncryUtils.getMD5("13800000000"), TokenUtils.toDecimal(EncryUtils.getMD5Bytes("13800000000")));
+    }
+}
@@ -0,0 +1,21 @@
+-- 加解密表, 与EncryPO生成的表结构一致, 用于H2(MODE=MySQL)
+create table if not exists bas_encry (
+  id bigint not null primary key,
+  encry varchar(255),
+  encry_bin binary(16),
+  legacy_hash bigint,
+  decry varchar(255) not null,
+  type varchar(255) not null,
+  create_time timestamp not null,
+  creator varchar(255) not null,
+  update_time timestamp,
+  updator varchar(255),
+  constraint uk_bas_encry_encry_type unique (encry, type),
+  constraint uk_bas_encry_decry_type unique (decry, type),
+  constraint uk_bas_encry_encry_bin_type unique (encry_bin, type)
+);
+create index if not exists idx_bas_encry_legacy_hash on bas_encry (legacy_hash);
+create table if not exists bas_id_seq (
+  sequence_name varchar(255) not null primary key,
+  next_val bigint
+);
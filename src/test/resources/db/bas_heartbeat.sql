@@ -0,0 +1,5 @@
+-- 主从复制心跳表, 用于H2(MODE=MySQL)
+create table if not exists bas_heartbeat (
+  id int not null primary key,
+  beat_time bigint not null
+);